@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster;
+
+/**
+ * An immutable snapshot of the counters of a cache.
+ */
+public final class CacheStatistics
+{
+   private final long hitCount;
+   private final long missCount;
+   private final long evictionCount;
+   private final int size;
+   private final long weight;
+
+   public CacheStatistics(final long hitCount, final long missCount, final long evictionCount, final int size,
+            final long weight)
+   {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.evictionCount = evictionCount;
+      this.size = size;
+      this.weight = weight;
+   }
+
+   /**
+    * Return the number of lookups that found a cached entry.
+    */
+   public long getHitCount()
+   {
+      return hitCount;
+   }
+
+   /**
+    * Return the number of lookups that did not find a cached entry.
+    */
+   public long getMissCount()
+   {
+      return missCount;
+   }
+
+   /**
+    * Return the total number of lookups.
+    */
+   public long getRequestCount()
+   {
+      return hitCount + missCount;
+   }
+
+   /**
+    * Return the ratio of lookups that found a cached entry, or <code>1.0</code> if there were no lookups.
+    */
+   public double getHitRate()
+   {
+      long requests = getRequestCount();
+      return requests == 0 ? 1.0 : (double) hitCount / requests;
+   }
+
+   /**
+    * Return the number of entries evicted because the cache exceeded its maximum weight.
+    */
+   public long getEvictionCount()
+   {
+      return evictionCount;
+   }
+
+   /**
+    * Return the number of entries strongly held by the cache.
+    */
+   public int getSize()
+   {
+      return size;
+   }
+
+   /**
+    * Return the total weight of the entries strongly held by the cache.
+    */
+   public long getWeight()
+   {
+      return weight;
+   }
+
+   @Override
+   public String toString()
+   {
+      return "CacheStatistics [hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount="
+               + evictionCount + ", size=" + size + ", weight=" + weight + "]";
+   }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster;
+
+import java.io.File;
+import java.util.Collection;
+
+import org.jboss.forge.roaster.model.JavaType;
+
+/**
+ * Receives the results of a batch parse, one {@link File} at a time. Results are delivered as soon as each source is
+ * parsed, so a requestor that does not retain the {@link JavaType} instances keeps memory use bounded regardless of
+ * the number of files.
+ *
+ * @see Roaster#parseAll(Collection, JavaTypeRequestor)
+ */
+public interface JavaTypeRequestor
+{
+   /**
+    * Called when the given {@link File} was parsed into a new {@link JavaType} instance.
+    */
+   public void accept(File file, JavaType<?> type);
+
+   /**
+    * Called when the given {@link File} could not be read or parsed.
+    */
+   public void failed(File file, Exception cause);
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A content-addressed cache of parsed sources, keyed by a hash of the source text and the {@link ParseOptions} that
+ * affect the result. Entries are held strongly, in least-recently-used order, up to a maximum weight measured in
+ * source characters; entries evicted from that tier remain reachable through soft references until the garbage
+ * collector reclaims them under memory pressure.
+ * <p>
+ * The cached values are owned by the {@link org.jboss.forge.roaster.spi.JavaParser} implementation and are never
+ * handed out: every hit returns a new, independent copy. The cache itself is thread-safe, but the instances it returns
+ * are not; like any parsed source, each one must be confined to a single thread or synchronized by its caller.
+ * When installed with {@link Roaster#setFragmentCache(ParseCache)}, the cache instead holds small stub sources that
+ * are protected against modification and are only copied from, never handed out to callers.
+ *
+ * @see Roaster#setParseCache(ParseCache)
+ */
+public class ParseCache
+{
+   private static final int DIGEST_CHUNK = 4096;
+
+   private final long maximumWeight;
+
+   private final LinkedHashMap<Key<?>, Entry> entries = new LinkedHashMap<Key<?>, Entry>(16, 0.75f, true);
+   private final Map<Key<?>, KeyedReference> softEntries = new HashMap<Key<?>, KeyedReference>();
+   private final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+
+   private long weight;
+   private long hitCount;
+   private long missCount;
+   private long evictionCount;
+
+   /**
+    * Create a new {@link ParseCache} that strongly holds entries up to the given total weight, measured in source
+    * characters.
+    */
+   public ParseCache(final long maximumWeight)
+   {
+      if (maximumWeight < 0)
+      {
+         throw new IllegalArgumentException("Maximum weight must not be negative, was [" + maximumWeight + "]");
+      }
+      this.maximumWeight = maximumWeight;
+   }
+
+   /**
+    * Return the maximum total weight of the entries strongly held by this cache.
+    */
+   public long getMaximumWeight()
+   {
+      return maximumWeight;
+   }
+
+   /**
+    * Create the {@link Key} identifying the value of the given type cached for the given source when parsed with the
+    * given {@link ParseOptions}. Options that do not affect the parsed result, such as the charset and the read-only
+    * flag, are not part of the key.
+    */
+   public <V> Key<V> createKey(final char[] source, final ParseOptions options, final Class<V> type)
+   {
+      MessageDigest digest;
+      try
+      {
+         digest = MessageDigest.getInstance("SHA-1");
+      }
+      catch (NoSuchAlgorithmException e)
+      {
+         throw new IllegalStateException("SHA-1 is not supported by this JVM", e);
+      }
+      byte[] buffer = new byte[DIGEST_CHUNK * 2];
+      for (int offset = 0; offset < source.length; offset += DIGEST_CHUNK)
+      {
+         int count = Math.min(DIGEST_CHUNK, source.length - offset);
+         for (int i = 0; i < count; i++)
+         {
+            char c = source[offset + i];
+            buffer[i * 2] = (byte) (c >> 8);
+            buffer[i * 2 + 1] = (byte) c;
+         }
+         digest.update(buffer, 0, count * 2);
+      }
+      ParseOptions normalized = new ParseOptions(options).setCharset(null).setReadOnly(false);
+      return new Key<V>(type, digest.digest(), source.length, normalized);
+   }
+
+   /**
+    * Return the value cached for the given {@link Key}, or <code>null</code> if there is none.
+    */
+   public synchronized <V> V get(final Key<V> key)
+   {
+      purge();
+      Entry entry = entries.get(key);
+      if (entry != null)
+      {
+         hitCount++;
+         return key.type.cast(entry.value);
+      }
+      KeyedReference reference = softEntries.remove(key);
+      Object value = reference == null ? null : reference.get();
+      if (value != null)
+      {
+         hitCount++;
+         store(key, value, reference.weight);
+         return key.type.cast(value);
+      }
+      missCount++;
+      return null;
+   }
+
+   /**
+    * Cache the given value for the given {@link Key}, with the given weight, evicting the least recently used entries
+    * as required to stay within the maximum weight.
+    */
+   public synchronized <V> void put(final Key<V> key, final V value, final long weight)
+   {
+      purge();
+      softEntries.remove(key);
+      Entry previous = entries.remove(key);
+      if (previous != null)
+      {
+         this.weight -= previous.weight;
+      }
+      store(key, value, weight);
+   }
+
+   /**
+    * Remove all entries from this cache. The counters are not reset.
+    */
+   public synchronized void clear()
+   {
+      entries.clear();
+      softEntries.clear();
+      weight = 0;
+   }
+
+   /**
+    * Return a snapshot of the counters of this cache.
+    */
+   public synchronized CacheStatistics getStatistics()
+   {
+      purge();
+      return new CacheStatistics(hitCount, missCount, evictionCount, entries.size(), weight);
+   }
+
+   private void store(final Key<?> key, final Object value, final long weight)
+   {
+      if (weight > maximumWeight)
+      {
+         softEntries.put(key, new KeyedReference(key, value, weight, queue));
+         return;
+      }
+      entries.put(key, new Entry(value, weight));
+      this.weight += weight;
+      Iterator<Map.Entry<Key<?>, Entry>> iterator = entries.entrySet().iterator();
+      while (this.weight > maximumWeight && iterator.hasNext())
+      {
+         Map.Entry<Key<?>, Entry> eldest = iterator.next();
+         iterator.remove();
+         this.weight -= eldest.getValue().weight;
+         evictionCount++;
+         softEntries.put(eldest.getKey(), new KeyedReference(eldest.getKey(), eldest.getValue().value,
+                  eldest.getValue().weight, queue));
+      }
+   }
+
+   private void purge()
+   {
+      Reference<?> reference;
+      while ((reference = queue.poll()) != null)
+      {
+         KeyedReference keyed = (KeyedReference) reference;
+         if (softEntries.get(keyed.key) == keyed)
+         {
+            softEntries.remove(keyed.key);
+         }
+      }
+   }
+
+   /**
+    * Identifies a value of type <code>V</code> cached for a source, by the hash of the content of the source and the
+    * {@link ParseOptions} used to parse it.
+    */
+   public static final class Key<V>
+   {
+      private final Class<V> type;
+      private final byte[] digest;
+      private final int length;
+      private final ParseOptions options;
+      private final int hashCode;
+
+      private Key(final Class<V> type, final byte[] digest, final int length, final ParseOptions options)
+      {
+         this.type = type;
+         this.digest = digest;
+         this.length = length;
+         this.options = options;
+         this.hashCode = 31 * (31 * (31 * type.hashCode() + Arrays.hashCode(digest)) + length) + options.hashCode();
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hashCode;
+      }
+
+      @Override
+      public boolean equals(final Object obj)
+      {
+         if (this == obj)
+            return true;
+         if (!(obj instanceof Key))
+            return false;
+         Key<?> other = (Key<?>) obj;
+         return type == other.type && length == other.length && Arrays.equals(digest, other.digest)
+                  && options.equals(other.options);
+      }
+   }
+
+   private static final class Entry
+   {
+      private final Object value;
+      private final long weight;
+
+      private Entry(final Object value, final long weight)
+      {
+         this.value = value;
+         this.weight = weight;
+      }
+   }
+
+   private static final class KeyedReference extends SoftReference<Object>
+   {
+      private final Key<?> key;
+      private final long weight;
+
+      private KeyedReference(final Key<?> key, final Object value, final long weight, final ReferenceQueue<Object> queue)
+      {
+         super(value, queue);
+         this.key = key;
+         this.weight = weight;
+      }
+   }
+}
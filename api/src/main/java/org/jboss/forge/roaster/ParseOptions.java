@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster;
+
+import java.nio.charset.Charset;
+
+import org.jboss.forge.roaster.model.JavaType;
+
+/**
+ * Controls how much work is performed when parsing data into a new {@link JavaType} instance. The default options
+ * produce a complete model, including every method body.
+ */
+public class ParseOptions
+{
+   private boolean resolveBindings = true;
+   private boolean ignoreMethodBodies = false;
+   private boolean statementsRecovery = false;
+   private Charset charset;
+   private boolean readOnly = false;
+   private boolean outline = false;
+   private boolean incrementalUpdates = true;
+
+   /**
+    * Create a new {@link ParseOptions} instance with default settings.
+    */
+   public ParseOptions()
+   {
+   }
+
+   /**
+    * Create a new {@link ParseOptions} instance with the same settings as the given instance.
+    */
+   public ParseOptions(final ParseOptions options)
+   {
+      this.resolveBindings = options.resolveBindings;
+      this.ignoreMethodBodies = options.ignoreMethodBodies;
+      this.statementsRecovery = options.statementsRecovery;
+      this.charset = options.charset;
+      this.readOnly = options.readOnly;
+      this.outline = options.outline;
+      this.incrementalUpdates = options.incrementalUpdates;
+   }
+
+   /**
+    * Create a new {@link ParseOptions} instance that only builds type, field, method and annotation declarations.
+    * Method bodies are not parsed up front, and bindings are not resolved.
+    */
+   public static ParseOptions declarationsOnly()
+   {
+      return new ParseOptions().setResolveBindings(false).setIgnoreMethodBodies(true).setStatementsRecovery(false);
+   }
+
+   /**
+    * Return <code>true</code> if the parser should request binding resolution.
+    */
+   public boolean isResolveBindings()
+   {
+      return resolveBindings;
+   }
+
+   /**
+    * Set whether the parser should request binding resolution.
+    */
+   public ParseOptions setResolveBindings(final boolean resolveBindings)
+   {
+      this.resolveBindings = resolveBindings;
+      return this;
+   }
+
+   /**
+    * Return <code>true</code> if method bodies are skipped while parsing. Skipped bodies are parsed on demand when
+    * they are requested.
+    */
+   public boolean isIgnoreMethodBodies()
+   {
+      return ignoreMethodBodies;
+   }
+
+   /**
+    * Set whether method bodies are skipped while parsing.
+    */
+   public ParseOptions setIgnoreMethodBodies(final boolean ignoreMethodBodies)
+   {
+      this.ignoreMethodBodies = ignoreMethodBodies;
+      return this;
+   }
+
+   /**
+    * Return <code>true</code> if the parser attempts to recover statements from malformed method bodies.
+    */
+   public boolean isStatementsRecovery()
+   {
+      return statementsRecovery;
+   }
+
+   /**
+    * Set whether the parser attempts to recover statements from malformed method bodies.
+    */
+   public ParseOptions setStatementsRecovery(final boolean statementsRecovery)
+   {
+      this.statementsRecovery = statementsRecovery;
+      return this;
+   }
+
+   /**
+    * Return the {@link Charset} used to decode binary input, or <code>null</code> if the charset is detected from a
+    * byte order mark, falling back to UTF-8.
+    */
+   public Charset getCharset()
+   {
+      return charset;
+   }
+
+   /**
+    * Set the {@link Charset} used to decode binary input. A <code>null</code> value detects the charset from a byte
+    * order mark, falling back to UTF-8.
+    */
+   public ParseOptions setCharset(final Charset charset)
+   {
+      this.charset = charset;
+      return this;
+   }
+
+   /**
+    * Return <code>true</code> if a read-only instance is requested.
+    */
+   public boolean isReadOnly()
+   {
+      return readOnly;
+   }
+
+   /**
+    * Set whether a read-only instance is requested. Any attempt to modify a read-only instance fails with an
+    * {@link IllegalArgumentException}.
+    */
+   public ParseOptions setReadOnly(final boolean readOnly)
+   {
+      this.readOnly = readOnly;
+      return this;
+   }
+
+   /**
+    * Return <code>true</code> if an outline is requested instead of a complete model.
+    *
+    * @see #setOutline(boolean)
+    */
+   public boolean isOutline()
+   {
+      return outline;
+   }
+
+   /**
+    * Set whether an outline is requested instead of a complete model. An outline is read-only and only describes the
+    * package, imports, types, member signatures and annotations of the source; it is built directly from the tokens of
+    * the source, without a syntax tree, and implements the read interfaces of {@link org.jboss.forge.roaster.model}
+    * rather than those of {@link org.jboss.forge.roaster.model.source}. Options other than the charset are
+    * ignored when parsing an outline.
+    */
+   public ParseOptions setOutline(final boolean outline)
+   {
+      this.outline = outline;
+      return this;
+   }
+
+   /**
+    * Return <code>true</code> if edits applied to the parsed source only parse the declarations they touch.
+    *
+    * @see #setIncrementalUpdates(boolean)
+    */
+   public boolean isIncrementalUpdates()
+   {
+      return incrementalUpdates;
+   }
+
+   /**
+    * Set whether {@link org.jboss.forge.roaster.model.source.JavaSource#applyEdit(int, int, String)} and
+    * {@link org.jboss.forge.roaster.model.source.JavaSource#update(String)} only parse the declarations touched by an
+    * edit, so that other members keep their identity. Otherwise, and whenever the JDT version on the classpath does not
+    * support incremental updates, the whole source is parsed again into a new tree, and members obtained before the
+    * edit must be looked up again.
+    */
+   public ParseOptions setIncrementalUpdates(final boolean incrementalUpdates)
+   {
+      this.incrementalUpdates = incrementalUpdates;
+      return this;
+   }
+
+   @Override
+   public int hashCode()
+   {
+      final int prime = 31;
+      int result = 1;
+      result = prime * result + ((charset == null) ? 0 : charset.hashCode());
+      result = prime * result + (ignoreMethodBodies ? 1231 : 1237);
+      result = prime * result + (incrementalUpdates ? 1231 : 1237);
+      result = prime * result + (outline ? 1231 : 1237);
+      result = prime * result + (readOnly ? 1231 : 1237);
+      result = prime * result + (resolveBindings ? 1231 : 1237);
+      result = prime * result + (statementsRecovery ? 1231 : 1237);
+      return result;
+   }
+
+   @Override
+   public boolean equals(final Object obj)
+   {
+      if (this == obj)
+         return true;
+      if (obj == null)
+         return false;
+      if (getClass() != obj.getClass())
+         return false;
+      ParseOptions other = (ParseOptions) obj;
+      if (charset == null)
+      {
+         if (other.charset != null)
+            return false;
+      }
+      else if (!charset.equals(other.charset))
+         return false;
+      if (ignoreMethodBodies != other.ignoreMethodBodies)
+         return false;
+      if (incrementalUpdates != other.incrementalUpdates)
+         return false;
+      if (outline != other.outline)
+         return false;
+      if (readOnly != other.readOnly)
+         return false;
+      if (resolveBindings != other.resolveBindings)
+         return false;
+      if (statementsRecovery != other.statementsRecovery)
+         return false;
+      return true;
+   }
+
+   @Override
+   public String toString()
+   {
+      return "ParseOptions [resolveBindings=" + resolveBindings + ", ignoreMethodBodies=" + ignoreMethodBodies
+               + ", statementsRecovery=" + statementsRecovery + ", charset=" + charset + ", readOnly=" + readOnly
+               + ", outline=" + outline + ", incrementalUpdates=" + incrementalUpdates + "]";
+   }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster;
+
+import java.io.File;
+
+import org.jboss.forge.roaster.model.JavaType;
+
+/**
+ * The outcome of parsing a single {@link File}: either the parsed {@link JavaType}, or the {@link Exception} that
+ * prevented it from being parsed.
+ */
+public final class ParseResult
+{
+   private final File file;
+   private final JavaType<?> type;
+   private final Exception error;
+
+   private ParseResult(final File file, final JavaType<?> type, final Exception error)
+   {
+      this.file = file;
+      this.type = type;
+      this.error = error;
+   }
+
+   /**
+    * Create a new successful {@link ParseResult} for the given {@link File}.
+    */
+   public static ParseResult success(final File file, final JavaType<?> type)
+   {
+      return new ParseResult(file, type, null);
+   }
+
+   /**
+    * Create a new failed {@link ParseResult} for the given {@link File}.
+    */
+   public static ParseResult failure(final File file, final Exception error)
+   {
+      return new ParseResult(file, null, error);
+   }
+
+   /**
+    * Return the {@link File} that was parsed.
+    */
+   public File getFile()
+   {
+      return file;
+   }
+
+   /**
+    * Return the parsed {@link JavaType}, or <code>null</code> if parsing failed.
+    */
+   public JavaType<?> getType()
+   {
+      return type;
+   }
+
+   /**
+    * Return the {@link Exception} that prevented parsing, or <code>null</code> if parsing succeeded.
+    */
+   public Exception getError()
+   {
+      return error;
+   }
+
+   /**
+    * Return <code>true</code> if the {@link File} was parsed successfully.
+    */
+   public boolean isSuccessful()
+   {
+      return error == null;
+   }
+
+   @Override
+   public String toString()
+   {
+      return "ParseResult [file=" + file + (error == null ? ", type=" + type : ", error=" + error) + "]";
+   }
+}
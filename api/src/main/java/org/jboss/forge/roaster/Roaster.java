@@ -14,11 +14,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.ExecutorService;
 
 import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.JavaUnit;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.spi.ExtendedJavaParser;
 import org.jboss.forge.roaster.spi.JavaParser;
 
 /**
@@ -28,27 +34,108 @@ import org.jboss.forge.roaster.spi.JavaParser;
  */
 public final class Roaster
 {
-   private static List<JavaParser> parsers;
+   /**
+    * A suggested maximum weight, in source characters, for a fragment cache installed with
+    * {@link #setFragmentCache(ParseCache)}.
+    */
+   public static final long DEFAULT_FRAGMENT_CACHE_WEIGHT = 256 * 1024;
+
+   private static final String WARM_UP_SOURCE = "package org.jboss.forge.roaster;\n"
+            + "import java.util.List;\n"
+            + "@Deprecated public class WarmUp<T> implements Comparable<WarmUp<T>> {\n"
+            + "   private List<T> values;\n"
+            + "   public int compareTo(final WarmUp<T> other) { return values.size() - other.values.size(); }\n"
+            + "}";
+
+   private static volatile List<JavaParser> parsers;
+
+   private static volatile ParseCache parseCache;
+
+   private static volatile ParseCache fragmentCache;
 
    private static List<JavaParser> getParsers()
    {
-      synchronized (Roaster.class)
+      List<JavaParser> result = parsers;
+      if (result == null)
       {
-         if (parsers == null || parsers.isEmpty())
+         synchronized (Roaster.class)
          {
-            parsers = new ArrayList<JavaParser>();
-            for (JavaParser p : ServiceLoader.load(JavaParser.class, Roaster.class.getClassLoader()))
+            result = parsers;
+            if (result == null)
             {
-               parsers.add(p);
+               List<JavaParser> loaded = new ArrayList<JavaParser>();
+               for (JavaParser p : ServiceLoader.load(JavaParser.class, Roaster.class.getClassLoader()))
+               {
+                  loaded.add(p);
+               }
+               if (loaded.isEmpty())
+               {
+                  throw new IllegalStateException("No instances of [" + JavaParser.class.getName()
+                           + "] were found on the classpath.");
+               }
+               result = Collections.unmodifiableList(loaded);
+               parsers = result;
             }
          }
-         if (parsers.size() == 0)
+      }
+      return result;
+   }
+
+   /**
+    * Discover the available {@link JavaParser} implementations and run each of them once over a small representative
+    * source, so that the classes, parser configuration and formatter settings they depend on are loaded and
+    * initialized before the first real request. Calling this is optional; it moves the cost of the first parse in a
+    * fresh JVM to a time of the caller's choosing.
+    */
+   public static void warmUp()
+   {
+      for (JavaParser parser : getParsers())
+      {
+         JavaType<?> type = parse(parser, WARM_UP_SOURCE.toCharArray(), new ParseOptions());
+         if (type != null)
          {
-            throw new IllegalStateException("No instances of [" + JavaParser.class.getName()
-                     + "] were found on the classpath.");
+            type.toString();
          }
+         parse(parser, WARM_UP_SOURCE.toCharArray(), new ParseOptions().setOutline(true));
+         parser.create(JavaClassSource.class);
       }
-      return parsers;
+   }
+
+   /**
+    * Install the given {@link ParseCache}, which is then consulted by every subsequent parse; a <code>null</code> value
+    * disables caching. Caching is disabled by default.
+    */
+   public static void setParseCache(final ParseCache cache)
+   {
+      parseCache = cache;
+   }
+
+   /**
+    * Return the installed {@link ParseCache}, or <code>null</code> if caching is disabled.
+    */
+   public static ParseCache getParseCache()
+   {
+      return parseCache;
+   }
+
+   /**
+    * Install the given {@link ParseCache} for the small declaration fragments, such as fields, methods, annotation
+    * values and enum constants, that are parsed whenever a declaration is added to a source from text; a
+    * <code>null</code> value disables fragment caching. Fragment caching is disabled by default; it pays off for
+    * generators that add the same declarations to many sources. The cached fragments are protected against
+    * modification and only ever copied into the sources, so one fragment cache may serve every thread.
+    */
+   public static void setFragmentCache(final ParseCache cache)
+   {
+      fragmentCache = cache;
+   }
+
+   /**
+    * Return the installed fragment {@link ParseCache}, or <code>null</code> if fragment caching is disabled.
+    */
+   public static ParseCache getFragmentCache()
+   {
+      return fragmentCache;
    }
 
    /**
@@ -68,6 +155,68 @@ public final class Roaster
                + type.getSimpleName(), new IllegalArgumentException(type.getName()));
    }
 
+   /**
+    * Create a new empty {@link JavaSource} instance, declared in the given package and with the given name. A
+    * <code>null</code> or empty package name denotes the default package. This is equivalent to, but cheaper than,
+    * calling {@link JavaSource#setPackage(String)} and {@link JavaSource#setName(String)} on the result of
+    * {@link #create(Class)}.
+    */
+   public static <T extends JavaSource<?>> T create(final Class<T> type, final String packageName,
+            final String simpleName)
+   {
+      for (JavaParser parser : getParsers())
+      {
+         final T result;
+         if (parser instanceof ExtendedJavaParser)
+         {
+            result = ((ExtendedJavaParser) parser).create(type, packageName, simpleName);
+         }
+         else
+         {
+            result = parser.create(type);
+            if (result != null)
+            {
+               if (packageName == null || packageName.isEmpty())
+               {
+                  result.setDefaultPackage();
+               }
+               else
+               {
+                  result.setPackage(packageName);
+               }
+               result.setName(simpleName);
+            }
+         }
+         if (result != null)
+         {
+            return result;
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of producing JavaSource of type "
+               + type.getSimpleName(), new IllegalArgumentException(type.getName()));
+   }
+
+   /**
+    * Parse the given source, containing <code>$name$</code> placeholders, into a {@link SourceTemplate} from which new
+    * {@link JavaSource} instances of the given type are created without parsing the source again.
+    */
+   public static <T extends JavaSource<?>> SourceTemplate<T> compileTemplate(final Class<T> type, final String source)
+   {
+      for (JavaParser parser : getParsers())
+      {
+         if (parser instanceof ExtendedJavaParser)
+         {
+            final SourceTemplate<T> result = ((ExtendedJavaParser) parser).compileTemplate(type, source);
+            if (result != null)
+            {
+               return result;
+            }
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of producing JavaSource of type "
+               + type.getSimpleName(), new IllegalArgumentException(type.getName()));
+   }
+
    /**
     * Open the given {@link File}, parsing its contents into a new {@link JavaType} instance.
     */
@@ -115,7 +264,19 @@ public final class Roaster
     */
    public static <T extends JavaType<?>> T parse(final Class<T> type, final URL url) throws IOException
    {
-      return internalParse(type, url.openStream());
+      return parse(type, url, new ParseOptions());
+   }
+
+   /**
+    * Read the given {@link URL} and parse its data into a new {@link JavaType} instance of the given type, using the
+    * given {@link ParseOptions}.
+    *
+    * @throws FileNotFoundException
+    */
+   public static <T extends JavaType<?>> T parse(final Class<T> type, final URL url, final ParseOptions options)
+            throws IOException
+   {
+      return internalParse(type, url.openStream(), options);
    }
 
    /**
@@ -125,7 +286,39 @@ public final class Roaster
     */
    public static <T extends JavaType<?>> T parse(final Class<T> type, final File file) throws FileNotFoundException
    {
-      return internalParse(type, new FileInputStream(file));
+      return parse(type, file, new ParseOptions());
+   }
+
+   /**
+    * Read the given {@link File} and parse its data into a new {@link JavaType} instance of the given type, using the
+    * given {@link ParseOptions}.
+    *
+    * @throws FileNotFoundException
+    */
+   public static <T extends JavaType<?>> T parse(final Class<T> type, final File file, final ParseOptions options)
+            throws FileNotFoundException
+   {
+      for (JavaParser parser : getParsers())
+      {
+         final T result;
+         try
+         {
+            result = cast(type, parse(parser, file, options));
+         }
+         catch (FileNotFoundException e)
+         {
+            throw e;
+         }
+         catch (IOException e)
+         {
+            throw new ParserException("Could not read [" + file + "]", e);
+         }
+         if (result != null)
+         {
+            return result;
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of parsing the requested data");
    }
 
    /**
@@ -133,7 +326,24 @@ public final class Roaster
     */
    public static <T extends JavaType<?>> T parse(final Class<T> type, final char[] data)
    {
-      return parse(type, new String(data));
+      return parse(type, data, new ParseOptions());
+   }
+
+   /**
+    * Read the given character array and parse its data into a new {@link JavaType} instance of the given type, using
+    * the given {@link ParseOptions}.
+    */
+   public static <T extends JavaType<?>> T parse(final Class<T> type, final char[] data, final ParseOptions options)
+   {
+      for (JavaParser parser : getParsers())
+      {
+         final T result = cast(type, parse(parser, data, options));
+         if (result != null)
+         {
+            return result;
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of parsing the requested data");
    }
 
    /**
@@ -141,7 +351,16 @@ public final class Roaster
     */
    public static <T extends JavaType<?>> T parse(final Class<T> type, final String data)
    {
-      return parse(type, Streams.fromString(data));
+      return parse(type, data, new ParseOptions());
+   }
+
+   /**
+    * Read the given string and parse its data into a new {@link JavaType} instance of the given type, using the given
+    * {@link ParseOptions}.
+    */
+   public static <T extends JavaType<?>> T parse(final Class<T> type, final String data, final ParseOptions options)
+   {
+      return parse(type, data.toCharArray(), options);
    }
 
    /**
@@ -149,31 +368,280 @@ public final class Roaster
     * caller is responsible for closing the stream.
     */
    public static <T extends JavaType<?>> T parse(final Class<T> type, final InputStream data)
+   {
+      return parse(type, data, new ParseOptions());
+   }
+
+   /**
+    * Read the given {@link InputStream} and parse its data into a new {@link JavaType} instance of the given type,
+    * using the given {@link ParseOptions}. The caller is responsible for closing the stream.
+    */
+   public static <T extends JavaType<?>> T parse(final Class<T> type, final InputStream data,
+            final ParseOptions options)
    {
       for (JavaParser parser : getParsers())
       {
-         final JavaType<?> source = parser.parse(data);
-
-         if (type.isInstance(source))
+         final T result = cast(type, parse(parser, data, options));
+         if (result != null)
          {
-            @SuppressWarnings("unchecked")
-            final T result = (T) source;
             return result;
          }
-         else if (source != null)
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of parsing the requested data");
+   }
+
+   /**
+    * Return the given source as an instance of the given type, or <code>null</code> if the source is
+    * <code>null</code>.
+    *
+    * @throws ParserException if the source is not an instance of the given type
+    */
+   private static <T extends JavaType<?>> T cast(final Class<T> type, final JavaType<?> source)
+   {
+      if (type.isInstance(source))
+      {
+         @SuppressWarnings("unchecked")
+         final T result = (T) source;
+         return result;
+      }
+      else if (source != null)
+      {
+         throw new ParserException("Source does not represent a [" + type.getSimpleName() + "], instead was ["
+                  + source.getClass().getSimpleName() + "] - Cannot convert.");
+      }
+      return null;
+   }
+
+   /**
+    * Open the given {@link File}, parsing its contents into a new {@link JavaUnit} containing every top-level type
+    * declared in the file.
+    */
+   public static JavaUnit parseUnit(final File file) throws FileNotFoundException
+   {
+      return parseUnit(file, new ParseOptions());
+   }
+
+   /**
+    * Open the given {@link File}, parsing its contents into a new {@link JavaUnit} using the given
+    * {@link ParseOptions}.
+    */
+   public static JavaUnit parseUnit(final File file, final ParseOptions options) throws FileNotFoundException
+   {
+      for (JavaParser parser : getParsers())
+      {
+         if (parser instanceof ExtendedJavaParser)
+         {
+            final JavaUnit result;
+            try
+            {
+               result = ((ExtendedJavaParser) parser).parseUnit(file, options);
+            }
+            catch (FileNotFoundException e)
+            {
+               throw e;
+            }
+            catch (IOException e)
+            {
+               throw new ParserException("Could not read [" + file + "]", e);
+            }
+            if (result != null)
+            {
+               return result;
+            }
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of parsing the requested data");
+   }
+
+   /**
+    * Read the given {@link InputStream} and parse the data into a new {@link JavaUnit} containing every top-level type
+    * declared in the source. The caller is responsible for closing the stream.
+    */
+   public static JavaUnit parseUnit(final InputStream data)
+   {
+      return parseUnit(data, new ParseOptions());
+   }
+
+   /**
+    * Read the given {@link InputStream} and parse the data into a new {@link JavaUnit} using the given
+    * {@link ParseOptions}. The caller is responsible for closing the stream.
+    */
+   public static JavaUnit parseUnit(final InputStream data, final ParseOptions options)
+   {
+      for (JavaParser parser : getParsers())
+      {
+         if (parser instanceof ExtendedJavaParser)
+         {
+            final JavaUnit result = ((ExtendedJavaParser) parser).parseUnit(data, options);
+            if (result != null)
+            {
+               return result;
+            }
+         }
+      }
+      throw new ParserException("Cannot find JavaParserProvider capable of parsing the requested data");
+   }
+
+   /**
+    * Parse the given String data into a new {@link JavaUnit} containing every top-level type declared in the source.
+    */
+   public static JavaUnit parseUnit(final String data)
+   {
+      return parseUnit(data, new ParseOptions());
+   }
+
+   /**
+    * Parse the given String data into a new {@link JavaUnit} using the given {@link ParseOptions}.
+    */
+   public static JavaUnit parseUnit(final String data, final ParseOptions options)
+   {
+      for (JavaParser parser : getParsers())
+      {
+         if (parser instanceof ExtendedJavaParser)
          {
-            throw new ParserException("Source does not represent a [" + type.getSimpleName() + "], instead was ["
-                     + source.getClass().getSimpleName() + "] - Cannot convert.");
+            final JavaUnit result = ((ExtendedJavaParser) parser).parseUnit(data.toCharArray(), options);
+            if (result != null)
+            {
+               return result;
+            }
          }
       }
       throw new ParserException("Cannot find JavaParserProvider capable of parsing the requested data");
    }
 
-   private static <T extends JavaType<?>> T internalParse(final Class<T> type, final InputStream data)
+   /**
+    * Parse each of the given {@link File} instances into a new {@link JavaType} instance, passing each result to the
+    * given {@link JavaTypeRequestor} as soon as it is available. Each {@link File} is read once, and decoded from its
+    * byte order mark when present, falling back to UTF-8.
+    */
+   public static void parseAll(final Collection<File> files, final JavaTypeRequestor requestor)
+   {
+      parseAll(files, new ParseOptions(), requestor);
+   }
+
+   /**
+    * Parse each of the given {@link File} instances into a new {@link JavaType} instance using the given
+    * {@link ParseOptions}, passing each result to the given {@link JavaTypeRequestor} as soon as it is available.
+    * <p>
+    * The batch is handed to the first {@link JavaParser} that supports batch parsing. If none does, each {@link File}
+    * is parsed as {@link #parse(Class, File, ParseOptions)} would, and a {@link File} that no {@link JavaParser} can
+    * parse is reported to {@link JavaTypeRequestor#failed(File, Exception)}.
+    */
+   public static void parseAll(final Collection<File> files, final ParseOptions options,
+            final JavaTypeRequestor requestor)
+   {
+      for (JavaParser parser : getParsers())
+      {
+         if (parser instanceof ExtendedJavaParser)
+         {
+            ((ExtendedJavaParser) parser).parseAll(files, options, requestor);
+            return;
+         }
+      }
+      for (File file : files)
+      {
+         final JavaType<?> result;
+         try
+         {
+            result = parse(JavaType.class, file, options);
+         }
+         catch (Exception e)
+         {
+            requestor.failed(file, e);
+            continue;
+         }
+         requestor.accept(file, result);
+      }
+   }
+
+   /**
+    * Walk the given root directory and parse every Java source file beneath it, including <code>package-info.java</code>
+    * files, in parallel. The directory is walked and its files are parsed lazily while the returned {@link Iterable}
+    * is consumed; a file that cannot be parsed produces a failed {@link ParseResult} rather than aborting the scan.
+    */
+   public static Iterable<ParseResult> scan(final File root)
+   {
+      return scan(root, new ParseOptions());
+   }
+
+   /**
+    * Walk the given root directory and parse every Java source file beneath it in parallel, using the given
+    * {@link ParseOptions}.
+    *
+    * @see #scan(File)
+    */
+   public static Iterable<ParseResult> scan(final File root, final ParseOptions options)
+   {
+      return scan(root, options, SourceScanner.getDefaultExecutor(), SourceScanner.getDefaultParallelism());
+   }
+
+   /**
+    * Walk the given root directory and parse every Java source file beneath it on the given {@link ExecutorService},
+    * using the given {@link ParseOptions}. At most <code>parallelism</code> files are parsed ahead of the consumer of
+    * the returned {@link Iterable}.
+    *
+    * @see #scan(File)
+    */
+   public static Iterable<ParseResult> scan(final File root, final ParseOptions options,
+            final ExecutorService executor, final int parallelism)
+   {
+      return new SourceScanner(root, options, executor, parallelism);
+   }
+
+   /**
+    * Parse the given data with the given {@link JavaParser}, using the given {@link ParseOptions} if the parser
+    * supports them.
+    */
+   private static JavaType<?> parse(final JavaParser parser, final InputStream data, final ParseOptions options)
+   {
+      if (parser instanceof ExtendedJavaParser)
+      {
+         return ((ExtendedJavaParser) parser).parse(data, options);
+      }
+      return parser.parse(data);
+   }
+
+   /**
+    * Parse the given data with the given {@link JavaParser}, using the given {@link ParseOptions} if the parser
+    * supports them.
+    */
+   private static JavaType<?> parse(final JavaParser parser, final char[] data, final ParseOptions options)
+   {
+      if (parser instanceof ExtendedJavaParser)
+      {
+         return ((ExtendedJavaParser) parser).parse(data, options);
+      }
+      return parser.parse(Streams.fromString(new String(data)));
+   }
+
+   /**
+    * Parse the given {@link File} with the given {@link JavaParser}, using the given {@link ParseOptions} if the parser
+    * supports them.
+    */
+   private static JavaType<?> parse(final JavaParser parser, final File file, final ParseOptions options)
+            throws IOException
+   {
+      if (parser instanceof ExtendedJavaParser)
+      {
+         return ((ExtendedJavaParser) parser).parse(file, options);
+      }
+      InputStream data = new FileInputStream(file);
+      try
+      {
+         return parser.parse(data);
+      }
+      finally
+      {
+         Streams.closeQuietly(data);
+      }
+   }
+
+   private static <T extends JavaType<?>> T internalParse(final Class<T> type, final InputStream data,
+            final ParseOptions options)
    {
       try
       {
-         return parse(type, data);
+         return parse(type, data, options);
       }
       finally
       {
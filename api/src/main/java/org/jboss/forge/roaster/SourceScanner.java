@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.forge.roaster.model.JavaType;
+
+/**
+ * Walks a directory tree and parses every Java source file it contains in parallel. The tree is walked lazily, and at
+ * most <code>parallelism</code> files are parsed ahead of the consumer, so only that many parsed results are held in
+ * memory at any time. Results are returned in walk order (children sorted by name, depth first).
+ */
+final class SourceScanner implements Iterable<ParseResult>
+{
+   private static final String JAVA_EXTENSION = ".java";
+
+   private static ExecutorService defaultExecutor;
+
+   private final File root;
+   private final ParseOptions options;
+   private final ExecutorService executor;
+   private final int parallelism;
+
+   SourceScanner(final File root, final ParseOptions options, final ExecutorService executor, final int parallelism)
+   {
+      if (parallelism < 1)
+      {
+         throw new IllegalArgumentException("Parallelism must be at least 1, was [" + parallelism + "]");
+      }
+      this.root = root;
+      this.options = new ParseOptions(options);
+      this.executor = executor;
+      this.parallelism = parallelism;
+   }
+
+   /**
+    * Return the default parallelism: the number of available processors.
+    */
+   static int getDefaultParallelism()
+   {
+      return Runtime.getRuntime().availableProcessors();
+   }
+
+   /**
+    * Return the shared {@link ExecutorService} used when none is specified. Its threads are daemon threads, so they
+    * never prevent the JVM from exiting.
+    */
+   static synchronized ExecutorService getDefaultExecutor()
+   {
+      if (defaultExecutor == null)
+      {
+         defaultExecutor = Executors.newFixedThreadPool(getDefaultParallelism(), new ThreadFactory()
+         {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable runnable)
+            {
+               Thread thread = new Thread(runnable, "roaster-scanner-" + count.incrementAndGet());
+               thread.setDaemon(true);
+               return thread;
+            }
+         });
+      }
+      return defaultExecutor;
+   }
+
+   @Override
+   public Iterator<ParseResult> iterator()
+   {
+      return new ScanIterator();
+   }
+
+   private class ScanIterator implements Iterator<ParseResult>
+   {
+      private final LinkedList<File> pending = new LinkedList<File>();
+      private final LinkedList<Future<ParseResult>> running = new LinkedList<Future<ParseResult>>();
+
+      ScanIterator()
+      {
+         pending.add(root);
+      }
+
+      @Override
+      public boolean hasNext()
+      {
+         while (running.size() < parallelism)
+         {
+            File file = nextFile();
+            if (file == null)
+            {
+               break;
+            }
+            running.add(executor.submit(new ParseTask(file)));
+         }
+         return !running.isEmpty();
+      }
+
+      @Override
+      public ParseResult next()
+      {
+         if (!hasNext())
+         {
+            throw new NoSuchElementException();
+         }
+         try
+         {
+            return running.removeFirst().get();
+         }
+         catch (InterruptedException e)
+         {
+            Thread.currentThread().interrupt();
+            throw new ParserException("Interrupted while scanning [" + root + "]", e);
+         }
+         catch (ExecutionException e)
+         {
+            throw new ParserException("Failed to scan [" + root + "]", e.getCause());
+         }
+      }
+
+      @Override
+      public void remove()
+      {
+         throw new UnsupportedOperationException("remove");
+      }
+
+      /**
+       * Return the next Java source file in walk order, expanding directories as they are reached; unreadable
+       * directories are skipped.
+       */
+      private File nextFile()
+      {
+         while (!pending.isEmpty())
+         {
+            File file = pending.removeFirst();
+            if (file.isDirectory())
+            {
+               File[] children = file.listFiles();
+               if (children != null)
+               {
+                  Arrays.sort(children);
+                  for (int i = children.length - 1; i >= 0; i--)
+                  {
+                     pending.addFirst(children[i]);
+                  }
+               }
+            }
+            else if (file.isFile() && file.getName().endsWith(JAVA_EXTENSION))
+            {
+               return file;
+            }
+         }
+         return null;
+      }
+   }
+
+   private class ParseTask implements Callable<ParseResult>
+   {
+      private final File file;
+
+      ParseTask(final File file)
+      {
+         this.file = file;
+      }
+
+      @Override
+      public ParseResult call()
+      {
+         try
+         {
+            return ParseResult.success(file, Roaster.parse(JavaType.class, file, options));
+         }
+         catch (Exception e)
+         {
+            return ParseResult.failure(file, e);
+         }
+      }
+   }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * A Java source containing named placeholders of the form <code>$name$</code>, parsed once by
+ * {@link Roaster#compileTemplate(Class, String)} and then instantiated any number of times without parsing it again.
+ * Each instantiation copies the parsed template and substitutes the placeholders in the copy according to their
+ * position:
+ * <ul>
+ * <li>a placeholder used as a type, such as <code>private $Type$ value;</code>, accepts any type name, including
+ * arrays and parameterized types;</li>
+ * <li>a placeholder used as an expression, such as <code>return $default$;</code>, accepts a literal, a simple or
+ * qualified name, or any other expression;</li>
+ * <li>placeholders within identifiers and qualified names, such as <code>get$Property$()</code> or
+ * <code>package $package$;</code>, and within string literals and Javadoc text are replaced textually.</li>
+ * </ul>
+ * Instances are thread-safe.
+ */
+public interface SourceTemplate<T extends JavaSource<?>>
+{
+   /**
+    * Return the names of the placeholders used by this template, without the surrounding <code>$</code> signs.
+    */
+   Set<String> getPlaceholders();
+
+   /**
+    * Return a new {@link JavaSource} in which each placeholder of this template is replaced by the value given for its
+    * name. Values for names that are not placeholders of this template are ignored.
+    *
+    * @throws IllegalArgumentException if no value is given for a placeholder, or if a value is not valid in the
+    *            position of its placeholder
+    * @throws ParserException if a value used as a type cannot be parsed
+    */
+   T instantiate(Map<String, String> values);
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.model;
+
+import java.util.List;
+
+/**
+ * Represents a parsed Java compilation unit (a single source file) and every top-level type it declares. All types
+ * returned by a {@link JavaUnit} share the same underlying source, so a modification made through any of them is
+ * reflected in the output of the others.
+ */
+public interface JavaUnit
+{
+   /**
+    * Return the governing type of this unit: the first <code>public</code> top-level type, or the first top-level type
+    * if none is <code>public</code>.
+    */
+   <T extends JavaType<?>> T getGoverningType();
+
+   /**
+    * Return a list containing a {@link JavaType} instance for each top-level type declared in this unit, in
+    * declaration order.
+    */
+   List<JavaType<?>> getTopLevelTypes();
+
+   /**
+    * Return the formatted source of the complete compilation unit.
+    */
+   @Override
+   String toString();
+}
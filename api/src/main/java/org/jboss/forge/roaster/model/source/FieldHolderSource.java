@@ -35,6 +35,16 @@ public interface FieldHolderSource<O extends JavaSource<O>> extends FieldHolder<
     */
    public FieldSource<O> addField(final String declaration);
 
+   /**
+    * Add new {@link Field} declarations to this {@link O} instance, using the given {@link String}s as the
+    * declarations. Each {@link String} may contain any number of declarations; all of them are parsed together, and
+    * the resulting {@link Field}s are returned in declaration order.
+    * <p/>
+    * <strong>For example:</strong><br>
+    * <code>javaClass.addFields("private String name;", "private int x, y;");</code>
+    */
+   public List<FieldSource<O>> addFields(final String... declarations);
+
    /**
     * Remove the given {@link Field} from this {@link O} instance, if it exists; otherwise, do nothing.
     */
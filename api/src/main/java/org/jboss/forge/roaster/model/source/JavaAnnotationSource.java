@@ -49,6 +49,16 @@ public interface JavaAnnotationSource extends JavaAnnotation<JavaAnnotationSourc
     */
    public AnnotationElementSource addAnnotationElement(final String declaration);
 
+   /**
+    * Add new {@link AnnotationElementSource} declarations to this {@link JavaAnnotationSource} instance, using the
+    * given {@link String}s as the declarations. Each {@link String} may contain any number of declarations; all of
+    * them are parsed together, and the resulting elements are returned in declaration order.
+    * <p/>
+    * <strong>For example:</strong><br>
+    * <code>javaAnnotation.addAnnotationElements("String name();", "int size() default 0;");</code>
+    */
+   public List<AnnotationElementSource> addAnnotationElements(final String... declarations);
+
    /**
     * Remove the given {@link AnnotationElement} from this {@link JavaAnnotationSource} instance, if it exists;
     * otherwise, do nothing.
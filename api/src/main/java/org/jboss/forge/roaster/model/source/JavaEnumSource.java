@@ -50,4 +50,10 @@ public interface JavaEnumSource extends JavaEnum<JavaEnumSource>, JavaSource<Jav
     */
    EnumConstantSource addEnumConstant(String declaration);
 
+   /**
+    * Add new {@link EnumConstant}s using the given declarations, parsed together. Each declaration may itself be a
+    * comma separated list of constants, such as <code>"RED(1), GREEN(2)"</code>.
+    */
+   List<EnumConstantSource> addEnumConstants(String... declarations);
+
 }
\ No newline at end of file
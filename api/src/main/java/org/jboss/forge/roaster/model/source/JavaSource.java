@@ -35,4 +35,27 @@ public interface JavaSource<T extends JavaSource<T>> extends JavaType<T>,
    @Deprecated
    public List<JavaSource<?>> getNestedClasses();
 
+   /**
+    * Replace the given range of the original source of <code>this</code> with the given text, and update
+    * <code>this</code> as if the result had been parsed again. Offsets are relative to the source this type was parsed
+    * from, including any previous edits; every type declared in the same source is updated. Only the declarations
+    * touched by the edit are parsed again when possible, so that other members keep their identity. When the source
+    * cannot be updated in place, or was parsed with {@link org.jboss.forge.roaster.ParseOptions#isIncrementalUpdates()}
+    * disabled, it is parsed again as a whole, and members obtained before the edit no longer belong to
+    * <code>this</code>.
+    *
+    * @throws org.jboss.forge.roaster.ParserException if the edit removes or replaces the declaration of
+    *            <code>this</code>
+    * @throws IllegalStateException if <code>this</code> has been modified since it was parsed or last updated, since
+    *            those modifications would be lost
+    */
+   public T applyEdit(int offset, int length, String text);
+
+   /**
+    * Update <code>this</code> as if the given source had been parsed instead of the original source, applying the
+    * smallest edit that turns one into the other.
+    *
+    * @see #applyEdit(int, int, String)
+    */
+   public T update(String source);
 }
\ No newline at end of file
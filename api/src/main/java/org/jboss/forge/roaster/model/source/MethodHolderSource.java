@@ -61,6 +61,16 @@ public interface MethodHolderSource<O extends JavaSource<O>> extends MethodHolde
     */
    public MethodSource<O> addMethod(final String method);
 
+   /**
+    * Add new {@link MethodSource} declarations to this {@link O} instance, using the given {@link String}s as the
+    * method declarations. Each {@link String} may contain any number of declarations; all of them are parsed together,
+    * and the resulting {@link MethodSource}s are returned in declaration order.
+    * <p/>
+    * <strong>For example:</strong><br>
+    * <code>javaClass.addMethods("public int getX() {return x;}", "public void setX(int x) {this.x = x;}")</code>
+    */
+   public List<MethodSource<O>> addMethods(final String... methods);
+
    /**
     * Remove the given {@link MethodSource} declaration from this {@link O} instance, if it exists; otherwise, do
     * nothing.
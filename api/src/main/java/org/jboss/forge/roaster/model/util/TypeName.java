@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.model.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A type name, such as <code>java.util.List&lt;String&gt;[]</code>, parsed once into the parts that {@link Types}
+ * would otherwise compute from the raw string on every call: its erasure, simple name, package, array dimension and
+ * type arguments. Instances are immutable and interned, so parsing the same name again is a map lookup.
+ */
+public final class TypeName
+{
+   private static final int MAX_INTERNED = 16384;
+   private static final ConcurrentMap<String, TypeName> interned = new ConcurrentHashMap<String, TypeName>();
+
+   private final String name;
+   private final String erasure;
+   private final String simpleName;
+   private final String packageName;
+   private final int arrayDimension;
+   private volatile List<TypeName> typeArguments;
+
+   private TypeName(final String name)
+   {
+      this.name = name;
+      this.erasure = Types.stripGenerics(name);
+      this.simpleName = Types.toSimpleName(erasure);
+      this.packageName = Types.getPackage(erasure);
+      this.arrayDimension = Types.isArray(name) ? Types.getArrayDimension(name) : 0;
+   }
+
+   /**
+    * Return the {@link TypeName} of the given name.
+    */
+   public static TypeName of(final String name)
+   {
+      Assert.notNull(name, "Type name must not be null");
+      TypeName result = interned.get(name);
+      if (result == null)
+      {
+         result = new TypeName(name);
+         if (interned.size() < MAX_INTERNED)
+         {
+            TypeName existing = interned.putIfAbsent(name, result);
+            if (existing != null)
+            {
+               result = existing;
+            }
+         }
+      }
+      return result;
+   }
+
+   /**
+    * Return the name as it was given.
+    */
+   public String getName()
+   {
+      return name;
+   }
+
+   /**
+    * Return the name without its type arguments, as {@link Types#stripGenerics(String)} does. Array brackets are kept.
+    */
+   public String getErasure()
+   {
+      return erasure;
+   }
+
+   /**
+    * Return the last segment of the erasure, as {@link Types#toSimpleName(String)} does.
+    */
+   public String getSimpleName()
+   {
+      return simpleName;
+   }
+
+   /**
+    * Return the qualifier of the erasure, or an empty {@link String} if the name is not qualified.
+    */
+   public String getPackage()
+   {
+      return packageName;
+   }
+
+   /**
+    * Return the number of array dimensions, or <code>0</code> if this is not an array type.
+    */
+   public int getArrayDimension()
+   {
+      return arrayDimension;
+   }
+
+   public boolean isArray()
+   {
+      return arrayDimension > 0;
+   }
+
+   public boolean isPrimitive()
+   {
+      return Types.isPrimitive(name);
+   }
+
+   /**
+    * Return the type arguments of the component type, such as <code>String</code> and <code>List&lt;Long&gt;</code>
+    * for <code>Map&lt;String, List&lt;Long&gt;&gt;</code>, or an empty list if it is not generic.
+    */
+   public List<TypeName> getTypeArguments()
+   {
+      List<TypeName> result = typeArguments;
+      if (result == null)
+      {
+         result = parseTypeArguments(isArray() ? Types.stripArray(name) : name);
+         typeArguments = result;
+      }
+      return result;
+   }
+
+   /**
+    * Return <code>true</code> if this name and the given one are equal, or have the same simple name while at least one
+    * of them is unqualified, as {@link Types#areEquivalent(String, String)} determines.
+    */
+   public boolean isEquivalentTo(final TypeName other)
+   {
+      if (other == null)
+      {
+         return false;
+      }
+      if (this == other || name.equals(other.name))
+      {
+         return true;
+      }
+      return simpleName.equals(other.simpleName) && (packageName.isEmpty() || other.packageName.isEmpty());
+   }
+
+   private static List<TypeName> parseTypeArguments(final String type)
+   {
+      if (!Types.isGeneric(type))
+      {
+         return Collections.emptyList();
+      }
+      List<TypeName> result = new ArrayList<TypeName>();
+      int depth = 0;
+      int start = type.indexOf('<') + 1;
+      int end = type.lastIndexOf('>');
+      for (int i = start; i < end; i++)
+      {
+         char c = type.charAt(i);
+         if (c == '<')
+         {
+            depth++;
+         }
+         else if (c == '>')
+         {
+            depth--;
+         }
+         else if (c == ',' && depth == 0)
+         {
+            result.add(of(type.substring(start, i).trim()));
+            start = i + 1;
+         }
+      }
+      String last = type.substring(start, end).trim();
+      if (!last.isEmpty())
+      {
+         result.add(of(last));
+      }
+      return Collections.unmodifiableList(result);
+   }
+
+   @Override
+   public boolean equals(final Object obj)
+   {
+      return this == obj || (obj instanceof TypeName && name.equals(((TypeName) obj).name));
+   }
+
+   @Override
+   public int hashCode()
+   {
+      return name.hashCode();
+   }
+
+   @Override
+   public String toString()
+   {
+      return name;
+   }
+}
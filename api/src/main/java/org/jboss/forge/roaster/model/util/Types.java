@@ -8,7 +8,8 @@
 package org.jboss.forge.roaster.model.util;
 
 import java.util.Arrays;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,7 +34,13 @@ public class Types
             .compile("((?:[0-9a-zA-Z\\$]+)(?:\\<[^\\.^\\[]+)?(?:\\.(?:[0-9a-zA-Z\\$]+)(?:\\<[^\\.^\\[]+)?)*)(\\[\\])+");
    private static final Pattern GENERIC_PATTERN = Pattern.compile(".*<.*>$");
 
-   private static final List<String> LANG_TYPES = Arrays.asList(
+   private static final Set<String> PRIMITIVE_TYPES = new HashSet<String>(Arrays.asList("byte", "short", "int",
+            "long", "float", "double", "boolean", "char"));
+
+   private static final Set<String> BASIC_TYPES = new HashSet<String>(Arrays.asList("Boolean", "Byte", "Double",
+            "Float", "Integer", "Long", "Short", "String"));
+
+   private static final Set<String> LANG_TYPES = new HashSet<String>(Arrays.asList(
             // Interfaces
             "Appendable",
             "AutoCloseable",
@@ -134,7 +141,7 @@ public class Types
             "Override",
             "SafeVarargs",
             "SuppressWarnings"
-            );
+            ));
 
    public static boolean areEquivalent(String left, String right)
    {
@@ -145,25 +152,7 @@ public class Types
       if (left.equals(right))
          return true;
 
-      left = stripGenerics(left);
-      right = stripGenerics(right);
-
-      String l = toSimpleName(left);
-      String r = toSimpleName(right);
-
-      String lp = getPackage(left);
-      String rp = getPackage(right);
-
-      if (l.equals(r))
-      {
-         if (!lp.isEmpty() && !rp.isEmpty())
-         {
-            return false;
-         }
-         return true;
-      }
-
-      return false;
+      return TypeName.of(left).isEquivalentTo(TypeName.of(right));
    }
 
    public static String toSimpleName(final String fieldType)
@@ -228,9 +217,7 @@ public class Types
 
    public static boolean isBasicType(String idType)
    {
-      return isPrimitive(idType)
-               || Arrays.asList("Boolean", "Byte", "Double", "Float", "Integer", "Long", "Short", "String").contains(
-                        idType);
+      return isPrimitive(idType) || BASIC_TYPES.contains(idType);
    }
 
    public static boolean isGeneric(final String type)
@@ -342,7 +329,7 @@ public class Types
 
    public static boolean isPrimitive(final String result)
    {
-      return Arrays.asList("byte", "short", "int", "long", "float", "double", "boolean", "char").contains(result);
+      return PRIMITIVE_TYPES.contains(result);
    }
 
    /**
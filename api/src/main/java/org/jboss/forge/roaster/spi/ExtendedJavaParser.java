@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+
+import org.jboss.forge.roaster.JavaTypeRequestor;
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.SourceTemplate;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.JavaUnit;
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * Optional entry points of a {@link JavaParser}, for {@link ParseOptions}, batch parsing, {@link JavaUnit} instances
+ * and {@link SourceTemplate} instances. {@link Roaster} uses them when a registered {@link JavaParser} also implements
+ * this interface; otherwise it falls back to the methods of {@link JavaParser}, ignoring any {@link ParseOptions}, and
+ * skips that parser for the features {@link JavaParser} cannot provide.
+ */
+public interface ExtendedJavaParser extends JavaParser
+{
+   /**
+    * Create a new empty {@link JavaSource} instance, declared in the given package and with the given name.
+    * 
+    * @param type desired source type
+    * @param packageName of the new source, or {@code null} for the default package
+    * @param simpleName of the new source
+    * @return instance of {@code T}, {@code null} if the {@link JavaSource} type is not supported by this
+    *         {@link JavaParser}.
+    */
+   public <T extends JavaSource<?>> T create(final Class<T> type, final String packageName, final String simpleName);
+
+   /**
+    * Parse the given source, containing <code>$name$</code> placeholders, into a new {@link SourceTemplate}.
+    * 
+    * @param type desired source type
+    * @param source of the template
+    * @return {@link SourceTemplate}, {@code null} if the {@link JavaSource} type is not supported by this
+    *         {@link JavaParser}.
+    */
+   public <T extends JavaSource<?>> SourceTemplate<T> compileTemplate(final Class<T> type, final String source);
+
+   /**
+    * Read the given {@link InputStream} and parse the data into a new {@link JavaType} instance, using the given
+    * {@link ParseOptions}.
+    * 
+    * @param data to parse
+    * @param options controlling how much of the source is parsed
+    * @return {@link JavaType}, {@code null} if the data format is not recognized by this {@link JavaParser}.
+    */
+   public JavaType<?> parse(final InputStream data, final ParseOptions options);
+
+   /**
+    * Parse the given character array into a new {@link JavaType} instance, using the given {@link ParseOptions}. The
+    * array is used directly by the parser and must not be modified afterwards.
+    * 
+    * @param data to parse
+    * @param options controlling how much of the source is parsed
+    * @return {@link JavaType}, {@code null} if the data format is not recognized by this {@link JavaParser}.
+    */
+   public JavaType<?> parse(final char[] data, final ParseOptions options);
+
+   /**
+    * Read the given {@link File} and parse its contents into a new {@link JavaType} instance, using the given
+    * {@link ParseOptions}. The contents are decoded using {@link ParseOptions#getCharset()}.
+    * 
+    * @param file to parse
+    * @param options controlling how the file is decoded and how much of the source is parsed
+    * @return {@link JavaType}, {@code null} if the data format is not recognized by this {@link JavaParser}.
+    * @throws IOException if the file cannot be read
+    */
+   public JavaType<?> parse(final File file, final ParseOptions options) throws IOException;
+
+   /**
+    * Read the given {@link InputStream} and parse the data into a new {@link JavaUnit} containing every top-level type
+    * it declares, using the given {@link ParseOptions}.
+    * 
+    * @param data to parse
+    * @param options controlling how much of the source is parsed
+    * @return {@link JavaUnit}, {@code null} if the data format is not recognized by this {@link JavaParser}.
+    */
+   public JavaUnit parseUnit(final InputStream data, final ParseOptions options);
+
+   /**
+    * Parse the given character array into a new {@link JavaUnit} containing every top-level type it declares, using
+    * the given {@link ParseOptions}. The array is used directly by the parser and must not be modified afterwards.
+    * 
+    * @param data to parse
+    * @param options controlling how much of the source is parsed
+    * @return {@link JavaUnit}, {@code null} if the data format is not recognized by this {@link JavaParser}.
+    */
+   public JavaUnit parseUnit(final char[] data, final ParseOptions options);
+
+   /**
+    * Read the given {@link File} and parse its contents into a new {@link JavaUnit} containing every top-level type it
+    * declares, using the given {@link ParseOptions}.
+    * 
+    * @param file to parse
+    * @param options controlling how the file is decoded and how much of the source is parsed
+    * @return {@link JavaUnit}, {@code null} if the data format is not recognized by this {@link JavaParser}.
+    * @throws IOException if the file cannot be read
+    */
+   public JavaUnit parseUnit(final File file, final ParseOptions options) throws IOException;
+
+   /**
+    * Parse each of the given {@link File} instances into a new {@link JavaType} instance, using the given
+    * {@link ParseOptions}, and pass each result to the given {@link JavaTypeRequestor} as soon as it is available.
+    *
+    * @param files to parse
+    * @param options controlling how much of each source is parsed
+    * @param requestor receiving each parsed {@link JavaType}, or the reason a {@link File} could not be parsed
+    */
+   public void parseAll(final Collection<File> files, final ParseOptions options, final JavaTypeRequestor requestor);
+}
@@ -21,6 +21,9 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 
 /**
+ * Collects the methods declared directly by the visited type declaration or anonymous class. Neither method bodies
+ * nor nested types are visited, so the cost depends on the number of members rather than on the size of the tree.
+ *
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
 public class MethodFinderVisitor extends ASTVisitor
@@ -33,7 +36,7 @@ public class MethodFinderVisitor extends ASTVisitor
    {
       parent = node;
       addMethods(node);
-      return super.visit(node);
+      return false;
    }
    
    @Override
@@ -41,7 +44,7 @@ public class MethodFinderVisitor extends ASTVisitor
    {
       parent = node;
       addMethods(node);
-      return super.visit(node);
+      return false;
    }
    
    @Override
@@ -49,7 +52,7 @@ public class MethodFinderVisitor extends ASTVisitor
    {
       parent = node;
       addMethods(node);
-      return super.visit(node);
+      return false;
    }
 
    @Override
@@ -59,7 +62,7 @@ public class MethodFinderVisitor extends ASTVisitor
       @SuppressWarnings("unchecked")
       final List<BodyDeclaration> bodyDeclarations = node.bodyDeclarations();
       addMethods(bodyDeclarations);
-      return super.visit(node);
+      return false;
    }
 
    public List<MethodDeclaration> getMethods()
@@ -43,7 +43,7 @@ public abstract class AbstractGenericCapableJavaSource<O extends JavaSource<O> &
    @Override
    public List<TypeVariableSource<O>> getTypeVariables()
    {
-      TypeDeclaration type = (TypeDeclaration) body;
+      TypeDeclaration type = (TypeDeclaration) getBodyDeclaration();
       List<TypeParameter> typeParameters = type.typeParameters();
       List<TypeVariableSource<O>> result = new ArrayList<TypeVariableSource<O>>();
       for (TypeParameter typeParameter : typeParameters)
@@ -56,7 +56,7 @@ public abstract class AbstractGenericCapableJavaSource<O extends JavaSource<O> &
    @Override
    public TypeVariableSource<O> getTypeVariable(String name)
    {
-      TypeDeclaration type = (TypeDeclaration) body;
+      TypeDeclaration type = (TypeDeclaration) getBodyDeclaration();
       List<TypeParameter> typeParameters = type.typeParameters();
       for (TypeParameter typeParameter : typeParameters)
       {
@@ -71,8 +71,8 @@ public abstract class AbstractGenericCapableJavaSource<O extends JavaSource<O> &
    @Override
    public TypeVariableSource<O> addTypeVariable()
    {
-      TypeDeclaration type = (TypeDeclaration) body;
-      TypeParameter tp2 = unit.getAST().newTypeParameter();
+      TypeDeclaration type = (TypeDeclaration) getBodyDeclaration();
+      TypeParameter tp2 = getUnit().getAST().newTypeParameter();
       type.typeParameters().add(tp2);
       return new TypeVariableImpl<O>((O) this, tp2);
    }
@@ -86,7 +86,7 @@ public abstract class AbstractGenericCapableJavaSource<O extends JavaSource<O> &
    @Override
    public O removeTypeVariable(String name)
    {
-      TypeDeclaration type = (TypeDeclaration) body;
+      TypeDeclaration type = (TypeDeclaration) getBodyDeclaration();
       List<TypeParameter> typeParameters = type.typeParameters();
       for (Iterator<TypeParameter> iter = typeParameters.iterator(); iter.hasNext();)
       {
@@ -9,10 +9,8 @@ package org.jboss.forge.roaster.model.impl;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.ServiceLoader;
 
-import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
@@ -20,11 +18,12 @@ import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.EnumDeclaration;
-import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
 import org.eclipse.jdt.core.dom.PackageDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
-import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jface.text.Document;
 import org.eclipse.text.edits.TextEdit;
 import org.jboss.forge.roaster.ParserException;
@@ -35,16 +34,20 @@ import org.jboss.forge.roaster.model.SyntaxError;
 import org.jboss.forge.roaster.model.Visibility;
 import org.jboss.forge.roaster.model.ast.AnnotationAccessor;
 import org.jboss.forge.roaster.model.ast.ModifierAccessor;
-import org.jboss.forge.roaster.model.ast.TypeDeclarationFinderVisitor;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
+import org.jboss.forge.roaster.model.source.FieldSource;
 import org.jboss.forge.roaster.model.source.Import;
 import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
 import org.jboss.forge.roaster.model.source.TypeHolderSource;
 import org.jboss.forge.roaster.model.util.Formatter;
 import org.jboss.forge.roaster.model.util.Strings;
 import org.jboss.forge.roaster.model.util.Types;
 import org.jboss.forge.roaster.spi.JavaParserImpl;
+import org.jboss.forge.roaster.spi.ParserSession;
+import org.jboss.forge.roaster.spi.SourceUpdater;
 import org.jboss.forge.roaster.spi.WildcardImportResolver;
+import org.jboss.forge.roaster.spi.WildcardImportResolverImpl;
 
 /**
  * Represents a Java Source File
@@ -57,14 +60,16 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
 {
    private final AnnotationAccessor<O, O> annotations = new AnnotationAccessor<O, O>();
    private final ModifierAccessor modifiers = new ModifierAccessor();
+   private MemberIndex<O> memberIndex;
 
    protected final Document document;
-   protected final CompilationUnit unit;
-   protected final BodyDeclaration body;
+   private CompilationUnit unit;
+   private BodyDeclaration body;
    protected final JavaSource<?> enclosingType;
 
    public static ServiceLoader<WildcardImportResolver> loader = ServiceLoader.load(WildcardImportResolver.class);
    private static List<WildcardImportResolver> resolvers;
+   private ImportTable importTable;
 
    protected AbstractJavaSource(JavaSource<?> enclosingType, final Document document, final CompilationUnit unit,
             BodyDeclaration body)
@@ -165,40 +170,30 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    public Import addImport(final String className)
    {
       String strippedClassName = Types.stripGenerics(Types.stripArray(className));
-      Import imprt;
-      if (Types.isSimpleName(strippedClassName) && !hasImport(strippedClassName))
+      ImportTable table = getImportTable();
+      Import imprt = table.getImport(strippedClassName);
+      if (imprt != null)
       {
-         throw new IllegalArgumentException("Cannot import class without a package [" + strippedClassName + "]");
+         return imprt;
       }
-
-      if (!hasImport(strippedClassName) && validImport(strippedClassName))
+      if (Types.isSimpleName(strippedClassName))
       {
-         imprt = new ImportImpl(this).setName(strippedClassName);
-         unit.imports().add(imprt.getInternal());
+         throw new IllegalArgumentException("Cannot import class without a package [" + strippedClassName + "]");
       }
-      else if (hasImport(strippedClassName))
-      {
-         imprt = getImport(strippedClassName);
-      }
-      else
+      if (!validImport(strippedClassName))
       {
          throw new IllegalArgumentException("Attempted to import the illegal type [" + strippedClassName + "]");
       }
-      return imprt;
+      ImportImpl created = new ImportImpl(this);
+      created.setName(strippedClassName);
+      getUnit().imports().add(created.getInternal());
+      return table.add(created);
    }
 
    @Override
    public Import getImport(final String className)
    {
-      List<Import> imports = getImports();
-      for (Import imprt : imports)
-      {
-         if (imprt.getQualifiedName().equals(className) || imprt.getSimpleName().equals(className))
-         {
-            return imprt;
-         }
-      }
-      return null;
+      return getImportTable().getImport(className);
    }
 
    @Override
@@ -222,14 +217,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public List<Import> getImports()
    {
-      List<Import> results = new ArrayList<Import>();
-
-      for (ImportDeclaration i : (List<ImportDeclaration>) unit.imports())
-      {
-         results.add(new ImportImpl(this, i));
-      }
-
-      return Collections.unmodifiableList(results);
+      return getImportTable().getImports();
    }
 
    @Override
@@ -295,6 +283,22 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
 
    @Override
    public String resolveType(final String type)
+   {
+      ImportTable table = getImportTable();
+      PackageDeclaration pkg = getUnit().getPackage();
+      String result = table.getResolvedType(type, pkg == null ? null : pkg.getName());
+      if (result == null)
+      {
+         result = table.putResolvedType(type, resolveTypeAgainstImports(type));
+      }
+      return result;
+   }
+
+   /**
+    * Resolve the given type against the imports and the package of this source, without consulting the cache of the
+    * {@link ImportTable}.
+    */
+   private String resolveTypeAgainstImports(final String type)
    {
       String original = type;
       String result = type;
@@ -327,13 +331,10 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
 
          if (result.equals(original))
          {
-            for (Import imprt : getImports())
+            Import imprt = getImportTable().getImport(result);
+            if (imprt != null)
             {
-               if (Types.areEquivalent(result, imprt.getQualifiedName()))
-               {
-                  result = imprt.getQualifiedName();
-                  break;
-               }
+               result = imprt.getQualifiedName();
             }
          }
       }
@@ -341,18 +342,13 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
       // If we didn't match any imports directly, we might have a wild-card/on-demand import.
       if (Types.isSimpleName(result))
       {
-         for (Import imprt : getImports())
+         if (!getImportTable().getWildcardImports().isEmpty())
          {
-            if (imprt.isWildcard())
+            for (WildcardImportResolver r : getImportResolvers())
             {
-               // TODO warn if no wild-card resolvers are configured
-               // TODO Test wild-card/on-demand import resolving
-               for (WildcardImportResolver r : getImportResolvers())
-               {
-                  result = r.resolve(this, result);
-                  if (Types.isQualified(result))
-                     break;
-               }
+               result = r.resolve(this, result);
+               if (Types.isQualified(result))
+                  break;
             }
          }
       }
@@ -367,22 +363,42 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
       return result;
    }
 
-   private List<WildcardImportResolver> getImportResolvers()
+   /**
+    * Return the {@link WildcardImportResolver} instances found by the {@link #loader}, loaded once and shared by every
+    * source. The built-in {@link WildcardImportResolverImpl} is used if none can be found.
+    */
+   static synchronized List<WildcardImportResolver> getImportResolvers()
    {
       if (resolvers == null)
       {
-         resolvers = new ArrayList<WildcardImportResolver>();
-         for (WildcardImportResolver r : resolvers)
+         List<WildcardImportResolver> result = new ArrayList<WildcardImportResolver>();
+         for (WildcardImportResolver r : loader)
          {
-            resolvers.add(r);
+            result.add(r);
          }
+         if (result.isEmpty())
+         {
+            result.add(new WildcardImportResolverImpl());
+         }
+         resolvers = Collections.unmodifiableList(result);
       }
-      if (resolvers.size() == 0)
+      return resolvers;
+   }
+
+   /**
+    * Return the {@link ImportTable} of this source, building it again if the imports have been modified since it was
+    * last built.
+    */
+   ImportTable getImportTable()
+   {
+      CompilationUnit unit = getUnit();
+      ImportTable result = importTable;
+      if (result == null || !result.isCurrent())
       {
-         throw new IllegalStateException("No instances of [" + WildcardImportResolver.class.getName()
-                  + "] were found on the classpath.");
+         result = new ImportTable(this, unit);
+         importTable = result;
       }
-      return resolvers;
+      return result;
    }
 
    private boolean validImport(final String type)
@@ -393,13 +409,10 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public O removeImport(final String name)
    {
-      for (Import i : getImports())
+      Import imprt = getImportTable().getImportByQualifiedName(name);
+      if (imprt != null)
       {
-         if (i.getQualifiedName().equals(name))
-         {
-            removeImport(i);
-            break;
-         }
+         removeImport(imprt);
       }
       return (O) this;
    }
@@ -420,6 +433,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    public O removeImport(final Import imprt)
    {
       Object internal = imprt.getInternal();
+      CompilationUnit unit = getUnit();
       if (unit.imports().contains(internal))
       {
          unit.imports().remove(internal);
@@ -429,11 +443,35 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
 
    protected AbstractTypeDeclaration getBodyDeclaration()
    {
+      getUnit();
       if (body instanceof AbstractTypeDeclaration)
          return (AbstractTypeDeclaration) body;
       throw new ParserException("Source body was not of the expected type.");
    }
 
+   /**
+    * Return the {@link CompilationUnit} of this source. If an update through another {@link JavaSource} of the same
+    * file replaced it, this source is first moved to the replacing {@link CompilationUnit}.
+    */
+   protected CompilationUnit getUnit()
+   {
+      CompilationUnit current = SourceUpdater.getCurrent(unit);
+      if (current != unit)
+      {
+         BodyDeclaration located = (BodyDeclaration) SourceUpdater.locate(current, body);
+         if (located == null)
+         {
+            throw new ParserException("An update of this file removed or replaced the declaration of this source;"
+                     + " parse it again");
+         }
+         unit = current;
+         body = located;
+         memberIndex = null;
+         importTable = null;
+      }
+      return unit;
+   }
+
    /*
     * Name modifiers
     */
@@ -446,7 +484,15 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public O setName(final String name)
    {
-      getBodyDeclaration().setName(unit.getAST().newSimpleName(name));
+      getBodyDeclaration().setName(getUnit().getAST().newSimpleName(name));
+      if (enclosingType != this && enclosingType instanceof AbstractJavaSource)
+      {
+         MemberIndex<?> index = ((AbstractJavaSource<?>) enclosingType).getCurrentMemberIndex();
+         if (index != null)
+         {
+            index.nestedTypeRenamed();
+         }
+      }
       return updateTypeNames(name);
    }
 
@@ -499,7 +545,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public String getPackage()
    {
-      PackageDeclaration pkg = unit.getPackage();
+      PackageDeclaration pkg = getUnit().getPackage();
       if (pkg != null)
       {
          return pkg.getName().getFullyQualifiedName();
@@ -513,6 +559,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public O setPackage(final String name)
    {
+      CompilationUnit unit = getUnit();
       if (unit.getPackage() == null)
       {
          unit.setPackage(unit.getAST().newPackageDeclaration());
@@ -524,14 +571,14 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public O setDefaultPackage()
    {
-      unit.setPackage(null);
+      getUnit().setPackage(null);
       return (O) this;
    }
 
    @Override
    public boolean isDefaultPackage()
    {
-      return unit.getPackage() == null;
+      return getUnit().getPackage() == null;
    }
 
    /*
@@ -615,13 +662,10 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    {
       Document document = new Document(this.document.get());
 
+      CompilationUnit unit = getUnit();
       try
       {
-         @SuppressWarnings("rawtypes")
-         Map options = JavaCore.getOptions();
-         options.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_1_7);
-         options.put(CompilerOptions.OPTION_Encoding, "UTF-8");
-         TextEdit edit = unit.rewrite(document, options);
+         TextEdit edit = unit.rewrite(document, ParserSession.getCompilerOptions());
          edit.apply(document);
       }
       catch (Exception e)
@@ -632,10 +676,26 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
       return Formatter.format(document.get());
    }
 
+   @Override
+   public O applyEdit(final int offset, final int length, final String text)
+   {
+      CompilationUnit unit = getUnit();
+      SourceUpdater.applyEdit(document, unit, body, offset, length, text);
+      return (O) this;
+   }
+
+   @Override
+   public O update(final String source)
+   {
+      CompilationUnit unit = getUnit();
+      SourceUpdater.update(document, unit, body, source);
+      return (O) this;
+   }
+
    @Override
    public Object getInternal()
    {
-      return unit;
+      return getUnit();
    }
 
    @Override
@@ -649,6 +709,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    {
       final int prime = 31;
       int result = 1;
+      CompilationUnit unit = getUnit();
       result = prime * result + ((body == null) ? 0 : body.hashCode());
       result = prime * result + ((document == null) ? 0 : document.hashCode());
       result = prime * result + ((enclosingType == null) ? 0 : enclosingType.hashCode());
@@ -666,6 +727,8 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
       if (getClass() != obj.getClass())
          return false;
       AbstractJavaSource<?> other = (AbstractJavaSource<?>) obj;
+      CompilationUnit unit = getUnit();
+      CompilationUnit otherUnit = other.getUnit();
       if (body == null)
       {
          if (other.body != null)
@@ -689,10 +752,10 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
          return false;
       if (unit == null)
       {
-         if (other.unit != null)
+         if (otherUnit != null)
             return false;
       }
-      else if (!unit.equals(other.unit))
+      else if (!unit.equals(otherUnit))
          return false;
       return true;
    }
@@ -702,7 +765,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    {
       List<SyntaxError> result = new ArrayList<SyntaxError>();
 
-      IProblem[] problems = unit.getProblems();
+      IProblem[] problems = getUnit().getProblems();
       if (problems != null)
       {
          for (IProblem problem : problems)
@@ -757,68 +820,33 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public List<JavaSource<?>> getNestedTypes()
    {
-      List<AbstractTypeDeclaration> declarations = getNestedDeclarations(body);
-
-      List<JavaSource<?>> result = new ArrayList<JavaSource<?>>();
-      for (AbstractTypeDeclaration declaration : declarations)
-      {
-         result.add(JavaParserImpl.getJavaSource(this, document, unit, declaration));
-      }
-      return result;
+      return new ArrayList<JavaSource<?>>(getMemberIndex().getNestedTypes());
    }
 
    @Override
    public boolean hasNestedType(JavaType<?> type)
    {
-      for (JavaSource<?> nested : getNestedTypes())
-      {
-         if (Strings.areEqual(nested.getQualifiedName(), type.getQualifiedName())
-                  || Strings.areEqual(nested.getName(), type.getName()))
-         {
-            return true;
-         }
-      }
-      return false;
+      MemberIndex<O> index = getMemberIndex();
+      return index.getNestedType(type.getQualifiedName()) != null || index.getNestedType(type.getName()) != null;
    }
 
    @Override
    public boolean hasNestedType(String name)
    {
-      for (JavaSource<?> nested : getNestedTypes())
-      {
-         if (Strings.areEqual(nested.getName(), name) || Strings.areEqual(nested.getQualifiedName(), name))
-         {
-            return true;
-         }
-      }
-      return false;
+      return getNestedType(name) != null;
    }
 
    @Override
    public boolean hasNestedType(Class<?> type)
    {
-      for (JavaSource<?> nested : getNestedTypes())
-      {
-         if (Strings.areEqual(nested.getName(), type.getSimpleName())
-                  || Strings.areEqual(nested.getQualifiedName(), type.getName()))
-         {
-            return true;
-         }
-      }
-      return false;
+      MemberIndex<O> index = getMemberIndex();
+      return index.getNestedType(type.getSimpleName()) != null || index.getNestedType(type.getName()) != null;
    }
 
    @Override
    public JavaSource<?> getNestedType(String name)
    {
-      for (JavaSource<?> nested : getNestedTypes())
-      {
-         if (Strings.areEqual(nested.getName(), name) || Strings.areEqual(nested.getQualifiedName(), name))
-         {
-            return nested;
-         }
-      }
-      return null;
+      return getMemberIndex().getNestedType(name);
    }
 
    @Override
@@ -826,9 +854,16 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    {
       if (type instanceof AbstractJavaSource)
       {
+         MemberIndex<O> index = getCurrentMemberIndex();
          List<Object> bodyDeclarations = getBodyDeclaration().bodyDeclarations();
-         BodyDeclaration nestedBody = ((AbstractJavaSource<?>) type).body;
-         bodyDeclarations.add(ASTNode.copySubtree(unit.getAST(), nestedBody));
+         AbstractJavaSource<?> nested = (AbstractJavaSource<?>) type;
+         CompilationUnit unit = getUnit();
+         ASTNode copy = ParserSession.copySubtree(unit.getAST(), nested.getBodyDeclaration(), nested.document);
+         bodyDeclarations.add(copy);
+         if (index != null)
+         {
+            index.addNestedType(bodyDeclarations, JavaParserImpl.getJavaSource(this, document, unit, copy));
+         }
       }
       else
       {
@@ -842,7 +877,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    {
       if (type instanceof AbstractJavaSource)
       {
-         BodyDeclaration bodyDeclaration = ((AbstractJavaSource<?>) type).body;
+         BodyDeclaration bodyDeclaration = ((AbstractJavaSource<?>) type).getBodyDeclaration();
          List<Object> bodyDeclarations = getBodyDeclaration().bodyDeclarations();
          bodyDeclarations.remove(bodyDeclaration);
       }
@@ -859,7 +894,7 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
    @Override
    public <NESTED_TYPE extends JavaSource<?>> NESTED_TYPE addNestedType(String declaration)
    {
-      JavaSource<?> nestedType = Roaster.parse(JavaSource.class, declaration);
+      JavaSource<?> nestedType = JavaParserImpl.parseStub(JavaSource.class, declaration);
       return (NESTED_TYPE) addNestedType(nestedType);
    }
 
@@ -869,23 +904,117 @@ public abstract class AbstractJavaSource<O extends JavaSource<O>> implements
       return getNestedTypes();
    }
 
-   private List<AbstractTypeDeclaration> getNestedDeclarations(BodyDeclaration body)
+   /**
+    * Return the {@link MemberIndex} of this source, building it again if body declarations have been added or removed,
+    * or the source has been updated, since it was last built.
+    */
+   MemberIndex<O> getMemberIndex()
    {
-      TypeDeclarationFinderVisitor typeDeclarationFinder = new TypeDeclarationFinderVisitor();
-      body.accept(typeDeclarationFinder);
-      List<AbstractTypeDeclaration> declarations = typeDeclarationFinder.getTypeDeclarations();
+      List<?> declarations = getBodyDeclaration().bodyDeclarations();
+      int updateCount = SourceUpdater.getUpdateCount(getUnit());
+      MemberIndex<O> result = memberIndex;
+      if (result == null || !result.isCurrent(declarations, updateCount))
+      {
+         result = new MemberIndex<O>(declarations, updateCount, findFields(), findMethods(), findNestedTypes());
+         memberIndex = result;
+      }
+      return result;
+   }
+
+   /**
+    * Return the {@link MemberIndex} of this source if it describes the tree as it currently is, or <code>null</code>.
+    * Methods adding members obtain it before inserting any declaration, and record the new members in it afterwards.
+    */
+   MemberIndex<O> getCurrentMemberIndex()
+   {
+      List<?> declarations = getBodyDeclaration().bodyDeclarations();
+      int updateCount = SourceUpdater.getUpdateCount(getUnit());
+      MemberIndex<O> result = memberIndex;
+      return result != null && result.isCurrent(declarations, updateCount) ? result : null;
+   }
 
-      List<AbstractTypeDeclaration> result = new ArrayList<AbstractTypeDeclaration>(declarations);
-      if (!declarations.isEmpty())
+   /**
+    * Discard the {@link MemberIndex} of this source, after a change it cannot follow.
+    */
+   void discardMemberIndex()
+   {
+      memberIndex = null;
+   }
+
+   /**
+    * Update the {@link MemberIndex} of this source, if it is current, after the field declared by the given fragment
+    * was renamed from the given name. Fields declared together are named after the first of them, so renaming one of
+    * them renames them all, and discards the index instead.
+    */
+   void fieldRenamed(final VariableDeclarationFragment fragment, final String oldName)
+   {
+      MemberIndex<O> index = getCurrentMemberIndex();
+      if (index != null)
       {
-         // We don't want to return the current class' declaration.
-         result.remove(declarations.remove(0));
-         for (AbstractTypeDeclaration declaration : declarations)
+         if (((FieldDeclaration) fragment.getParent()).fragments().size() == 1)
          {
-            result.removeAll(getNestedDeclarations(declaration));
+            index.fieldRenamed(fragment, oldName);
          }
+         else
+         {
+            memberIndex = null;
+         }
+      }
+   }
+
+   /**
+    * Update the {@link MemberIndex} of this source, if it is current, after the given method was renamed from the
+    * given name, or its parameters were changed.
+    */
+   void methodChanged(final MethodDeclaration method, final String oldName)
+   {
+      MemberIndex<O> index = getCurrentMemberIndex();
+      if (index != null)
+      {
+         index.methodChanged(method, oldName);
+      }
+   }
+
+   /**
+    * Return new instances of the fields declared by this source, in declaration order.
+    */
+   protected List<FieldSource<O>> findFields()
+   {
+      return new ArrayList<FieldSource<O>>();
+   }
+
+   /**
+    * Return new instances of the methods declared by this source, in declaration order.
+    */
+   protected List<MethodSource<O>> findMethods()
+   {
+      return new ArrayList<MethodSource<O>>();
+   }
+
+   private List<JavaSource<?>> findNestedTypes()
+   {
+      List<JavaSource<?>> result = new ArrayList<JavaSource<?>>();
+      for (AbstractTypeDeclaration declaration : getNestedDeclarations(getBodyDeclaration().bodyDeclarations()))
+      {
+         result.add(JavaParserImpl.getJavaSource(this, document, getUnit(), declaration));
       }
+      return result;
+   }
 
+   /**
+    * Return the member types among the given body declarations. Only the declarations themselves are inspected, so
+    * that the cost depends on the number of members rather than on the size of their bodies.
+    */
+   static List<AbstractTypeDeclaration> getNestedDeclarations(final List<?> bodyDeclarations)
+   {
+      List<AbstractTypeDeclaration> result = new ArrayList<AbstractTypeDeclaration>();
+      for (Object declaration : bodyDeclarations)
+      {
+         if (declaration instanceof AbstractTypeDeclaration)
+         {
+            result.add((AbstractTypeDeclaration) declaration);
+         }
+      }
       return result;
    }
 
@@ -7,21 +7,22 @@
 package org.jboss.forge.roaster.model.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jface.text.Document;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.Field;
 import org.jboss.forge.roaster.model.JavaInterface;
 import org.jboss.forge.roaster.model.JavaType;
@@ -32,16 +33,16 @@ import org.jboss.forge.roaster.model.ast.MethodFinderVisitor;
 import org.jboss.forge.roaster.model.source.FieldSource;
 import org.jboss.forge.roaster.model.source.Import;
 import org.jboss.forge.roaster.model.source.InterfaceCapableSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.source.MemberSource;
 import org.jboss.forge.roaster.model.source.MethodSource;
-import org.jboss.forge.roaster.model.source.ParameterSource;
 import org.jboss.forge.roaster.model.source.PropertyHolderSource;
 import org.jboss.forge.roaster.model.source.PropertySource;
 import org.jboss.forge.roaster.model.util.Assert;
 import org.jboss.forge.roaster.model.util.Strings;
 import org.jboss.forge.roaster.model.util.Types;
+import org.jboss.forge.roaster.spi.FragmentParser;
+import org.jboss.forge.roaster.spi.SourceUpdater;
 
 /**
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
@@ -50,6 +51,9 @@ import org.jboss.forge.roaster.model.util.Types;
 public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & PropertyHolderSource<O>> extends AbstractJavaSource<O>
          implements InterfaceCapableSource<O>, PropertyHolderSource<O>
 {
+   private PropertyResolver<O> propertyResolver;
+   private InterfaceIndex interfaceIndex;
+
    protected AbstractJavaSourceMemberHolder(JavaSource<?> enclosingType, final Document document,
             final CompilationUnit unit, BodyDeclaration declaration)
    {
@@ -63,37 +67,48 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @SuppressWarnings("unchecked")
    public FieldSource<O> addField()
    {
+      MemberIndex<O> index = getCurrentMemberIndex();
       FieldSource<O> field = new FieldImpl<O>((O) this);
-      addField(field);
+      addFields(index, Collections.singletonList(field));
       return field;
    }
 
    @Override
-   @SuppressWarnings("unchecked")
    public FieldSource<O> addField(final String declaration)
    {
-      String stub = "public class Stub { " + declaration + " }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<FieldSource<JavaClassSource>> fields = temp.getFields();
-      FieldSource<O> result = null;
-      for (FieldSource<JavaClassSource> stubField : fields)
+      List<FieldSource<O>> result = addFields(declaration);
+      return result.isEmpty() ? null : result.get(0);
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public List<FieldSource<O>> addFields(final String... declarations)
+   {
+      MemberIndex<O> index = getCurrentMemberIndex();
+      String stub = "public class Stub { " + Strings.join(Arrays.asList(declarations), "\n") + " }";
+      TypeDeclaration temp = (TypeDeclaration) FragmentParser.parseType(stub);
+      List<FieldSource<O>> result = new ArrayList<FieldSource<O>>();
+      for (FieldDeclaration stubField : temp.getFields())
       {
-         Object variableDeclaration = stubField.getInternal();
-         FieldSource<O> field = new FieldImpl<O>((O) this, variableDeclaration, true);
-         addField(field);
-         if (result == null)
+         for (Object variableDeclaration : stubField.fragments())
          {
-            result = field;
+            result.add(new FieldImpl<O>((O) this, variableDeclaration, true));
          }
       }
+      addFields(index, result);
       return result;
    }
 
+   /**
+    * Insert the given fields after the leading field declarations, and record them in the given {@link MemberIndex},
+    * obtained before the fields were inserted, if it was current.
+    */
    @SuppressWarnings("unchecked")
-   private void addField(Field<O> field)
+   private void addFields(MemberIndex<O> index, List<FieldSource<O>> fields)
    {
       List<Object> bodyDeclarations = getBodyDeclaration().bodyDeclarations();
       int idx = 0;
+      int position = 0;
       for (Object object : bodyDeclarations)
       {
          if (!(object instanceof FieldDeclaration))
@@ -101,8 +116,18 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
             break;
          }
          idx++;
+         position += ((FieldDeclaration) object).fragments().size();
+      }
+      List<Object> declarations = new ArrayList<Object>(fields.size());
+      for (Field<O> field : fields)
+      {
+         declarations.add(((VariableDeclarationFragment) field.getInternal()).getParent());
+      }
+      bodyDeclarations.addAll(idx, declarations);
+      if (index != null)
+      {
+         index.addFields(bodyDeclarations, position, fields);
       }
-      bodyDeclarations.add(idx, ((VariableDeclarationFragment) field.getInternal()).getParent());
    }
 
    @Override
@@ -117,8 +142,14 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    }
 
    @Override
-   @SuppressWarnings("unchecked")
    public List<FieldSource<O>> getFields()
+   {
+      return getMemberIndex().getFields();
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   protected List<FieldSource<O>> findFields()
    {
       List<FieldSource<O>> result = new ArrayList<FieldSource<O>>();
 
@@ -136,33 +167,19 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
          }
       }
 
-      return Collections.unmodifiableList(result);
+      return result;
    }
 
    @Override
    public FieldSource<O> getField(final String name)
    {
-      for (FieldSource<O> field : getFields())
-      {
-         if (field.getName().equals(name))
-         {
-            return field;
-         }
-      }
-      return null;
+      return getMemberIndex().getField(name);
    }
 
    @Override
    public boolean hasField(final String name)
    {
-      for (FieldSource<O> field : getFields())
-      {
-         if (field.getName().equals(name))
-         {
-            return true;
-         }
-      }
-      return false;
+      return getField(name) != null;
    }
 
    @Override
@@ -195,6 +212,7 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
                   else
                   {
                      fragments.remove(fragment);
+                     discardMemberIndex();
                   }
                   break;
                }
@@ -242,45 +260,13 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @Override
    public MethodSource<O> getMethod(final String name)
    {
-      for (MethodSource<O> method : getMethods())
-      {
-         if (method.getName().equals(name) && (method.getParameters().size() == 0))
-         {
-            return method;
-         }
-      }
-      return null;
+      return getMemberIndex().getMethod(name);
    }
 
    @Override
    public MethodSource<O> getMethod(final String name, final String... paramTypes)
    {
-      for (MethodSource<O> local : getMethods())
-      {
-         if (local.getName().equals(name))
-         {
-            List<ParameterSource<O>> localParams = local.getParameters();
-            if (paramTypes != null)
-            {
-               if (localParams.isEmpty() || (localParams.size() == paramTypes.length))
-               {
-                  boolean matches = true;
-                  for (int i = 0; i < localParams.size(); i++)
-                  {
-                     ParameterSource<O> localParam = localParams.get(i);
-                     String type = paramTypes[i];
-                     if (!Types.areEquivalent(localParam.getType().getName(), type))
-                     {
-                        matches = false;
-                     }
-                  }
-                  if (matches)
-                     return local;
-               }
-            }
-         }
-      }
-      return null;
+      return getMemberIndex().getMethod(name, paramTypes);
    }
 
    @Override
@@ -303,23 +289,24 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @Override
    public boolean hasMethodSignature(final Method<?, ?> method)
    {
-      for (MethodSource<O> local : getMethods())
+      String[] localTypes = getMemberIndex().getFirstMethodParameterTypes(method.getName());
+      if (localTypes == null)
+      {
+         return false;
+      }
+      List<? extends Parameter<? extends JavaType<?>>> parameters = method.getParameters();
+      if (parameters.size() != localTypes.length)
       {
-         if (local.getName().equals(method.getName()))
+         return false;
+      }
+      for (int i = 0; i < localTypes.length; i++)
+      {
+         if (!Strings.areEqual(localTypes[i], parameters.get(i).getType().getName()))
          {
-            Iterator<ParameterSource<O>> localParams = local.getParameters().iterator();
-            for (Parameter<? extends JavaType<?>> methodParam : method.getParameters())
-            {
-               if (localParams.hasNext() && Strings.areEqual(localParams.next().getType().getName(), methodParam.getType().getName()))
-               {
-                  continue;
-               }
-               return false;
-            }
-            return !localParams.hasNext();
+            return false;
          }
       }
-      return false;
+      return true;
    }
 
    @Override
@@ -334,80 +321,108 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @SuppressWarnings("unchecked")
    public MethodSource<O> addMethod()
    {
-      MethodSource<O> m = new MethodImpl<O>((O) this);
-      getBodyDeclaration().bodyDeclarations().add(m.getInternal());
-      return m;
+      MemberIndex<O> index = getCurrentMemberIndex();
+      return addMethod(index, new MethodImpl<O>((O) this));
    }
 
    @Override
    @SuppressWarnings("unchecked")
    public MethodSource<O> addMethod(final String method)
    {
-      MethodSource<O> m = new MethodImpl<O>((O) this, method);
-      getBodyDeclaration().bodyDeclarations().add(m.getInternal());
-      return m;
+      MemberIndex<O> index = getCurrentMemberIndex();
+      return addMethod(index, new MethodImpl<O>((O) this, method));
+   }
+
+   /**
+    * Append the given method, and record it in the given {@link MemberIndex}, obtained before the method was inserted,
+    * if it was current.
+    */
+   @SuppressWarnings("unchecked")
+   private MethodSource<O> addMethod(final MemberIndex<O> index, final MethodSource<O> method)
+   {
+      List<Object> bodyDeclarations = getBodyDeclaration().bodyDeclarations();
+      bodyDeclarations.add(method.getInternal());
+      if (index != null)
+      {
+         index.addMethods(bodyDeclarations, Collections.singletonList(method));
+      }
+      return method;
    }
 
    @Override
    @SuppressWarnings("unchecked")
+   public List<MethodSource<O>> addMethods(final String... methods)
+   {
+      List<MethodSource<O>> result = new ArrayList<MethodSource<O>>();
+      List<MethodDeclaration> declarations = new ArrayList<MethodDeclaration>();
+      MemberIndex<O> index = getCurrentMemberIndex();
+      AST ast = getBodyDeclaration().getAST();
+      for (MethodDeclaration method : MethodImpl.parseMethods(Strings.join(Arrays.asList(methods), "\n")))
+      {
+         MethodDeclaration copy = (MethodDeclaration) ASTNode.copySubtree(ast, method);
+         declarations.add(copy);
+         result.add(new MethodImpl<O>((O) this, copy));
+      }
+      List<Object> bodyDeclarations = getBodyDeclaration().bodyDeclarations();
+      bodyDeclarations.addAll(declarations);
+      if (index != null)
+      {
+         index.addMethods(bodyDeclarations, result);
+      }
+      return result;
+   }
+
+   @Override
    public List<MethodSource<O>> getMethods()
+   {
+      return getMemberIndex().getMethods();
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   protected List<MethodSource<O>> findMethods()
    {
       List<MethodSource<O>> result = new ArrayList<MethodSource<O>>();
 
       MethodFinderVisitor methodFinderVisitor = new MethodFinderVisitor();
-      body.accept(methodFinderVisitor);
+      getBodyDeclaration().accept(methodFinderVisitor);
 
       List<MethodDeclaration> methods = methodFinderVisitor.getMethods();
       for (MethodDeclaration methodDeclaration : methods)
       {
          result.add(new MethodImpl<O>((O) this, methodDeclaration));
       }
-      return Collections.unmodifiableList(result);
+      return result;
    }
 
    @Override
    public List<String> getInterfaces()
    {
-      List<String> result = new ArrayList<String>();
-      List<Type> superTypes = JDTHelper.getInterfaces(getBodyDeclaration());
-      for (Type type : superTypes)
-      {
-         String name = JDTHelper.getTypeName(type);
-         if (Types.isSimpleName(name) && this.hasImport(name))
-         {
-            Import imprt = this.getImport(name);
-            String pkg = imprt.getPackage();
-            if (!Strings.isNullOrEmpty(pkg))
-            {
-               name = pkg + "." + name;
-            }
-         }
-         result.add(name);
-      }
-      return result;
+      return getInterfaceIndex().getNames();
    }
 
    @SuppressWarnings("unchecked")
    @Override
    public O addInterface(final String type)
    {
-      if (!this.hasInterface(type))
+      InterfaceIndex index = getInterfaceIndex();
+      if (!index.contains(Types.stripGenerics(type)))
       {
-         Type interfaceType = JDTHelper.getInterfaces(
-                  Roaster.parse(JavaInterfaceImpl.class,
-                           "public interface Mock extends " + Types.toSimpleName(type)
-                                    + " {}").getBodyDeclaration()).get(0);
+         String simpleName = Types.toSimpleName(Types.stripGenerics(type));
+         boolean qualified = index.contains(simpleName) || this.hasImport(simpleName);
 
-         if (this.hasInterface(Types.toSimpleName(type)) || this.hasImport(Types.toSimpleName(type)))
+         Type interfaceType = TypeParser.parse(getUnit().getAST(), qualified ? type : simpleName + Types.getGenerics(type));
+         if (interfaceType == null)
          {
-            interfaceType = JDTHelper.getInterfaces(Roaster.parse(JavaInterfaceImpl.class,
-                     "public interface Mock extends " + type + " {}").getBodyDeclaration()).get(0);
+            throw new IllegalArgumentException("Cannot add the interface [" + type + "], which is not a valid type name");
          }
-
          this.addImport(type);
-
-         ASTNode node = ASTNode.copySubtree(unit.getAST(), interfaceType);
-         JDTHelper.getInterfaces(getBodyDeclaration()).add((Type) node);
+         JDTHelper.getInterfaces(getBodyDeclaration()).add(interfaceType);
+         ImportTable imports = getImportTable();
+         if (!index.add(getInterfaceName(interfaceType, imports), imports))
+         {
+            interfaceIndex = null;
+         }
       }
       return (O) this;
    }
@@ -427,14 +442,48 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @Override
    public boolean hasInterface(final String type)
    {
-      for (String name : getInterfaces())
+      return getInterfaceIndex().contains(Types.stripGenerics(type));
+   }
+
+   /**
+    * Return the {@link InterfaceIndex} of this source, building it again if the interfaces or the imports have been
+    * modified since it was last built or updated.
+    */
+   private InterfaceIndex getInterfaceIndex()
+   {
+      List<Type> types = JDTHelper.getInterfaces(getBodyDeclaration());
+      ImportTable imports = getImportTable();
+      int updateCount = SourceUpdater.getUpdateCount(getUnit());
+      InterfaceIndex result = interfaceIndex;
+      if (result == null || !result.isCurrent(types, imports, updateCount))
+      {
+         List<String> names = new ArrayList<String>(types.size());
+         for (Type type : types)
+         {
+            names.add(getInterfaceName(type, imports));
+         }
+         result = new InterfaceIndex(types, imports, updateCount, names);
+         interfaceIndex = result;
+      }
+      return result;
+   }
+
+   /**
+    * Return the name of the given interface type, qualified with the package of the first import sharing its simple
+    * name, if any.
+    */
+   private static String getInterfaceName(final Type type, final ImportTable imports)
+   {
+      String name = JDTHelper.getTypeName(type);
+      if (Types.isSimpleName(name))
       {
-         if (Types.areEquivalent(name, type))
+         Import imprt = imports.getImportBySimpleName(name);
+         if (imprt != null && !Strings.isNullOrEmpty(imprt.getPackage()))
          {
-            return true;
+            name = imprt.getPackage() + "." + name;
          }
       }
-      return false;
+      return name;
    }
 
    @Override
@@ -453,12 +502,14 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @Override
    public O removeInterface(final String type)
    {
+      InterfaceIndex index = getInterfaceIndex();
       List<Type> interfaces = JDTHelper.getInterfaces(getBodyDeclaration());
-      for (Type i : interfaces)
+      for (int i = 0; i < interfaces.size(); i++)
       {
-         if (Types.areEquivalent(i.toString(), type))
+         if (Types.areEquivalent(interfaces.get(i).toString(), type))
          {
             interfaces.remove(i);
+            index.remove(i);
             break;
          }
       }
@@ -486,7 +537,8 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @Override
    public final boolean hasProperty(Property<O> property)
    {
-      return getProperties().contains(property);
+      return property instanceof PropertyImpl<?> && property.getOrigin() == getOrigin()
+               && getPropertyResolver().getPropertyNames().contains(property.getName());
    }
 
    @Override
@@ -536,21 +588,7 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
    @Override
    public final List<PropertySource<O>> getProperties()
    {
-      final Set<String> propertyNames = new LinkedHashSet<String>();
-      for (MethodSource<O> method : getMethods())
-      {
-         if (isAccessor(method) || isMutator(method))
-         {
-            propertyNames.add(extractPropertyName(method));
-         }
-      }
-      for (FieldSource<O> field : getFields())
-      {
-         if (!field.isStatic())
-         {
-            propertyNames.add(field.getName());
-         }
-      }
+      final Set<String> propertyNames = getPropertyResolver().getPropertyNames();
       final List<PropertySource<O>> result = new ArrayList<PropertySource<O>>(propertyNames.size());
       for (String name : propertyNames)
       {
@@ -559,22 +597,20 @@ public abstract class AbstractJavaSourceMemberHolder<O extends JavaSource<O> & P
       return result;
    }
 
-   private boolean isAccessor(Method<O, ?> method)
-   {
-      return extractPropertyName(method) != null && method.getParameters().isEmpty() && !method.isReturnTypeVoid();
-   }
-
-   private boolean isMutator(Method<O, ?> method)
-   {
-      return extractPropertyName(method) != null && method.getParameters().size() == 1 && method.isReturnTypeVoid();
-   }
-
-   private String extractPropertyName(Method<O, ?> method)
+   /**
+    * Return the {@link PropertyResolver} of this source, building it again whenever the {@link MemberIndex} is, or the
+    * tree has been modified.
+    */
+   PropertyResolver<O> getPropertyResolver()
    {
-      if (method.getName().matches("^[gs]et.+$"))
+      MemberIndex<O> index = getMemberIndex();
+      AST ast = getUnit().getAST();
+      PropertyResolver<O> result = propertyResolver;
+      if (result == null || !result.isCurrent(ast, index))
       {
-         return Strings.uncapitalize(method.getName().substring(3));
+         result = new PropertyResolver<O>(ast, index);
+         propertyResolver = result;
       }
-      return null;
+      return result;
    }
 }
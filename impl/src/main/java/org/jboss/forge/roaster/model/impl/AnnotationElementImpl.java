@@ -13,6 +13,7 @@ import java.util.List;
 
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.AnnotationTypeMemberDeclaration;
 import org.eclipse.jdt.core.dom.ArrayInitializer;
 import org.eclipse.jdt.core.dom.Expression;
@@ -20,7 +21,7 @@ import org.eclipse.jdt.core.dom.Name;
 import org.eclipse.jdt.core.dom.PrimitiveType;
 import org.eclipse.jdt.core.dom.PrimitiveType.Code;
 import org.eclipse.jdt.core.dom.TypeLiteral;
-import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.ParserException;
 import org.jboss.forge.roaster.model.Annotation;
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.Type;
@@ -31,6 +32,7 @@ import org.jboss.forge.roaster.model.source.JavaAnnotationSource;
 import org.jboss.forge.roaster.model.util.Assert;
 import org.jboss.forge.roaster.model.util.Strings;
 import org.jboss.forge.roaster.model.util.Types;
+import org.jboss.forge.roaster.spi.FragmentParser;
 
 /**
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
@@ -101,9 +103,7 @@ public class AnnotationElementImpl implements AnnotationElementSource
          else
          {
             String stub = "public @interface Stub { String stub() default " + value + "; }";
-            JavaAnnotationSource temp = (JavaAnnotationSource) Roaster.parse(stub);
-            AnnotationTypeMemberDeclaration internal = (AnnotationTypeMemberDeclaration) temp.getAnnotationElements()
-                     .get(0).getInternal();
+            AnnotationTypeMemberDeclaration internal = firstElement(FragmentParser.parseType(stub));
             member.setDefault((Expression) ASTNode.copySubtree(ast, internal.getDefault()));
          }
          return this;
@@ -317,12 +317,51 @@ public class AnnotationElementImpl implements AnnotationElementSource
          declaration = declaration + ";";
       }
       String stub = "public @interface Stub { " + declaration + " }";
-      JavaAnnotationSource temp = (JavaAnnotationSource) Roaster.parse(stub);
-      List<AnnotationElementSource> fields = temp.getAnnotationElements();
-      AnnotationTypeMemberDeclaration newField = (AnnotationTypeMemberDeclaration) fields.get(0).getInternal();
+      AnnotationTypeMemberDeclaration newField = firstElement(FragmentParser.parseType(stub));
       return (AnnotationTypeMemberDeclaration) ASTNode.copySubtree(((ASTNode) parent.getInternal()).getAST(), newField);
    }
 
+   /**
+    * Parse the given element declarations together in a single stub, and return copies of the elements, in declaration
+    * order, created on the {@link AST} of the given parent.
+    */
+   static List<AnnotationTypeMemberDeclaration> parseElements(JavaAnnotationSource parent, String... declarations)
+   {
+      StringBuilder stub = new StringBuilder("public @interface Stub { ");
+      for (String declaration : declarations)
+      {
+         stub.append(declaration);
+         if (!declaration.trim().endsWith(";"))
+         {
+            stub.append(';');
+         }
+         stub.append('\n');
+      }
+      stub.append(" }");
+      AST ast = ((ASTNode) parent.getInternal()).getAST();
+      List<AnnotationTypeMemberDeclaration> result = new ArrayList<AnnotationTypeMemberDeclaration>();
+      for (Object declaration : FragmentParser.parseType(stub.toString()).bodyDeclarations())
+      {
+         if (declaration instanceof AnnotationTypeMemberDeclaration)
+         {
+            result.add((AnnotationTypeMemberDeclaration) ASTNode.copySubtree(ast, (ASTNode) declaration));
+         }
+      }
+      return result;
+   }
+
+   private static AnnotationTypeMemberDeclaration firstElement(AbstractTypeDeclaration stub)
+   {
+      for (Object declaration : stub.bodyDeclarations())
+      {
+         if (declaration instanceof AnnotationTypeMemberDeclaration)
+         {
+            return (AnnotationTypeMemberDeclaration) declaration;
+         }
+      }
+      throw new ParserException("Could not parse annotation element from [" + stub + "]");
+   }
+
    @Override
    public JavaAnnotationSource getOrigin()
    {
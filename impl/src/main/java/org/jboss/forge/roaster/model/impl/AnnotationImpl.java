@@ -22,9 +22,8 @@ import org.eclipse.jdt.core.dom.MemberValuePair;
 import org.eclipse.jdt.core.dom.NormalAnnotation;
 import org.eclipse.jdt.core.dom.SingleMemberAnnotation;
 import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.StringLiteral;
 import org.eclipse.jdt.core.dom.TypeLiteral;
-import org.jboss.forge.roaster.Roaster;
-import org.jboss.forge.roaster.model.JavaClass;
 import org.jboss.forge.roaster.model.Type;
 import org.jboss.forge.roaster.model.ValuePair;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
@@ -32,6 +31,7 @@ import org.jboss.forge.roaster.model.source.AnnotationTargetSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.util.Assert;
 import org.jboss.forge.roaster.model.util.Strings;
+import org.jboss.forge.roaster.spi.FragmentParser;
 
 /**
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
@@ -280,85 +280,27 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
    @Override
    public AnnotationSource<O> setLiteralValue(final String value)
    {
-      Assert.notNull(value, "null not accepted");
-
-      if (isMarker())
-      {
-         convertTo(AnnotationType.SINGLE);
-      }
-
-      if (isSingleValue())
-      {
-         SingleMemberAnnotation sa = (SingleMemberAnnotation) annotation;
-
-         String stub = "@" + getName() + "(" + value + ") public class Stub { }";
-         JavaClass<?> temp = Roaster.parse(JavaClass.class, stub);
-
-         SingleMemberAnnotation anno = (SingleMemberAnnotation) temp.getAnnotations().get(0).getInternal();
-
-         Expression expression = anno.getValue();
-         sa.setValue((Expression) ASTNode.copySubtree(ast, expression));
-      }
-      else
-      {
-         setLiteralValue(DEFAULT_VALUE, value);
-      }
-
-      return this;
+      return setLiteralValue(DEFAULT_VALUE, value);
    }
 
    @Override
-   @SuppressWarnings("unchecked")
    public AnnotationSource<O> setLiteralValue(final String name, final String value)
    {
       Assert.notNull(value, "null not accepted");
-
-      if (!isNormal() && !DEFAULT_VALUE.equals(name))
-      {
-         convertTo(AnnotationType.NORMAL);
-      }
-      else if (!isSingleValue() && !isNormal() && DEFAULT_VALUE.equals(name))
-      {
-         convertTo(AnnotationType.SINGLE);
-      }
-      if (isSingleValue() && DEFAULT_VALUE.equals(name))
-      {
-         return setLiteralValue(value);
-      }
-
-      NormalAnnotation na = (NormalAnnotation) annotation;
-
-      String stub = "@" + getName() + "(" + name + "=" + value + " ) public class Stub { }";
-      JavaClass<?> temp = Roaster.parse(JavaClass.class, stub);
-
-      NormalAnnotation anno = (NormalAnnotation) temp.getAnnotations().get(0).getInternal();
-      MemberValuePair mvp = (MemberValuePair) anno.values().get(0);
-
-      List<MemberValuePair> values = na.values();
-      ListIterator<MemberValuePair> iter = values.listIterator();
-      while (iter.hasNext())
-      {
-         if (iter.next().getName().getIdentifier().equals(name))
-         {
-            iter.remove();
-            break;
-         }
-      }
-      iter.add((MemberValuePair) ASTNode.copySubtree(annotation.getAST(), mvp));
-
-      return this;
+      return setValue(name, parseValue(value));
    }
 
    @Override
    public AnnotationSource<O> setStringValue(final String value)
    {
-      return setLiteralValue(Strings.enquote(value));
+      return setStringValue(DEFAULT_VALUE, value);
    }
 
    @Override
    public AnnotationSource<O> setStringValue(final String name, final String value)
    {
-      return setLiteralValue(name, Strings.enquote(value));
+      Assert.notNull(value, "null not accepted");
+      return setValue(name, newStringLiteral(value));
    }
 
    @Override
@@ -418,16 +360,16 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
    {
       Assert.notNull(values, "null array not accepted");
 
-      final List<String> literals = new ArrayList<String>();
+      final List<Expression> literals = new ArrayList<Expression>();
 
       for (Enum<?> value : values)
       {
          Assert.notNull(value, "null value not accepted");
          getOrigin().addImport(value.getDeclaringClass());
-         literals.add(value.getDeclaringClass().getSimpleName() + "." + value.name());
+         literals.add(ast.newQualifiedName(ast.newSimpleName(value.getDeclaringClass().getSimpleName()),
+                  ast.newSimpleName(value.name())));
       }
-      return setLiteralValue(name,
-               literals.size() == 1 ? literals.get(0) : String.format("{%s}", Strings.join(literals, ",")));
+      return setValue(name, toValue(literals));
    }
 
    /*
@@ -478,7 +420,7 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
 
    private void convertTo(final AnnotationType type)
    {
-      String value = this.getLiteralValue();
+      Expression value = getElementValueExpression(DEFAULT_VALUE);
       AnnotationImpl<O, T> na = new AnnotationImpl<O, T>(parent, type);
       na.setName(getName());
       replace(annotation, na.annotation);
@@ -486,8 +428,92 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
 
       if (AnnotationType.MARKER != type && (value != null))
       {
-         setLiteralValue(value);
+         setValue(DEFAULT_VALUE, (Expression) ASTNode.copySubtree(ast, value));
+      }
+   }
+
+   /**
+    * Set the value of the element with the given name to the given {@link Expression} of this annotation's {@link AST},
+    * converting this annotation to a single-value or normal annotation as required.
+    */
+   @SuppressWarnings("unchecked")
+   private AnnotationSource<O> setValue(final String name, final Expression value)
+   {
+      if (!isNormal() && !DEFAULT_VALUE.equals(name))
+      {
+         convertTo(AnnotationType.NORMAL);
+      }
+      else if (isMarker())
+      {
+         convertTo(AnnotationType.SINGLE);
+      }
+      if (isSingleValue())
+      {
+         ((SingleMemberAnnotation) annotation).setValue(value);
+         return this;
+      }
+
+      MemberValuePair pair = ast.newMemberValuePair();
+      pair.setName(ast.newSimpleName(name));
+      pair.setValue(value);
+
+      List<MemberValuePair> values = ((NormalAnnotation) annotation).values();
+      ListIterator<MemberValuePair> iter = values.listIterator();
+      while (iter.hasNext())
+      {
+         if (iter.next().getName().getIdentifier().equals(name))
+         {
+            iter.remove();
+            break;
+         }
+      }
+      iter.add(pair);
+      return this;
+   }
+
+   /**
+    * Build the {@link Expression} for the given literal value directly, or from an expression fragment if it is not a
+    * single literal or name; values that are not well-formed are still parsed as the element value of an annotation.
+    */
+   private Expression parseValue(final String value)
+   {
+      Expression result = ExpressionParser.tryParse(ast, value);
+      if (result == null)
+      {
+         String stub = "@" + getName() + "(" + value + ") public class Stub { }";
+         SingleMemberAnnotation anno = (SingleMemberAnnotation) FragmentParser.parseType(stub).modifiers().get(0);
+         result = (Expression) ASTNode.copySubtree(ast, anno.getValue());
+      }
+      return result;
+   }
+
+   private StringLiteral newStringLiteral(final String value)
+   {
+      StringLiteral result = ast.newStringLiteral();
+      result.setEscapedValue(Strings.enquote(value));
+      return result;
+   }
+
+   private TypeLiteral newTypeLiteral(final Class<?> value)
+   {
+      TypeLiteral result = ast.newTypeLiteral();
+      result.setType(TypeParser.parse(ast, value.getSimpleName()));
+      return result;
+   }
+
+   /**
+    * Return the single element of the given list, or an {@link ArrayInitializer} of all of them.
+    */
+   @SuppressWarnings("unchecked")
+   private Expression toValue(final List<? extends Expression> elements)
+   {
+      if (elements.size() == 1)
+      {
+         return elements.get(0);
       }
+      ArrayInitializer result = ast.newArrayInitializer();
+      result.expressions().addAll(elements);
+      return result;
    }
 
    @Override
@@ -553,33 +579,8 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
       {
          return setAnnotationValue();
       }
-      if (!isNormal())
-      {
-         convertTo(AnnotationType.NORMAL);
-      }
       AnnotationSource<O> result = new Nested(this);
-
-      String stub = "@" + getName() + "(" + name + "= 0 ) public class Stub { }";
-      JavaClass<?> temp = Roaster.parse(JavaClass.class, stub);
-
-      NormalAnnotation anno = (NormalAnnotation) temp.getAnnotations().get(0).getInternal();
-      MemberValuePair mvp = (MemberValuePair) anno.values().get(0);
-
-      @SuppressWarnings("unchecked")
-      List<MemberValuePair> values = ((NormalAnnotation) annotation).values();
-      ListIterator<MemberValuePair> iter = values.listIterator();
-      while (iter.hasNext())
-      {
-         if (iter.next().getName().getIdentifier().equals(name))
-         {
-            iter.remove();
-            break;
-         }
-      }
-      MemberValuePair mvpCopy = (MemberValuePair) ASTNode.copySubtree(annotation.getAST(), mvp);
-      mvpCopy.setValue((Expression) result.getInternal());
-      iter.add(mvpCopy);
-
+      setValue(name, (Expression) result.getInternal());
       return result;
    }
 
@@ -737,7 +738,7 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
       {
          getOrigin().addImport(value);
       }
-      return setLiteralValue(name, value.getSimpleName() + ".class");
+      return setValue(name, newTypeLiteral(value));
    }
 
    @Override
@@ -763,15 +764,14 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
    {
       Assert.notNull(values, "null array not accepted");
 
-      final List<String> literals = new ArrayList<String>();
+      final List<Expression> literals = new ArrayList<Expression>();
 
       for (String value : values)
       {
          Assert.notNull(value, "null value not accepted");
-         literals.add(Strings.enquote(value));
+         literals.add(newStringLiteral(value));
       }
-      return setLiteralValue(name,
-               literals.size() == 1 ? literals.get(0) : String.format("{%s}", Strings.join(literals, ",")));
+      return setValue(name, toValue(literals));
    }
 
    @Override
@@ -779,7 +779,7 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
    {
       Assert.notNull(values, "null array not accepted");
 
-      final List<String> literals = new ArrayList<String>();
+      final List<Expression> literals = new ArrayList<Expression>();
 
       for (Class<?> value : values)
       {
@@ -789,10 +789,9 @@ public class AnnotationImpl<O extends JavaSource<O>, T> implements AnnotationSou
          {
             getOrigin().addImport(value);
          }
-         literals.add(value.getSimpleName() + ".class");
+         literals.add(newTypeLiteral(value));
       }
-      return setLiteralValue(name,
-               literals.size() == 1 ? literals.get(0) : String.format("{%s}", Strings.join(literals, ",")));
+      return setValue(name, toValue(literals));
    }
 
    private <E extends Expression> E getElementValueExpression(String name)
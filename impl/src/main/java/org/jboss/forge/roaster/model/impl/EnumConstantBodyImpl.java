@@ -7,6 +7,7 @@
 package org.jboss.forge.roaster.model.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -18,8 +19,10 @@ import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jface.text.Document;
 import org.jboss.forge.roaster.Roaster;
@@ -31,7 +34,6 @@ import org.jboss.forge.roaster.model.Parameter;
 import org.jboss.forge.roaster.model.SyntaxError;
 import org.jboss.forge.roaster.model.Visibility;
 import org.jboss.forge.roaster.model.ast.MethodFinderVisitor;
-import org.jboss.forge.roaster.model.ast.TypeDeclarationFinderVisitor;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.EnumConstantSource;
 import org.jboss.forge.roaster.model.source.EnumConstantSource.Body;
@@ -45,7 +47,9 @@ import org.jboss.forge.roaster.model.source.MethodSource;
 import org.jboss.forge.roaster.model.source.ParameterSource;
 import org.jboss.forge.roaster.model.util.Strings;
 import org.jboss.forge.roaster.model.util.Types;
+import org.jboss.forge.roaster.spi.FragmentParser;
 import org.jboss.forge.roaster.spi.JavaParserImpl;
+import org.jboss.forge.roaster.spi.ParserSession;
 
 @SuppressWarnings("unchecked")
 class EnumConstantBodyImpl implements EnumConstantSource.Body
@@ -114,6 +118,18 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
       return javaEnum.getPackage();
    }
 
+   @Override
+   public Body applyEdit(int offset, int length, String text)
+   {
+      throw new UnsupportedOperationException();
+   }
+
+   @Override
+   public Body update(String source)
+   {
+      throw new UnsupportedOperationException();
+   }
+
    @Override
    public Body setPackage(String name)
    {
@@ -416,9 +432,9 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
          if (result == null)
          {
             final String stub = "enum StubEnum { FOO() {}; }";
-            final JavaEnumSource temp = Roaster.parse(JavaEnumSource.class, stub);
-            final AnonymousClassDeclaration body = ((EnumConstantBodyImpl) temp.getEnumConstants().get(0).getBody())
-                     .getBody();
+            final EnumDeclaration temp = (EnumDeclaration) FragmentParser.parseType(stub);
+            final AnonymousClassDeclaration body = ((EnumConstantDeclaration) temp.enumConstants().get(0))
+                     .getAnonymousClassDeclaration();
             final AST ast = ((ASTNode) javaEnum.getInternal()).getAST();
             result = (AnonymousClassDeclaration) ASTNode.copySubtree(ast, body);
             enumConstantDeclaration.setAnonymousClassDeclaration(result);
@@ -453,24 +469,33 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
    @Override
    public FieldSource<Body> addField(final String declaration)
    {
-      String stub = "public class Stub { " + declaration + " }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<FieldSource<JavaClassSource>> fields = temp.getFields();
-      FieldSource<Body> result = null;
-      for (FieldSource<JavaClassSource> stubField : fields)
+      List<FieldSource<Body>> result = addFields(declaration);
+      return result.isEmpty() ? null : result.get(0);
+   }
+
+   @Override
+   public List<FieldSource<Body>> addFields(final String... declarations)
+   {
+      String stub = "public class Stub { " + Strings.join(Arrays.asList(declarations), "\n") + " }";
+      TypeDeclaration temp = (TypeDeclaration) FragmentParser.parseType(stub);
+      List<FieldSource<Body>> result = new ArrayList<FieldSource<Body>>();
+      for (FieldDeclaration stubField : temp.getFields())
       {
-         Object variableDeclaration = stubField.getInternal();
-         FieldSource<Body> field = new FieldImpl<Body>(this, variableDeclaration, true);
-         addField(field);
-         if (result == null)
+         for (Object variableDeclaration : stubField.fragments())
          {
-            result = field;
+            result.add(new FieldImpl<Body>(this, variableDeclaration, true));
          }
       }
+      addFields(result);
       return result;
    }
 
    private void addField(Field<Body> field)
+   {
+      addFields(Collections.singletonList(field));
+   }
+
+   private void addFields(List<? extends Field<Body>> fields)
    {
       final List<BodyDeclaration> bodyDeclarations = getBody().bodyDeclarations();
       int idx = 0;
@@ -482,7 +507,12 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
          }
          idx++;
       }
-      bodyDeclarations.add(idx, (BodyDeclaration) ((VariableDeclarationFragment) field.getInternal()).getParent());
+      final List<BodyDeclaration> declarations = new ArrayList<BodyDeclaration>(fields.size());
+      for (Field<Body> field : fields)
+      {
+         declarations.add((BodyDeclaration) ((VariableDeclarationFragment) field.getInternal()).getParent());
+      }
+      bodyDeclarations.addAll(idx, declarations);
    }
 
    @Override
@@ -702,6 +732,22 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
       return m;
    }
 
+   @Override
+   public List<MethodSource<Body>> addMethods(final String... methods)
+   {
+      final List<MethodSource<Body>> result = new ArrayList<MethodSource<Body>>();
+      final List<BodyDeclaration> declarations = new ArrayList<BodyDeclaration>();
+      final AST ast = getBody().getAST();
+      for (MethodDeclaration method : MethodImpl.parseMethods(Strings.join(Arrays.asList(methods), "\n")))
+      {
+         final MethodDeclaration copy = (MethodDeclaration) ASTNode.copySubtree(ast, method);
+         declarations.add(copy);
+         result.add(new MethodImpl<Body>(this, copy));
+      }
+      getBody().bodyDeclarations().addAll(declarations);
+      return result;
+   }
+
    @Override
    public List<MethodSource<Body>> getMethods()
    {
@@ -728,38 +774,12 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
    {
       final JavaEnumImpl parentImpl = (JavaEnumImpl) javaEnum;
       Document document = parentImpl.document;
-      CompilationUnit unit = parentImpl.unit;
+      CompilationUnit unit = parentImpl.getUnit();
 
       final List<JavaSource<?>> result = new ArrayList<JavaSource<?>>();
-
-      final List<BodyDeclaration> bodyDeclarations = getBody().bodyDeclarations();
-      for (BodyDeclaration body : bodyDeclarations)
-      {
-         final List<AbstractTypeDeclaration> declarations = getNestedDeclarations(body);
-         for (AbstractTypeDeclaration declaration : declarations)
-         {
-            result.add(JavaParserImpl.getJavaSource(this, document, unit, declaration));
-         }
-      }
-      return result;
-   }
-
-   private List<AbstractTypeDeclaration> getNestedDeclarations(BodyDeclaration body)
-   {
-      final TypeDeclarationFinderVisitor typeDeclarationFinder = new TypeDeclarationFinderVisitor();
-      body.accept(typeDeclarationFinder);
-      final List<AbstractTypeDeclaration> declarations = typeDeclarationFinder.getTypeDeclarations();
-
-      final List<AbstractTypeDeclaration> result = new ArrayList<AbstractTypeDeclaration>(declarations);
-      if (!declarations.isEmpty())
+      for (AbstractTypeDeclaration declaration : AbstractJavaSource.getNestedDeclarations(getBody().bodyDeclarations()))
       {
-         // We don't want to return the current enum constant body's declaration.
-         final AbstractTypeDeclaration first = declarations.remove(0);
-         result.remove(first);
-         for (AbstractTypeDeclaration declaration : declarations)
-         {
-            result.removeAll(getNestedDeclarations(declaration));
-         }
+         result.add(JavaParserImpl.getJavaSource(this, document, unit, declaration));
       }
       return result;
    }
@@ -836,12 +856,12 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
    @Override
    public <NESTED_TYPE extends JavaSource<?>> NESTED_TYPE addNestedType(String declaration)
    {
-      JavaType<?> source = Roaster.parse(declaration);
+      JavaType<?> source = JavaParserImpl.parseStub(JavaType.class, declaration);
       if (!source.isClass())
       {
          throw new IllegalArgumentException("Enum constants body allow only classes to be added ");
       }
-      JavaSource<?> nestedType = Roaster.parse(JavaSource.class, declaration);
+      JavaSource<?> nestedType = JavaParserImpl.parseStub(JavaSource.class, declaration);
       return (NESTED_TYPE) addNestedType(nestedType);
    }
 
@@ -850,7 +870,7 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
    {
       if (type instanceof AbstractJavaSource)
       {
-         BodyDeclaration bodyDeclaration = ((AbstractJavaSource<?>) type).body;
+         BodyDeclaration bodyDeclaration = ((AbstractJavaSource<?>) type).getBodyDeclaration();
          List<Object> bodyDeclarations = getBody().bodyDeclarations();
          bodyDeclarations.remove(bodyDeclaration);
       }
@@ -867,8 +887,8 @@ class EnumConstantBodyImpl implements EnumConstantSource.Body
       if (type instanceof AbstractJavaSource)
       {
          List<Object> bodyDeclarations = getBody().bodyDeclarations();
-         BodyDeclaration nestedBody = ((AbstractJavaSource<?>) type).body;
-         bodyDeclarations.add(ASTNode.copySubtree(getBody().getAST(), nestedBody));
+         AbstractJavaSource<?> nested = (AbstractJavaSource<?>) type;
+         bodyDeclarations.add(ParserSession.copySubtree(getBody().getAST(), nested.getBodyDeclaration(), nested.document));
       }
       else
       {
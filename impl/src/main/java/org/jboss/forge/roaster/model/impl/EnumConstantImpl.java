@@ -14,14 +14,15 @@ import java.util.List;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
 import org.eclipse.jdt.core.dom.Expression;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.Annotation;
 import org.jboss.forge.roaster.model.ast.AnnotationAccessor;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.EnumConstantSource;
 import org.jboss.forge.roaster.model.source.JavaEnumSource;
 import org.jboss.forge.roaster.model.util.Strings;
+import org.jboss.forge.roaster.spi.FragmentParser;
 
 public class EnumConstantImpl implements EnumConstantSource
 {
@@ -46,9 +47,8 @@ public class EnumConstantImpl implements EnumConstantSource
       init(parent);
 
       String stub = "public enum Stub { " + declaration + " }";
-      JavaEnumSource temp = (JavaEnumSource) Roaster.parse(stub);
-      List<EnumConstantSource> constants = temp.getEnumConstants();
-      EnumConstantDeclaration newField = (EnumConstantDeclaration) constants.get(0).getInternal();
+      EnumDeclaration temp = (EnumDeclaration) FragmentParser.parseType(stub);
+      EnumConstantDeclaration newField = (EnumConstantDeclaration) temp.enumConstants().get(0);
       EnumConstantDeclaration subtree = (EnumConstantDeclaration) ASTNode.copySubtree(ast, newField);
       this.enumConstant = subtree;
    }
@@ -102,9 +102,8 @@ public class EnumConstantImpl implements EnumConstantSource
       if (literalArguments != null && literalArguments.length > 0)
       {
          final String stub = "public enum Stub { FOO(" + Strings.join(Arrays.asList(literalArguments), ", ") + "); }";
-         final JavaEnumSource temp = Roaster.parse(JavaEnumSource.class, stub);
-         final List<EnumConstantSource> constants = temp.getEnumConstants();
-         final EnumConstantDeclaration newConstant = (EnumConstantDeclaration) constants.get(0).getInternal();
+         final EnumDeclaration temp = (EnumDeclaration) FragmentParser.parseType(stub);
+         final EnumConstantDeclaration newConstant = (EnumConstantDeclaration) temp.enumConstants().get(0);
          final List<Expression> arguments = newConstant.arguments();
          for (Expression argument : arguments)
          {
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ArrayCreation;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.jboss.forge.roaster.spi.ParserSession;
+
+/**
+ * Builds JDT {@link Expression} nodes from expression strings. Literals and simple or qualified names are created
+ * directly on the target {@link AST}; anything else, including array initializers such as
+ * <code>{A.class, B.class}</code>, is parsed as an expression fragment and copied, without parsing a stub class around
+ * it.
+ */
+public final class ExpressionParser
+{
+   private ExpressionParser()
+   {
+   }
+
+   /**
+    * Return a new {@link Expression} node of the given {@link AST} for the given expression, or <code>null</code> if it
+    * is not a well-formed expression or array initializer.
+    */
+   public static Expression tryParse(final AST ast, final String expression)
+   {
+      String value = expression.trim();
+      Expression result = createLiteral(ast, value);
+      if (result != null)
+      {
+         return result;
+      }
+      if (value.startsWith("{"))
+      {
+         Expression creation = ParserSession.parseExpression(("new Object[] " + value).toCharArray());
+         if (creation instanceof ArrayCreation && ((ArrayCreation) creation).getInitializer() != null)
+         {
+            return (Expression) ASTNode.copySubtree(ast, ((ArrayCreation) creation).getInitializer());
+         }
+         return null;
+      }
+      Expression parsed = ParserSession.parseExpression(value.toCharArray());
+      return parsed == null ? null : (Expression) ASTNode.copySubtree(ast, parsed);
+   }
+
+   /**
+    * Return a new {@link Expression} node of the given {@link AST} for the given expression.
+    *
+    * @throws IllegalArgumentException if the value is not a well-formed expression or array initializer
+    */
+   public static Expression parse(final AST ast, final String expression)
+   {
+      Expression result = tryParse(ast, expression);
+      if (result == null)
+      {
+         throw new IllegalArgumentException("Value [" + expression + "] is not a valid expression");
+      }
+      return result;
+   }
+
+   private static Expression createLiteral(final AST ast, final String value)
+   {
+      try
+      {
+         if ("null".equals(value))
+         {
+            return ast.newNullLiteral();
+         }
+         if ("true".equals(value) || "false".equals(value))
+         {
+            return ast.newBooleanLiteral(Boolean.parseBoolean(value));
+         }
+         if (value.startsWith("\""))
+         {
+            StringLiteral literal = ast.newStringLiteral();
+            literal.setEscapedValue(value);
+            return literal;
+         }
+         if (value.startsWith("'"))
+         {
+            CharacterLiteral literal = ast.newCharacterLiteral();
+            literal.setEscapedValue(value);
+            return literal;
+         }
+         if (!value.isEmpty() && Character.isDigit(value.charAt(0)))
+         {
+            return ast.newNumberLiteral(value);
+         }
+         if (!value.isEmpty() && Character.isJavaIdentifierStart(value.charAt(0)))
+         {
+            return ast.newName(value);
+         }
+      }
+      catch (IllegalArgumentException e)
+      {
+         // not a single literal or name; parsed as an expression instead
+      }
+      return null;
+   }
+}
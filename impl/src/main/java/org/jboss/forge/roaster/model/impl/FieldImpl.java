@@ -18,10 +18,9 @@ import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
 import org.eclipse.jdt.core.dom.Name;
 import org.eclipse.jdt.core.dom.PrimitiveType;
 import org.eclipse.jdt.core.dom.PrimitiveType.Code;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.Annotation;
-import org.jboss.forge.roaster.model.JavaClass;
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.Type;
 import org.jboss.forge.roaster.model.Visibility;
@@ -32,6 +31,7 @@ import org.jboss.forge.roaster.model.source.FieldSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.util.Strings;
 import org.jboss.forge.roaster.model.util.Types;
+import org.jboss.forge.roaster.spi.FragmentParser;
 
 /**
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
@@ -302,7 +302,12 @@ public class FieldImpl<O extends JavaSource<O>> implements FieldSource<O>
    @Override
    public FieldSource<O> setName(final String name)
    {
+      String oldName = getName();
       fragment.setName(ast.newSimpleName(name));
+      if (parent instanceof AbstractJavaSource)
+      {
+         ((AbstractJavaSource<?>) parent).fieldRenamed(fragment, oldName);
+      }
       return this;
    }
 
@@ -397,8 +402,8 @@ public class FieldImpl<O extends JavaSource<O>> implements FieldSource<O>
    public FieldSource<O> setLiteralInitializer(final String value)
    {
       String stub = "public class Stub { private String stub = " + value + " }";
-      JavaClass<?> temp = Roaster.parse(JavaClass.class, stub);
-      VariableDeclarationFragment tempFrag = (VariableDeclarationFragment) temp.getFields().get(0).getInternal();
+      TypeDeclaration temp = (TypeDeclaration) FragmentParser.parseType(stub);
+      VariableDeclarationFragment tempFrag = (VariableDeclarationFragment) temp.getFields()[0].fragments().get(0);
       fragment.setInitializer((Expression) ASTNode.copySubtree(ast, tempFrag.getInitializer()));
       return this;
    }
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * The imports of a {@link CompilationUnit}, indexed by qualified and by simple name, with on-demand imports kept
+ * apart. Sources build a table lazily, add the imports they create to it, and build it again only once the
+ * declarations of the unit no longer match it, so that import queries neither walk the declarations nor allocate
+ * new {@link Import} instances.
+ * <p>
+ * Lookups return the same import as a scan of the declarations in order would.
+ * <p>
+ * As the result of {@link JavaSource#resolveType(String)} depends on the imports, and on the package, the table also
+ * caches the types resolved against it. Adding an import, or declaring another package, clears them.
+ */
+final class ImportTable
+{
+   private final JavaSource<?> parent;
+   private final CompilationUnit unit;
+   private long modificationCount;
+
+   private final List<Entry> entries = new ArrayList<Entry>();
+   private final Map<String, Integer> byQualifiedName = new HashMap<String, Integer>();
+   private final Map<String, Integer> bySimpleName = new HashMap<String, Integer>();
+   private final List<Import> wildcardImports = new ArrayList<Import>();
+
+   private final Map<String, String> resolvedTypes = new HashMap<String, String>();
+   private Name resolvedPackage;
+
+   @SuppressWarnings("unchecked")
+   ImportTable(final JavaSource<?> parent, final CompilationUnit unit)
+   {
+      this.parent = parent;
+      this.unit = unit;
+      for (ImportDeclaration declaration : (List<ImportDeclaration>) unit.imports())
+      {
+         index(new ImportImpl(parent, declaration));
+      }
+      this.modificationCount = unit.getAST().modificationCount();
+   }
+
+   /**
+    * Return <code>true</code> if this table describes the imports of its unit as they currently are. A tree modified
+    * elsewhere than in its import declarations leaves the table current.
+    */
+   boolean isCurrent()
+   {
+      AST ast = unit.getAST();
+      if (ast.modificationCount() == modificationCount)
+      {
+         return true;
+      }
+      List<?> declarations = unit.imports();
+      if (declarations.size() != entries.size())
+      {
+         return false;
+      }
+      for (int i = 0; i < entries.size(); i++)
+      {
+         if (!entries.get(i).matches(declarations.get(i)))
+         {
+            return false;
+         }
+      }
+      modificationCount = ast.modificationCount();
+      return true;
+   }
+
+   /**
+    * Return the number of imports indexed.
+    */
+   int size()
+   {
+      return entries.size();
+   }
+
+   List<Import> getImports()
+   {
+      List<Import> result = new ArrayList<Import>(entries.size());
+      for (Entry entry : entries)
+      {
+         result.add(entry.imprt);
+      }
+      return Collections.unmodifiableList(result);
+   }
+
+   /**
+    * Return the first import with the given qualified or simple name.
+    */
+   Import getImport(final String name)
+   {
+      Integer qualified = byQualifiedName.get(name);
+      Integer simple = bySimpleName.get(name);
+      if (qualified == null && simple == null)
+      {
+         return null;
+      }
+      int position = qualified == null ? simple : simple == null ? qualified : Math.min(qualified, simple);
+      return entries.get(position).imprt;
+   }
+
+   /**
+    * Return the first import with the given simple name.
+    */
+   Import getImportBySimpleName(final String simpleName)
+   {
+      Integer position = bySimpleName.get(simpleName);
+      return position == null ? null : entries.get(position).imprt;
+   }
+
+   /**
+    * Return the first import with the given qualified name.
+    */
+   Import getImportByQualifiedName(final String qualifiedName)
+   {
+      Integer position = byQualifiedName.get(qualifiedName);
+      return position == null ? null : entries.get(position).imprt;
+   }
+
+   /**
+    * Return the on-demand imports, such as <code>java.util.*</code>, in declaration order.
+    */
+   List<Import> getWildcardImports()
+   {
+      return Collections.unmodifiableList(wildcardImports);
+   }
+
+   /**
+    * Add a new import, the declaration of which has just been appended to the imports of the unit.
+    */
+   ImportImpl add(final ImportImpl imprt)
+   {
+      index(imprt);
+      resolvedTypes.clear();
+      modificationCount = unit.getAST().modificationCount();
+      return imprt;
+   }
+
+   /**
+    * Return the cached resolution of the given type in a unit declaring the given package name, or <code>null</code>
+    * if the type has not been resolved since the imports or the package last changed.
+    */
+   String getResolvedType(final String type, final Name packageName)
+   {
+      if (packageName != resolvedPackage)
+      {
+         resolvedTypes.clear();
+         resolvedPackage = packageName;
+      }
+      return resolvedTypes.get(type);
+   }
+
+   /**
+    * Cache the resolution of the given type, which was made in a unit declaring the package name last passed to
+    * {@link #getResolvedType(String, Name)}.
+    */
+   String putResolvedType(final String type, final String resolved)
+   {
+      resolvedTypes.put(type, resolved);
+      return resolved;
+   }
+
+   private void index(final ImportImpl imprt)
+   {
+      Entry entry = new Entry(imprt);
+      Integer position = entries.size();
+      entries.add(entry);
+      String qualifiedName = entry.name.getFullyQualifiedName();
+      if (!byQualifiedName.containsKey(qualifiedName))
+      {
+         byQualifiedName.put(qualifiedName, position);
+      }
+      String simpleName = entry.name instanceof QualifiedName ? ((QualifiedName) entry.name).getName().getIdentifier()
+               : ((SimpleName) entry.name).getIdentifier();
+      if (!bySimpleName.containsKey(simpleName))
+      {
+         bySimpleName.put(simpleName, position);
+      }
+      if (entry.onDemand)
+      {
+         wildcardImports.add(imprt);
+      }
+   }
+
+   /**
+    * An import together with the state of its declaration when it was indexed.
+    */
+   private static final class Entry
+   {
+      private final ImportImpl imprt;
+      private final ImportDeclaration declaration;
+      private final Name name;
+      private final boolean onDemand;
+
+      private Entry(final ImportImpl imprt)
+      {
+         this.imprt = imprt;
+         this.declaration = (ImportDeclaration) imprt.getInternal();
+         this.name = declaration.getName();
+         this.onDemand = declaration.isOnDemand();
+      }
+
+      private boolean matches(final Object node)
+      {
+         return node == declaration && declaration.getName() == name && declaration.isOnDemand() == onDemand;
+      }
+   }
+}
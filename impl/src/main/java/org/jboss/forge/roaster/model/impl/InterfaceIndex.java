@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.forge.roaster.model.source.InterfaceCapableSource;
+import org.jboss.forge.roaster.model.util.TypeName;
+import org.jboss.forge.roaster.spi.SourceUpdater;
+
+/**
+ * The interfaces of an {@link InterfaceCapableSource}, as returned by {@link InterfaceCapableSource#getInterfaces()},
+ * indexed by simple name, so that a type can be compared with the few interfaces that share its simple name instead of
+ * with all of them.
+ * <p>
+ * Names are resolved against the imports, so an index describes given interface types resolved against a given
+ * {@link ImportTable} with a given number of imports, and is built again once either changes, or once the source is
+ * updated through {@link SourceUpdater}. Sources adding or removing an interface update the index in place instead.
+ */
+final class InterfaceIndex
+{
+   private final List<?> types;
+   private final ImportTable imports;
+   private final int updateCount;
+   private final List<Object> nodes;
+   private int importCount;
+
+   private final List<String> names;
+   private final Map<String, List<TypeName>> namesBySimpleName = new HashMap<String, List<TypeName>>();
+
+   /**
+    * Index the given names of the given interface types, resolved against the given {@link ImportTable}, in a tree that
+    * has been updated the given number of times.
+    */
+   InterfaceIndex(final List<?> types, final ImportTable imports, final int updateCount, final List<String> names)
+   {
+      this.types = types;
+      this.imports = imports;
+      this.updateCount = updateCount;
+      this.nodes = new ArrayList<Object>(types);
+      this.importCount = imports.size();
+      this.names = new ArrayList<String>(names);
+      for (String name : names)
+      {
+         index(name);
+      }
+   }
+
+   /**
+    * Return <code>true</code> if this index describes the given interface types, resolved against the given
+    * {@link ImportTable}, in a tree that has been updated the given number of times.
+    */
+   boolean isCurrent(final List<?> types, final ImportTable imports, final int updateCount)
+   {
+      if (types != this.types || imports != this.imports || imports.size() != importCount
+               || updateCount != this.updateCount || types.size() != nodes.size())
+      {
+         return false;
+      }
+      for (int i = 0; i < nodes.size(); i++)
+      {
+         if (types.get(i) != nodes.get(i))
+         {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Return the names of the interfaces, in declaration order.
+    */
+   List<String> getNames()
+   {
+      return new ArrayList<String>(names);
+   }
+
+   /**
+    * Return <code>true</code> if an interface with the given name, or an equivalent one, is indexed.
+    */
+   boolean contains(final String type)
+   {
+      TypeName typeName = TypeName.of(type);
+      List<TypeName> candidates = namesBySimpleName.get(typeName.getSimpleName());
+      if (candidates != null)
+      {
+         for (TypeName candidate : candidates)
+         {
+            if (candidate.isEquivalentTo(typeName))
+            {
+               return true;
+            }
+         }
+      }
+      return false;
+   }
+
+   /**
+    * Record the interface with the given name, just appended to the interface types after its import was added to the
+    * given {@link ImportTable}. Returns <code>false</code>, leaving the index to be built again, if the imports were
+    * replaced, or if an import was added that may change the names of interfaces already indexed.
+    */
+   boolean add(final String name, final ImportTable imports)
+   {
+      if (imports != this.imports
+               || (imports.size() != importCount && namesBySimpleName.containsKey(TypeName.of(name).getSimpleName())))
+      {
+         return false;
+      }
+      nodes.add(types.get(types.size() - 1));
+      importCount = imports.size();
+      names.add(name);
+      index(name);
+      return true;
+   }
+
+   /**
+    * Forget the interface at the given position, just removed from the interface types.
+    */
+   void remove(final int position)
+   {
+      nodes.remove(position);
+      TypeName typeName = TypeName.of(names.remove(position));
+      List<TypeName> candidates = namesBySimpleName.get(typeName.getSimpleName());
+      candidates.remove(typeName);
+      if (candidates.isEmpty())
+      {
+         namesBySimpleName.remove(typeName.getSimpleName());
+      }
+   }
+
+   private void index(final String name)
+   {
+      TypeName typeName = TypeName.of(name);
+      List<TypeName> candidates = namesBySimpleName.get(typeName.getSimpleName());
+      if (candidates == null)
+      {
+         candidates = new ArrayList<TypeName>(1);
+         namesBySimpleName.put(typeName.getSimpleName(), candidates);
+      }
+      candidates.add(typeName);
+   }
+}
@@ -52,7 +52,25 @@ public class JavaAnnotationImpl extends AbstractJavaSource<JavaAnnotationSource>
       return add(new AnnotationElementImpl(this, declaration));
    }
 
+   @Override
+   public List<AnnotationElementSource> addAnnotationElements(String... declarations)
+   {
+      List<AnnotationElementSource> result = new ArrayList<AnnotationElementSource>();
+      for (AnnotationTypeMemberDeclaration member : AnnotationElementImpl.parseElements(this, declarations))
+      {
+         result.add(new AnnotationElementImpl(this, member));
+      }
+      add(result);
+      return result;
+   }
+
    private AnnotationElementSource add(AnnotationElementSource annotationElement)
+   {
+      add(Collections.singletonList(annotationElement));
+      return annotationElement;
+   }
+
+   private void add(List<AnnotationElementSource> annotationElements)
    {
       @SuppressWarnings("unchecked")
       final ListIterator<BodyDeclaration> members = getBodyDeclaration().bodyDeclarations().listIterator();
@@ -76,8 +94,10 @@ public class JavaAnnotationImpl extends AbstractJavaSource<JavaAnnotationSource>
          members.previous();
          break;
       }
-      members.add((BodyDeclaration) annotationElement.getInternal());
-      return annotationElement;
+      for (AnnotationElementSource annotationElement : annotationElements)
+      {
+         members.add((BodyDeclaration) annotationElement.getInternal());
+      }
    }
 
    @Override
@@ -6,6 +6,7 @@
  */
 package org.jboss.forge.roaster.model.impl;
 
+import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
@@ -76,7 +77,7 @@ public class JavaClassImpl extends AbstractGenericCapableJavaSource<JavaClassSou
    {
       final int prime = 31;
       int result = 1;
-      result = (prime * result) + ((toString() == null) ? 0 : unit.toString().hashCode());
+      result = (prime * result) + ((toString() == null) ? 0 : getUnit().toString().hashCode());
       return result;
    }
 
@@ -122,12 +123,13 @@ public class JavaClassImpl extends AbstractGenericCapableJavaSource<JavaClassSou
       }
       else if (Types.isGeneric(type))
       {
+         AST ast = getBodyDeclaration().getAST();
          String typeD = Types.stripGenerics(type);
          String sympleTypeDName = Types.toSimpleName(typeD);
          String typesGeneric = Types.getGenericsTypeParameter(type);
 
-         org.eclipse.jdt.core.dom.ParameterizedType pt = body.getAST().newParameterizedType(
-                  body.getAST().newSimpleType(body.getAST().newSimpleName(sympleTypeDName)));
+         org.eclipse.jdt.core.dom.ParameterizedType pt = ast.newParameterizedType(
+                  ast.newSimpleType(ast.newSimpleName(sympleTypeDName)));
 
          if (!hasImport(typeD) && Types.isQualified(typeD))
          {
@@ -137,7 +139,7 @@ public class JavaClassImpl extends AbstractGenericCapableJavaSource<JavaClassSou
          for (String typeP : typesGeneric.split(","))
          {
             pt.typeArguments().add(
-                     body.getAST().newSimpleType(body.getAST().newSimpleName(Types.toSimpleName(typeP.trim()))));
+                     ast.newSimpleType(ast.newSimpleName(Types.toSimpleName(typeP.trim()))));
 
             if (!hasImport(typeP) && Types.isQualified(typeP))
             {
@@ -149,7 +151,8 @@ public class JavaClassImpl extends AbstractGenericCapableJavaSource<JavaClassSou
       }
       else
       {
-         SimpleType simpleType = body.getAST().newSimpleType(body.getAST().newSimpleName(Types.toSimpleName(type)));
+         AST ast = getBodyDeclaration().getAST();
+         SimpleType simpleType = ast.newSimpleType(ast.newSimpleName(Types.toSimpleName(type)));
          getBodyDeclaration().setStructuralProperty(TypeDeclaration.SUPERCLASS_TYPE_PROPERTY, simpleType);
 
          if (!hasImport(type) && Types.isQualified(type))
@@ -7,9 +7,12 @@
 package org.jboss.forge.roaster.model.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
@@ -18,6 +21,8 @@ import org.eclipse.jface.text.Document;
 import org.jboss.forge.roaster.model.source.EnumConstantSource;
 import org.jboss.forge.roaster.model.source.JavaEnumSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.util.Strings;
+import org.jboss.forge.roaster.spi.FragmentParser;
 
 /**
  * Represents a Java Source File containing an Enum Type.
@@ -71,6 +76,45 @@ public class JavaEnumImpl extends AbstractJavaSourceMemberHolder<JavaEnumSource>
       return enumConst;
    }
 
+   @Override
+   @SuppressWarnings("unchecked")
+   public List<EnumConstantSource> addEnumConstants(final String... declarations)
+   {
+      List<String> constants = new ArrayList<String>(declarations.length);
+      for (String declaration : declarations)
+      {
+         constants.add(stripTerminator(declaration));
+      }
+      String stub = "public enum Stub { " + Strings.join(constants, ", ") + " }";
+      EnumDeclaration temp = (EnumDeclaration) FragmentParser.parseType(stub);
+      if (!temp.bodyDeclarations().isEmpty())
+      {
+         throw new IllegalArgumentException("Enum constant declarations must not declare other members: "
+                  + Arrays.toString(declarations));
+      }
+      List<EnumConstantSource> result = new ArrayList<EnumConstantSource>();
+      List<EnumConstantDeclaration> copies = new ArrayList<EnumConstantDeclaration>();
+      AST ast = getBodyDeclaration().getAST();
+      for (Object constant : temp.enumConstants())
+      {
+         EnumConstantDeclaration copy = (EnumConstantDeclaration) ASTNode.copySubtree(ast, (ASTNode) constant);
+         copies.add(copy);
+         result.add(new EnumConstantImpl(this, copy));
+      }
+      ((EnumDeclaration) getBodyDeclaration()).enumConstants().addAll(copies);
+      return result;
+   }
+
+   /**
+    * Return the given enum constant declaration without the semicolon that may end it, so that it can be joined with
+    * other declarations into a single list of constants.
+    */
+   private static String stripTerminator(final String declaration)
+   {
+      String result = declaration.trim();
+      return result.endsWith(";") ? result.substring(0, result.length() - 1) : result;
+   }
+
    @Override
    public EnumConstantSource getEnumConstant(String name)
    {
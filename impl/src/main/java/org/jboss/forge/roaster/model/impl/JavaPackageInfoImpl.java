@@ -3,12 +3,10 @@ package org.jboss.forge.roaster.model.impl;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.ServiceLoader;
 
 import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.core.dom.ImportDeclaration;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
 import org.eclipse.jdt.core.dom.PackageDeclaration;
 import org.eclipse.jface.text.Document;
@@ -27,6 +25,8 @@ import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.util.Formatter;
 import org.jboss.forge.roaster.model.util.Strings;
 import org.jboss.forge.roaster.model.util.Types;
+import org.jboss.forge.roaster.spi.ParserSession;
+import org.jboss.forge.roaster.spi.SourceUpdater;
 import org.jboss.forge.roaster.spi.WildcardImportResolver;
 
 public class JavaPackageInfoImpl implements JavaPackageInfoSource
@@ -51,12 +51,11 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
    private final ModifierAccessor modifiers = new ModifierAccessor();
 
    protected final Document document;
-   protected final CompilationUnit unit;
-   protected final ASTNode pkg;
+   protected CompilationUnit unit;
+   protected ASTNode pkg;
    protected final JavaSource<?> enclosingType;
 
-   public static ServiceLoader<WildcardImportResolver> loader = ServiceLoader.load(WildcardImportResolver.class);
-   private static List<WildcardImportResolver> resolvers;
+   private ImportTable importTable;
 
    @Override
    public JavaSource<?> getEnclosingType()
@@ -151,40 +150,30 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
    public Import addImport(final String className)
    {
       String strippedClassName = Types.stripGenerics(Types.stripArray(className));
-      Import imprt;
-      if (Types.isSimpleName(strippedClassName) && !hasImport(strippedClassName))
+      ImportTable table = getImportTable();
+      Import imprt = table.getImport(strippedClassName);
+      if (imprt != null)
       {
-         throw new IllegalArgumentException("Cannot import class without a package [" + strippedClassName + "]");
-      }
-
-      if (!hasImport(strippedClassName) && validImport(strippedClassName))
-      {
-         imprt = new ImportImpl(this).setName(strippedClassName);
-         unit.imports().add(imprt.getInternal());
+         return imprt;
       }
-      else if (hasImport(strippedClassName))
+      if (Types.isSimpleName(strippedClassName))
       {
-         imprt = getImport(strippedClassName);
+         throw new IllegalArgumentException("Cannot import class without a package [" + strippedClassName + "]");
       }
-      else
+      if (!validImport(strippedClassName))
       {
          throw new IllegalArgumentException("Attempted to import the illegal type [" + strippedClassName + "]");
       }
-      return imprt;
+      ImportImpl created = new ImportImpl(this);
+      created.setName(strippedClassName);
+      unit.imports().add(created.getInternal());
+      return table.add(created);
    }
 
    @Override
    public Import getImport(final String className)
    {
-      List<Import> imports = getImports();
-      for (Import imprt : imports)
-      {
-         if (imprt.getQualifiedName().equals(className) || imprt.getSimpleName().equals(className))
-         {
-            return imprt;
-         }
-      }
-      return null;
+      return getImportTable().getImport(className);
    }
 
    @Override
@@ -206,17 +195,9 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
    }
 
    @Override
-   @SuppressWarnings("unchecked")
    public List<Import> getImports()
    {
-      List<Import> results = new ArrayList<Import>();
-
-      for (ImportDeclaration i : (List<ImportDeclaration>) unit.imports())
-      {
-         results.add(new ImportImpl(this, i));
-      }
-
-      return Collections.unmodifiableList(results);
+      return getImportTable().getImports();
    }
 
    @Override
@@ -281,6 +262,22 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
 
    @Override
    public String resolveType(final String type)
+   {
+      ImportTable table = getImportTable();
+      PackageDeclaration pkg = unit.getPackage();
+      String result = table.getResolvedType(type, pkg == null ? null : pkg.getName());
+      if (result == null)
+      {
+         result = table.putResolvedType(type, resolveTypeAgainstImports(type));
+      }
+      return result;
+   }
+
+   /**
+    * Resolve the given type against the imports and the package of this source, without consulting the cache of the
+    * {@link ImportTable}.
+    */
+   private String resolveTypeAgainstImports(final String type)
    {
       String original = type;
       String result = type;
@@ -313,13 +310,10 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
 
          if (result.equals(original))
          {
-            for (Import imprt : getImports())
+            Import imprt = getImportTable().getImport(result);
+            if (imprt != null)
             {
-               if (Types.areEquivalent(result, imprt.getQualifiedName()))
-               {
-                  result = imprt.getQualifiedName();
-                  break;
-               }
+               result = imprt.getQualifiedName();
             }
          }
       }
@@ -327,18 +321,13 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
       // If we didn't match any imports directly, we might have a wild-card/on-demand import.
       if (Types.isSimpleName(result))
       {
-         for (Import imprt : getImports())
+         if (!getImportTable().getWildcardImports().isEmpty())
          {
-            if (imprt.isWildcard())
+            for (WildcardImportResolver r : AbstractJavaSource.getImportResolvers())
             {
-               // TODO warn if no wild-card resolvers are configured
-               // TODO Test wild-card/on-demand import resolving
-               for (WildcardImportResolver r : getImportResolvers())
-               {
-                  result = r.resolve(this, result);
-                  if (Types.isQualified(result))
-                     break;
-               }
+               result = r.resolve(this, result);
+               if (Types.isQualified(result))
+                  break;
             }
          }
       }
@@ -353,22 +342,19 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
       return result;
    }
 
-   private List<WildcardImportResolver> getImportResolvers()
+   /**
+    * Return the {@link ImportTable} of this source, building it again if the imports have been modified since it was
+    * last built.
+    */
+   ImportTable getImportTable()
    {
-      if (resolvers == null)
+      ImportTable result = importTable;
+      if (result == null || !result.isCurrent())
       {
-         resolvers = new ArrayList<WildcardImportResolver>();
-         for (WildcardImportResolver r : resolvers)
-         {
-            resolvers.add(r);
-         }
+         result = new ImportTable(this, unit);
+         importTable = result;
       }
-      if (resolvers.size() == 0)
-      {
-         throw new IllegalStateException("No instances of [" + WildcardImportResolver.class.getName()
-                  + "] were found on the classpath.");
-      }
-      return resolvers;
+      return result;
    }
 
    private boolean validImport(final String type)
@@ -379,13 +365,10 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
    @Override
    public JavaPackageInfoSource removeImport(final String name)
    {
-      for (Import i : getImports())
+      Import imprt = getImportTable().getImportByQualifiedName(name);
+      if (imprt != null)
       {
-         if (i.getQualifiedName().equals(name))
-         {
-            removeImport(i);
-            break;
-         }
+         removeImport(imprt);
       }
       return this;
    }
@@ -588,7 +571,7 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
 
       try
       {
-         TextEdit edit = unit.rewrite(document, null);
+         TextEdit edit = unit.rewrite(document, ParserSession.getCompilerOptions());
          edit.apply(document);
       }
       catch (Exception e)
@@ -599,6 +582,33 @@ public class JavaPackageInfoImpl implements JavaPackageInfoSource
       return Formatter.format(document.get());
    }
 
+   @Override
+   public JavaPackageInfoSource applyEdit(final int offset, final int length, final String text)
+   {
+      replaceUnit(SourceUpdater.applyEdit(document, unit, pkg, offset, length, text));
+      return this;
+   }
+
+   @Override
+   public JavaPackageInfoSource update(final String source)
+   {
+      replaceUnit(SourceUpdater.update(document, unit, pkg, source));
+      return this;
+   }
+
+   /**
+    * Point this source to the given {@link CompilationUnit}, if it replaces the current one after an update.
+    */
+   private void replaceUnit(final CompilationUnit updated)
+   {
+      if (updated != unit)
+      {
+         pkg = SourceUpdater.locate(updated, pkg);
+         unit = updated;
+         importTable = null;
+      }
+   }
+
    @Override
    public Object getInternal()
    {
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.JavaUnit;
+
+/**
+ * Represents a Java compilation unit and all of its top-level types.
+ */
+public class JavaUnitImpl implements JavaUnit
+{
+   private final List<JavaType<?>> types;
+
+   public JavaUnitImpl(final List<? extends JavaType<?>> types)
+   {
+      if (types.isEmpty())
+      {
+         throw new IllegalArgumentException("A Java unit must contain at least one type");
+      }
+      this.types = Collections.unmodifiableList(new ArrayList<JavaType<?>>(types));
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public <T extends JavaType<?>> T getGoverningType()
+   {
+      for (JavaType<?> type : types)
+      {
+         if (type.isPublic())
+         {
+            return (T) type;
+         }
+      }
+      return (T) types.get(0);
+   }
+
+   @Override
+   public List<JavaType<?>> getTopLevelTypes()
+   {
+      return types;
+   }
+
+   @Override
+   public String toString()
+   {
+      return types.get(0).toString();
+   }
+}
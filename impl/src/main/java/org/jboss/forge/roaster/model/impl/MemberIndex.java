@@ -0,0 +1,446 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.jboss.forge.roaster.model.source.ParameterSource;
+import org.jboss.forge.roaster.model.util.TypeName;
+import org.jboss.forge.roaster.spi.SourceUpdater;
+
+/**
+ * The fields, methods and nested types of a {@link JavaSource}, indexed by name and, for methods, by erased signature,
+ * so that repeated lookups neither walk the tree nor allocate new members. Sources build it lazily, and keep it for as
+ * long as the body declarations of their type keep the size they had when it was built; only a structural change of
+ * that list, such as removing a member, or an update of the source through {@link SourceUpdater}, rebuilds it on the
+ * next lookup. Members that sources add themselves are
+ * recorded in the index as they are inserted, and fields and methods whose name or parameters change update their
+ * entry in place, so that modifying and looking up members in turn does not rebuild it. Other modifications of the
+ * tree, such as changing a type, a body or an annotation, do not affect the index.
+ * <p>
+ * Lookups return the same member as a scan of the member lists in declaration order would.
+ */
+final class MemberIndex<O extends JavaSource<O>>
+{
+   private static final TypeName[] NO_PARAMETERS = new TypeName[0];
+
+   private final int updateCount;
+   private int declarationCount;
+
+   private final List<FieldSource<O>> fields;
+   private final Map<String, List<FieldSource<O>>> fieldsByName = new HashMap<String, List<FieldSource<O>>>();
+   private List<FieldSource<O>> fieldsSnapshot;
+
+   private final List<MethodSource<O>> methods;
+   private final Map<String, List<IndexedMethod<O>>> methodsByName = new HashMap<String, List<IndexedMethod<O>>>();
+   private final Map<String, List<IndexedMethod<O>>> methodsBySignature = new HashMap<String, List<IndexedMethod<O>>>();
+   private List<MethodSource<O>> methodsSnapshot;
+
+   private final List<JavaSource<?>> nestedTypes;
+   private Map<String, JavaSource<?>> nestedTypesByName;
+   private List<JavaSource<?>> nestedTypesSnapshot;
+
+   /**
+    * Index the given members of a type with the given body declarations, in a tree that has been updated the given
+    * number of times. Nested types are only indexed by name on the first lookup by name.
+    */
+   MemberIndex(final List<?> declarations, final int updateCount, final List<FieldSource<O>> fields,
+            final List<MethodSource<O>> methods, final List<JavaSource<?>> nestedTypes)
+   {
+      this.updateCount = updateCount;
+      this.fields = new ArrayList<FieldSource<O>>(fields);
+      this.methods = new ArrayList<MethodSource<O>>(methods.size());
+      this.nestedTypes = new ArrayList<JavaSource<?>>(nestedTypes);
+
+      for (FieldSource<O> field : fields)
+      {
+         add(fieldsByName, field.getName(), field);
+      }
+      indexMethods(methods);
+      this.declarationCount = declarations.size();
+   }
+
+   /**
+    * Return <code>true</code> if this index describes the type with the given body declarations, in a tree that has
+    * been updated the given number of times, as it currently is.
+    */
+   boolean isCurrent(final List<?> declarations, final int updateCount)
+   {
+      return declarations.size() == declarationCount && updateCount == this.updateCount;
+   }
+
+   /**
+    * Record the given fields, just inserted at the given position among the fields of the type with the given body
+    * declarations. The index must have been current before they were inserted.
+    */
+   void addFields(final List<?> declarations, final int position, final List<FieldSource<O>> added)
+   {
+      fields.addAll(position, added);
+      fieldsSnapshot = null;
+      for (FieldSource<O> field : added)
+      {
+         indexField(field);
+      }
+      this.declarationCount = declarations.size();
+   }
+
+   /**
+    * Record the given methods, just appended to the type with the given body declarations. The index must have been
+    * current before they were appended.
+    */
+   void addMethods(final List<?> declarations, final List<MethodSource<O>> added)
+   {
+      methodsSnapshot = null;
+      indexMethods(added);
+      this.declarationCount = declarations.size();
+   }
+
+   /**
+    * Record the given nested type, just appended to the type with the given body declarations. The index must have
+    * been current before it was appended.
+    */
+   void addNestedType(final List<?> declarations, final JavaSource<?> added)
+   {
+      nestedTypes.add(added);
+      nestedTypesSnapshot = null;
+      if (nestedTypesByName != null && !nestedTypesByName.containsKey(added.getName()))
+      {
+         nestedTypesByName.put(added.getName(), added);
+      }
+      this.declarationCount = declarations.size();
+   }
+
+   /**
+    * Move the field declared by the given fragment, if it is indexed, from the given name to its current name.
+    */
+   void fieldRenamed(final Object fragment, final String oldName)
+   {
+      List<FieldSource<O>> named = fieldsByName.get(oldName);
+      if (named != null)
+      {
+         for (FieldSource<O> field : named)
+         {
+            if (field.getInternal() == fragment)
+            {
+               remove(fieldsByName, oldName, field);
+               indexField(field);
+               return;
+            }
+         }
+      }
+   }
+
+   /**
+    * Index the method declared by the given node, if it is indexed, again under its current name and parameter types,
+    * after its name was changed from the given one, or its parameters were changed.
+    */
+   void methodChanged(final Object declaration, final String oldName)
+   {
+      List<IndexedMethod<O>> named = methodsByName.get(oldName);
+      if (named != null)
+      {
+         for (IndexedMethod<O> indexed : named)
+         {
+            if (indexed.method.getInternal() == declaration)
+            {
+               remove(methodsByName, oldName, indexed);
+               remove(methodsBySignature, signature(oldName, indexed.parameterTypeNames), indexed);
+               IndexedMethod<O> updated = new IndexedMethod<O>(indexed.index, indexed.method);
+               insert(methodsByName, updated.method.getName(), updated);
+               insert(methodsBySignature, signature(updated.method.getName(), updated.parameterTypeNames), updated);
+               return;
+            }
+         }
+      }
+   }
+
+   /**
+    * Forget the nested types by name, after one of them was renamed; they are indexed again on the next lookup.
+    */
+   void nestedTypeRenamed()
+   {
+      nestedTypesByName = null;
+   }
+
+   List<FieldSource<O>> getFields()
+   {
+      List<FieldSource<O>> result = fieldsSnapshot;
+      if (result == null)
+      {
+         result = Collections.unmodifiableList(new ArrayList<FieldSource<O>>(fields));
+         fieldsSnapshot = result;
+      }
+      return result;
+   }
+
+   FieldSource<O> getField(final String name)
+   {
+      List<FieldSource<O>> named = fieldsByName.get(name);
+      return named == null ? null : named.get(0);
+   }
+
+   List<MethodSource<O>> getMethods()
+   {
+      List<MethodSource<O>> result = methodsSnapshot;
+      if (result == null)
+      {
+         result = Collections.unmodifiableList(new ArrayList<MethodSource<O>>(methods));
+         methodsSnapshot = result;
+      }
+      return result;
+   }
+
+   /**
+    * Return the first method with the given name and no parameters.
+    */
+   MethodSource<O> getMethod(final String name)
+   {
+      List<IndexedMethod<O>> candidates = methodsBySignature.get(signature(name, NO_PARAMETERS));
+      return candidates == null ? null : candidates.get(0).method;
+   }
+
+   /**
+    * Return the first method with the given name whose parameter types are equivalent, as determined by
+    * {@link TypeName#isEquivalentTo(TypeName)}, to the given types. As the member scan did, a method without
+    * parameters matches any parameter types.
+    */
+   MethodSource<O> getMethod(final String name, final String... parameterTypes)
+   {
+      if (parameterTypes == null)
+      {
+         return null;
+      }
+      TypeName[] typeNames = typeNames(parameterTypes);
+      IndexedMethod<O> result = null;
+      List<IndexedMethod<O>> candidates = methodsBySignature.get(signature(name, typeNames));
+      if (candidates != null)
+      {
+         for (IndexedMethod<O> candidate : candidates)
+         {
+            if (candidate.matches(typeNames))
+            {
+               result = candidate;
+               break;
+            }
+         }
+      }
+      List<IndexedMethod<O>> withoutParameters = methodsBySignature.get(signature(name, NO_PARAMETERS));
+      if (withoutParameters != null && (result == null || withoutParameters.get(0).index < result.index))
+      {
+         result = withoutParameters.get(0);
+      }
+      return result == null ? null : result.method;
+   }
+
+   /**
+    * Return the parameter types of the first method with the given name, or <code>null</code> if there is none.
+    */
+   String[] getFirstMethodParameterTypes(final String name)
+   {
+      List<IndexedMethod<O>> candidates = methodsByName.get(name);
+      return candidates == null ? null : candidates.get(0).parameterTypes;
+   }
+
+   List<JavaSource<?>> getNestedTypes()
+   {
+      List<JavaSource<?>> result = nestedTypesSnapshot;
+      if (result == null)
+      {
+         result = Collections.unmodifiableList(new ArrayList<JavaSource<?>>(nestedTypes));
+         nestedTypesSnapshot = result;
+      }
+      return result;
+   }
+
+   /**
+    * Return the first nested type with the given simple name or, failing that, with the given qualified name. Nested
+    * types are only indexed by simple name, since their qualified name changes with the name of any enclosing type and
+    * with the package; a qualified name is looked up by its last segment, and then compared.
+    */
+   JavaSource<?> getNestedType(final String name)
+   {
+      Map<String, JavaSource<?>> index = nestedTypesByName;
+      if (index == null)
+      {
+         index = new HashMap<String, JavaSource<?>>();
+         for (JavaSource<?> nested : nestedTypes)
+         {
+            if (!index.containsKey(nested.getName()))
+            {
+               index.put(nested.getName(), nested);
+            }
+         }
+         nestedTypesByName = index;
+      }
+      JavaSource<?> result = index.get(name);
+      if (result == null)
+      {
+         int separator = Math.max(name.lastIndexOf('.'), name.lastIndexOf('$'));
+         if (separator >= 0)
+         {
+            result = index.get(name.substring(separator + 1));
+            if (result != null && !name.equals(result.getQualifiedName()))
+            {
+               result = null;
+            }
+         }
+      }
+      return result;
+   }
+
+   private void indexMethods(final List<MethodSource<O>> added)
+   {
+      for (MethodSource<O> method : added)
+      {
+         IndexedMethod<O> indexed = new IndexedMethod<O>(methods.size(), method);
+         methods.add(method);
+         add(methodsByName, method.getName(), indexed);
+         add(methodsBySignature, signature(method.getName(), indexed.parameterTypeNames), indexed);
+      }
+   }
+
+   /**
+    * Index the given field by its name, among the fields of the same name in declaration order. Fields usually have
+    * distinct names, so their positions are only compared when they do not.
+    */
+   private void indexField(final FieldSource<O> field)
+   {
+      List<FieldSource<O>> named = fieldsByName.get(field.getName());
+      if (named == null)
+      {
+         add(fieldsByName, field.getName(), field);
+         return;
+      }
+      int position = fields.indexOf(field);
+      int i = 0;
+      while (i < named.size() && fields.indexOf(named.get(i)) < position)
+      {
+         i++;
+      }
+      named.add(i, field);
+   }
+
+   /**
+    * The erased signature of a method, such as <code>setValue(List,int)</code>. Parameter types that
+    * {@link TypeName#isEquivalentTo(TypeName)} considers equivalent have the same erased form.
+    */
+   private static String signature(final String name, final TypeName[] parameterTypes)
+   {
+      StringBuilder result = new StringBuilder(name).append('(');
+      for (int i = 0; i < parameterTypes.length; i++)
+      {
+         if (i > 0)
+         {
+            result.append(',');
+         }
+         if (parameterTypes[i] != null)
+         {
+            result.append(parameterTypes[i].getSimpleName());
+         }
+      }
+      return result.append(')').toString();
+   }
+
+   private static TypeName[] typeNames(final String[] types)
+   {
+      TypeName[] result = new TypeName[types.length];
+      for (int i = 0; i < types.length; i++)
+      {
+         result[i] = types[i] == null ? null : TypeName.of(types[i]);
+      }
+      return result;
+   }
+
+   private static <T> void add(final Map<String, List<T>> index, final String key, final T entry)
+   {
+      List<T> entries = index.get(key);
+      if (entries == null)
+      {
+         entries = new ArrayList<T>(1);
+         index.put(key, entries);
+      }
+      entries.add(entry);
+   }
+
+   private static <T> void remove(final Map<String, List<T>> index, final String key, final T entry)
+   {
+      List<T> entries = index.get(key);
+      entries.remove(entry);
+      if (entries.isEmpty())
+      {
+         index.remove(key);
+      }
+   }
+
+   /**
+    * Add the given method among the entries of the given key, in declaration order.
+    */
+   private static <O extends JavaSource<O>> void insert(final Map<String, List<IndexedMethod<O>>> index,
+            final String key, final IndexedMethod<O> method)
+   {
+      List<IndexedMethod<O>> entries = index.get(key);
+      if (entries == null)
+      {
+         add(index, key, method);
+         return;
+      }
+      int i = 0;
+      while (i < entries.size() && entries.get(i).index < method.index)
+      {
+         i++;
+      }
+      entries.add(i, method);
+   }
+
+   /**
+    * A method together with its position in declaration order and the names of its parameter types.
+    */
+   private static final class IndexedMethod<O extends JavaSource<O>>
+   {
+      private final int index;
+      private final MethodSource<O> method;
+      private final String[] parameterTypes;
+      private final TypeName[] parameterTypeNames;
+
+      private IndexedMethod(final int index, final MethodSource<O> method)
+      {
+         this.index = index;
+         this.method = method;
+         List<ParameterSource<O>> parameters = method.getParameters();
+         this.parameterTypes = new String[parameters.size()];
+         for (int i = 0; i < parameterTypes.length; i++)
+         {
+            parameterTypes[i] = parameters.get(i).getType().getName();
+         }
+         this.parameterTypeNames = typeNames(parameterTypes);
+      }
+
+      private boolean matches(final TypeName[] types)
+      {
+         if (parameterTypeNames.length != types.length)
+         {
+            return false;
+         }
+         for (int i = 0; i < types.length; i++)
+         {
+            TypeName left = parameterTypeNames[i];
+            if (left == null ? types[i] != null : !left.isEquivalentTo(types[i]))
+            {
+               return false;
+            }
+         }
+         return true;
+      }
+   }
+}
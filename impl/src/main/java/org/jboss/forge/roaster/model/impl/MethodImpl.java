@@ -7,12 +7,14 @@
 package org.jboss.forge.roaster.model.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
@@ -20,9 +22,11 @@ import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
 import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.TypeParameter;
 import org.eclipse.jdt.core.dom.VariableDeclaration;
-import org.jboss.forge.roaster.Roaster;
+import org.eclipse.jface.text.Document;
+import org.jboss.forge.roaster.ParserException;
 import org.jboss.forge.roaster.model.Annotation;
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.Type;
@@ -31,13 +35,14 @@ import org.jboss.forge.roaster.model.Visibility;
 import org.jboss.forge.roaster.model.ast.AnnotationAccessor;
 import org.jboss.forge.roaster.model.ast.ModifierAccessor;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.source.MethodSource;
 import org.jboss.forge.roaster.model.source.ParameterSource;
 import org.jboss.forge.roaster.model.source.TypeVariableSource;
 import org.jboss.forge.roaster.model.util.Strings;
 import org.jboss.forge.roaster.model.util.Types;
+import org.jboss.forge.roaster.spi.FragmentParser;
+import org.jboss.forge.roaster.spi.ParserSession;
 
 /**
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
@@ -76,12 +81,7 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
    {
       init(parent);
 
-      String stub = "public class Stub { " + method + " }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<MethodSource<JavaClassSource>> methods = temp.getMethods();
-      MethodDeclaration newMethod = (MethodDeclaration) methods.get(0).getInternal();
-      MethodDeclaration subtree = (MethodDeclaration) ASTNode.copySubtree(cu.getAST(), newMethod);
-      this.method = subtree;
+      this.method = (MethodDeclaration) ASTNode.copySubtree(cu.getAST(), parseMethod(method));
    }
 
    @Override
@@ -178,6 +178,10 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
       String result = "";
 
       List<Statement> statements = (List<Statement>) method.getBody().getStructuralProperty(Block.STATEMENTS_PROPERTY);
+      if (statements.isEmpty() && ParserSession.isBodyIgnored(method.getBody()))
+      {
+         statements = loadIgnoredBody(method.getBody());
+      }
       for (Statement statement : statements)
       {
          result += statement + " ";
@@ -186,17 +190,34 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
       return result;
    }
 
-   @Override
-   public MethodSource<O> setBody(final String body)
+   /**
+    * Parse the statements of a body that was skipped when the enclosing source was parsed, reading them from the
+    * original document.
+    */
+   private List<Statement> loadIgnoredBody(final Block block)
    {
-      String stub = "public class Stub { public void method() {" + body + "} }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<MethodSource<JavaClassSource>> methods = temp.getMethods();
-      Block block = ((MethodDeclaration) methods.get(0).getInternal()).getBody();
+      Document document = getDocument();
+      return document == null ? Collections.<Statement> emptyList() : ParserSession.loadIgnoredBody(block, document);
+   }
 
-      block = (Block) ASTNode.copySubtree(method.getAST(), block);
-      method.setBody(block);
+   /**
+    * Return the {@link Document} of the source declaring this method, or <code>null</code> if there is none.
+    */
+   private Document getDocument()
+   {
+      JavaSource<?> source = parent;
+      while (!(source instanceof AbstractJavaSource) && source.getEnclosingType() != source)
+      {
+         source = source.getEnclosingType();
+      }
+      return source instanceof AbstractJavaSource ? ((AbstractJavaSource<?>) source).document : null;
+   }
 
+   @Override
+   public MethodSource<O> setBody(final String body)
+   {
+      Block block = ParserSession.parseBlock(body.toCharArray());
+      method.setBody((Block) ASTNode.copySubtree(method.getAST(), block));
       return this;
    }
 
@@ -206,7 +227,9 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
       method.setConstructor(constructor);
       if (isConstructor())
       {
+         String oldName = getName();
          method.setName(ast.newSimpleName(parent.getName()));
+         signatureChanged(oldName);
       }
       return this;
    }
@@ -249,14 +272,7 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
    @Override
    public MethodSource<O> setReturnType(final String typeName)
    {
-      String stub = "public class Stub { public " + typeName + " method() {} }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<MethodSource<JavaClassSource>> methods = temp.getMethods();
-      org.eclipse.jdt.core.dom.Type returnType = ((MethodDeclaration) methods.get(0).getInternal()).getReturnType2();
-
-      returnType = (org.eclipse.jdt.core.dom.Type) ASTNode.copySubtree(method.getAST(), returnType);
-      method.setReturnType2(returnType);
-
+      method.setReturnType2(TypeParser.parse(method.getAST(), typeName));
       return this;
    }
 
@@ -335,7 +351,9 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
       {
          throw new IllegalStateException("Cannot set the name of a constructor.");
       }
+      String oldName = getName();
       method.setName(ast.newSimpleName(name));
+      signatureChanged(oldName);
       return this;
    }
 
@@ -343,10 +361,7 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
    @SuppressWarnings("unchecked")
    public MethodSource<O> setParameters(final String parameters)
    {
-      String stub = "public class Stub { public void method( " + parameters + " ) {} }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<MethodSource<JavaClassSource>> methods = temp.getMethods();
-      List<VariableDeclaration> astParameters = ((MethodDeclaration) methods.get(0).getInternal()).parameters();
+      List<VariableDeclaration> astParameters = parseMethod("void method(" + parameters + ") {}").parameters();
 
       method.parameters().clear();
       for (VariableDeclaration declaration : astParameters)
@@ -354,6 +369,7 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
          VariableDeclaration copy = (VariableDeclaration) ASTNode.copySubtree(method.getAST(), declaration);
          method.parameters().add(copy);
       }
+      signatureChanged(getName());
 
       return this;
    }
@@ -449,6 +465,11 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
    @Override
    public String toString()
    {
+      Document document = getDocument();
+      if (document != null && ParserSession.isBodyIgnored(method.getBody()))
+      {
+         return ParserSession.copySubtree(AST.newAST(ast.apiLevel()), method, document).toString();
+      }
       return method.toString();
    }
 
@@ -670,10 +691,20 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
    public ParameterSource<O> addParameter(String type, String name)
    {
       getOrigin().addImport(type);
-      String stub = "public class Stub { public void method( " + Types.toSimpleName(type) + " " + name + " ) {} }";
-      JavaClassSource temp = (JavaClassSource) Roaster.parse(stub);
-      List<MethodSource<JavaClassSource>> methods = temp.getMethods();
-      List<VariableDeclaration> astParameters = ((MethodDeclaration) methods.get(0).getInternal()).parameters();
+      org.eclipse.jdt.core.dom.Type parameterType = TypeParser.tryParse(method.getAST(), Types.toSimpleName(type));
+      SimpleName parameterName = TypeParser.tryName(method.getAST(), name);
+      if (parameterType != null && parameterName != null)
+      {
+         SingleVariableDeclaration declaration = method.getAST().newSingleVariableDeclaration();
+         declaration.setType(parameterType);
+         declaration.setName(parameterName);
+         method.parameters().add(declaration);
+         signatureChanged(getName());
+         return new ParameterImpl<O>(parent, declaration);
+      }
+
+      List<VariableDeclaration> astParameters = parseMethod(
+               "void method(" + Types.toSimpleName(type) + " " + name + ") {}").parameters();
 
       ParameterSource<O> param = null;
       for (VariableDeclaration declaration : astParameters)
@@ -682,6 +713,7 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
          method.parameters().add(copy);
          param = new ParameterImpl<O>(parent, copy);
       }
+      signatureChanged(getName());
       return param;
    }
 
@@ -689,6 +721,71 @@ public class MethodImpl<O extends JavaSource<O>> implements MethodSource<O>
    public MethodSource<O> removeParameter(ParameterSource<O> parameter)
    {
       method.parameters().remove(parameter.getInternal());
+      signatureChanged(getName());
       return this;
    }
+
+   /**
+    * Let the {@link MemberIndex} of the parent, if any, index this method again after its name, previously the given
+    * one, or its parameters changed.
+    */
+   private void signatureChanged(final String oldName)
+   {
+      if (parent instanceof AbstractJavaSource)
+      {
+         ((AbstractJavaSource<?>) parent).methodChanged(method, oldName);
+      }
+   }
+
+   /**
+    * Parse the given method declaration as a class body fragment, without creating a stub {@link JavaSource} around it.
+    * Malformed declarations, which the fragment parser discards, are recovered by parsing them inside a stub
+    * class. The returned node may be shared through the fragment cache, and must be copied before it is used.
+    */
+   static MethodDeclaration parseMethod(final String declaration)
+   {
+      MethodDeclaration result = firstMethod(FragmentParser.parseBodyDeclarations(declaration));
+      if (result == null)
+      {
+         AbstractTypeDeclaration stub = FragmentParser.parseType("class Stub { " + declaration + " }");
+         if (stub instanceof TypeDeclaration)
+         {
+            result = firstMethod((TypeDeclaration) stub);
+         }
+      }
+      if (result == null)
+      {
+         throw new ParserException("Could not parse method declaration [" + declaration + "]");
+      }
+      return result;
+   }
+
+   /**
+    * Parse the given method declarations together, as {@link #parseMethod(String)} does for a single one, and return
+    * them in declaration order. The returned nodes may be shared through the fragment cache, and must be copied before
+    * they are used.
+    */
+   static List<MethodDeclaration> parseMethods(final String declarations)
+   {
+      TypeDeclaration fragment = FragmentParser.parseBodyDeclarations(declarations);
+      if (fragment == null || ((CompilationUnit) fragment.getRoot()).getProblems().length > 0)
+      {
+         AbstractTypeDeclaration stub = FragmentParser.parseType("class Stub { " + declarations + " }");
+         if (!(stub instanceof TypeDeclaration))
+         {
+            throw new ParserException("Could not parse method declarations [" + declarations + "]");
+         }
+         fragment = (TypeDeclaration) stub;
+      }
+      return Arrays.asList(fragment.getMethods());
+   }
+
+   private static MethodDeclaration firstMethod(final TypeDeclaration type)
+   {
+      if (type != null && type.getMethods().length > 0)
+      {
+         return type.getMethods()[0];
+      }
+      return null;
+   }
 }
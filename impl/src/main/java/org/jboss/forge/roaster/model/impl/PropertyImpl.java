@@ -18,7 +18,6 @@ import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.TextElement;
 import org.jboss.forge.roaster.model.Annotation;
 import org.jboss.forge.roaster.model.JavaType;
-import org.jboss.forge.roaster.model.Method;
 import org.jboss.forge.roaster.model.Type;
 import org.jboss.forge.roaster.model.Visibility;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
@@ -96,12 +95,7 @@ class PropertyImpl<O extends JavaSource<O> & PropertyHolderSource<O>> implements
    @Override
    public FieldSource<O> getField()
    {
-      final FieldSource<O> field = getOrigin().getField(name);
-      if (field != null && !field.isStatic())
-      {
-         return field;
-      }
-      return null;
+      return getResolver().getField(name);
    }
 
    @Override
@@ -119,46 +113,13 @@ class PropertyImpl<O extends JavaSource<O> & PropertyHolderSource<O>> implements
    @Override
    public MethodSource<O> getAccessor()
    {
-      for (MethodSource<O> method : getOrigin().getMethods())
-      {
-         if (isAccessor(method))
-         {
-            return method;
-         }
-      }
-      return null;
+      return getResolver().getAccessor(name);
    }
 
    @Override
    public MethodSource<O> getMutator()
    {
-      final Type<O> type;
-      if (hasField())
-      {
-         type = getField().getType();
-      }
-      else if (isAccessible())
-      {
-         type = getAccessor().getReturnType();
-      }
-      else
-      {
-         type = null;
-      }
-
-      for (MethodSource<O> method : getOrigin().getMethods())
-      {
-         if (isMutator(method))
-         {
-            if (type == null
-                     || Strings.areEqual(type.getQualifiedName(), method.getParameters().get(0).getType()
-                              .getQualifiedName()))
-            {
-               return method;
-            }
-         }
-      }
-      return null;
+      return getResolver().getMutator(name);
    }
 
    @Override
@@ -468,35 +429,10 @@ class PropertyImpl<O extends JavaSource<O> & PropertyHolderSource<O>> implements
       return type == null ? "<missing>" : type.toString();
    }
 
-   private boolean isAccessor(Method<O, ?> method)
+   @SuppressWarnings("unchecked")
+   private PropertyResolver<O> getResolver()
    {
-      if (method.isConstructor())
-      {
-         return false;
-      }
-      if (method.isReturnTypeVoid())
-      {
-         return false;
-      }
-      if (method.getParameters().isEmpty())
-      {
-         if (method.getReturnType().isType(boolean.class) && Strings.areEqual(method.getName(), methodName("is", name)))
-         {
-            return true;
-         }
-         return Strings.areEqual(method.getName(), methodName("get", name));
-      }
-      return false;
-   }
-
-   private boolean isMutator(Method<O, ?> method)
-   {
-      if (method.isConstructor())
-      {
-         return false;
-      }
-      return method.isReturnTypeVoid() && method.getParameters().size() == 1
-               && Strings.areEqual(method.getName(), methodName("set", name));
+      return ((AbstractJavaSourceMemberHolder<O>) getOrigin()).getPropertyResolver();
    }
 
    private static String methodName(String prefix, String property)
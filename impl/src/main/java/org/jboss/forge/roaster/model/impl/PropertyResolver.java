@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.jboss.forge.roaster.model.Type;
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.jboss.forge.roaster.model.source.PropertyHolderSource;
+import org.jboss.forge.roaster.model.util.Strings;
+
+/**
+ * The accessors, mutators and fields of a {@link PropertyHolderSource}, classified in a single pass over its
+ * {@link MemberIndex}. Properties also depend on return types, parameter types and modifiers, which the index does not
+ * follow, so a resolver is only valid for the index it was built from, and until the tree is next modified; sources
+ * build it lazily, so that listing the properties of a source, or looking one up by name, no longer scans every method
+ * once per property.
+ * <p>
+ * Lookups return the same members as {@link PropertyImpl} would find by scanning the methods in declaration order.
+ */
+final class PropertyResolver<O extends JavaSource<O> & PropertyHolderSource<O>>
+{
+   private final MemberIndex<O> index;
+   private final long modificationCount;
+   private final Set<String> propertyNames = new LinkedHashSet<String>();
+   private final Map<String, Integer> accessors = new HashMap<String, Integer>();
+   private final Map<String, List<MethodSource<O>>> mutators = new HashMap<String, List<MethodSource<O>>>();
+
+   /**
+    * Classify the members of the given index of a tree of the given {@link AST}. Reading the members may create nodes,
+    * which counts as a modification of the tree, so the resolver is only stamped with the modification count once it
+    * is complete.
+    */
+   PropertyResolver(final AST ast, final MemberIndex<O> index)
+   {
+      this.index = index;
+      List<MethodSource<O>> methods = index.getMethods();
+      for (int i = 0; i < methods.size(); i++)
+      {
+         MethodSource<O> method = methods.get(i);
+         String name = method.getName();
+         boolean property = isPropertyMethodName(name);
+         if (property && isAccessorOrMutator(method))
+         {
+            propertyNames.add(Strings.uncapitalize(name.substring(3)));
+         }
+         if ((property || name.startsWith("is")) && !method.isConstructor())
+         {
+            classify(i, method);
+         }
+      }
+      for (FieldSource<O> field : index.getFields())
+      {
+         if (!field.isStatic())
+         {
+            propertyNames.add(field.getName());
+         }
+      }
+      this.modificationCount = ast.modificationCount();
+   }
+
+   /**
+    * Return <code>true</code> if this resolver was built from the given index, and the tree of the given {@link AST}
+    * has not been modified since.
+    */
+   boolean isCurrent(final AST ast, final MemberIndex<O> index)
+   {
+      return this.index == index && ast.modificationCount() == modificationCount;
+   }
+
+   /**
+    * Return the names of the properties, those of accessors and mutators in method declaration order first, followed
+    * by those of non-static fields in field declaration order.
+    */
+   Set<String> getPropertyNames()
+   {
+      return Collections.unmodifiableSet(propertyNames);
+   }
+
+   /**
+    * Return the non-static field of the given property, or <code>null</code> if there is none.
+    */
+   FieldSource<O> getField(final String property)
+   {
+      FieldSource<O> field = index.getField(property);
+      return field != null && !field.isStatic() ? field : null;
+   }
+
+   /**
+    * Return the first method named <code>get&lt;Property&gt;</code>, or <code>is&lt;Property&gt;</code> if it returns
+    * <code>boolean</code>, which takes no parameters and does not return <code>void</code>.
+    */
+   MethodSource<O> getAccessor(final String property)
+   {
+      Integer getter = accessors.get(methodName("get", property));
+      Integer is = accessors.get(methodName("is", property));
+      if (getter == null && is == null)
+      {
+         return null;
+      }
+      int position = getter == null ? is : is == null ? getter : Math.min(getter, is);
+      return index.getMethods().get(position);
+   }
+
+   /**
+    * Return the first <code>void</code> method named <code>set&lt;Property&gt;</code> taking a single parameter of the
+    * type of the field of the property or, without a field, of the return type of its accessor. A property with neither
+    * accepts any mutator.
+    */
+   MethodSource<O> getMutator(final String property)
+   {
+      List<MethodSource<O>> candidates = mutators.get(methodName("set", property));
+      if (candidates == null)
+      {
+         return null;
+      }
+      final Type<O> type;
+      FieldSource<O> field = getField(property);
+      MethodSource<O> accessor = field == null ? getAccessor(property) : null;
+      if (field != null)
+      {
+         type = field.getType();
+      }
+      else if (accessor != null)
+      {
+         type = accessor.getReturnType();
+      }
+      else
+      {
+         return candidates.get(0);
+      }
+      String qualifiedName = type.getQualifiedName();
+      for (MethodSource<O> candidate : candidates)
+      {
+         if (Strings.areEqual(qualifiedName, candidate.getParameters().get(0).getType().getQualifiedName()))
+         {
+            return candidate;
+         }
+      }
+      return null;
+   }
+
+   private void classify(final int position, final MethodSource<O> method)
+   {
+      String name = method.getName();
+      int parameters = method.getParameters().size();
+      boolean returnsVoid = method.isReturnTypeVoid();
+      if (parameters == 0 && !returnsVoid && !accessors.containsKey(name)
+               && (name.startsWith("get") || method.getReturnType().isType(boolean.class)))
+      {
+         accessors.put(name, position);
+      }
+      else if (parameters == 1 && returnsVoid && name.startsWith("set"))
+      {
+         List<MethodSource<O>> candidates = mutators.get(name);
+         if (candidates == null)
+         {
+            candidates = new ArrayList<MethodSource<O>>(1);
+            mutators.put(name, candidates);
+         }
+         candidates.add(method);
+      }
+   }
+
+   /**
+    * Return <code>true</code> if the given method name matches <code>^[gs]et.+$</code>.
+    */
+   private static boolean isPropertyMethodName(final String name)
+   {
+      return name.length() > 3 && (name.startsWith("get") || name.startsWith("set"));
+   }
+
+   private static boolean isAccessorOrMutator(final MethodSource<?> method)
+   {
+      int parameters = method.getParameters().size();
+      return parameters == 0 ? !method.isReturnTypeVoid() : parameters == 1 && method.isReturnTypeVoid();
+   }
+
+   private static String methodName(final String prefix, final String property)
+   {
+      return prefix + Strings.capitalize(property);
+   }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.PrimitiveType;
+import org.eclipse.jdt.core.dom.PrimitiveType.Code;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.WildcardType;
+
+/**
+ * Builds JDT {@link Type} nodes from type names such as <code>int[]</code>, <code>java.util.List&lt;String&gt;</code>
+ * or <code>Map&lt;? extends K, V[]&gt;</code> directly, instead of parsing a stub class around the name and copying the
+ * node out of it. The nodes have the same structure as those produced by the parser.
+ */
+public final class TypeParser
+{
+   private final AST ast;
+   private final String source;
+   private int pos;
+
+   private TypeParser(final AST ast, final String source)
+   {
+      this.ast = ast;
+      this.source = source;
+   }
+
+   /**
+    * Return a new {@link Type} node of the given {@link AST} for the given type name. Names the direct parser does not
+    * cover, such as annotated types, are parsed from a method declaration fragment instead.
+    */
+   public static Type parse(final AST ast, final String type)
+   {
+      Type result = tryParse(ast, type);
+      if (result == null)
+      {
+         MethodDeclaration method = MethodImpl.parseMethod("public " + type + " method() {}");
+         result = (Type) ASTNode.copySubtree(ast, method.getReturnType2());
+      }
+      return result;
+   }
+
+   /**
+    * Return a new {@link Type} node of the given {@link AST} for the given type name, or <code>null</code> if the name
+    * is not a simple, qualified, primitive, array, parameterized or wildcard type name.
+    */
+   public static Type tryParse(final AST ast, final String type)
+   {
+      if (type == null)
+      {
+         return null;
+      }
+      try
+      {
+         TypeParser parser = new TypeParser(ast, type);
+         Type result = parser.type();
+         return parser.atEnd() ? result : null;
+      }
+      catch (IllegalArgumentException e)
+      {
+         return null;
+      }
+   }
+
+   /**
+    * Return a new {@link SimpleName} node of the given {@link AST} for the given identifier, or <code>null</code> if it
+    * is not a valid identifier.
+    */
+   public static SimpleName tryName(final AST ast, final String identifier)
+   {
+      if (identifier == null)
+      {
+         return null;
+      }
+      try
+      {
+         return ast.newSimpleName(identifier.trim());
+      }
+      catch (IllegalArgumentException e)
+      {
+         return null;
+      }
+   }
+
+   private Type type()
+   {
+      String identifier = identifier();
+      Code primitive = PrimitiveType.toCode(identifier);
+      Type result = primitive == null ? classType(identifier) : ast.newPrimitiveType(primitive);
+      int dimensions = 0;
+      while (accept('['))
+      {
+         expect(']');
+         dimensions++;
+      }
+      return dimensions == 0 ? result : ast.newArrayType(result, dimensions);
+   }
+
+   private Type classType(final String identifier)
+   {
+      Name name = ast.newSimpleName(identifier);
+      while (accept('.'))
+      {
+         name = ast.newQualifiedName(name, ast.newSimpleName(identifier()));
+      }
+      Type result = ast.newSimpleType(name);
+      if (accept('<'))
+      {
+         result = typeArguments(result);
+         while (accept('.'))
+         {
+            result = ast.newQualifiedType(result, ast.newSimpleName(identifier()));
+            if (accept('<'))
+            {
+               result = typeArguments(result);
+            }
+         }
+      }
+      return result;
+   }
+
+   @SuppressWarnings("unchecked")
+   private ParameterizedType typeArguments(final Type type)
+   {
+      ParameterizedType result = ast.newParameterizedType(type);
+      do
+      {
+         result.typeArguments().add(typeArgument());
+      }
+      while (accept(','));
+      expect('>');
+      return result;
+   }
+
+   private Type typeArgument()
+   {
+      if (!accept('?'))
+      {
+         return type();
+      }
+      WildcardType result = ast.newWildcardType();
+      int mark = pos;
+      if (!atEnd() && Character.isJavaIdentifierStart(source.charAt(pos)))
+      {
+         String keyword = identifier();
+         if ("extends".equals(keyword) || "super".equals(keyword))
+         {
+            result.setBound(type(), "extends".equals(keyword));
+            return result;
+         }
+         pos = mark;
+      }
+      return result;
+   }
+
+   private String identifier()
+   {
+      skipWhitespace();
+      int start = pos;
+      if (pos < source.length() && Character.isJavaIdentifierStart(source.charAt(pos)))
+      {
+         pos++;
+         while (pos < source.length() && Character.isJavaIdentifierPart(source.charAt(pos)))
+         {
+            pos++;
+         }
+      }
+      if (start == pos)
+      {
+         throw new IllegalArgumentException("Expected identifier at [" + pos + "] in [" + source + "]");
+      }
+      return source.substring(start, pos);
+   }
+
+   private boolean accept(final char c)
+   {
+      skipWhitespace();
+      if (pos < source.length() && source.charAt(pos) == c)
+      {
+         pos++;
+         return true;
+      }
+      return false;
+   }
+
+   private void expect(final char c)
+   {
+      if (!accept(c))
+      {
+         throw new IllegalArgumentException("Expected [" + c + "] at [" + pos + "] in [" + source + "]");
+      }
+   }
+
+   private boolean atEnd()
+   {
+      skipWhitespace();
+      return pos == source.length();
+   }
+
+   private void skipWhitespace()
+   {
+      while (pos < source.length() && Character.isWhitespace(source.charAt(pos)))
+      {
+         pos++;
+      }
+   }
+}
@@ -12,13 +12,13 @@ import java.util.List;
 
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.TypeParameter;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.Type;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.source.TypeVariableSource;
 import org.jboss.forge.roaster.model.util.Assert;
+import org.jboss.forge.roaster.spi.JavaParserImpl;
 
 /**
  * 
@@ -129,8 +129,11 @@ public class TypeVariableImpl<O extends JavaSource<O>> implements TypeVariableSo
       internal.typeBounds().clear();
       for (String s : bounds)
       {
-         org.eclipse.jdt.core.dom.Type copy = (org.eclipse.jdt.core.dom.Type) ASTNode.copySubtree(internal.getAST(),
-                  parseTypeBound(s));
+         org.eclipse.jdt.core.dom.Type copy = TypeParser.tryParse(internal.getAST(), s);
+         if (copy == null)
+         {
+            copy = (org.eclipse.jdt.core.dom.Type) ASTNode.copySubtree(internal.getAST(), parseTypeBound(s));
+         }
          internal.typeBounds().add(copy);
       }
       return this;
@@ -146,7 +149,7 @@ public class TypeVariableImpl<O extends JavaSource<O>> implements TypeVariableSo
    private org.eclipse.jdt.core.dom.Type parseTypeBound(String bound)
    {
       String stub = "public class Stub<T extends " + bound + "> {}";
-      JavaClassSource temp = Roaster.parse(JavaClassSource.class, stub);
+      JavaClassSource temp = JavaParserImpl.parseStub(JavaClassSource.class, stub);
       TypeParameter v = (TypeParameter) temp.getTypeVariables().get(0).getInternal();
       return (org.eclipse.jdt.core.dom.Type) v.typeBounds().get(0);
    }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The name and element values of an annotation, as written in the source, before it is attached to an outline.
+ */
+class AnnotationData
+{
+   static final String DEFAULT_VALUE = "value";
+
+   enum Kind
+   {
+      MARKER, SINGLE, NORMAL
+   }
+
+   private final String name;
+   private final Kind kind;
+   private final List<String> names = new ArrayList<String>();
+   private final List<String> values = new ArrayList<String>();
+
+   AnnotationData(final String name, final Kind kind)
+   {
+      this.name = name;
+      this.kind = kind;
+   }
+
+   void addValue(final String name, final String value)
+   {
+      names.add(name);
+      values.add(value);
+   }
+
+   String getName()
+   {
+      return name;
+   }
+
+   Kind getKind()
+   {
+      return kind;
+   }
+
+   List<String> getNames()
+   {
+      return Collections.unmodifiableList(names);
+   }
+
+   /**
+    * Return the source of the value of the element with the given name, or <code>null</code> if it is not set.
+    */
+   String getValue(final String name)
+   {
+      int index = names.indexOf(name);
+      return index < 0 ? null : values.get(index);
+   }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.Annotation;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.ValuePair;
+import org.jboss.forge.roaster.model.impl.ValuePairImpl;
+import org.jboss.forge.roaster.model.util.Strings;
+
+/**
+ * An annotation of an outline. Literal values are the source of each element value, as written.
+ */
+class OutlineAnnotation<O extends JavaType<O>> implements Annotation<O>
+{
+   private static final Class<?>[] PRIMITIVE_TYPES = { boolean.class, byte.class, short.class, char.class,
+            int.class, long.class, float.class, double.class, void.class };
+
+   private final O origin;
+   private final AnnotationData data;
+
+   OutlineAnnotation(final O origin, final AnnotationData data)
+   {
+      this.origin = origin;
+      this.data = data;
+   }
+
+   @Override
+   public O getOrigin()
+   {
+      return origin;
+   }
+
+   @Override
+   public Object getInternal()
+   {
+      return null;
+   }
+
+   @Override
+   public String getName()
+   {
+      return data.getName();
+   }
+
+   @Override
+   public String getQualifiedName()
+   {
+      return ((OutlineJavaType<?>) origin).resolveType(getName());
+   }
+
+   @Override
+   public boolean isMarker()
+   {
+      return data.getKind() == AnnotationData.Kind.MARKER;
+   }
+
+   @Override
+   public boolean isSingleValue()
+   {
+      return data.getKind() == AnnotationData.Kind.SINGLE;
+   }
+
+   @Override
+   public boolean isNormal()
+   {
+      return data.getKind() == AnnotationData.Kind.NORMAL;
+   }
+
+   @Override
+   public String getLiteralValue()
+   {
+      return getLiteralValue(AnnotationData.DEFAULT_VALUE);
+   }
+
+   @Override
+   public String getLiteralValue(final String name)
+   {
+      return data.getValue(name);
+   }
+
+   @Override
+   public List<ValuePair> getValues()
+   {
+      List<ValuePair> result = new ArrayList<ValuePair>();
+      for (String name : data.getNames())
+      {
+         result.add(new ValuePairImpl(name, data.getValue(name)));
+      }
+      return Collections.unmodifiableList(result);
+   }
+
+   @Override
+   public String getStringValue()
+   {
+      return Strings.unquote(getLiteralValue());
+   }
+
+   @Override
+   public String getStringValue(final String name)
+   {
+      return Strings.unquote(getLiteralValue(name));
+   }
+
+   @Override
+   public String[] getStringArrayValue()
+   {
+      return getStringArrayValue(AnnotationData.DEFAULT_VALUE);
+   }
+
+   @Override
+   public String[] getStringArrayValue(final String name)
+   {
+      List<String> elements = elements(getLiteralValue(name));
+      if (elements == null)
+      {
+         return null;
+      }
+      String[] result = new String[elements.size()];
+      for (int i = 0; i < result.length; i++)
+      {
+         result[i] = Strings.unquote(elements.get(i));
+      }
+      return result;
+   }
+
+   @Override
+   public <T extends Enum<T>> T getEnumValue(final Class<T> type)
+   {
+      return getEnumValue(type, AnnotationData.DEFAULT_VALUE);
+   }
+
+   @Override
+   public <T extends Enum<T>> T getEnumValue(final Class<T> type, final String name)
+   {
+      String value = getLiteralValue(name);
+      return value == null ? null : toEnum(type, value);
+   }
+
+   @Override
+   public <T extends Enum<T>> T[] getEnumArrayValue(final Class<T> type)
+   {
+      return getEnumArrayValue(type, AnnotationData.DEFAULT_VALUE);
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public <T extends Enum<T>> T[] getEnumArrayValue(final Class<T> type, final String name)
+   {
+      List<String> elements = elements(getLiteralValue(name));
+      if (elements == null)
+      {
+         return null;
+      }
+      T[] result = (T[]) Array.newInstance(type, elements.size());
+      for (int i = 0; i < result.length; i++)
+      {
+         result[i] = toEnum(type, elements.get(i));
+      }
+      return result;
+   }
+
+   @Override
+   public Class<?> getClassValue()
+   {
+      return getClassValue(AnnotationData.DEFAULT_VALUE);
+   }
+
+   @Override
+   public Class<?> getClassValue(final String name)
+   {
+      String value = getLiteralValue(name);
+      return value == null ? null : toClass(origin, value);
+   }
+
+   @Override
+   public Class<?>[] getClassArrayValue()
+   {
+      return getClassArrayValue(AnnotationData.DEFAULT_VALUE);
+   }
+
+   @Override
+   public Class<?>[] getClassArrayValue(final String name)
+   {
+      List<String> elements = elements(getLiteralValue(name));
+      if (elements == null)
+      {
+         return null;
+      }
+      Class<?>[] result = new Class<?>[elements.size()];
+      for (int i = 0; i < result.length; i++)
+      {
+         result[i] = toClass(origin, elements.get(i));
+      }
+      return result;
+   }
+
+   @Override
+   public Annotation<O> getAnnotationValue()
+   {
+      return getAnnotationValue(AnnotationData.DEFAULT_VALUE);
+   }
+
+   @Override
+   public Annotation<O> getAnnotationValue(final String name)
+   {
+      return toAnnotation(origin, getLiteralValue(name));
+   }
+
+   @Override
+   public String toString()
+   {
+      StringBuilder result = new StringBuilder("@").append(getName());
+      if (isSingleValue())
+      {
+         result.append('(').append(getLiteralValue()).append(')');
+      }
+      else if (isNormal())
+      {
+         result.append('(');
+         for (String name : data.getNames())
+         {
+            if (result.charAt(result.length() - 1) != '(')
+               result.append(',');
+            result.append(name).append('=').append(data.getValue(name));
+         }
+         result.append(')');
+      }
+      return result.toString();
+   }
+
+   /**
+    * Return the sources of the elements of the given array initializer, or of the given single value, or
+    * <code>null</code> if there is no value.
+    */
+   static List<String> elements(final String value)
+   {
+      if (value == null)
+      {
+         return null;
+      }
+      if (value.startsWith("{") && value.endsWith("}"))
+      {
+         return OutlineParser.split(value.substring(1, value.length() - 1));
+      }
+      return Collections.singletonList(value);
+   }
+
+   static <T extends Enum<T>> T toEnum(final Class<T> type, final String value)
+   {
+      String name = value.substring(value.lastIndexOf('.') + 1).trim();
+      for (T constant : type.getEnumConstants())
+      {
+         if (constant.name().equals(name))
+         {
+            return constant;
+         }
+      }
+      return null;
+   }
+
+   static Class<?> toClass(final JavaType<?> origin, final String value)
+   {
+      String name = value.trim();
+      if (name.endsWith(".class"))
+      {
+         name = name.substring(0, name.length() - ".class".length()).trim();
+      }
+      for (Class<?> type : PRIMITIVE_TYPES)
+      {
+         if (type.getName().equals(name))
+         {
+            return type;
+         }
+      }
+      try
+      {
+         return Class.forName(((OutlineJavaType<?>) origin).resolveType(name));
+      }
+      catch (ClassNotFoundException e)
+      {
+         return null;
+      }
+   }
+
+   static <O extends JavaType<O>> Annotation<O> toAnnotation(final O origin, final String value)
+   {
+      if (value == null || !value.startsWith("@"))
+      {
+         return null;
+      }
+      return new OutlineAnnotation<O>(origin, OutlineParser.parseAnnotation(value));
+   }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.Annotation;
+import org.jboss.forge.roaster.model.AnnotationElement;
+import org.jboss.forge.roaster.model.Type;
+import org.jboss.forge.roaster.model.util.Strings;
+
+/**
+ * An element of an outline annotation type.
+ */
+class OutlineAnnotationElement extends OutlineAnnotationTarget<OutlineJavaAnnotation> implements
+         AnnotationElement<OutlineJavaAnnotation>
+{
+   private final OutlineJavaAnnotation origin;
+   private final Type<OutlineJavaAnnotation> type;
+   private final String name;
+   private final String defaultValue;
+
+   OutlineAnnotationElement(final OutlineJavaAnnotation origin, final OutlineModifiers modifiers,
+            final Type<OutlineJavaAnnotation> type, final String name, final String defaultValue)
+   {
+      super(modifiers);
+      this.origin = origin;
+      this.type = type;
+      this.name = name;
+      this.defaultValue = defaultValue;
+   }
+
+   @Override
+   public OutlineJavaAnnotation getOrigin()
+   {
+      return origin;
+   }
+
+   @Override
+   public String getName()
+   {
+      return name;
+   }
+
+   @Override
+   public Type<OutlineJavaAnnotation> getType()
+   {
+      return type;
+   }
+
+   @Override
+   public ReadDefaultValue<OutlineJavaAnnotation> getDefaultValue()
+   {
+      return new ReadDefaultValue<OutlineJavaAnnotation>()
+      {
+         @Override
+         public String getString()
+         {
+            return Strings.unquote(getLiteral());
+         }
+
+         @Override
+         public String getLiteral()
+         {
+            return defaultValue;
+         }
+
+         @Override
+         public <T extends Enum<T>> T getEnum(final Class<T> type)
+         {
+            return defaultValue == null ? null : OutlineAnnotation.toEnum(type, defaultValue);
+         }
+
+         @Override
+         @SuppressWarnings("unchecked")
+         public <T extends Enum<T>> T[] getEnumArray(final Class<T> type)
+         {
+            List<String> elements = OutlineAnnotation.elements(defaultValue);
+            if (elements == null)
+            {
+               return null;
+            }
+            T[] result = (T[]) Array.newInstance(type, elements.size());
+            for (int i = 0; i < result.length; i++)
+            {
+               result[i] = OutlineAnnotation.toEnum(type, elements.get(i));
+            }
+            return result;
+         }
+
+         @Override
+         public Annotation<OutlineJavaAnnotation> getAnnotation()
+         {
+            return OutlineAnnotation.toAnnotation(origin, defaultValue);
+         }
+
+         @Override
+         public Class<?> getSingleClass()
+         {
+            return defaultValue == null ? null : OutlineAnnotation.toClass(origin, defaultValue);
+         }
+
+         @Override
+         public Class<?>[] getClassArray()
+         {
+            List<String> elements = OutlineAnnotation.elements(defaultValue);
+            if (elements == null)
+            {
+               return null;
+            }
+            Class<?>[] result = new Class<?>[elements.size()];
+            for (int i = 0; i < result.length; i++)
+            {
+               result[i] = OutlineAnnotation.toClass(origin, elements.get(i));
+            }
+            return result;
+         }
+      };
+   }
+
+   @Override
+   public String toString()
+   {
+      return type + " " + name + "()";
+   }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.Annotation;
+import org.jboss.forge.roaster.model.AnnotationTarget;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.Visibility;
+import org.jboss.forge.roaster.model.util.Types;
+
+/**
+ * Base class of the declarations of an outline that carry modifiers and annotations. The {@link Annotation} instances
+ * are only created when they are first requested.
+ */
+abstract class OutlineAnnotationTarget<O extends JavaType<O>> implements AnnotationTarget<O>
+{
+   protected final OutlineModifiers modifiers;
+   private List<Annotation<O>> annotations;
+
+   OutlineAnnotationTarget(final OutlineModifiers modifiers)
+   {
+      this.modifiers = modifiers;
+   }
+
+   @Override
+   public List<? extends Annotation<O>> getAnnotations()
+   {
+      if (annotations == null)
+      {
+         List<Annotation<O>> result = new ArrayList<Annotation<O>>();
+         for (AnnotationData data : modifiers.getAnnotations())
+         {
+            result.add(new OutlineAnnotation<O>(getOrigin(), data));
+         }
+         annotations = Collections.unmodifiableList(result);
+      }
+      return annotations;
+   }
+
+   @Override
+   public boolean hasAnnotation(final Class<? extends java.lang.annotation.Annotation> type)
+   {
+      return getAnnotation(type) != null;
+   }
+
+   @Override
+   public boolean hasAnnotation(final String type)
+   {
+      return getAnnotation(type) != null;
+   }
+
+   @Override
+   public Annotation<O> getAnnotation(final Class<? extends java.lang.annotation.Annotation> type)
+   {
+      return getAnnotation(type.getName());
+   }
+
+   @Override
+   public Annotation<O> getAnnotation(final String type)
+   {
+      for (Annotation<O> annotation : getAnnotations())
+      {
+         if (Types.areEquivalent(type, annotation.getName()))
+         {
+            return annotation;
+         }
+      }
+      return null;
+   }
+
+   public boolean isPackagePrivate()
+   {
+      return modifiers.getVisibility() == Visibility.PACKAGE_PRIVATE;
+   }
+
+   public boolean isPublic()
+   {
+      return modifiers.getVisibility() == Visibility.PUBLIC;
+   }
+
+   public boolean isPrivate()
+   {
+      return modifiers.getVisibility() == Visibility.PRIVATE;
+   }
+
+   public boolean isProtected()
+   {
+      return modifiers.getVisibility() == Visibility.PROTECTED;
+   }
+
+   public Visibility getVisibility()
+   {
+      return modifiers.getVisibility();
+   }
+
+   /**
+    * Outlines are not backed by a syntax tree, so this always returns <code>null</code>.
+    */
+   @Override
+   public Object getInternal()
+   {
+      return null;
+   }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.util.Types;
+
+/**
+ * The source, package and imports shared by every type of an outline.
+ */
+class OutlineContext
+{
+   private final String source;
+   private String pkg;
+   private final List<Import> imports = new ArrayList<Import>();
+
+   OutlineContext(final String source)
+   {
+      this.source = source;
+   }
+
+   String getSource()
+   {
+      return source;
+   }
+
+   String getPackage()
+   {
+      return pkg;
+   }
+
+   void setPackage(final String pkg)
+   {
+      this.pkg = pkg;
+   }
+
+   List<Import> getImports()
+   {
+      return Collections.unmodifiableList(imports);
+   }
+
+   void addImport(final Import imprt)
+   {
+      imports.add(imprt);
+   }
+
+   /**
+    * Resolve the given type name against the imports and package of the outline, the same way
+    * {@link org.jboss.forge.roaster.model.source.Importer#resolveType(String)} does, except that on-demand imports are
+    * not resolved.
+    */
+   String resolveType(final String type)
+   {
+      String result = type;
+      if (Types.isArray(result))
+      {
+         result = Types.stripArray(result);
+      }
+      if (Types.isGeneric(result))
+      {
+         result = Types.stripGenerics(result);
+      }
+      if (Types.isPrimitive(result) || !Types.isSimpleName(result))
+      {
+         return result;
+      }
+      for (Import imprt : imports)
+      {
+         if (!imprt.isWildcard() && result.equals(imprt.getSimpleName()))
+         {
+            return imprt.getQualifiedName();
+         }
+      }
+      if (Types.isJavaLang(result))
+      {
+         return "java.lang." + result;
+      }
+      return pkg == null ? result : pkg + "." + result;
+   }
+}
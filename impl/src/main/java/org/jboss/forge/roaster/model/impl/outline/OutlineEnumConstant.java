@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.EnumConstant;
+
+/**
+ * A constant of an outline enum.
+ */
+class OutlineEnumConstant extends OutlineAnnotationTarget<OutlineJavaEnum> implements EnumConstant<OutlineJavaEnum>
+{
+   private final OutlineJavaEnum origin;
+   private final String name;
+   private final List<String> arguments;
+   private OutlineEnumConstantBody body;
+
+   OutlineEnumConstant(final OutlineJavaEnum origin, final OutlineModifiers modifiers, final String name,
+            final List<String> arguments)
+   {
+      super(modifiers);
+      this.origin = origin;
+      this.name = name;
+      this.arguments = arguments;
+   }
+
+   void setBody(final OutlineEnumConstantBody body)
+   {
+      this.body = body;
+   }
+
+   @Override
+   public OutlineJavaEnum getOrigin()
+   {
+      return origin;
+   }
+
+   @Override
+   public String getName()
+   {
+      return name;
+   }
+
+   @Override
+   public List<String> getConstructorArguments()
+   {
+      return Collections.unmodifiableList(arguments);
+   }
+
+   /**
+    * Return the class body of this constant, or <code>null</code> if it does not have one.
+    */
+   @Override
+   public OutlineEnumConstantBody getBody()
+   {
+      return body;
+   }
+
+   @Override
+   public String toString()
+   {
+      return name;
+   }
+}
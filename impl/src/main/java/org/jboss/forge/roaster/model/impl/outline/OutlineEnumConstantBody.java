@@ -0,0 +1,21 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import org.jboss.forge.roaster.model.EnumConstant.ReadBody;
+
+/**
+ * The outline of the class body of an enum constant.
+ */
+public class OutlineEnumConstantBody extends OutlineMemberHolder<OutlineEnumConstantBody> implements
+         ReadBody<OutlineEnumConstantBody>
+{
+   OutlineEnumConstantBody(final OutlineContext context, final OutlineJavaEnum enclosingType)
+   {
+      super(context, enclosingType, OutlineModifiers.NONE, "");
+   }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.lang.reflect.Modifier;
+
+import org.jboss.forge.roaster.model.Field;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.Type;
+import org.jboss.forge.roaster.model.util.Strings;
+
+/**
+ * A field of an outline. The initializer is the source of the initializer expression, as written.
+ */
+class OutlineField<O extends JavaType<O>> extends OutlineMember<O> implements Field<O>
+{
+   private final Type<O> type;
+   private final String initializer;
+
+   OutlineField(final O origin, final OutlineModifiers modifiers, final Type<O> type, final String name,
+            final String initializer)
+   {
+      super(origin, modifiers, name);
+      this.type = type;
+      this.initializer = initializer;
+   }
+
+   @Override
+   public Type<O> getType()
+   {
+      return type;
+   }
+
+   @Override
+   public String getStringInitializer()
+   {
+      return Strings.unquote(initializer);
+   }
+
+   @Override
+   public String getLiteralInitializer()
+   {
+      return initializer;
+   }
+
+   @Override
+   public boolean isTransient()
+   {
+      return modifiers.is(Modifier.TRANSIENT);
+   }
+
+   @Override
+   public boolean isVolatile()
+   {
+      return modifiers.is(Modifier.VOLATILE);
+   }
+
+   @Override
+   public String toString()
+   {
+      return type + " " + getName() + (initializer == null ? "" : " = " + initializer) + ";";
+   }
+}
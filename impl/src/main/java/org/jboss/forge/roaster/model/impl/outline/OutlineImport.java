@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.util.Types;
+
+/**
+ * An import declaration of an outline. Outlines are read-only, so {@link #setName(String)} and
+ * {@link #setStatic(boolean)} are not supported.
+ */
+class OutlineImport implements Import
+{
+   private final String name;
+   private final boolean isStatic;
+   private final boolean wildcard;
+
+   OutlineImport(final String name, final boolean isStatic, final boolean wildcard)
+   {
+      this.name = name;
+      this.isStatic = isStatic;
+      this.wildcard = wildcard;
+   }
+
+   @Override
+   public String getPackage()
+   {
+      return Types.getPackage(name);
+   }
+
+   @Override
+   public String getSimpleName()
+   {
+      return Types.toSimpleName(name);
+   }
+
+   @Override
+   public String getQualifiedName()
+   {
+      return name;
+   }
+
+   @Override
+   public boolean isStatic()
+   {
+      return isStatic;
+   }
+
+   @Override
+   public boolean isWildcard()
+   {
+      return wildcard;
+   }
+
+   @Override
+   public Import setName(final String name)
+   {
+      throw new UnsupportedOperationException("Outlines are read-only");
+   }
+
+   @Override
+   public Import setStatic(final boolean value)
+   {
+      throw new UnsupportedOperationException("Outlines are read-only");
+   }
+
+   @Override
+   public Object getInternal()
+   {
+      return null;
+   }
+
+   @Override
+   public int hashCode()
+   {
+      return name.hashCode();
+   }
+
+   @Override
+   public boolean equals(final Object obj)
+   {
+      if (this == obj)
+         return true;
+      if (obj == null || getClass() != obj.getClass())
+         return false;
+      return name.equals(((OutlineImport) obj).name);
+   }
+
+   @Override
+   public String toString()
+   {
+      return "Import [" + getQualifiedName() + "]";
+   }
+}
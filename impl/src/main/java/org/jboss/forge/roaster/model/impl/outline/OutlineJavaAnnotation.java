@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.AnnotationElement;
+import org.jboss.forge.roaster.model.JavaAnnotation;
+
+/**
+ * The outline of an annotation type.
+ */
+public class OutlineJavaAnnotation extends OutlineJavaType<OutlineJavaAnnotation> implements
+         JavaAnnotation<OutlineJavaAnnotation>
+{
+   private final List<AnnotationElement<OutlineJavaAnnotation>> elements =
+            new ArrayList<AnnotationElement<OutlineJavaAnnotation>>();
+
+   OutlineJavaAnnotation(final OutlineContext context, final OutlineJavaType<?> enclosingType,
+            final OutlineModifiers modifiers, final String name)
+   {
+      super(context, enclosingType, modifiers, name);
+   }
+
+   void addAnnotationElement(final AnnotationElement<OutlineJavaAnnotation> element)
+   {
+      elements.add(element);
+   }
+
+   @Override
+   public boolean hasAnnotationElement(final String name)
+   {
+      return getAnnotationElement(name) != null;
+   }
+
+   @Override
+   public boolean hasAnnotationElement(final AnnotationElement<?> annotationElement)
+   {
+      return elements.contains(annotationElement);
+   }
+
+   @Override
+   public AnnotationElement<OutlineJavaAnnotation> getAnnotationElement(final String name)
+   {
+      for (AnnotationElement<OutlineJavaAnnotation> element : elements)
+      {
+         if (element.getName().equals(name))
+         {
+            return element;
+         }
+      }
+      return null;
+   }
+
+   @Override
+   public List<? extends AnnotationElement<OutlineJavaAnnotation>> getAnnotationElements()
+   {
+      return Collections.unmodifiableList(elements);
+   }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.lang.reflect.Modifier;
+
+import org.jboss.forge.roaster.model.JavaClass;
+
+/**
+ * The outline of a class.
+ */
+public class OutlineJavaClass extends OutlineMemberHolder<OutlineJavaClass> implements JavaClass<OutlineJavaClass>
+{
+   private String superType;
+
+   OutlineJavaClass(final OutlineContext context, final OutlineJavaType<?> enclosingType,
+            final OutlineModifiers modifiers, final String name)
+   {
+      super(context, enclosingType, modifiers, name);
+   }
+
+   void setSuperType(final String superType)
+   {
+      this.superType = superType;
+   }
+
+   @Override
+   public String getSuperType()
+   {
+      return resolveType(superType == null ? Object.class.getName() : superType);
+   }
+
+   @Override
+   public boolean isAbstract()
+   {
+      return modifiers.is(Modifier.ABSTRACT);
+   }
+}
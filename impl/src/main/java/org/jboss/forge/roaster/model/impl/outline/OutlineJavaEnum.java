@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.EnumConstant;
+import org.jboss.forge.roaster.model.JavaEnum;
+
+/**
+ * The outline of an enum.
+ */
+public class OutlineJavaEnum extends OutlineMemberHolder<OutlineJavaEnum> implements JavaEnum<OutlineJavaEnum>
+{
+   private final List<EnumConstant<OutlineJavaEnum>> constants = new ArrayList<EnumConstant<OutlineJavaEnum>>();
+
+   OutlineJavaEnum(final OutlineContext context, final OutlineJavaType<?> enclosingType,
+            final OutlineModifiers modifiers, final String name)
+   {
+      super(context, enclosingType, modifiers, name);
+   }
+
+   void addEnumConstant(final EnumConstant<OutlineJavaEnum> constant)
+   {
+      constants.add(constant);
+   }
+
+   @Override
+   public EnumConstant<OutlineJavaEnum> getEnumConstant(final String name)
+   {
+      for (EnumConstant<OutlineJavaEnum> constant : constants)
+      {
+         if (constant.getName().equals(name))
+         {
+            return constant;
+         }
+      }
+      return null;
+   }
+
+   @Override
+   public List<? extends EnumConstant<OutlineJavaEnum>> getEnumConstants()
+   {
+      return Collections.unmodifiableList(constants);
+   }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import org.jboss.forge.roaster.model.JavaInterface;
+
+/**
+ * The outline of an interface.
+ */
+public class OutlineJavaInterface extends OutlineMemberHolder<OutlineJavaInterface> implements
+         JavaInterface<OutlineJavaInterface>
+{
+   OutlineJavaInterface(final OutlineContext context, final OutlineJavaType<?> enclosingType,
+            final OutlineModifiers modifiers, final String name)
+   {
+      super(context, enclosingType, modifiers, name);
+   }
+}
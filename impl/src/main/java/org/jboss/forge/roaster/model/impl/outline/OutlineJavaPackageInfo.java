@@ -0,0 +1,21 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import org.jboss.forge.roaster.model.JavaPackageInfo;
+
+/**
+ * The outline of a <code>package-info.java</code> file, carrying the annotations of its package declaration.
+ */
+public class OutlineJavaPackageInfo extends OutlineJavaType<OutlineJavaPackageInfo> implements
+         JavaPackageInfo<OutlineJavaPackageInfo>
+{
+   OutlineJavaPackageInfo(final OutlineContext context, final OutlineModifiers modifiers)
+   {
+      super(context, null, modifiers, "package-info");
+   }
+}
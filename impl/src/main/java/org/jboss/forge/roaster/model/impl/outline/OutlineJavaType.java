@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.JavaAnnotation;
+import org.jboss.forge.roaster.model.JavaClass;
+import org.jboss.forge.roaster.model.JavaEnum;
+import org.jboss.forge.roaster.model.JavaInterface;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.SyntaxError;
+import org.jboss.forge.roaster.model.TypeHolder;
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.util.Strings;
+import org.jboss.forge.roaster.model.util.Types;
+
+/**
+ * Base class of the read-only types produced by {@link OutlineParser}. An outline is built from the tokens of a source
+ * file without a syntax tree: it describes the declarations of the file, but not the bodies of its methods and
+ * initializers.
+ */
+public abstract class OutlineJavaType<O extends JavaType<O>> extends OutlineAnnotationTarget<O> implements
+         JavaType<O>, TypeHolder<O>
+{
+   private final OutlineContext context;
+   private final OutlineJavaType<?> enclosingType;
+   private final String name;
+   private final List<JavaType<?>> nestedTypes = new ArrayList<JavaType<?>>();
+
+   OutlineJavaType(final OutlineContext context, final OutlineJavaType<?> enclosingType,
+            final OutlineModifiers modifiers, final String name)
+   {
+      super(modifiers);
+      this.context = context;
+      this.enclosingType = enclosingType;
+      this.name = name;
+   }
+
+   void addNestedType(final JavaType<?> type)
+   {
+      nestedTypes.add(type);
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public O getOrigin()
+   {
+      return (O) this;
+   }
+
+   @Override
+   public String getName()
+   {
+      return name;
+   }
+
+   @Override
+   public String getPackage()
+   {
+      return context.getPackage();
+   }
+
+   @Override
+   public boolean isDefaultPackage()
+   {
+      return context.getPackage() == null;
+   }
+
+   @Override
+   public String getCanonicalName()
+   {
+      return getName(".");
+   }
+
+   @Override
+   public String getQualifiedName()
+   {
+      return getName("$");
+   }
+
+   private String getName(final String separator)
+   {
+      String result = name;
+      for (OutlineJavaType<?> type = enclosingType; type != null; type = type.enclosingType)
+      {
+         result = type.name + separator + result;
+      }
+      if (!Strings.isNullOrEmpty(getPackage()))
+      {
+         result = getPackage() + "." + result;
+      }
+      return result;
+   }
+
+   @Override
+   public JavaType<?> getEnclosingType()
+   {
+      return enclosingType == null ? this : enclosingType;
+   }
+
+   /**
+    * Return the imports of the source file this type was declared in.
+    */
+   public List<Import> getImports()
+   {
+      return context.getImports();
+   }
+
+   /**
+    * Resolve the given type name as seen from this type: types nested in this type or its enclosing types are
+    * resolved to their canonical names, other names are resolved against the imports and package of the source file.
+    * On-demand imports are not resolved.
+    */
+   public String resolveType(final String type)
+   {
+      String simpleName = Types.stripGenerics(Types.stripArray(type));
+      for (OutlineJavaType<?> scope = this; scope != null; scope = scope.enclosingType)
+      {
+         if (scope.name.equals(simpleName))
+         {
+            return scope.getCanonicalName();
+         }
+         for (JavaType<?> nested : scope.nestedTypes)
+         {
+            if (nested.getName().equals(simpleName))
+            {
+               return nested.getCanonicalName();
+            }
+         }
+      }
+      return context.resolveType(type);
+   }
+
+   /**
+    * Outlines are only produced from sources without syntax errors, so this always returns an empty list.
+    */
+   @Override
+   public List<SyntaxError> getSyntaxErrors()
+   {
+      return Collections.emptyList();
+   }
+
+   @Override
+   public boolean hasSyntaxErrors()
+   {
+      return false;
+   }
+
+   @Override
+   public boolean isClass()
+   {
+      return this instanceof JavaClass;
+   }
+
+   @Override
+   public boolean isEnum()
+   {
+      return this instanceof JavaEnum;
+   }
+
+   @Override
+   public boolean isInterface()
+   {
+      return this instanceof JavaInterface;
+   }
+
+   @Override
+   public boolean isAnnotation()
+   {
+      return this instanceof JavaAnnotation;
+   }
+
+   @Override
+   public List<? extends JavaType<?>> getNestedTypes()
+   {
+      return Collections.unmodifiableList(nestedTypes);
+   }
+
+   @Override
+   @Deprecated
+   public List<? extends JavaType<?>> getNestedClasses()
+   {
+      return getNestedTypes();
+   }
+
+   @Override
+   public boolean hasNestedType(final String name)
+   {
+      return getNestedType(name) != null;
+   }
+
+   @Override
+   public boolean hasNestedType(final JavaType<?> type)
+   {
+      for (JavaType<?> nested : nestedTypes)
+      {
+         if (Strings.areEqual(nested.getQualifiedName(), type.getQualifiedName())
+                  || Strings.areEqual(nested.getName(), type.getName()))
+         {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   @Override
+   public boolean hasNestedType(final Class<?> type)
+   {
+      for (JavaType<?> nested : nestedTypes)
+      {
+         if (Strings.areEqual(nested.getName(), type.getSimpleName())
+                  || Strings.areEqual(nested.getQualifiedName(), type.getName()))
+         {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   @Override
+   public JavaType<?> getNestedType(final String name)
+   {
+      for (JavaType<?> nested : nestedTypes)
+      {
+         if (Strings.areEqual(nested.getName(), name) || Strings.areEqual(nested.getQualifiedName(), name))
+         {
+            return nested;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * Return the source file this type was declared in.
+    */
+   @Override
+   public String toString()
+   {
+      return context.getSource();
+   }
+}
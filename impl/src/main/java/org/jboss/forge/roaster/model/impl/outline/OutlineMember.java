@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.lang.reflect.Modifier;
+
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.Member;
+
+/**
+ * Base class of the fields and methods of an outline.
+ */
+abstract class OutlineMember<O extends JavaType<O>> extends OutlineAnnotationTarget<O> implements Member<O>
+{
+   private final O origin;
+   private final String name;
+
+   OutlineMember(final O origin, final OutlineModifiers modifiers, final String name)
+   {
+      super(modifiers);
+      this.origin = origin;
+      this.name = name;
+   }
+
+   @Override
+   public O getOrigin()
+   {
+      return origin;
+   }
+
+   @Override
+   public String getName()
+   {
+      return name;
+   }
+
+   @Override
+   public boolean isFinal()
+   {
+      return modifiers.is(Modifier.FINAL);
+   }
+
+   @Override
+   public boolean isStatic()
+   {
+      return modifiers.is(Modifier.STATIC);
+   }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.Field;
+import org.jboss.forge.roaster.model.GenericCapable;
+import org.jboss.forge.roaster.model.JavaInterface;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.Member;
+import org.jboss.forge.roaster.model.Method;
+import org.jboss.forge.roaster.model.Parameter;
+import org.jboss.forge.roaster.model.Property;
+import org.jboss.forge.roaster.model.PropertyHolder;
+import org.jboss.forge.roaster.model.TypeVariable;
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.util.Strings;
+import org.jboss.forge.roaster.model.util.Types;
+
+/**
+ * Base class of the outline types that declare fields and methods. Properties are derived from method bodies, which
+ * are not part of an outline, so they are not supported.
+ */
+public abstract class OutlineMemberHolder<O extends JavaType<O>> extends OutlineJavaType<O> implements
+         PropertyHolder<O>, GenericCapable<O>
+{
+   private final List<Member<O>> members = new ArrayList<Member<O>>();
+   private final List<Field<O>> fields = new ArrayList<Field<O>>();
+   private final List<Method<O, ?>> methods = new ArrayList<Method<O, ?>>();
+   private final List<TypeVariable<O>> typeVariables = new ArrayList<TypeVariable<O>>();
+   private final List<String> interfaces = new ArrayList<String>();
+
+   OutlineMemberHolder(final OutlineContext context, final OutlineJavaType<?> enclosingType,
+            final OutlineModifiers modifiers, final String name)
+   {
+      super(context, enclosingType, modifiers, name);
+   }
+
+   void addField(final Field<O> field)
+   {
+      members.add(field);
+      fields.add(field);
+   }
+
+   void addMethod(final Method<O, ?> method)
+   {
+      members.add(method);
+      methods.add(method);
+   }
+
+   void addTypeVariable(final TypeVariable<O> typeVariable)
+   {
+      typeVariables.add(typeVariable);
+   }
+
+   void addInterface(final String type)
+   {
+      interfaces.add(type);
+   }
+
+   @Override
+   public List<? extends Member<O>> getMembers()
+   {
+      return Collections.unmodifiableList(members);
+   }
+
+   @Override
+   public List<? extends Field<O>> getFields()
+   {
+      return Collections.unmodifiableList(fields);
+   }
+
+   @Override
+   public Field<O> getField(final String name)
+   {
+      for (Field<O> field : fields)
+      {
+         if (field.getName().equals(name))
+         {
+            return field;
+         }
+      }
+      return null;
+   }
+
+   @Override
+   public boolean hasField(final String name)
+   {
+      return getField(name) != null;
+   }
+
+   @Override
+   public boolean hasField(final Field<O> field)
+   {
+      return fields.contains(field);
+   }
+
+   @Override
+   public List<? extends Method<O, ?>> getMethods()
+   {
+      return Collections.unmodifiableList(methods);
+   }
+
+   @Override
+   public boolean hasMethod(final Method<O, ?> method)
+   {
+      return methods.contains(method);
+   }
+
+   @Override
+   public boolean hasMethodSignature(final String name)
+   {
+      return hasMethodSignature(name, new String[] {});
+   }
+
+   @Override
+   public boolean hasMethodSignature(final String name, final String... paramTypes)
+   {
+      return getMethod(name, paramTypes) != null;
+   }
+
+   @Override
+   public boolean hasMethodSignature(final String name, final Class<?>... paramTypes)
+   {
+      return getMethod(name, paramTypes) != null;
+   }
+
+   @Override
+   public boolean hasMethodSignature(final Method<?, ?> method)
+   {
+      for (Method<O, ?> local : methods)
+      {
+         if (local.getName().equals(method.getName()))
+         {
+            Iterator<? extends Parameter<O>> localParams = local.getParameters().iterator();
+            for (Parameter<?> methodParam : method.getParameters())
+            {
+               if (localParams.hasNext()
+                        && Strings.areEqual(localParams.next().getType().getName(), methodParam.getType().getName()))
+               {
+                  continue;
+               }
+               return false;
+            }
+            return !localParams.hasNext();
+         }
+      }
+      return false;
+   }
+
+   @Override
+   public Method<O, ?> getMethod(final String name)
+   {
+      for (Method<O, ?> method : methods)
+      {
+         if (method.getName().equals(name) && method.getParameters().isEmpty())
+         {
+            return method;
+         }
+      }
+      return null;
+   }
+
+   @Override
+   public Method<O, ?> getMethod(final String name, final String... paramTypes)
+   {
+      for (Method<O, ?> local : methods)
+      {
+         if (local.getName().equals(name))
+         {
+            List<? extends Parameter<O>> localParams = local.getParameters();
+            if (paramTypes != null && (localParams.isEmpty() || localParams.size() == paramTypes.length))
+            {
+               boolean matches = true;
+               for (int i = 0; i < localParams.size(); i++)
+               {
+                  if (!Types.areEquivalent(localParams.get(i).getType().getName(), paramTypes[i]))
+                  {
+                     matches = false;
+                  }
+               }
+               if (matches)
+                  return local;
+            }
+         }
+      }
+      return null;
+   }
+
+   @Override
+   public Method<O, ?> getMethod(final String name, Class<?>... paramTypes)
+   {
+      if (paramTypes == null)
+      {
+         paramTypes = new Class<?>[] {};
+      }
+
+      String[] types = new String[paramTypes.length];
+      for (int i = 0; i < paramTypes.length; i++)
+      {
+         types[i] = paramTypes[i].getName();
+      }
+
+      return getMethod(name, types);
+   }
+
+   @Override
+   public List<? extends TypeVariable<O>> getTypeVariables()
+   {
+      return Collections.unmodifiableList(typeVariables);
+   }
+
+   @Override
+   public TypeVariable<O> getTypeVariable(final String name)
+   {
+      for (TypeVariable<O> typeVariable : typeVariables)
+      {
+         if (typeVariable.getName().equals(name))
+         {
+            return typeVariable;
+         }
+      }
+      return null;
+   }
+
+   @Override
+   public List<String> getInterfaces()
+   {
+      List<String> result = new ArrayList<String>();
+      for (String name : interfaces)
+      {
+         if (Types.isSimpleName(name))
+         {
+            for (Import imprt : getImports())
+            {
+               if (!imprt.isWildcard() && name.equals(imprt.getSimpleName())
+                        && !Strings.isNullOrEmpty(imprt.getPackage()))
+               {
+                  name = imprt.getPackage() + "." + name;
+                  break;
+               }
+            }
+         }
+         result.add(name);
+      }
+      return result;
+   }
+
+   @Override
+   public boolean hasInterface(final String type)
+   {
+      for (String name : getInterfaces())
+      {
+         if (Types.areEquivalent(name, type))
+         {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   @Override
+   public boolean hasInterface(final Class<?> type)
+   {
+      return hasInterface(type.getName());
+   }
+
+   @Override
+   public boolean hasInterface(final JavaInterface<?> type)
+   {
+      return hasInterface(type.getQualifiedName());
+   }
+
+   @Override
+   public boolean hasProperty(final String name)
+   {
+      throw new UnsupportedOperationException("Properties are not available in an outline");
+   }
+
+   @Override
+   public boolean hasProperty(final Property<O> property)
+   {
+      throw new UnsupportedOperationException("Properties are not available in an outline");
+   }
+
+   @Override
+   public Property<O> getProperty(final String name)
+   {
+      throw new UnsupportedOperationException("Properties are not available in an outline");
+   }
+
+   @Override
+   public List<? extends Property<O>> getProperties()
+   {
+      throw new UnsupportedOperationException("Properties are not available in an outline");
+   }
+}
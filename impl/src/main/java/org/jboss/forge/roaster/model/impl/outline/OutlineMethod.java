@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.Method;
+import org.jboss.forge.roaster.model.Parameter;
+import org.jboss.forge.roaster.model.Type;
+import org.jboss.forge.roaster.model.TypeVariable;
+import org.jboss.forge.roaster.model.Visibility;
+
+/**
+ * A method or constructor of an outline. Method bodies are not part of an outline, so {@link #getBody()} is not
+ * supported.
+ */
+class OutlineMethod<O extends JavaType<O>> extends OutlineMember<O> implements Method<O, OutlineMethod<O>>
+{
+   private final Type<O> returnType;
+   private final List<TypeVariable<O>> typeVariables;
+   private final List<Parameter<O>> parameters = new ArrayList<Parameter<O>>();
+   private final List<String> thrownExceptions = new ArrayList<String>();
+
+   OutlineMethod(final O origin, final OutlineModifiers modifiers, final List<TypeVariable<O>> typeVariables,
+            final Type<O> returnType, final String name)
+   {
+      super(origin, modifiers, name);
+      this.typeVariables = typeVariables;
+      this.returnType = returnType;
+   }
+
+   void addParameter(final Parameter<O> parameter)
+   {
+      parameters.add(parameter);
+   }
+
+   void addThrownException(final String type)
+   {
+      thrownExceptions.add(type);
+   }
+
+   @Override
+   public String getBody()
+   {
+      throw new UnsupportedOperationException("Method bodies are not part of an outline");
+   }
+
+   @Override
+   public boolean isConstructor()
+   {
+      return returnType == null;
+   }
+
+   @Override
+   public Type<O> getReturnType()
+   {
+      return returnType;
+   }
+
+   @Override
+   public boolean isReturnTypeVoid()
+   {
+      return returnType != null && returnType.isType(Void.TYPE);
+   }
+
+   @Override
+   public List<? extends Parameter<O>> getParameters()
+   {
+      return Collections.unmodifiableList(parameters);
+   }
+
+   @Override
+   public List<String> getThrownExceptions()
+   {
+      return Collections.unmodifiableList(thrownExceptions);
+   }
+
+   @Override
+   public boolean isAbstract()
+   {
+      return modifiers.is(Modifier.ABSTRACT);
+   }
+
+   @Override
+   public List<? extends TypeVariable<O>> getTypeVariables()
+   {
+      return Collections.unmodifiableList(typeVariables);
+   }
+
+   @Override
+   public TypeVariable<O> getTypeVariable(final String name)
+   {
+      for (TypeVariable<O> typeVariable : typeVariables)
+      {
+         if (typeVariable.getName().equals(name))
+         {
+            return typeVariable;
+         }
+      }
+      return null;
+   }
+
+   @Override
+   public String toSignature()
+   {
+      StringBuilder signature = new StringBuilder();
+      if (getVisibility() != Visibility.PACKAGE_PRIVATE)
+      {
+         signature.append(getVisibility().scope());
+      }
+      signature.append(' ').append(getName()).append('(');
+      for (int i = 0; i < parameters.size(); i++)
+      {
+         if (i > 0)
+            signature.append(", ");
+         signature.append(parameters.get(i).getType().getName());
+      }
+      signature.append(") : ").append(returnType == null ? "void" : returnType.getName());
+      return signature.toString();
+   }
+
+   @Override
+   public String toString()
+   {
+      return toSignature();
+   }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.Visibility;
+
+/**
+ * The modifier keywords, as {@link Modifier} flags, and annotations of a declaration.
+ */
+class OutlineModifiers
+{
+   static final OutlineModifiers NONE = new OutlineModifiers(0, Collections.<AnnotationData> emptyList());
+
+   private final int flags;
+   private final List<AnnotationData> annotations;
+
+   OutlineModifiers(final int flags, final List<AnnotationData> annotations)
+   {
+      this.flags = flags;
+      this.annotations = annotations.isEmpty() ? Collections.<AnnotationData> emptyList()
+               : new ArrayList<AnnotationData>(annotations);
+   }
+
+   boolean is(final int flag)
+   {
+      return (flags & flag) != 0;
+   }
+
+   List<AnnotationData> getAnnotations()
+   {
+      return annotations;
+   }
+
+   Visibility getVisibility()
+   {
+      if (is(Modifier.PUBLIC))
+         return Visibility.PUBLIC;
+      if (is(Modifier.PROTECTED))
+         return Visibility.PROTECTED;
+      if (is(Modifier.PRIVATE))
+         return Visibility.PRIVATE;
+      return Visibility.PACKAGE_PRIVATE;
+   }
+}
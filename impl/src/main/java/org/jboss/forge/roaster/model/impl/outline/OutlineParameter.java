@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.Parameter;
+import org.jboss.forge.roaster.model.Type;
+
+/**
+ * A method parameter of an outline.
+ */
+class OutlineParameter<O extends JavaType<O>> extends OutlineAnnotationTarget<O> implements Parameter<O>
+{
+   private final O origin;
+   private final Type<O> type;
+   private final String name;
+
+   OutlineParameter(final O origin, final OutlineModifiers modifiers, final Type<O> type, final String name)
+   {
+      super(modifiers);
+      this.origin = origin;
+      this.type = type;
+      this.name = name;
+   }
+
+   @Override
+   public O getOrigin()
+   {
+      return origin;
+   }
+
+   @Override
+   public String getName()
+   {
+      return name;
+   }
+
+   @Override
+   public Type<O> getType()
+   {
+      return type;
+   }
+
+   @Override
+   public String toString()
+   {
+      return type + " " + name;
+   }
+}
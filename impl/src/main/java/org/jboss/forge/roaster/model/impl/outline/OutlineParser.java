@@ -0,0 +1,913 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import static org.eclipse.jdt.internal.compiler.parser.TerminalTokens.*;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.jboss.forge.roaster.ParserException;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.JavaUnit;
+import org.jboss.forge.roaster.model.Type;
+import org.jboss.forge.roaster.model.TypeVariable;
+import org.jboss.forge.roaster.model.impl.JavaUnitImpl;
+
+/**
+ * Builds outlines from Java source. The source is split into tokens by the JDT {@link Scanner}, and the declarations
+ * are read from the tokens by a recursive descent parser; no syntax tree is built. Method bodies and initializer
+ * blocks are skipped, and field initializers, annotation values and enum constant arguments are kept as source text.
+ * Source that cannot be read causes a {@link ParserException}.
+ */
+public final class OutlineParser
+{
+   private final char[] source;
+   private int[] kinds = new int[256];
+   private int[] starts = new int[256];
+   private int[] ends = new int[256];
+   private int count;
+   private int pos;
+   private int split;
+   private OutlineContext context;
+
+   private OutlineParser(final char[] source)
+   {
+      this.source = source;
+      Scanner scanner = new Scanner(false, false, false, ClassFileConstants.JDK1_7, null, null, true);
+      scanner.setSource(source);
+      try
+      {
+         int kind;
+         do
+         {
+            kind = scanner.getNextToken();
+            add(kind, scanner.getCurrentTokenStartPosition(), scanner.getCurrentTokenEndPosition());
+         }
+         while (kind != TokenNameEOF);
+      }
+      catch (InvalidInputException e)
+      {
+         throw new ParserException("Could not read outline of Java source: " + e.getMessage(), e);
+      }
+   }
+
+   /**
+    * Read the outline of the given Java source.
+    *
+    * @throws ParserException if the source does not declare a type or package, or cannot be read
+    */
+   public static JavaUnit parse(final char[] source)
+   {
+      OutlineParser parser = new OutlineParser(source);
+      parser.context = new OutlineContext(new String(source));
+      return parser.unit();
+   }
+
+   /**
+    * Split the given source of a comma separated list of expressions, such as the elements of an array initializer,
+    * into the source of each expression.
+    */
+   static List<String> split(final String value)
+   {
+      OutlineParser parser = new OutlineParser(value.toCharArray());
+      List<String> result = new ArrayList<String>();
+      while (parser.peek() != TokenNameEOF)
+      {
+         result.add(parser.expression());
+         if (!parser.accept(TokenNameCOMMA))
+         {
+            break;
+         }
+      }
+      return result;
+   }
+
+   /**
+    * Read the given source of an annotation.
+    */
+   static AnnotationData parseAnnotation(final String value)
+   {
+      return new OutlineParser(value.toCharArray()).annotation();
+   }
+
+   /*
+    * Declarations
+    */
+   private JavaUnit unit()
+   {
+      OutlineModifiers packageModifiers = modifiers();
+      if (accept(TokenNamepackage))
+      {
+         context.setPackage(qualifiedName());
+         expect(TokenNameSEMICOLON);
+      }
+      else
+      {
+         packageModifiers = OutlineModifiers.NONE;
+         pos = 0;
+      }
+
+      while (accept(TokenNameimport))
+      {
+         boolean isStatic = accept(TokenNamestatic);
+         boolean wildcard = false;
+         StringBuilder name = new StringBuilder(identifier());
+         while (accept(TokenNameDOT))
+         {
+            if (accept(TokenNameMULTIPLY))
+            {
+               wildcard = true;
+               break;
+            }
+            name.append('.').append(identifier());
+         }
+         expect(TokenNameSEMICOLON);
+         context.addImport(new OutlineImport(name.toString(), isStatic, wildcard));
+      }
+
+      List<JavaType<?>> types = new ArrayList<JavaType<?>>();
+      while (peek() != TokenNameEOF)
+      {
+         if (!accept(TokenNameSEMICOLON))
+         {
+            types.add(typeDeclaration(null, modifiers()));
+         }
+      }
+      if (types.isEmpty() && context.getPackage() != null)
+      {
+         types.add(new OutlineJavaPackageInfo(context, packageModifiers));
+      }
+      if (types.isEmpty())
+      {
+         throw new ParserException("Could not find type declaration in Java source - is this actually code?");
+      }
+      return new JavaUnitImpl(types);
+   }
+
+   private OutlineJavaType<?> typeDeclaration(final OutlineJavaType<?> enclosingType, final OutlineModifiers modifiers)
+   {
+      switch (peek())
+      {
+      case TokenNameclass:
+      {
+         pos++;
+         OutlineJavaClass type = new OutlineJavaClass(context, enclosingType, modifiers, identifier());
+         for (TypeVariable<OutlineJavaClass> typeVariable : typeParameters(type))
+         {
+            type.addTypeVariable(typeVariable);
+         }
+         if (accept(TokenNameextends))
+         {
+            type.setSuperType(type(type, null).toString());
+         }
+         if (accept(TokenNameimplements))
+         {
+            interfaces(type);
+         }
+         classBody(type);
+         return type;
+      }
+      case TokenNameinterface:
+      {
+         pos++;
+         OutlineJavaInterface type = new OutlineJavaInterface(context, enclosingType, modifiers, identifier());
+         for (TypeVariable<OutlineJavaInterface> typeVariable : typeParameters(type))
+         {
+            type.addTypeVariable(typeVariable);
+         }
+         if (accept(TokenNameextends))
+         {
+            interfaces(type);
+         }
+         classBody(type);
+         return type;
+      }
+      case TokenNameenum:
+      {
+         pos++;
+         OutlineJavaEnum type = new OutlineJavaEnum(context, enclosingType, modifiers, identifier());
+         if (accept(TokenNameimplements))
+         {
+            interfaces(type);
+         }
+         enumBody(type);
+         return type;
+      }
+      case TokenNameAT:
+      {
+         pos++;
+         expect(TokenNameinterface);
+         OutlineJavaAnnotation type = new OutlineJavaAnnotation(context, enclosingType, modifiers, identifier());
+         annotationBody(type);
+         return type;
+      }
+      default:
+         throw error();
+      }
+   }
+
+   private <O extends JavaType<O>> void interfaces(final OutlineMemberHolder<O> holder)
+   {
+      do
+      {
+         holder.addInterface(type(holder.getOrigin(), null).toString());
+      }
+      while (accept(TokenNameCOMMA));
+   }
+
+   private <O extends JavaType<O>> void classBody(final OutlineMemberHolder<O> holder)
+   {
+      expect(TokenNameLBRACE);
+      while (!accept(TokenNameRBRACE))
+      {
+         member(holder);
+      }
+   }
+
+   private void enumBody(final OutlineJavaEnum holder)
+   {
+      expect(TokenNameLBRACE);
+      while (peek() != TokenNameSEMICOLON && peek() != TokenNameRBRACE)
+      {
+         OutlineModifiers modifiers = modifiers();
+         String name = identifier();
+         List<String> arguments = new ArrayList<String>();
+         if (accept(TokenNameLPAREN) && !accept(TokenNameRPAREN))
+         {
+            do
+            {
+               arguments.add(expression());
+            }
+            while (accept(TokenNameCOMMA));
+            expect(TokenNameRPAREN);
+         }
+         OutlineEnumConstant constant = new OutlineEnumConstant(holder, modifiers, name, arguments);
+         if (peek() == TokenNameLBRACE)
+         {
+            OutlineEnumConstantBody body = new OutlineEnumConstantBody(context, holder);
+            classBody(body);
+            constant.setBody(body);
+         }
+         holder.addEnumConstant(constant);
+         if (!accept(TokenNameCOMMA))
+         {
+            break;
+         }
+      }
+      if (accept(TokenNameSEMICOLON))
+      {
+         while (!accept(TokenNameRBRACE))
+         {
+            member(holder);
+         }
+      }
+      else
+      {
+         expect(TokenNameRBRACE);
+      }
+   }
+
+   private void annotationBody(final OutlineJavaAnnotation holder)
+   {
+      expect(TokenNameLBRACE);
+      while (!accept(TokenNameRBRACE))
+      {
+         if (accept(TokenNameSEMICOLON))
+         {
+            continue;
+         }
+         OutlineModifiers modifiers = modifiers();
+         if (isTypeDeclaration())
+         {
+            holder.addNestedType(typeDeclaration(holder, modifiers));
+            continue;
+         }
+         OutlineType<OutlineJavaAnnotation> type = type(holder, null);
+         String name = identifier();
+         if (accept(TokenNameLPAREN))
+         {
+            expect(TokenNameRPAREN);
+            type.addDimensions(dimensions());
+            String defaultValue = accept(TokenNamedefault) ? expression() : null;
+            expect(TokenNameSEMICOLON);
+            holder.addAnnotationElement(new OutlineAnnotationElement(holder, modifiers, type, name, defaultValue));
+         }
+         else
+         {
+            // constants are not part of the annotation type model
+            while (true)
+            {
+               dimensions();
+               if (accept(TokenNameEQUAL))
+               {
+                  expression();
+               }
+               if (!accept(TokenNameCOMMA))
+               {
+                  break;
+               }
+               identifier();
+            }
+            expect(TokenNameSEMICOLON);
+         }
+      }
+   }
+
+   private <O extends JavaType<O>> void member(final OutlineMemberHolder<O> holder)
+   {
+      if (accept(TokenNameSEMICOLON))
+      {
+         return;
+      }
+      OutlineModifiers modifiers = modifiers();
+      if (peek() == TokenNameLBRACE)
+      {
+         skipBlock();
+         return;
+      }
+      if (isTypeDeclaration())
+      {
+         holder.addNestedType(typeDeclaration(holder, modifiers));
+         return;
+      }
+
+      O origin = holder.getOrigin();
+      List<TypeVariable<O>> typeVariables = typeParameters(origin);
+      if (peek() == TokenNameIdentifier && peek(1) == TokenNameLPAREN)
+      {
+         OutlineMethod<O> constructor = new OutlineMethod<O>(origin, modifiers, typeVariables, null, identifier());
+         method(constructor, null);
+         holder.addMethod(constructor);
+         return;
+      }
+
+      int typeStart = pos;
+      OutlineType<O> type = type(origin, null);
+      String name = identifier();
+      if (peek() == TokenNameLPAREN)
+      {
+         OutlineMethod<O> method = new OutlineMethod<O>(origin, modifiers, typeVariables, type, name);
+         method(method, type);
+         holder.addMethod(method);
+         return;
+      }
+
+      while (true)
+      {
+         OutlineType<O> fieldType = type;
+         int dimensions = dimensions();
+         if (dimensions > 0)
+         {
+            int end = pos;
+            pos = typeStart;
+            fieldType = type(origin, null);
+            fieldType.addDimensions(dimensions);
+            pos = end;
+         }
+         String initializer = accept(TokenNameEQUAL) ? expression() : null;
+         holder.addField(new OutlineField<O>(origin, modifiers, fieldType, name, initializer));
+         if (!accept(TokenNameCOMMA))
+         {
+            break;
+         }
+         name = identifier();
+      }
+      expect(TokenNameSEMICOLON);
+   }
+
+   private <O extends JavaType<O>> void method(final OutlineMethod<O> method, final OutlineType<O> returnType)
+   {
+      O origin = method.getOrigin();
+      expect(TokenNameLPAREN);
+      if (!accept(TokenNameRPAREN))
+      {
+         do
+         {
+            OutlineModifiers modifiers = modifiers();
+            OutlineType<O> type = type(origin, null);
+            accept(TokenNameELLIPSIS);
+            String name = identifier();
+            type.addDimensions(dimensions());
+            method.addParameter(new OutlineParameter<O>(origin, modifiers, type, name));
+         }
+         while (accept(TokenNameCOMMA));
+         expect(TokenNameRPAREN);
+      }
+      int dimensions = dimensions();
+      if (returnType != null)
+      {
+         returnType.addDimensions(dimensions);
+      }
+      if (accept(TokenNamethrows))
+      {
+         do
+         {
+            method.addThrownException(type(origin, null).toString());
+         }
+         while (accept(TokenNameCOMMA));
+      }
+      if (peek() == TokenNameLBRACE)
+      {
+         skipBlock();
+      }
+      else
+      {
+         expect(TokenNameSEMICOLON);
+      }
+   }
+
+   private OutlineModifiers modifiers()
+   {
+      int flags = 0;
+      List<AnnotationData> annotations = Collections.emptyList();
+      while (true)
+      {
+         switch (peek())
+         {
+         case TokenNamepublic:
+            flags |= Modifier.PUBLIC;
+            break;
+         case TokenNameprotected:
+            flags |= Modifier.PROTECTED;
+            break;
+         case TokenNameprivate:
+            flags |= Modifier.PRIVATE;
+            break;
+         case TokenNamestatic:
+            flags |= Modifier.STATIC;
+            break;
+         case TokenNamefinal:
+            flags |= Modifier.FINAL;
+            break;
+         case TokenNameabstract:
+            flags |= Modifier.ABSTRACT;
+            break;
+         case TokenNamenative:
+            flags |= Modifier.NATIVE;
+            break;
+         case TokenNamesynchronized:
+            flags |= Modifier.SYNCHRONIZED;
+            break;
+         case TokenNametransient:
+            flags |= Modifier.TRANSIENT;
+            break;
+         case TokenNamevolatile:
+            flags |= Modifier.VOLATILE;
+            break;
+         case TokenNamestrictfp:
+            flags |= Modifier.STRICT;
+            break;
+         case TokenNameAT:
+            if (peek(1) == TokenNameinterface)
+            {
+               return modifiers(flags, annotations);
+            }
+            if (annotations.isEmpty())
+            {
+               annotations = new ArrayList<AnnotationData>();
+            }
+            annotations.add(annotation());
+            continue;
+         default:
+            return modifiers(flags, annotations);
+         }
+         pos++;
+      }
+   }
+
+   private static OutlineModifiers modifiers(final int flags, final List<AnnotationData> annotations)
+   {
+      return flags == 0 && annotations.isEmpty() ? OutlineModifiers.NONE : new OutlineModifiers(flags, annotations);
+   }
+
+   private AnnotationData annotation()
+   {
+      expect(TokenNameAT);
+      String name = qualifiedName();
+      if (!accept(TokenNameLPAREN))
+      {
+         return new AnnotationData(name, AnnotationData.Kind.MARKER);
+      }
+      AnnotationData result;
+      if (peek() == TokenNameRPAREN || (peek() == TokenNameIdentifier && peek(1) == TokenNameEQUAL))
+      {
+         result = new AnnotationData(name, AnnotationData.Kind.NORMAL);
+         while (peek() == TokenNameIdentifier)
+         {
+            String element = identifier();
+            expect(TokenNameEQUAL);
+            result.addValue(element, expression());
+            if (!accept(TokenNameCOMMA))
+            {
+               break;
+            }
+         }
+      }
+      else
+      {
+         result = new AnnotationData(name, AnnotationData.Kind.SINGLE);
+         result.addValue(AnnotationData.DEFAULT_VALUE, expression());
+      }
+      expect(TokenNameRPAREN);
+      return result;
+   }
+
+   /*
+    * Types
+    */
+   private <O extends JavaType<O>> List<TypeVariable<O>> typeParameters(final O origin)
+   {
+      List<TypeVariable<O>> result = new ArrayList<TypeVariable<O>>();
+      if (accept(TokenNameLESS))
+      {
+         do
+         {
+            modifiers();
+            OutlineTypeVariable<O> typeVariable = new OutlineTypeVariable<O>(origin, identifier());
+            if (accept(TokenNameextends))
+            {
+               do
+               {
+                  typeVariable.addBound(type(origin, null));
+               }
+               while (accept(TokenNameAND));
+            }
+            result.add(typeVariable);
+         }
+         while (accept(TokenNameCOMMA));
+         expectGreater();
+      }
+      return result;
+   }
+
+   private <O extends JavaType<O>> OutlineType<O> type(final O origin, final Type<O> parent)
+   {
+      modifiers();
+      OutlineType<O> result = new OutlineType<O>(origin, parent);
+      StringBuilder text = new StringBuilder();
+      if (accept(TokenNameQUESTION))
+      {
+         result.setWildcard(true);
+         text.append('?');
+         if (peek() == TokenNameextends || peek() == TokenNamesuper)
+         {
+            text.append(' ').append(text(pos++)).append(' ').append(type(origin, result));
+         }
+         result.setSource(text.toString());
+         return result;
+      }
+
+      if (isPrimitive(peek()))
+      {
+         result.setPrimitive(true);
+         text.append(text(pos++));
+      }
+      else
+      {
+         text.append(identifier());
+         while (true)
+         {
+            if (peek() == TokenNameLESS)
+            {
+               pos++;
+               text.append('<');
+               while (true)
+               {
+                  OutlineType<O> argument = type(origin, result);
+                  result.addArgument(argument);
+                  text.append(argument);
+                  if (!accept(TokenNameCOMMA))
+                  {
+                     break;
+                  }
+                  text.append(',');
+               }
+               expectGreater();
+               text.append('>');
+            }
+            if (split == 0 && peek() == TokenNameDOT && peek(1) == TokenNameIdentifier)
+            {
+               pos++;
+               if (result.isParameterized())
+               {
+                  result.setQualified(true);
+                  result.clearArguments();
+               }
+               text.append('.').append(identifier());
+               continue;
+            }
+            break;
+         }
+      }
+      result.setSource(text.toString());
+      if (split == 0)
+      {
+         result.addDimensions(dimensions());
+      }
+      return result;
+   }
+
+   private int dimensions()
+   {
+      int result = 0;
+      while (peek() == TokenNameLBRACKET && peek(1) == TokenNameRBRACKET)
+      {
+         pos += 2;
+         result++;
+      }
+      return result;
+   }
+
+   /**
+    * Consume a <code>&gt;</code> closing a list of type arguments, which the scanner may have merged with the
+    * following ones into a single shift operator token.
+    */
+   private void expectGreater()
+   {
+      int width;
+      switch (peek())
+      {
+      case TokenNameGREATER:
+         width = 1;
+         break;
+      case TokenNameRIGHT_SHIFT:
+         width = 2;
+         break;
+      case TokenNameUNSIGNED_RIGHT_SHIFT:
+         width = 3;
+         break;
+      default:
+         throw error();
+      }
+      if (++split == width)
+      {
+         split = 0;
+         pos++;
+      }
+   }
+
+   private static boolean isPrimitive(final int kind)
+   {
+      switch (kind)
+      {
+      case TokenNameboolean:
+      case TokenNamebyte:
+      case TokenNamechar:
+      case TokenNameshort:
+      case TokenNameint:
+      case TokenNamelong:
+      case TokenNamefloat:
+      case TokenNamedouble:
+      case TokenNamevoid:
+         return true;
+      default:
+         return false;
+      }
+   }
+
+   private boolean isTypeDeclaration()
+   {
+      switch (peek())
+      {
+      case TokenNameclass:
+      case TokenNameinterface:
+      case TokenNameenum:
+         return true;
+      case TokenNameAT:
+         return peek(1) == TokenNameinterface;
+      default:
+         return false;
+      }
+   }
+
+   /*
+    * Skipped source
+    */
+   private void skipBlock()
+   {
+      expect(TokenNameLBRACE);
+      int depth = 1;
+      while (depth > 0)
+      {
+         switch (peek())
+         {
+         case TokenNameLBRACE:
+            depth++;
+            break;
+         case TokenNameRBRACE:
+            depth--;
+            break;
+         case TokenNameEOF:
+            throw error();
+         }
+         pos++;
+      }
+   }
+
+   /**
+    * Skip an expression, ending before a comma, semicolon or closing bracket that is not nested in it, and return its
+    * source.
+    */
+   private String expression()
+   {
+      int start = pos;
+      int depth = 0;
+      while (true)
+      {
+         switch (peek())
+         {
+         case TokenNameLPAREN:
+         case TokenNameLBRACKET:
+         case TokenNameLBRACE:
+            depth++;
+            break;
+         case TokenNameRPAREN:
+         case TokenNameRBRACKET:
+         case TokenNameRBRACE:
+            if (depth == 0)
+            {
+               return text(start, pos);
+            }
+            depth--;
+            break;
+         case TokenNameCOMMA:
+         case TokenNameSEMICOLON:
+            if (depth == 0)
+            {
+               return text(start, pos);
+            }
+            break;
+         case TokenNameLESS:
+         {
+            int end = typeArgumentsEnd(pos);
+            if (end > 0)
+            {
+               pos = end;
+               continue;
+            }
+            break;
+         }
+         case TokenNameEOF:
+            if (depth == 0)
+            {
+               return text(start, pos);
+            }
+            throw error();
+         }
+         pos++;
+      }
+   }
+
+   /**
+    * Return the index of the token following the type arguments starting at the given index, or -1 if the tokens at
+    * the given index cannot be type arguments, so that commas in <code>new HashMap&lt;K, V&gt;()</code> are not taken
+    * as the end of an expression.
+    */
+   private int typeArgumentsEnd(final int index)
+   {
+      int depth = 0;
+      for (int i = index; i < count; i++)
+      {
+         switch (kinds[i])
+         {
+         case TokenNameLESS:
+            depth++;
+            break;
+         case TokenNameGREATER:
+            depth--;
+            break;
+         case TokenNameRIGHT_SHIFT:
+            depth -= 2;
+            break;
+         case TokenNameUNSIGNED_RIGHT_SHIFT:
+            depth -= 3;
+            break;
+         case TokenNameIdentifier:
+         case TokenNameDOT:
+         case TokenNameCOMMA:
+         case TokenNameQUESTION:
+         case TokenNameextends:
+         case TokenNamesuper:
+         case TokenNameAND:
+         case TokenNameLBRACKET:
+         case TokenNameRBRACKET:
+            break;
+         default:
+            if (!isPrimitive(kinds[i]))
+            {
+               return -1;
+            }
+         }
+         if (depth == 0)
+         {
+            return i + 1;
+         }
+         if (depth < 0)
+         {
+            return -1;
+         }
+      }
+      return -1;
+   }
+
+   /*
+    * Tokens
+    */
+   private void add(final int kind, final int start, final int end)
+   {
+      if (count == kinds.length)
+      {
+         int length = count * 2;
+         kinds = Arrays.copyOf(kinds, length);
+         starts = Arrays.copyOf(starts, length);
+         ends = Arrays.copyOf(ends, length);
+      }
+      kinds[count] = kind;
+      starts[count] = start;
+      ends[count] = end;
+      count++;
+   }
+
+   private int peek()
+   {
+      return kinds[pos];
+   }
+
+   private int peek(final int ahead)
+   {
+      return kinds[Math.min(pos + ahead, count - 1)];
+   }
+
+   private boolean accept(final int kind)
+   {
+      if (split == 0 && kinds[pos] == kind)
+      {
+         pos++;
+         return true;
+      }
+      return false;
+   }
+
+   private void expect(final int kind)
+   {
+      if (!accept(kind))
+      {
+         throw error();
+      }
+   }
+
+   private String identifier()
+   {
+      if (peek() != TokenNameIdentifier)
+      {
+         throw error();
+      }
+      return text(pos++);
+   }
+
+   private String qualifiedName()
+   {
+      StringBuilder result = new StringBuilder(identifier());
+      while (peek() == TokenNameDOT && peek(1) == TokenNameIdentifier)
+      {
+         pos++;
+         result.append('.').append(identifier());
+      }
+      return result.toString();
+   }
+
+   private String text(final int index)
+   {
+      return new String(source, starts[index], ends[index] - starts[index] + 1);
+   }
+
+   private String text(final int start, final int end)
+   {
+      if (start == end)
+      {
+         throw error();
+      }
+      return new String(source, starts[start], ends[end - 1] - starts[start] + 1);
+   }
+
+   private ParserException error()
+   {
+      if (peek() == TokenNameEOF)
+      {
+         return new ParserException("Could not read outline of Java source: unexpected end of source");
+      }
+      return new ParserException("Could not read outline of Java source: unexpected [" + text(pos) + "] at offset "
+               + starts[pos]);
+   }
+}
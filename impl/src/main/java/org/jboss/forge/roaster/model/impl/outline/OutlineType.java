@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.Type;
+import org.jboss.forge.roaster.model.util.Strings;
+import org.jboss.forge.roaster.model.util.Types;
+
+/**
+ * A type reference of an outline, such as the type of a field or parameter.
+ */
+class OutlineType<O extends JavaType<O>> implements Type<O>
+{
+   private final O origin;
+   private final Type<O> parent;
+   private final List<Type<O>> arguments = new ArrayList<Type<O>>();
+   private String source;
+   private int dimensions;
+   private boolean primitive;
+   private boolean qualified;
+   private boolean wildcard;
+
+   OutlineType(final O origin, final Type<O> parent)
+   {
+      this.origin = origin;
+      this.parent = parent;
+   }
+
+   void setSource(final String source)
+   {
+      this.source = source;
+   }
+
+   void addArgument(final Type<O> argument)
+   {
+      arguments.add(argument);
+   }
+
+   void clearArguments()
+   {
+      arguments.clear();
+   }
+
+   void addDimensions(final int dimensions)
+   {
+      this.dimensions += dimensions;
+   }
+
+   void setPrimitive(final boolean primitive)
+   {
+      this.primitive = primitive;
+   }
+
+   void setQualified(final boolean qualified)
+   {
+      this.qualified = qualified;
+   }
+
+   void setWildcard(final boolean wildcard)
+   {
+      this.wildcard = wildcard;
+   }
+
+   @Override
+   public O getOrigin()
+   {
+      return origin;
+   }
+
+   @Override
+   public List<Type<O>> getTypeArguments()
+   {
+      return Collections.unmodifiableList(arguments);
+   }
+
+   @Override
+   public String getName()
+   {
+      String result = isParameterized() ? Types.stripGenerics(source) : source;
+      for (int i = 0; i < dimensions; i++)
+      {
+         result += "[]";
+      }
+      return result;
+   }
+
+   @Override
+   public String getQualifiedName()
+   {
+      return ((OutlineJavaType<?>) origin).resolveType(toString());
+   }
+
+   @Override
+   public Type<O> getParentType()
+   {
+      return parent;
+   }
+
+   @Override
+   public boolean isArray()
+   {
+      return dimensions > 0;
+   }
+
+   @Override
+   public int getArrayDimensions()
+   {
+      return dimensions;
+   }
+
+   @Override
+   public boolean isParameterized()
+   {
+      return !arguments.isEmpty();
+   }
+
+   @Override
+   public boolean isPrimitive()
+   {
+      return primitive;
+   }
+
+   @Override
+   public boolean isQualified()
+   {
+      return qualified;
+   }
+
+   @Override
+   public boolean isWildcard()
+   {
+      return wildcard;
+   }
+
+   @Override
+   public boolean isType(final Class<?> type)
+   {
+      String qualifiedName = getQualifiedName();
+      if (Strings.areEqual(type.getName(), qualifiedName))
+      {
+         return true;
+      }
+      return isPrimitive() && type.isPrimitive() && type.getSimpleName().equals(getName());
+   }
+
+   @Override
+   public boolean isType(final String name)
+   {
+      String qualifiedName = getQualifiedName();
+      if (Strings.areEqual(name, qualifiedName))
+      {
+         return true;
+      }
+      return Types.areEquivalent(name, qualifiedName) && !Types.isQualified(name);
+   }
+
+   @Override
+   public String toString()
+   {
+      String result = source;
+      for (int i = 0; i < dimensions; i++)
+      {
+         result += "[]";
+      }
+      return result;
+   }
+}
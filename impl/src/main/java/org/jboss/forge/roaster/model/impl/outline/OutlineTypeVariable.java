@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.model.impl.outline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.Type;
+import org.jboss.forge.roaster.model.TypeVariable;
+
+/**
+ * A type parameter of a generic type or method of an outline.
+ */
+class OutlineTypeVariable<O extends JavaType<O>> implements TypeVariable<O>
+{
+   private final O origin;
+   private final String name;
+   private final List<Type<O>> bounds = new ArrayList<Type<O>>();
+
+   OutlineTypeVariable(final O origin, final String name)
+   {
+      this.origin = origin;
+      this.name = name;
+   }
+
+   void addBound(final Type<O> bound)
+   {
+      bounds.add(bound);
+   }
+
+   @Override
+   public String getName()
+   {
+      return name;
+   }
+
+   @Override
+   public List<Type<O>> getBounds()
+   {
+      return Collections.unmodifiableList(bounds);
+   }
+
+   @Override
+   public O getOrigin()
+   {
+      return origin;
+   }
+
+   @Override
+   public Object getInternal()
+   {
+      return null;
+   }
+
+   @Override
+   public String toString()
+   {
+      StringBuilder result = new StringBuilder(name);
+      for (int i = 0; i < bounds.size(); i++)
+      {
+         result.append(i == 0 ? " extends " : " & ").append(bounds.get(i));
+      }
+      return result.toString();
+   }
+}
@@ -24,6 +24,8 @@ import org.jboss.forge.roaster.model.source.JavaClassSource;
  */
 public abstract class Formatter
 {
+   private static final Properties OPTIONS = readConfig("org.eclipse.jdt.core.prefs");
+
    public static String format(JavaClassSource javaClass)
    {
       return format(javaClass.toString());
@@ -32,9 +34,7 @@ public abstract class Formatter
    public static String format(String source)
    {
        // TODO locate user's eclipse project settings, use those if we can.
-       Properties options = readConfig("org.eclipse.jdt.core.prefs");
-
-       final CodeFormatter codeFormatter = ToolFactory.createCodeFormatter(options);
+       final CodeFormatter codeFormatter = ToolFactory.createCodeFormatter(OPTIONS);
        return ensureCorrectNewLines(formatFile(source, codeFormatter));
    }
 
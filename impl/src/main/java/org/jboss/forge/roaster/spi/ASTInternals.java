@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.spi;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.Comment;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jface.text.Document;
+
+/**
+ * Gives access to the package-private parts of JDT's {@link AST} and {@link CompilationUnit} that the parser uses to
+ * complete a tree: the comment table, line end table, problems, comment mapper and modification baseline. These are
+ * needed to build or rebuild a {@link CompilationUnit} without going through the parser. They are looked up, and then
+ * exercised on a small parsed unit, when this class is initialized; if they are missing or do not behave as expected
+ * in the JDT version on the classpath, {@link #isAvailable()} returns <code>false</code>.
+ */
+final class ASTInternals
+{
+   private static final Method SET_COMMENT_TABLE;
+   private static final Method SET_LINE_END_TABLE;
+   private static final Method SET_PROBLEMS;
+   private static final Method INIT_COMMENT_MAPPER;
+   private static final Method SET_ORIGINAL_MODIFICATION_COUNT;
+   private static final Method SET_EVENT_HANDLER;
+   private static final Field LINE_END_TABLE;
+   private static final Field REWRITER;
+   private static final Field EVENT_STORE;
+   private static final Field EVENT_LOOKUP;
+   private static final Constructor<?> NODE_EVENT_HANDLER;
+   private static final boolean AVAILABLE;
+
+   static
+   {
+      Method setCommentTable = null;
+      Method setLineEndTable = null;
+      Method setProblems = null;
+      Method initCommentMapper = null;
+      Method setOriginalModificationCount = null;
+      Method setEventHandler = null;
+      Field lineEndTable = null;
+      Field rewriter = null;
+      Field eventStore = null;
+      Field eventLookup = null;
+      Constructor<?> nodeEventHandler = null;
+      try
+      {
+         ClassLoader loader = AST.class.getClassLoader();
+         Class<?> handlerType = Class.forName("org.eclipse.jdt.core.dom.NodeEventHandler", false, loader);
+         Class<?> rewriteType = Class.forName("org.eclipse.jdt.core.dom.InternalASTRewrite", false, loader);
+         Class<?> storeType = Class.forName("org.eclipse.jdt.internal.core.dom.rewrite.RewriteEventStore", false,
+                  loader);
+
+         setCommentTable = accessible(CompilationUnit.class.getDeclaredMethod("setCommentTable", Comment[].class));
+         setLineEndTable = accessible(CompilationUnit.class.getDeclaredMethod("setLineEndTable", int[].class));
+         setProblems = accessible(CompilationUnit.class.getDeclaredMethod("setProblems", IProblem[].class));
+         initCommentMapper = accessible(CompilationUnit.class.getDeclaredMethod("initCommentMapper", Scanner.class));
+         setEventHandler = accessible(AST.class.getDeclaredMethod("setEventHandler", handlerType));
+         lineEndTable = accessible(CompilationUnit.class.getDeclaredField("lineEndTable"));
+         rewriter = accessible(AST.class.getDeclaredField("rewriter"));
+         eventStore = accessible(rewriteType.getDeclaredField("eventStore"));
+         eventLookup = accessible(storeType.getDeclaredField("eventLookup"));
+         nodeEventHandler = handlerType.getDeclaredConstructor();
+         nodeEventHandler.setAccessible(true);
+         setOriginalModificationCount = accessible(AST.class.getDeclaredMethod("setOriginalModificationCount",
+                  long.class));
+      }
+      catch (Exception e)
+      {
+         setOriginalModificationCount = null;
+      }
+      SET_COMMENT_TABLE = setCommentTable;
+      SET_LINE_END_TABLE = setLineEndTable;
+      SET_PROBLEMS = setProblems;
+      INIT_COMMENT_MAPPER = initCommentMapper;
+      SET_EVENT_HANDLER = setEventHandler;
+      LINE_END_TABLE = lineEndTable;
+      REWRITER = rewriter;
+      EVENT_STORE = eventStore;
+      EVENT_LOOKUP = eventLookup;
+      NODE_EVENT_HANDLER = nodeEventHandler;
+      SET_ORIGINAL_MODIFICATION_COUNT = setOriginalModificationCount;
+      AVAILABLE = setOriginalModificationCount != null && probe();
+   }
+
+   private ASTInternals()
+   {
+   }
+
+   /**
+    * Return <code>true</code> if the JDT internals used by this class are available.
+    */
+   static boolean isAvailable()
+   {
+      return AVAILABLE;
+   }
+
+   /**
+    * Return <code>true</code> if the internals behave as this class expects on a small parsed unit: recorded
+    * modifications are detected and discarded, the tables are read and written, and the unit can record its
+    * modifications again once reset, without differing from its source.
+    */
+   @SuppressWarnings("unchecked")
+   private static boolean probe()
+   {
+      try
+      {
+         String source = "class Probe {\n   /** Documented. */\n   int value;\n}";
+         CompilationUnit unit = ParserSession.parseCompilationUnit(source.toCharArray());
+         unit.recordModifications();
+         AbstractTypeDeclaration type = (AbstractTypeDeclaration) unit.types().get(0);
+         type.setName(unit.getAST().newSimpleName("Modified"));
+         if (!hasRecordedModifications(unit))
+         {
+            return false;
+         }
+
+         stopRecording(unit);
+         type.setName(unit.getAST().newSimpleName("Probe"));
+         List<Comment> comments = unit.getCommentList();
+         setCommentTable(unit, comments.toArray(new Comment[comments.size()]));
+         setLineEndTable(unit, getLineEndTable(unit));
+         setProblems(unit, unit.getProblems());
+         initCommentMapper(unit, source.toCharArray());
+         resetModificationCount(unit.getAST());
+         unit.recordModifications();
+         return !hasRecordedModifications(unit) && unit.getLineNumber(source.length() - 1) == 4
+                  && !unit.rewrite(new Document(source), ParserSession.getCompilerOptions()).hasChildren();
+      }
+      catch (RuntimeException e)
+      {
+         return false;
+      }
+   }
+
+   static void setCommentTable(final CompilationUnit unit, final Comment[] comments)
+   {
+      invoke(SET_COMMENT_TABLE, unit, (Object) comments);
+   }
+
+   static int[] getLineEndTable(final CompilationUnit unit)
+   {
+      try
+      {
+         return (int[]) LINE_END_TABLE.get(unit);
+      }
+      catch (IllegalAccessException e)
+      {
+         throw new IllegalStateException(e);
+      }
+   }
+
+   static void setLineEndTable(final CompilationUnit unit, final int[] lineEnds)
+   {
+      invoke(SET_LINE_END_TABLE, unit, (Object) lineEnds);
+   }
+
+   static void setProblems(final CompilationUnit unit, final IProblem[] problems)
+   {
+      invoke(SET_PROBLEMS, unit, (Object) problems);
+   }
+
+   /**
+    * Compute the extended source ranges of the nodes of the given {@link CompilationUnit}, from which its comments
+    * are associated with nodes when it is rewritten. The comment table must already be set.
+    */
+   static void initCommentMapper(final CompilationUnit unit, final char[] source)
+   {
+      Scanner scanner = new Scanner(true, false, false, ClassFileConstants.JDK1_7, null, null, true);
+      scanner.setSource(source);
+      invoke(INIT_COMMENT_MAPPER, unit, scanner);
+   }
+
+   /**
+    * Make the current state of the given {@link AST} its unmodified state, as if it had just been returned by the
+    * parser.
+    */
+   static void resetModificationCount(final AST ast)
+   {
+      invoke(SET_ORIGINAL_MODIFICATION_COUNT, ast, ast.modificationCount());
+   }
+
+   /**
+    * Return <code>true</code> if the given {@link CompilationUnit} records its modifications, and at least one
+    * modification has been recorded since.
+    */
+   static boolean hasRecordedModifications(final CompilationUnit unit)
+   {
+      try
+      {
+         Object rewriter = REWRITER.get(unit.getAST());
+         return rewriter != null && !((Map<?, ?>) EVENT_LOOKUP.get(EVENT_STORE.get(rewriter))).isEmpty();
+      }
+      catch (IllegalAccessException e)
+      {
+         throw new IllegalStateException(e);
+      }
+   }
+
+   /**
+    * Stop recording the modifications of the given {@link CompilationUnit}, discarding those recorded so far, so that
+    * {@link CompilationUnit#recordModifications()} can be called again once its {@link AST} has been reset with
+    * {@link #resetModificationCount(AST)}.
+    */
+   static void stopRecording(final CompilationUnit unit)
+   {
+      try
+      {
+         REWRITER.set(unit.getAST(), null);
+         SET_EVENT_HANDLER.invoke(unit.getAST(), NODE_EVENT_HANDLER.newInstance());
+      }
+      catch (Exception e)
+      {
+         throw new IllegalStateException(e);
+      }
+   }
+
+   /**
+    * Copy the given subtree into the given {@link AST}, including the node flags, except {@link ASTNode#PROTECT}, and
+    * properties that {@link ASTNode#copySubtree(AST, ASTNode)} does not copy. Each node of the subtree, including doc
+    * comment elements, is mapped to its copy in the given {@link Map}.
+    */
+   @SuppressWarnings("unchecked")
+   static <T extends ASTNode> T copy(final AST ast, final T node, final Map<ASTNode, ASTNode> copies)
+   {
+      T copy = (T) ASTNode.copySubtree(ast, node);
+      List<ASTNode> originalNodes = nodes(node);
+      List<ASTNode> copiedNodes = nodes(copy);
+      if (originalNodes.size() != copiedNodes.size())
+      {
+         throw new IllegalStateException("Copy of [" + node.getClass().getSimpleName() + "] has a different shape");
+      }
+      for (int i = 0; i < originalNodes.size(); i++)
+      {
+         ASTNode original = originalNodes.get(i);
+         ASTNode copied = copiedNodes.get(i);
+         copyAttributes(original, copied);
+         copies.put(original, copied);
+      }
+      return copy;
+   }
+
+   /**
+    * Copy the flags, except {@link ASTNode#PROTECT}, and properties of the given node onto the given target node.
+    */
+   @SuppressWarnings("unchecked")
+   static void copyAttributes(final ASTNode node, final ASTNode target)
+   {
+      for (Map.Entry<String, Object> property : ((Map<String, Object>) node.properties()).entrySet())
+      {
+         target.setProperty(property.getKey(), property.getValue());
+      }
+      target.setFlags(node.getFlags() & ~ASTNode.PROTECT);
+   }
+
+   /**
+    * Return every node of the given tree, including doc comment elements, in visiting order.
+    */
+   static List<ASTNode> nodes(final ASTNode root)
+   {
+      final List<ASTNode> result = new ArrayList<ASTNode>();
+      root.accept(new ASTVisitor(true)
+      {
+         @Override
+         public void preVisit(final ASTNode node)
+         {
+            result.add(node);
+         }
+      });
+      return result;
+   }
+
+   private static void invoke(final Method method, final Object target, final Object argument)
+   {
+      try
+      {
+         method.invoke(target, argument);
+      }
+      catch (Exception e)
+      {
+         throw new IllegalStateException("Could not invoke [" + method.getName() + "]", e);
+      }
+   }
+
+   private static Method accessible(final Method method)
+   {
+      method.setAccessible(true);
+      return method;
+   }
+
+   private static Field accessible(final Field field)
+   {
+      field.setAccessible(true);
+      return field;
+   }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.jboss.forge.roaster.ParseCache;
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.Roaster;
+
+/**
+ * Parses the small stub sources from which new declarations are copied into a source, such as
+ * <code>public class Stub { private int field; }</code>, through the fragment {@link ParseCache} returned by
+ * {@link Roaster#getFragmentCache()}, if one is installed. Generators add the same declarations to many sources, so
+ * with a fragment cache repeated stubs are parsed once and then only copied.
+ * <p>
+ * The returned nodes may be shared between callers and threads: they are protected against modification, and must be
+ * copied into the target {@link org.eclipse.jdt.core.dom.AST} with
+ * {@link org.eclipse.jdt.core.dom.ASTNode#copySubtree(org.eclipse.jdt.core.dom.AST, org.eclipse.jdt.core.dom.ASTNode)}
+ * before use.
+ */
+public final class FragmentParser
+{
+   private static final ParseOptions OPTIONS = new ParseOptions();
+
+   private FragmentParser()
+   {
+   }
+
+   /**
+    * Return the first type declared by the given stub compilation unit, or <code>null</code> if it declares none.
+    */
+   public static AbstractTypeDeclaration parseType(final String source)
+   {
+      CompilationUnit unit = parseUnit(source);
+      return unit.types().isEmpty() ? null : (AbstractTypeDeclaration) unit.types().get(0);
+   }
+
+   /**
+    * Parse the given stub source as a {@link CompilationUnit}.
+    */
+   public static CompilationUnit parseUnit(final String source)
+   {
+      ParseCache cache = Roaster.getFragmentCache();
+      if (cache == null)
+      {
+         return ParserSession.parseCompilationUnit(source.toCharArray());
+      }
+      char[] data = source.toCharArray();
+      ParseCache.Key<CompilationUnit> key = cache.createKey(data, OPTIONS, CompilationUnit.class);
+      CompilationUnit cached = cache.get(key);
+      if (cached == null)
+      {
+         cached = ParserSession.parseCompilationUnit(data);
+         ParserSession.protect(cached);
+         cache.put(key, cached, data.length);
+      }
+      return cached;
+   }
+
+   /**
+    * Parse the given source as a sequence of class body declarations, as
+    * {@link ParserSession#parseBodyDeclarations(char[])} does.
+    */
+   public static TypeDeclaration parseBodyDeclarations(final String source)
+   {
+      ParseCache cache = Roaster.getFragmentCache();
+      if (cache == null)
+      {
+         return ParserSession.parseBodyDeclarations(source.toCharArray());
+      }
+      ParseCache.Key<TypeDeclaration> key = cache.createKey(source.toCharArray(), OPTIONS, TypeDeclaration.class);
+      TypeDeclaration cached = cache.get(key);
+      if (cached == null)
+      {
+         cached = ParserSession.parseBodyDeclarations(source.toCharArray());
+         if (cached == null)
+         {
+            return null;
+         }
+         ParserSession.protect((CompilationUnit) cached.getRoot());
+         cache.put(key, cached, source.length());
+      }
+      return cached;
+   }
+}
@@ -7,53 +7,69 @@
 
 package org.jboss.forge.roaster.spi;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
-import org.eclipse.jdt.core.JavaCore;
-import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.EnumDeclaration;
 import org.eclipse.jdt.core.dom.PackageDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
-import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
-import org.eclipse.jdt.internal.compiler.util.Util;
 import org.eclipse.jface.text.Document;
+import org.jboss.forge.roaster.JavaTypeRequestor;
+import org.jboss.forge.roaster.ParseCache;
+import org.jboss.forge.roaster.ParseOptions;
 import org.jboss.forge.roaster.ParserException;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.SourceTemplate;
 import org.jboss.forge.roaster.model.JavaType;
-import org.jboss.forge.roaster.model.ast.TypeDeclarationFinderVisitor;
+import org.jboss.forge.roaster.model.JavaUnit;
 import org.jboss.forge.roaster.model.impl.JavaAnnotationImpl;
 import org.jboss.forge.roaster.model.impl.JavaClassImpl;
 import org.jboss.forge.roaster.model.impl.JavaEnumImpl;
 import org.jboss.forge.roaster.model.impl.JavaInterfaceImpl;
 import org.jboss.forge.roaster.model.impl.JavaPackageInfoImpl;
+import org.jboss.forge.roaster.model.impl.JavaUnitImpl;
+import org.jboss.forge.roaster.model.impl.outline.OutlineParser;
 import org.jboss.forge.roaster.model.source.JavaAnnotationSource;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaEnumSource;
 import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
 import org.jboss.forge.roaster.model.source.JavaPackageInfoSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
-import org.jboss.forge.roaster.spi.JavaParser;
+import org.jboss.forge.roaster.spi.ExtendedJavaParser;
 
 /**
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
-public class JavaParserImpl implements JavaParser
+public class JavaParserImpl implements ExtendedJavaParser
 {
+   private static final PrototypeUnit CLASS_PROTOTYPE = new PrototypeUnit("public class JavaClass { }");
+   private static final PrototypeUnit ENUM_PROTOTYPE = new PrototypeUnit("public enum JavaEnum { }");
+   private static final PrototypeUnit ANNOTATION_PROTOTYPE = new PrototypeUnit("public @interface JavaAnnotation { }");
+   private static final PrototypeUnit INTERFACE_PROTOTYPE = new PrototypeUnit("public interface JavaInterface { }");
+   private static final PrototypeUnit PACKAGE_INFO_PROTOTYPE = new PrototypeUnit("package org.example;");
 
    @Override
    public JavaType<?> parse(final InputStream data)
+   {
+      return parse(data, new ParseOptions());
+   }
+
+   @Override
+   public JavaType<?> parse(final InputStream data, final ParseOptions options)
    {
       try
       {
-         char[] source = Util.getInputStreamAsCharArray(data, data.available(), "ISO8859_1");
-         return parse(new String(source));
+         return parse(SourceReader.read(data, options.getCharset()), options);
       }
       catch (IOException e)
       {
@@ -65,37 +81,131 @@ public class JavaParserImpl implements JavaParser
       }
    }
 
-   @SuppressWarnings({ "rawtypes", "unchecked" })
-   private JavaType<?> parse(final String data)
+   @Override
+   public JavaType<?> parse(final File file, final ParseOptions options) throws IOException
+   {
+      return parse(SourceReader.read(file, options.getCharset()), options);
+   }
+
+   /**
+    * Parse the given source into a new {@link JavaType} instance of the given type, without consulting the
+    * {@link ParseCache}. Used for the short-lived stub sources from which new declarations are copied.
+    */
+   public static <T extends JavaType<?>> T parseStub(final Class<T> type, final String source)
    {
-      Document document = new Document(data);
-      ASTParser parser = ASTParser.newParser(AST.JLS4);
+      CompilationUnit unit = ParserSession.parseCompilationUnit(source.toCharArray());
+      JavaType<?> result = getJavaUnit(new Document(source), unit, false).getTopLevelTypes().get(0);
+      if (!type.isInstance(result))
+      {
+         throw new ParserException("Source does not represent a [" + type.getSimpleName() + "], instead was ["
+                  + result.getClass().getSimpleName() + "] - Cannot convert.");
+      }
+      return type.cast(result);
+   }
 
-      parser.setSource(document.get().toCharArray());
-      Map options = JavaCore.getOptions();
-      options.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_1_7);
-      options.put(CompilerOptions.OPTION_Encoding, "UTF-8");
-      parser.setCompilerOptions(options);
+   @Override
+   public JavaType<?> parse(final char[] data, final ParseOptions options)
+   {
+      return parseUnit(data, options).getTopLevelTypes().get(0);
+   }
 
-      parser.setResolveBindings(true);
-      parser.setKind(ASTParser.K_COMPILATION_UNIT);
-      CompilationUnit unit = (CompilationUnit) parser.createAST(null);
-      unit.recordModifications();
+   @Override
+   public JavaUnit parseUnit(final InputStream data, final ParseOptions options)
+   {
+      try
+      {
+         return parseUnit(SourceReader.read(data, options.getCharset()), options);
+      }
+      catch (IOException e)
+      {
+         return null;
+      }
+      finally
+      {
+         Streams.closeQuietly(data);
+      }
+   }
+
+   @Override
+   public JavaUnit parseUnit(final File file, final ParseOptions options) throws IOException
+   {
+      return parseUnit(SourceReader.read(file, options.getCharset()), options);
+   }
+
+   @Override
+   public JavaUnit parseUnit(final char[] data, final ParseOptions options)
+   {
+      if (options.isOutline())
+      {
+         return OutlineParser.parse(data);
+      }
+
+      ParseCache cache = Roaster.getParseCache();
+      if (cache == null)
+      {
+         CompilationUnit unit = ParserSession.parseCompilationUnit(data, options);
+         return getJavaUnit(new Document(new String(data)), unit, options.isReadOnly());
+      }
+
+      ParseCache.Key<CachedUnit> key = cache.createKey(data, options, CachedUnit.class);
+      CachedUnit cached = cache.get(key);
+      if (cached == null)
+      {
+         cached = new CachedUnit(new String(data), ParserSession.parseCompilationUnit(data, options), options);
+         JavaUnit result = cached.copy(options.isReadOnly());
+         cache.put(key, cached, data.length);
+         return result;
+      }
+      return cached.copy(options.isReadOnly());
+   }
+
+   @Override
+   public void parseAll(final Collection<File> files, final ParseOptions options, final JavaTypeRequestor requestor)
+   {
+      Set<String> seen = new HashSet<String>();
+      for (File file : files)
+      {
+         if (!seen.add(file.getAbsolutePath()))
+         {
+            continue;
+         }
+         JavaType<?> type;
+         try
+         {
+            type = parseUnit(file, options).getTopLevelTypes().get(0);
+         }
+         catch (Exception e)
+         {
+            requestor.failed(file, e);
+            continue;
+         }
+         requestor.accept(file, type);
+      }
+   }
 
-      TypeDeclarationFinderVisitor visitor = new TypeDeclarationFinderVisitor();
-      unit.accept(visitor);
+   @SuppressWarnings("unchecked")
+   static JavaUnit getJavaUnit(final Document document, final CompilationUnit unit, final boolean readOnly)
+   {
+      unit.recordModifications();
 
-      List<AbstractTypeDeclaration> declarations = visitor.getTypeDeclarations();
-      if (!declarations.isEmpty())
+      List<JavaSource<?>> types = new ArrayList<JavaSource<?>>();
+      for (AbstractTypeDeclaration declaration : (List<AbstractTypeDeclaration>) unit.types())
+      {
+         types.add(getJavaSource(null, document, unit, declaration));
+      }
+      if (types.isEmpty() && unit.getPackage() != null)
+      {
+         types.add(getJavaSource(null, document, unit, unit.getPackage()));
+      }
+      if (types.isEmpty())
       {
-         AbstractTypeDeclaration declaration = declarations.get(0);
-         return getJavaSource(null, document, unit, declaration);
+         throw new ParserException("Could not find type declaration in Java source - is this actually code?");
       }
-      else if (visitor.getPackageDeclaration() != null)
+      if (readOnly)
       {
-         return getJavaSource(null, document, unit, visitor.getPackageDeclaration());
+         ParserSession.protect(unit);
       }
-      throw new ParserException("Could not find type declaration in Java source - is this actually code?");
+      return new JavaUnitImpl(types);
    }
 
    /**
@@ -138,28 +248,80 @@ public class JavaParserImpl implements JavaParser
       }
    }
 
+   @Override
+   public <T extends JavaSource<?>> SourceTemplate<T> compileTemplate(final Class<T> type, final String source)
+   {
+      return new SourceTemplateImpl<T>(type, source);
+   }
+
    @Override
    @SuppressWarnings("unchecked")
    public <T extends JavaSource<?>> T create(final Class<T> type)
+   {
+      PrototypeUnit prototype = getPrototype(type);
+      return prototype == null ? null : (T) prototype.create().getTopLevelTypes().get(0);
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public <T extends JavaSource<?>> T create(final Class<T> type, final String packageName, final String simpleName)
+   {
+      PrototypeUnit prototype = getPrototype(type);
+      return prototype == null ? null : (T) prototype.create(packageName, simpleName).getTopLevelTypes().get(0);
+   }
+
+   private static PrototypeUnit getPrototype(final Class<?> type)
    {
       if (type != null)
       {
          if (type.isAssignableFrom(JavaClassSource.class))
-            return (T) parse("public class JavaClass { }");
-   
+            return CLASS_PROTOTYPE;
+
          if (type.isAssignableFrom(JavaEnumSource.class))
-            return (T) parse("public enum JavaEnum { }");
-   
+            return ENUM_PROTOTYPE;
+
          if (type.isAssignableFrom(JavaAnnotationSource.class))
-            return (T) parse("public @interface JavaAnnotation { }");
-   
+            return ANNOTATION_PROTOTYPE;
+
          if (type.isAssignableFrom(JavaInterfaceSource.class))
-            return (T) parse("public interface JavaInterface { }");
-   
+            return INTERFACE_PROTOTYPE;
+
          if (type.isAssignableFrom(JavaPackageInfoSource.class))
-            return (T) parse("package org.example;");
+            return PACKAGE_INFO_PROTOTYPE;
       }
       return null;
    }
 
+   /**
+    * The value stored in the {@link ParseCache}: a pristine parsed {@link CompilationUnit} that is never handed out,
+    * from which a new copy is created for each caller. Reading a JDT node may initialize it lazily, so copies are made
+    * one at a time.
+    */
+   private static final class CachedUnit
+   {
+      private final String source;
+      private final CompilationUnit master;
+      private final ParseOptions options;
+
+      private CachedUnit(final String source, final CompilationUnit master, final ParseOptions options)
+      {
+         this.source = source;
+         this.master = master;
+         this.options = new ParseOptions(options);
+      }
+
+      private JavaUnit copy(final boolean readOnly)
+      {
+         CompilationUnit unit;
+         synchronized (this)
+         {
+            unit = UnitCopier.copy(master, source);
+         }
+         if (unit == null)
+         {
+            unit = ParserSession.parseCompilationUnit(source.toCharArray(), options);
+         }
+         return getJavaUnit(new Document(source), unit, readOnly);
+      }
+   }
 }
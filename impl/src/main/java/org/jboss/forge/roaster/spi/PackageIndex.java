@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.spi;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.jboss.forge.roaster.model.util.Strings;
+
+/**
+ * The names of the types found in a set of class path entries, grouped by the package or type that declares them, so
+ * that an on-demand import such as <code>java.util.*</code> or <code>java.util.Map.*</code> can be resolved without
+ * loading any class. Class files are only listed, never read.
+ * <p>
+ * An index is built on first use and is immutable afterwards; the names of each package are kept as a sorted array.
+ */
+final class PackageIndex
+{
+   private static final String CLASS_SUFFIX = ".class";
+   private static final String[] NO_NAMES = new String[0];
+
+   private final List<File> roots;
+   private volatile Map<String, String[]> names;
+
+   /**
+    * Create an index of the given jar files and class directories. Entries that do not exist are ignored.
+    */
+   PackageIndex(final List<File> roots)
+   {
+      this.roots = new ArrayList<File>(roots);
+   }
+
+   /**
+    * Return the index of the boot class path of the running JDK, or <code>null</code> if the JDK has no
+    * <code>rt.jar</code>, as is the case from Java 9 on.
+    */
+   static PackageIndex jdk()
+   {
+      return JdkHolder.INSTANCE;
+   }
+
+   /**
+    * Return <code>true</code> if the given package, or type, declares a type with the given simple name.
+    */
+   boolean contains(final String packageName, final String simpleName)
+   {
+      String[] declared = getNames().get(packageName);
+      return declared != null && Arrays.binarySearch(declared, simpleName) >= 0;
+   }
+
+   private Map<String, String[]> getNames()
+   {
+      Map<String, String[]> result = names;
+      if (result == null)
+      {
+         synchronized (this)
+         {
+            result = names;
+            if (result == null)
+            {
+               result = build();
+               names = result;
+            }
+         }
+      }
+      return result;
+   }
+
+   private Map<String, String[]> build()
+   {
+      Map<String, TreeSet<String>> collected = new HashMap<String, TreeSet<String>>();
+      for (File root : roots)
+      {
+         if (root.isDirectory())
+         {
+            scanDirectory(collected, root, "");
+         }
+         else if (root.isFile())
+         {
+            scanArchive(collected, root);
+         }
+      }
+      Map<String, String[]> result = new HashMap<String, String[]>(collected.size() * 4 / 3 + 1);
+      for (Entry<String, TreeSet<String>> entry : collected.entrySet())
+      {
+         result.put(entry.getKey(), entry.getValue().toArray(NO_NAMES));
+      }
+      return result;
+   }
+
+   private static void scanDirectory(final Map<String, TreeSet<String>> collected, final File directory,
+            final String path)
+   {
+      File[] children = directory.listFiles();
+      if (children == null)
+      {
+         return;
+      }
+      for (File child : children)
+      {
+         String childPath = path + child.getName();
+         if (child.isDirectory())
+         {
+            scanDirectory(collected, child, childPath + "/");
+         }
+         else
+         {
+            add(collected, childPath);
+         }
+      }
+   }
+
+   private static void scanArchive(final Map<String, TreeSet<String>> collected, final File archive)
+   {
+      ZipFile zip = null;
+      try
+      {
+         zip = new ZipFile(archive);
+         Enumeration<? extends ZipEntry> entries = zip.entries();
+         while (entries.hasMoreElements())
+         {
+            ZipEntry entry = entries.nextElement();
+            if (!entry.isDirectory() && !entry.getName().startsWith("META-INF/"))
+            {
+               add(collected, entry.getName());
+            }
+         }
+      }
+      catch (IOException e)
+      {
+         // Not an archive; it cannot declare any type.
+      }
+      finally
+      {
+         close(zip);
+      }
+   }
+
+   /**
+    * Record the type stored at the given path, such as <code>java/util/Map$Entry.class</code>, under its package or,
+    * for a member type, under its enclosing type. Local and anonymous classes are skipped.
+    */
+   private static void add(final Map<String, TreeSet<String>> collected, final String path)
+   {
+      if (!path.endsWith(CLASS_SUFFIX))
+      {
+         return;
+      }
+      String binaryName = path.substring(0, path.length() - CLASS_SUFFIX.length()).replace('/', '.');
+      int separator = Math.max(binaryName.lastIndexOf('.'), binaryName.lastIndexOf('$'));
+      String simpleName = binaryName.substring(separator + 1);
+      if (separator < 0 || simpleName.isEmpty() || !Character.isJavaIdentifierStart(simpleName.charAt(0))
+               || simpleName.equals("package-info") || simpleName.equals("module-info"))
+      {
+         return;
+      }
+      String declaringName = binaryName.substring(0, separator).replace('$', '.');
+      TreeSet<String> declared = collected.get(declaringName);
+      if (declared == null)
+      {
+         declared = new TreeSet<String>();
+         collected.put(declaringName.intern(), declared);
+      }
+      declared.add(simpleName);
+   }
+
+   private static void close(final ZipFile zip)
+   {
+      if (zip != null)
+      {
+         try
+         {
+            zip.close();
+         }
+         catch (IOException e)
+         {
+            // Nothing was written.
+         }
+      }
+   }
+
+   /**
+    * Return the index of the boot class path of the running JDK, if it includes <code>rt.jar</code>.
+    */
+   private static PackageIndex bootClassPath()
+   {
+      List<File> roots = new ArrayList<File>();
+      boolean runtime = false;
+      String path = System.getProperty("sun.boot.class.path");
+      if (!Strings.isNullOrEmpty(path))
+      {
+         for (String entry : path.split(File.pathSeparator))
+         {
+            File root = new File(entry);
+            runtime |= root.getName().equals("rt.jar") && root.isFile();
+            roots.add(root);
+         }
+      }
+      return runtime ? new PackageIndex(roots) : null;
+   }
+
+   private static final class JdkHolder
+   {
+      private static final PackageIndex INSTANCE = bootClassPath();
+   }
+}
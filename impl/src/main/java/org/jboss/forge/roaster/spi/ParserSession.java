@@ -0,0 +1,332 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.Comment;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.ParserException;
+
+/**
+ * Holds the parser configuration shared by every parse performed by Roaster. The compiler options are computed once
+ * per class loader, and each thread reuses its own {@link ASTParser} instance, since parsers are not thread-safe.
+ */
+public final class ParserSession
+{
+   /**
+    * The encoding used to read source files.
+    */
+   public static final String ENCODING = "UTF-8";
+
+   private static final String BODY_IGNORED = ParserSession.class.getName() + ".bodyIgnored";
+
+   private static final String OPTIONS = ParserSession.class.getName() + ".options";
+
+   private static final Map<String, String> COMPILER_OPTIONS = createCompilerOptions();
+
+   private static final ThreadLocal<ASTParser> PARSER = new ThreadLocal<ASTParser>()
+   {
+      @Override
+      protected ASTParser initialValue()
+      {
+         return ASTParser.newParser(AST.JLS4);
+      }
+   };
+
+   private ParserSession()
+   {
+   }
+
+   /**
+    * Return the (read-only) compiler options used for parsing and rewriting Java sources.
+    */
+   public static Map<String, String> getCompilerOptions()
+   {
+      return COMPILER_OPTIONS;
+   }
+
+   /**
+    * Parse the given source into a new {@link CompilationUnit}, using the parser bound to the current thread.
+    */
+   public static CompilationUnit parseCompilationUnit(final char[] source)
+   {
+      return parseCompilationUnit(source, new ParseOptions());
+   }
+
+   /**
+    * Parse the given source into a new {@link CompilationUnit} according to the given {@link ParseOptions}, using the
+    * parser bound to the current thread.
+    */
+   public static CompilationUnit parseCompilationUnit(final char[] source, final ParseOptions options)
+   {
+      ASTParser parser = configure(ASTParser.K_COMPILATION_UNIT);
+      parser.setSource(source);
+      parser.setResolveBindings(options.isResolveBindings());
+      parser.setIgnoreMethodBodies(options.isIgnoreMethodBodies());
+      parser.setStatementsRecovery(options.isStatementsRecovery());
+      CompilationUnit unit = (CompilationUnit) parser.createAST(null);
+      if (options.isIgnoreMethodBodies())
+      {
+         markIgnoredBodies(unit);
+      }
+      unit.setProperty(OPTIONS, new ParseOptions(options));
+      return unit;
+   }
+
+   /**
+    * Parse the given range of the given source as a sequence of class body declarations according to the given
+    * {@link ParseOptions}, using the parser bound to the current thread. The declarations are returned in a
+    * {@link TypeDeclaration} whose root {@link CompilationUnit} holds the comments and problems found in the range; all
+    * positions are relative to the start of the source, not of the range. Returns <code>null</code> if the range does
+    * not contain body declarations.
+    */
+   public static TypeDeclaration parseBodyDeclarations(final char[] source, final int offset, final int length,
+            final ParseOptions options)
+   {
+      ASTParser parser = configure(ASTParser.K_CLASS_BODY_DECLARATIONS);
+      parser.setSource(source);
+      parser.setSourceRange(offset, length);
+      parser.setResolveBindings(false);
+      parser.setIgnoreMethodBodies(options.isIgnoreMethodBodies());
+      parser.setStatementsRecovery(options.isStatementsRecovery());
+      ASTNode result = parser.createAST(null);
+      if (!(result instanceof TypeDeclaration))
+      {
+         return null;
+      }
+      if (options.isIgnoreMethodBodies())
+      {
+         markIgnoredBodies(result);
+      }
+      return (TypeDeclaration) result;
+   }
+
+   /**
+    * Parse the given source as a sequence of class body declarations, using the parser bound to the current thread.
+    * The declarations are returned in a {@link TypeDeclaration}, or <code>null</code> if the source does not contain
+    * body declarations.
+    */
+   public static TypeDeclaration parseBodyDeclarations(final char[] source)
+   {
+      return parseBodyDeclarations(source, 0, source.length, new ParseOptions());
+   }
+
+   /**
+    * Return the {@link ParseOptions} the given {@link CompilationUnit} was parsed with.
+    */
+   public static ParseOptions getParseOptions(final CompilationUnit unit)
+   {
+      ParseOptions options = (ParseOptions) unit.getProperty(OPTIONS);
+      return options == null ? new ParseOptions() : options;
+   }
+
+   /**
+    * Return <code>true</code> if the statements of the given method body were skipped while parsing, and must be read
+    * from the original source when they are requested.
+    */
+   public static boolean isBodyIgnored(final Block body)
+   {
+      return body != null && Boolean.TRUE.equals(body.getProperty(BODY_IGNORED));
+   }
+
+   /**
+    * Parse the statements of the given method body, which were skipped when its source was parsed, reading them from
+    * the given {@link IDocument} of that source.
+    */
+   public static List<Statement> loadIgnoredBody(final Block body, final IDocument document)
+   {
+      if (body.getLength() <= 2)
+      {
+         return Collections.emptyList();
+      }
+      try
+      {
+         String text = document.get(body.getStartPosition() + 1, body.getLength() - 2);
+         return parseStatements(text.toCharArray());
+      }
+      catch (BadLocationException e)
+      {
+         ASTNode method = body.getParent();
+         throw new ParserException("Could not read method body of ["
+                  + (method instanceof MethodDeclaration ? ((MethodDeclaration) method).getName() : method) + "]", e);
+      }
+   }
+
+   /**
+    * Copy the given node into the given {@link AST}, as {@link ASTNode#copySubtree(AST, ASTNode)} does. That method
+    * does not copy node properties, so method bodies skipped while parsing would become truly empty in the copy;
+    * their statements are read from the given {@link IDocument} of the source the node belongs to instead.
+    */
+   @SuppressWarnings("unchecked")
+   public static <T extends ASTNode> T copySubtree(final AST ast, final T node, final IDocument document)
+   {
+      T copy = (T) ASTNode.copySubtree(ast, node);
+      List<Block> bodies = getMethodBodies(node);
+      List<Block> copies = null;
+      for (int i = 0; i < bodies.size(); i++)
+      {
+         Block body = bodies.get(i);
+         if (isBodyIgnored(body) && body.statements().isEmpty())
+         {
+            if (copies == null)
+            {
+               copies = getMethodBodies(copy);
+            }
+            for (Statement statement : loadIgnoredBody(body, document))
+            {
+               copies.get(i).statements().add(ASTNode.copySubtree(ast, statement));
+            }
+         }
+      }
+      return copy;
+   }
+
+   /**
+    * Return the bodies of the methods declared within the given node, in the order they are visited.
+    */
+   private static List<Block> getMethodBodies(final ASTNode node)
+   {
+      final List<Block> result = new ArrayList<Block>();
+      node.accept(new ASTVisitor()
+      {
+         @Override
+         public boolean visit(final MethodDeclaration method)
+         {
+            if (method.getBody() != null)
+            {
+               result.add(method.getBody());
+            }
+            return true;
+         }
+      });
+      return result;
+   }
+
+   /**
+    * Parse the given source as a sequence of statements, using the parser bound to the current thread.
+    */
+   @SuppressWarnings("unchecked")
+   public static List<Statement> parseStatements(final char[] source)
+   {
+      return parseBlock(source).statements();
+   }
+
+   /**
+    * Parse the given source as a sequence of statements, using the parser bound to the current thread, and return them
+    * in a {@link Block}.
+    */
+   public static Block parseBlock(final char[] source)
+   {
+      ASTParser parser = configure(ASTParser.K_STATEMENTS);
+      parser.setSource(source);
+      return (Block) parser.createAST(null);
+   }
+
+   /**
+    * Parse the given source as an expression, using the parser bound to the current thread. Returns <code>null</code>
+    * if the source is not a well-formed expression.
+    */
+   public static Expression parseExpression(final char[] source)
+   {
+      ASTParser parser = configure(ASTParser.K_EXPRESSION);
+      parser.setSource(source);
+      ASTNode result = parser.createAST(null);
+      if (!(result instanceof Expression) || (result.getFlags() & ASTNode.MALFORMED) != 0)
+      {
+         return null;
+      }
+      ASTNode root = result.getRoot();
+      if (root instanceof CompilationUnit && ((CompilationUnit) root).getProblems().length > 0)
+      {
+         return null;
+      }
+      return (Expression) result;
+   }
+
+   /**
+    * Return the parser bound to the current thread, configured for the given kind. {@link ASTParser} resets its own
+    * state after each {@link ASTParser#createAST(org.eclipse.core.runtime.IProgressMonitor)} call, so the
+    * configuration must be re-applied before every use.
+    */
+   static ASTParser configure(final int kind)
+   {
+      ASTParser parser = PARSER.get();
+      parser.setCompilerOptions(COMPILER_OPTIONS);
+      parser.setKind(kind);
+      return parser;
+   }
+
+   /**
+    * Mark every node of the given {@link CompilationUnit} as protected, so that any attempt to modify it fails with an
+    * {@link IllegalArgumentException}.
+    */
+   @SuppressWarnings("unchecked")
+   public static void protect(final CompilationUnit unit)
+   {
+      unit.accept(new ASTVisitor(true)
+      {
+         @Override
+         public void preVisit(final ASTNode node)
+         {
+            node.setFlags(node.getFlags() | ASTNode.PROTECT);
+         }
+      });
+      List<Comment> comments = unit.getCommentList();
+      if (comments != null)
+      {
+         for (Comment comment : comments)
+         {
+            comment.setFlags(comment.getFlags() | ASTNode.PROTECT);
+         }
+      }
+   }
+
+   private static void markIgnoredBodies(final ASTNode root)
+   {
+      root.accept(new ASTVisitor()
+      {
+         @Override
+         public boolean visit(final MethodDeclaration node)
+         {
+            if (node.getBody() != null)
+            {
+               node.getBody().setProperty(BODY_IGNORED, Boolean.TRUE);
+            }
+            return true;
+         }
+      });
+   }
+
+   @SuppressWarnings("unchecked")
+   private static Map<String, String> createCompilerOptions()
+   {
+      Map<String, String> options = new HashMap<String, String>(JavaCore.getOptions());
+      options.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_1_7);
+      options.put(CompilerOptions.OPTION_Encoding, ENCODING);
+      return Collections.unmodifiableMap(options);
+   }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.spi;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.PackageDeclaration;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jface.text.Document;
+import org.jboss.forge.roaster.model.JavaUnit;
+import org.jboss.forge.roaster.model.util.Strings;
+
+/**
+ * The pristine source of a new, empty {@link JavaUnit}, parsed once and then copied with {@link UnitCopier} each time
+ * a new instance is created. A copy may be given a package and a type name: the copied nodes are renamed and moved to
+ * the positions they would have in the renamed source, so that the result is indistinguishable from parsing that
+ * source, and the package and name are not rendered as modifications.
+ */
+final class PrototypeUnit
+{
+   private final String source;
+   private final CompilationUnit master;
+
+   PrototypeUnit(final String source)
+   {
+      this.source = source;
+      this.master = ParserSession.parseCompilationUnit(source.toCharArray());
+      ParserSession.protect(master);
+   }
+
+   /**
+    * Return a new {@link JavaUnit} holding a copy of this prototype.
+    */
+   JavaUnit create()
+   {
+      CompilationUnit unit = UnitCopier.copy(master, source);
+      if (unit == null)
+      {
+         unit = ParserSession.parseCompilationUnit(source.toCharArray());
+      }
+      return JavaParserImpl.getJavaUnit(new Document(source), unit, false);
+   }
+
+   /**
+    * Return a new {@link JavaUnit} holding a copy of this prototype, declared in the given package, or in the default
+    * package if it is <code>null</code> or empty, and with its type renamed to the given name, unless it is
+    * <code>null</code>. A prototype without a type, such as <code>package-info</code>, ignores the name.
+    *
+    * @throws IllegalArgumentException if the package or name is not a valid Java name
+    */
+   JavaUnit create(final String packageName, final String simpleName)
+   {
+      AbstractTypeDeclaration type = master.types().isEmpty() ? null : (AbstractTypeDeclaration) master.types().get(0);
+      PackageDeclaration declaration = master.getPackage();
+      Edit packageEdit = null;
+      Edit nameEdit = null;
+      StringBuilder result = new StringBuilder(source);
+      if (type != null && simpleName != null)
+      {
+         SimpleName name = type.getName();
+         nameEdit = new Edit(name.getStartPosition(), name.getLength(), simpleName.length());
+         result.replace(name.getStartPosition(), name.getStartPosition() + name.getLength(), simpleName);
+      }
+      if (!Strings.isNullOrEmpty(packageName) && declaration != null)
+      {
+         Name name = declaration.getName();
+         packageEdit = new Edit(name.getStartPosition(), name.getLength(), packageName.length());
+         result.replace(name.getStartPosition(), name.getStartPosition() + name.getLength(), packageName);
+      }
+      else if (!Strings.isNullOrEmpty(packageName))
+      {
+         String header = "package " + packageName + ";\n\n";
+         packageEdit = new Edit(0, 0, header.length());
+         result.insert(0, header);
+      }
+      String updated = result.toString();
+
+      CompilationUnit unit = UnitCopier.copy(master, source);
+      if (unit == null)
+      {
+         unit = ParserSession.parseCompilationUnit(updated.toCharArray());
+         return JavaParserImpl.getJavaUnit(new Document(updated), unit, false);
+      }
+
+      for (ASTNode node : ASTInternals.nodes(unit))
+      {
+         int start = move(node.getStartPosition(), nameEdit, packageEdit);
+         int end = move(node.getStartPosition() + node.getLength(), nameEdit, packageEdit);
+         node.setSourceRange(start, end - start);
+      }
+      unit.setSourceRange(0, updated.length());
+
+      AST ast = unit.getAST();
+      if (nameEdit != null)
+      {
+         ((AbstractTypeDeclaration) unit.types().get(0)).getName().setIdentifier(simpleName);
+      }
+      if (packageEdit != null && declaration != null)
+      {
+         int start = unit.getPackage().getName().getStartPosition();
+         unit.getPackage().setName(position(ast.newName(packageName), start));
+      }
+      else if (packageEdit != null)
+      {
+         PackageDeclaration created = ast.newPackageDeclaration();
+         created.setName(position(ast.newName(packageName), "package ".length()));
+         created.setSourceRange(0, "package ".length() + packageName.length() + 1);
+         unit.setPackage(created);
+      }
+
+      ASTInternals.setLineEndTable(unit, SourceUpdater.lineEnds(updated));
+      ASTInternals.initCommentMapper(unit, updated.toCharArray());
+      ASTInternals.resetModificationCount(ast);
+      return JavaParserImpl.getJavaUnit(new Document(updated), unit, false);
+   }
+
+   /**
+    * Return the position in the updated source of the given position of the prototype source. The name follows the
+    * package declaration, so its edit is applied first, while positions are still those of the prototype.
+    */
+   private static int move(final int position, final Edit nameEdit, final Edit packageEdit)
+   {
+      int result = nameEdit == null ? position : nameEdit.move(position);
+      return packageEdit == null ? result : packageEdit.move(result);
+   }
+
+   /**
+    * Set the source range of the given new {@link Name} and of each of its segments, starting at the given position.
+    */
+   private static Name position(final Name name, final int start)
+   {
+      name.setSourceRange(start, name.getFullyQualifiedName().length());
+      if (name instanceof QualifiedName)
+      {
+         QualifiedName qualified = (QualifiedName) name;
+         position(qualified.getQualifier(), start);
+         SimpleName last = qualified.getName();
+         last.setSourceRange(start + name.getLength() - last.getIdentifier().length(), last.getIdentifier().length());
+      }
+      return name;
+   }
+
+   /**
+    * The replacement of a range of the prototype source, which moves every position at or after its end.
+    */
+   private static final class Edit
+   {
+      private final int offset;
+      private final int length;
+      private final int delta;
+
+      private Edit(final int offset, final int length, final int replacementLength)
+      {
+         this.offset = offset;
+         this.length = length;
+         this.delta = replacementLength - length;
+      }
+
+      private int move(final int position)
+      {
+         return position >= offset + length ? position + delta : position;
+      }
+   }
+}
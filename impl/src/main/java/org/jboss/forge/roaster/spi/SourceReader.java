@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.spi;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/**
+ * Reads Java source from files and streams, decoding the bytes exactly once into a right-sized character array that
+ * can be handed directly to the parser. Large files are memory-mapped rather than copied onto the heap.
+ */
+final class SourceReader
+{
+   /**
+    * Files at least this large are memory-mapped instead of read into a heap buffer.
+    */
+   static final int MAP_THRESHOLD = 256 * 1024;
+
+   static final Charset DEFAULT_CHARSET = Charset.forName(ParserSession.ENCODING);
+
+   private static final Charset UTF_16BE = Charset.forName("UTF-16BE");
+   private static final Charset UTF_16LE = Charset.forName("UTF-16LE");
+
+   private static final int BUFFER_SIZE = 8192;
+
+   private SourceReader()
+   {
+   }
+
+   /**
+    * Read and decode the contents of the given {@link File}. If the given {@link Charset} is <code>null</code>, it is
+    * detected from the byte order mark, falling back to {@link #DEFAULT_CHARSET}.
+    */
+   static char[] read(final File file, final Charset charset) throws IOException
+   {
+      FileInputStream stream = new FileInputStream(file);
+      try
+      {
+         FileChannel channel = stream.getChannel();
+         long size = channel.size();
+         if (size > Integer.MAX_VALUE)
+         {
+            throw new IOException("File [" + file + "] is too large to parse");
+         }
+         ByteBuffer bytes;
+         if (size >= MAP_THRESHOLD)
+         {
+            bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+         }
+         else
+         {
+            bytes = ByteBuffer.allocate((int) size);
+            while (bytes.hasRemaining() && channel.read(bytes) >= 0)
+            {
+               // keep reading until the buffer is full or the file is exhausted
+            }
+            bytes.flip();
+         }
+         return decode(bytes, charset);
+      }
+      finally
+      {
+         stream.close();
+      }
+   }
+
+   /**
+    * Read and decode the remaining contents of the given {@link InputStream}, without closing it. If the given
+    * {@link Charset} is <code>null</code>, it is detected from the byte order mark, falling back to
+    * {@link #DEFAULT_CHARSET}.
+    */
+   static char[] read(final InputStream stream, final Charset charset) throws IOException
+   {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int length = 0;
+      int count;
+      while ((count = stream.read(buffer, length, buffer.length - length)) >= 0)
+      {
+         length += count;
+         if (length == buffer.length)
+         {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+         }
+      }
+      return decode(ByteBuffer.wrap(buffer, 0, length), charset);
+   }
+
+   /**
+    * Decode the given bytes, skipping a leading byte order mark. If the given {@link Charset} is <code>null</code>,
+    * it is detected from the byte order mark, falling back to {@link #DEFAULT_CHARSET}. Malformed input is replaced
+    * rather than rejected, so that a single bad byte does not prevent the rest of the source from being parsed.
+    */
+   static char[] decode(final ByteBuffer bytes, final Charset charset) throws CharacterCodingException
+   {
+      Charset detected = detectByteOrderMark(bytes);
+      Charset effective = charset;
+      if (detected != null && (charset == null || charset.equals(detected)))
+      {
+         effective = detected;
+      }
+      else if (detected != null)
+      {
+         // the byte order mark does not belong to the requested charset, so it is decoded as content
+         bytes.rewind();
+      }
+      if (effective == null)
+      {
+         effective = DEFAULT_CHARSET;
+      }
+
+      CharsetDecoder decoder = effective.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+               .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      char[] chars = new char[(int) Math.ceil(bytes.remaining() * (double) decoder.maxCharsPerByte())];
+      CharBuffer out = CharBuffer.wrap(chars);
+      decoder.decode(bytes, out, true);
+      decoder.flush(out);
+      return out.position() == chars.length ? chars : Arrays.copyOf(chars, out.position());
+   }
+
+   /**
+    * Return the {@link Charset} indicated by a byte order mark at the start of the given bytes, leaving the buffer
+    * positioned after the mark, or <code>null</code> if there is none.
+    */
+   private static Charset detectByteOrderMark(final ByteBuffer bytes)
+   {
+      int remaining = bytes.remaining();
+      if (remaining >= 3 && (bytes.get(0) & 0xFF) == 0xEF && (bytes.get(1) & 0xFF) == 0xBB
+               && (bytes.get(2) & 0xFF) == 0xBF)
+      {
+         bytes.position(3);
+         return DEFAULT_CHARSET;
+      }
+      if (remaining >= 2 && (bytes.get(0) & 0xFF) == 0xFE && (bytes.get(1) & 0xFF) == 0xFF)
+      {
+         bytes.position(2);
+         return UTF_16BE;
+      }
+      if (remaining >= 2 && (bytes.get(0) & 0xFF) == 0xFF && (bytes.get(1) & 0xFF) == 0xFE)
+      {
+         bytes.position(2);
+         return UTF_16LE;
+      }
+      return null;
+   }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.roaster.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.ChildListPropertyDescriptor;
+import org.eclipse.jdt.core.dom.ChildPropertyDescriptor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+import org.eclipse.jdt.core.dom.TextElement;
+import org.eclipse.jface.text.Document;
+import org.jboss.forge.roaster.ParserException;
+import org.jboss.forge.roaster.SourceTemplate;
+import org.jboss.forge.roaster.model.JavaUnit;
+import org.jboss.forge.roaster.model.impl.ExpressionParser;
+import org.jboss.forge.roaster.model.impl.TypeParser;
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+/**
+ * The {@link SourceTemplate} implementation. The template is parsed once into a protected {@link CompilationUnit};
+ * each instantiation copies it with {@link UnitCopier}, wraps the copy like a freshly parsed source, and then replaces
+ * the placeholder nodes, so that the substitutions are rendered as ordinary modifications of the template text.
+ */
+final class SourceTemplateImpl<T extends JavaSource<?>> implements SourceTemplate<T>
+{
+   private static final Pattern PLACEHOLDER = Pattern.compile("\\$([A-Za-z_][A-Za-z0-9_]*)\\$");
+
+   private final Class<T> type;
+   private final String source;
+   private final CompilationUnit master;
+   private final Set<String> placeholders;
+
+   SourceTemplateImpl(final Class<T> type, final String source)
+   {
+      this.type = type;
+      this.source = source;
+
+      CompilationUnit unit = ParserSession.parseCompilationUnit(source.toCharArray());
+      ASTNode declaration = unit.types().isEmpty() ? unit.getPackage() : (ASTNode) unit.types().get(0);
+      if (declaration == null)
+      {
+         throw new ParserException("Could not find type declaration in Java source - is this actually code?");
+      }
+      JavaSource<?> result = JavaParserImpl.getJavaSource(null, new Document(source), unit, declaration);
+      if (!type.isInstance(result))
+      {
+         throw new ParserException("Source does not represent a [" + type.getSimpleName() + "], instead was ["
+                  + result.getClass().getSimpleName() + "] - Cannot convert.");
+      }
+
+      Set<String> names = new LinkedHashSet<String>();
+      for (ASTNode node : findPlaceholders(unit))
+      {
+         Matcher matcher = PLACEHOLDER.matcher(getText(node));
+         while (matcher.find())
+         {
+            names.add(matcher.group(1));
+         }
+      }
+      this.placeholders = Collections.unmodifiableSet(names);
+
+      ParserSession.protect(unit);
+      this.master = unit;
+   }
+
+   @Override
+   public Set<String> getPlaceholders()
+   {
+      return placeholders;
+   }
+
+   @Override
+   public T instantiate(final Map<String, String> values)
+   {
+      for (String name : placeholders)
+      {
+         if (values.get(name) == null)
+         {
+            throw new IllegalArgumentException("No value given for placeholder [" + name + "]");
+         }
+      }
+
+      CompilationUnit unit = UnitCopier.copy(master, source);
+      if (unit == null)
+      {
+         unit = ParserSession.parseCompilationUnit(source.toCharArray());
+      }
+      JavaUnit result = JavaParserImpl.getJavaUnit(new Document(source), unit, false);
+      for (ASTNode node : findPlaceholders(unit))
+      {
+         substitute(node, values);
+      }
+      return type.cast(result.getTopLevelTypes().get(0));
+   }
+
+   @Override
+   public String toString()
+   {
+      return source;
+   }
+
+   /**
+    * Return the outermost {@link Name} nodes, {@link StringLiteral} nodes and Javadoc {@link TextElement} nodes of the
+    * given {@link CompilationUnit} whose text contains a placeholder, in source order.
+    */
+   private static List<ASTNode> findPlaceholders(final CompilationUnit unit)
+   {
+      final List<ASTNode> result = new ArrayList<ASTNode>();
+      unit.accept(new ASTVisitor(true)
+      {
+         @Override
+         public boolean visit(final QualifiedName node)
+         {
+            add(node);
+            return false;
+         }
+
+         @Override
+         public boolean visit(final SimpleName node)
+         {
+            add(node);
+            return false;
+         }
+
+         @Override
+         public boolean visit(final StringLiteral node)
+         {
+            add(node);
+            return false;
+         }
+
+         @Override
+         public boolean visit(final TextElement node)
+         {
+            add(node);
+            return false;
+         }
+
+         private void add(final ASTNode node)
+         {
+            if (PLACEHOLDER.matcher(getText(node)).find())
+            {
+               result.add(node);
+            }
+         }
+      });
+      return result;
+   }
+
+   private static String getText(final ASTNode node)
+   {
+      if (node instanceof StringLiteral)
+      {
+         return ((StringLiteral) node).getLiteralValue();
+      }
+      if (node instanceof TextElement)
+      {
+         return ((TextElement) node).getText();
+      }
+      return ((Name) node).getFullyQualifiedName();
+   }
+
+   private static void substitute(final ASTNode node, final Map<String, String> values)
+   {
+      String text = getText(node);
+      if (node instanceof StringLiteral)
+      {
+         ((StringLiteral) node).setLiteralValue(replace(text, values));
+         return;
+      }
+      if (node instanceof TextElement)
+      {
+         ((TextElement) node).setText(replace(text, values));
+         return;
+      }
+
+      AST ast = node.getAST();
+      StructuralPropertyDescriptor location = node.getLocationInParent();
+      Matcher whole = PLACEHOLDER.matcher(text);
+      if (whole.matches() && location == SimpleType.NAME_PROPERTY)
+      {
+         replaceNode(node.getParent(), TypeParser.parse(ast, values.get(whole.group(1)).trim()));
+      }
+      else if (whole.matches() && getChildType(location) == Expression.class)
+      {
+         replaceNode(node, ExpressionParser.parse(ast, values.get(whole.group(1))));
+      }
+      else if (node instanceof SimpleName && getChildType(location) == SimpleName.class)
+      {
+         ((SimpleName) node).setIdentifier(replace(text, values));
+      }
+      else
+      {
+         replaceNode(node, ast.newName(replace(text, values)));
+      }
+   }
+
+   private static String replace(final String text, final Map<String, String> values)
+   {
+      Matcher matcher = PLACEHOLDER.matcher(text);
+      StringBuffer result = new StringBuffer();
+      while (matcher.find())
+      {
+         matcher.appendReplacement(result, Matcher.quoteReplacement(values.get(matcher.group(1))));
+      }
+      matcher.appendTail(result);
+      return result.toString();
+   }
+
+   private static Class<?> getChildType(final StructuralPropertyDescriptor location)
+   {
+      if (location instanceof ChildPropertyDescriptor)
+      {
+         return ((ChildPropertyDescriptor) location).getChildType();
+      }
+      if (location instanceof ChildListPropertyDescriptor)
+      {
+         return ((ChildListPropertyDescriptor) location).getElementType();
+      }
+      return null;
+   }
+
+   @SuppressWarnings("unchecked")
+   private static void replaceNode(final ASTNode node, final ASTNode replacement)
+   {
+      StructuralPropertyDescriptor location = node.getLocationInParent();
+      ASTNode parent = node.getParent();
+      if (location.isChildListProperty())
+      {
+         List<ASTNode> siblings = (List<ASTNode>) parent.getStructuralProperty(location);
+         siblings.set(siblings.indexOf(node), replacement);
+      }
+      else
+      {
+         parent.setStructuralProperty(location, replacement);
+      }
+   }
+}
@@ -0,0 +1,785 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.ChildListPropertyDescriptor;
+import org.eclipse.jdt.core.dom.ChildPropertyDescriptor;
+import org.eclipse.jdt.core.dom.Comment;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.PackageDeclaration;
+import org.eclipse.jdt.core.dom.SimplePropertyDescriptor;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jdt.internal.compiler.parser.TerminalTokens;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.ParserException;
+
+/**
+ * Updates a parsed {@link CompilationUnit} and its {@link Document} in place, so that they match a new version of the
+ * source, as if it had been parsed again.
+ * <p>
+ * When the edited range lies within the body of a class or interface, only the body declarations touching it (and the
+ * declaration that follows them) are parsed again; every other node keeps its identity, and only its position is
+ * adjusted. Edits to anything else, such as a type header, an import, or the body of an enum or annotation type, as
+ * well as edits that leave unbalanced braces or syntax errors behind, cause the whole source to be parsed again; the
+ * package declaration and the top level type declarations are then updated in place, but nested nodes are replaced.
+ * <p>
+ * Updating a tree in place relies on {@link ASTInternals}. If they are not available, if an update through them
+ * fails, or if the tree was parsed without {@link ParseOptions#isIncrementalUpdates()}, the source is parsed again
+ * into a new {@link CompilationUnit}, which replaces the given one. The replaced unit keeps a reference to its
+ * replacement, so that every holder of a node of the replaced tree can find its counterpart with
+ * {@link #getCurrent(CompilationUnit)} and {@link #locate(CompilationUnit, ASTNode)}.
+ * <p>
+ * A tree modified since it was parsed or last updated cannot be updated, since its modifications are not part of the
+ * {@link Document} and would be lost.
+ */
+public final class SourceUpdater
+{
+   private static final String REPLACEMENT = SourceUpdater.class.getName() + ".replacement";
+
+   private static final String UPDATES = SourceUpdater.class.getName() + ".updates";
+
+   private static final int MALFORMED = ASTNode.MALFORMED | ASTNode.RECOVERED;
+
+   private static final Comparator<ASTNode> BY_POSITION = new Comparator<ASTNode>()
+   {
+      @Override
+      public int compare(final ASTNode left, final ASTNode right)
+      {
+         return left.getStartPosition() - right.getStartPosition();
+      }
+   };
+
+   private SourceUpdater()
+   {
+   }
+
+   /**
+    * Update the given {@link Document} and {@link CompilationUnit} to the given source. The edit applied is the range
+    * between the common prefix and the common suffix of the current and the given source.
+    *
+    * @param retained the node held by the caller, which must still belong to the updated tree
+    * @return the given {@link CompilationUnit}, or the new {@link CompilationUnit} that replaces it
+    * @throws ParserException if the node held by the caller would be removed by the update
+    * @throws IllegalStateException if the tree has been modified since it was parsed or last updated
+    */
+   public static CompilationUnit update(final Document document, final CompilationUnit unit, final ASTNode retained,
+            final String source)
+   {
+      String current = document.get();
+      int limit = Math.min(current.length(), source.length());
+      int prefix = 0;
+      while (prefix < limit && current.charAt(prefix) == source.charAt(prefix))
+      {
+         prefix++;
+      }
+      int suffix = 0;
+      while (suffix < limit - prefix
+               && current.charAt(current.length() - suffix - 1) == source.charAt(source.length() - suffix - 1))
+      {
+         suffix++;
+      }
+      return applyEdit(document, unit, retained, prefix, current.length() - prefix - suffix,
+               source.substring(prefix, source.length() - suffix));
+   }
+
+   /**
+    * Replace the given range of the given {@link Document} with the given text, and update the given
+    * {@link CompilationUnit} accordingly.
+    *
+    * @param retained the node held by the caller, which must still belong to the updated tree
+    * @return the given {@link CompilationUnit}, or the new {@link CompilationUnit} that replaces it
+    * @throws ParserException if the node held by the caller would be removed by the edit
+    * @throws IllegalStateException if the tree has been modified since it was parsed or last updated
+    */
+   public static CompilationUnit applyEdit(final Document document, final CompilationUnit unit,
+            final ASTNode retained, final int offset, final int length, final String text)
+   {
+      String source = document.get();
+      if (offset < 0 || length < 0 || offset + length > source.length())
+      {
+         throw new IllegalArgumentException("Edit [offset=" + offset + ", length=" + length
+                  + "] is outside of the source, of length [" + source.length() + "]");
+      }
+      if ((unit.getFlags() & ASTNode.PROTECT) != 0)
+      {
+         throw new IllegalStateException("Cannot update a read-only source");
+      }
+      if (isModified(document, unit))
+      {
+         throw new IllegalStateException("Cannot update a source that has been modified since it was parsed or last"
+                  + " updated, as its modifications would be lost; parse its current content instead");
+      }
+      if (length == 0 && text.length() == 0)
+      {
+         return unit;
+      }
+
+      String updated = source.substring(0, offset) + text + source.substring(offset + length);
+      ParseOptions options = ParserSession.getParseOptions(unit);
+      if (!options.isIncrementalUpdates() || !ASTInternals.isAvailable())
+      {
+         return reparse(document, unit, retained, offset, length, text, updated, options);
+      }
+      Update update = BodyUpdate.create(unit, retained, source, updated, offset, length, text.length(), options);
+      if (update == null)
+      {
+         update = UnitUpdate.create(unit, retained, updated, options);
+      }
+
+      try
+      {
+         ASTInternals.stopRecording(unit);
+         update.apply();
+         ASTInternals.setLineEndTable(unit, lineEnds(updated));
+         ASTInternals.initCommentMapper(unit, updated.toCharArray());
+         ASTInternals.resetModificationCount(unit.getAST());
+         unit.recordModifications();
+      }
+      catch (RuntimeException e)
+      {
+         /*
+          * The JDT internals did not behave as expected, and the tree may be partly updated; replace it.
+          */
+         return reparse(document, unit, retained, offset, length, text, updated, options);
+      }
+      replace(document, offset, length, text);
+      unit.setProperty(UPDATES, getUpdateCount(unit) + 1);
+      return unit;
+   }
+
+   /**
+    * Return the number of updates applied in place to the given {@link CompilationUnit}. An update may replace any node
+    * of the tree below the top level type declarations, so anything derived from those nodes must be derived again
+    * once this number changes.
+    */
+   public static int getUpdateCount(final CompilationUnit unit)
+   {
+      Integer result = (Integer) unit.getProperty(UPDATES);
+      return result == null ? 0 : result;
+   }
+
+   /**
+    * Return the node of the given {@link CompilationUnit} that takes the place of the given node of another tree
+    * parsed from an earlier version of the same source, or <code>null</code> if there is none. A type declaration is
+    * matched by kind and name among the declarations of its parent, or else by kind and position; any other node is
+    * matched by kind and position.
+    */
+   @SuppressWarnings("unchecked")
+   public static ASTNode locate(final CompilationUnit unit, final ASTNode node)
+   {
+      if (node.getParent() == null)
+      {
+         return node instanceof CompilationUnit ? unit : null;
+      }
+      ASTNode parent = locate(unit, node.getParent());
+      if (parent == null)
+      {
+         return null;
+      }
+      StructuralPropertyDescriptor location = node.getLocationInParent();
+      if (location.isChildProperty())
+      {
+         Object candidate = parent.getStructuralProperty(location);
+         return candidate != null && candidate.getClass() == node.getClass() ? (ASTNode) candidate : null;
+      }
+      List<ASTNode> candidates = (List<ASTNode>) parent.getStructuralProperty(location);
+      if (node instanceof AbstractTypeDeclaration)
+      {
+         for (ASTNode candidate : candidates)
+         {
+            if (isSameKind(node, candidate)
+                     && ((AbstractTypeDeclaration) candidate).getName().getIdentifier()
+                              .equals(((AbstractTypeDeclaration) node).getName().getIdentifier()))
+            {
+               return candidate;
+            }
+         }
+      }
+      int index = ((List<ASTNode>) node.getParent().getStructuralProperty(location)).indexOf(node);
+      return index < candidates.size() && isSameKind(node, candidates.get(index)) ? candidates.get(index) : null;
+   }
+
+   /**
+    * Return the {@link CompilationUnit} that currently replaces the given one after updates of their source, or the
+    * given {@link CompilationUnit} if it has not been replaced.
+    */
+   public static CompilationUnit getCurrent(final CompilationUnit unit)
+   {
+      CompilationUnit result = unit;
+      CompilationUnit replacement = (CompilationUnit) result.getProperty(REPLACEMENT);
+      while (replacement != null)
+      {
+         result = replacement;
+         replacement = (CompilationUnit) result.getProperty(REPLACEMENT);
+      }
+      return result;
+   }
+
+   /**
+    * Parse the given updated source into a new {@link CompilationUnit}, which replaces the current one, and apply the
+    * edit to the given {@link Document}.
+    */
+   private static CompilationUnit reparse(final Document document, final CompilationUnit unit,
+            final ASTNode retained, final int offset, final int length, final String text, final String updated,
+            final ParseOptions options)
+   {
+      CompilationUnit result = ParserSession.parseCompilationUnit(updated.toCharArray(), options);
+      if (locate(result, retained) == null)
+      {
+         throw new ParserException("The edit removes or replaces the declaration of this source; parse it again");
+      }
+      replace(document, offset, length, text);
+      result.recordModifications();
+      unit.setProperty(REPLACEMENT, result);
+      return result;
+   }
+
+   /**
+    * Return <code>true</code> if the given {@link CompilationUnit} has been modified since it was parsed from, or last
+    * updated to, the content of the given {@link Document}.
+    */
+   private static boolean isModified(final Document document, final CompilationUnit unit)
+   {
+      if (ASTInternals.isAvailable())
+      {
+         return ASTInternals.hasRecordedModifications(unit);
+      }
+      try
+      {
+         return unit.rewrite(document, ParserSession.getCompilerOptions()).hasChildren();
+      }
+      catch (IllegalArgumentException e)
+      {
+         // modifications are not being recorded
+         return false;
+      }
+   }
+
+   private static void replace(final Document document, final int offset, final int length, final String text)
+   {
+      try
+      {
+         document.replace(offset, length, text);
+      }
+      catch (BadLocationException e)
+      {
+         throw new IllegalArgumentException(e);
+      }
+   }
+
+   private static boolean isSameKind(final ASTNode node, final ASTNode candidate)
+   {
+      return node.getClass() == candidate.getClass()
+               && (!(node instanceof TypeDeclaration) || ((TypeDeclaration) node).isInterface() == ((TypeDeclaration) candidate)
+                        .isInterface());
+   }
+
+   /**
+    * Return the positions of the line separators of the given source, as computed by the scanner: the position of
+    * each <code>\n</code>, and of each <code>\r</code> not followed by <code>\n</code>.
+    */
+   static int[] lineEnds(final String source)
+   {
+      int[] result = new int[16];
+      int count = 0;
+      for (int i = 0; i < source.length(); i++)
+      {
+         char c = source.charAt(i);
+         if (c == '\n' || (c == '\r' && (i + 1 == source.length() || source.charAt(i + 1) != '\n')))
+         {
+            if (count == result.length)
+            {
+               int[] grown = new int[count * 2];
+               System.arraycopy(result, 0, grown, 0, count);
+               result = grown;
+            }
+            result[count++] = i;
+         }
+      }
+      int[] trimmed = new int[count];
+      System.arraycopy(result, 0, trimmed, 0, count);
+      return trimmed;
+   }
+
+   private static Scanner createScanner(final char[] source)
+   {
+      Scanner scanner = new Scanner(false, false, false, ClassFileConstants.JDK1_7, null, null, true);
+      scanner.setSource(source);
+      return scanner;
+   }
+
+   private static boolean contains(final ASTNode ancestor, final ASTNode node)
+   {
+      for (ASTNode current = node; current != null; current = current.getParent())
+      {
+         if (current == ancestor)
+         {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   private static int end(final ASTNode node)
+   {
+      return node.getStartPosition() + node.getLength();
+   }
+
+   private static Comment[] sort(final List<Comment> comments)
+   {
+      Collections.sort(comments, BY_POSITION);
+      return comments.toArray(new Comment[comments.size()]);
+   }
+
+   private interface Update
+   {
+      void apply();
+   }
+
+   /**
+    * Replaces the body declarations of a single class or interface that are touched by an edit.
+    */
+   private static final class BodyUpdate implements Update
+   {
+      private final CompilationUnit unit;
+      private final List<BodyDeclaration> declarations;
+      private final int first;
+      private final int count;
+      private final int regionStart;
+      private final int regionEnd;
+      private final int delta;
+      private final TypeDeclaration replacement;
+
+      private BodyUpdate(final CompilationUnit unit, final List<BodyDeclaration> declarations, final int first,
+               final int count, final int regionStart, final int regionEnd, final int delta,
+               final TypeDeclaration replacement)
+      {
+         this.unit = unit;
+         this.declarations = declarations;
+         this.first = first;
+         this.count = count;
+         this.regionStart = regionStart;
+         this.regionEnd = regionEnd;
+         this.delta = delta;
+         this.replacement = replacement;
+      }
+
+      /**
+       * Return the {@link BodyUpdate} for the given edit, or <code>null</code> if the edit cannot be confined to the
+       * body declarations of a single class or interface.
+       */
+      @SuppressWarnings("unchecked")
+      static BodyUpdate create(final CompilationUnit unit, final ASTNode retained, final String source,
+               final String updated, final int offset, final int length, final int textLength,
+               final ParseOptions options)
+      {
+         int editEnd = offset + length;
+         char[] chars = source.toCharArray();
+
+         TypeDeclaration container = null;
+         int open = -1;
+         List<?> candidates = unit.types();
+         while (candidates != null)
+         {
+            List<?> nested = null;
+            for (Object candidate : candidates)
+            {
+               if (candidate instanceof TypeDeclaration)
+               {
+                  TypeDeclaration type = (TypeDeclaration) candidate;
+                  int brace = openingBrace(type, chars);
+                  int close = end(type) - 1;
+                  if (brace >= 0 && brace < offset && editEnd <= close && chars[close] == '}')
+                  {
+                     container = type;
+                     open = brace;
+                     nested = type.bodyDeclarations();
+                     break;
+                  }
+               }
+            }
+            candidates = nested;
+         }
+         if (container == null)
+         {
+            return null;
+         }
+
+         List<BodyDeclaration> declarations = container.bodyDeclarations();
+         int first = 0;
+         while (first < declarations.size() && end(declarations.get(first)) < offset)
+         {
+            first++;
+         }
+         int last = first;
+         while (last < declarations.size() && declarations.get(last).getStartPosition() <= editEnd)
+         {
+            last++;
+         }
+         /*
+          * The declaration following the edit is parsed again as well, since text inserted before it, such as an
+          * annotation or a modifier, may belong to it.
+          */
+         if (last < declarations.size())
+         {
+            last++;
+         }
+         int regionStart = first == 0 ? open + 1 : end(declarations.get(first - 1));
+         int regionEnd = last == declarations.size() ? end(container) - 1 : declarations.get(last).getStartPosition();
+
+         for (int i = first; i < last; i++)
+         {
+            if (contains(declarations.get(i), retained))
+            {
+               return null;
+            }
+         }
+         IProblem[] problems = unit.getProblems();
+         for (IProblem problem : problems)
+         {
+            if (problem.getSourceStart() < regionStart || problem.getSourceEnd() >= regionEnd)
+            {
+               return null;
+            }
+         }
+
+         int delta = textLength - length;
+         char[] updatedChars = updated.toCharArray();
+         if (!isBalanced(updatedChars, regionStart, regionEnd + delta))
+         {
+            return null;
+         }
+         TypeDeclaration replacement = ParserSession.parseBodyDeclarations(updatedChars, regionStart, regionEnd
+                  + delta - regionStart, options);
+         if (replacement == null || (replacement.getFlags() & MALFORMED) != 0
+                  || ((CompilationUnit) replacement.getRoot()).getProblems().length > 0)
+         {
+            return null;
+         }
+         return new BodyUpdate(unit, declarations, first, last - first, regionStart, regionEnd, delta, replacement);
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public void apply()
+      {
+         List<Comment> comments = new ArrayList<Comment>();
+         for (Comment comment : (List<Comment>) unit.getCommentList())
+         {
+            if (comment.getStartPosition() < regionStart || comment.getStartPosition() >= regionEnd)
+            {
+               comments.add(comment);
+            }
+         }
+
+         for (int i = 0; i < count; i++)
+         {
+            declarations.remove(first);
+         }
+
+         unit.accept(new ASTVisitor(true)
+         {
+            @Override
+            public void preVisit(final ASTNode node)
+            {
+               shift(node);
+            }
+         });
+         for (Comment comment : comments)
+         {
+            if (comment.getParent() == null)
+            {
+               shift(comment);
+            }
+         }
+
+         AST ast = unit.getAST();
+         Map<ASTNode, ASTNode> copies = new IdentityHashMap<ASTNode, ASTNode>();
+         List<BodyDeclaration> replacements = replacement.bodyDeclarations();
+         for (int i = 0; i < replacements.size(); i++)
+         {
+            declarations.add(first + i, ASTInternals.copy(ast, replacements.get(i), copies));
+         }
+         for (Comment comment : (List<Comment>) ((CompilationUnit) replacement.getRoot()).getCommentList())
+         {
+            Comment copy = (Comment) copies.get(comment);
+            if (copy == null)
+            {
+               copy = ASTInternals.copy(ast, comment, copies);
+               copy.setAlternateRoot(unit);
+            }
+            comments.add(copy);
+         }
+
+         ASTInternals.setCommentTable(unit, sort(comments));
+         ASTInternals.setProblems(unit, new IProblem[0]);
+      }
+
+      private void shift(final ASTNode node)
+      {
+         int start = node.getStartPosition();
+         if (start >= regionEnd)
+         {
+            node.setSourceRange(start + delta, node.getLength());
+         }
+         else if (start < regionStart && end(node) >= regionEnd)
+         {
+            node.setSourceRange(start, node.getLength() + delta);
+         }
+      }
+
+      /**
+       * Return the position of the opening brace of the body of the given type, or -1 if it cannot be found or the
+       * type was not parsed cleanly.
+       */
+      @SuppressWarnings("unchecked")
+      private static int openingBrace(final TypeDeclaration type, final char[] source)
+      {
+         if ((type.getFlags() & MALFORMED) != 0)
+         {
+            return -1;
+         }
+         int headerEnd = end(type.getName());
+         List<ASTNode> header = new ArrayList<ASTNode>(type.typeParameters());
+         header.addAll(type.superInterfaceTypes());
+         if (type.getSuperclassType() != null)
+         {
+            header.add(type.getSuperclassType());
+         }
+         for (ASTNode node : header)
+         {
+            headerEnd = Math.max(headerEnd, end(node));
+         }
+         Scanner scanner = createScanner(source);
+         scanner.resetTo(headerEnd, end(type) - 1);
+         try
+         {
+            int token;
+            while ((token = scanner.getNextToken()) != TerminalTokens.TokenNameEOF)
+            {
+               if (token == TerminalTokens.TokenNameLBRACE)
+               {
+                  return scanner.getCurrentTokenStartPosition();
+               }
+            }
+         }
+         catch (InvalidInputException e)
+         {
+            return -1;
+         }
+         return -1;
+      }
+
+      /**
+       * Return <code>true</code> if the given range of the given source consists of complete tokens, with balanced
+       * braces.
+       */
+      private static boolean isBalanced(final char[] source, final int start, final int end)
+      {
+         Scanner scanner = createScanner(source);
+         scanner.resetTo(start, end - 1);
+         int depth = 0;
+         try
+         {
+            int token;
+            while ((token = scanner.getNextToken()) != TerminalTokens.TokenNameEOF)
+            {
+               if (token == TerminalTokens.TokenNameLBRACE)
+               {
+                  depth++;
+               }
+               else if (token == TerminalTokens.TokenNameRBRACE && --depth < 0)
+               {
+                  return false;
+               }
+            }
+         }
+         catch (InvalidInputException e)
+         {
+            return false;
+         }
+         return depth == 0;
+      }
+   }
+
+   /**
+    * Replaces the content of a {@link CompilationUnit} with a new parse of the whole source, keeping the package
+    * declaration and the top level type declarations that still exist.
+    */
+   private static final class UnitUpdate implements Update
+   {
+      private final CompilationUnit unit;
+      private final CompilationUnit parsed;
+      private final Map<AbstractTypeDeclaration, AbstractTypeDeclaration> retainedTypes;
+
+      private UnitUpdate(final CompilationUnit unit, final CompilationUnit parsed,
+               final Map<AbstractTypeDeclaration, AbstractTypeDeclaration> retainedTypes)
+      {
+         this.unit = unit;
+         this.parsed = parsed;
+         this.retainedTypes = retainedTypes;
+      }
+
+      @SuppressWarnings("unchecked")
+      static UnitUpdate create(final CompilationUnit unit, final ASTNode retained, final String updated,
+               final ParseOptions options)
+      {
+         CompilationUnit parsed = ParserSession.parseCompilationUnit(updated.toCharArray(), options);
+
+         /*
+          * Each new top level type keeps the node of the existing type of the same kind and name, or else of the
+          * existing type of the same kind at the same index.
+          */
+         List<AbstractTypeDeclaration> existing = new ArrayList<AbstractTypeDeclaration>(unit.types());
+         List<AbstractTypeDeclaration> types = parsed.types();
+         Map<AbstractTypeDeclaration, AbstractTypeDeclaration> retainedTypes = new IdentityHashMap<AbstractTypeDeclaration, AbstractTypeDeclaration>();
+         for (AbstractTypeDeclaration type : types)
+         {
+            for (AbstractTypeDeclaration candidate : existing)
+            {
+               if (candidate != null && isSameKind(candidate, type)
+                        && candidate.getName().getIdentifier().equals(type.getName().getIdentifier()))
+               {
+                  retainedTypes.put(type, candidate);
+                  existing.set(existing.indexOf(candidate), null);
+                  break;
+               }
+            }
+         }
+         for (int i = 0; i < types.size() && i < existing.size(); i++)
+         {
+            AbstractTypeDeclaration candidate = existing.get(i);
+            if (candidate != null && !retainedTypes.containsKey(types.get(i)) && isSameKind(candidate, types.get(i)))
+            {
+               retainedTypes.put(types.get(i), candidate);
+               existing.set(i, null);
+            }
+         }
+
+         boolean kept = retained == unit
+                  || (retained instanceof PackageDeclaration && retained == unit.getPackage()
+                           && parsed.getPackage() != null)
+                  || retainedTypes.containsValue(retained);
+         if (!kept)
+         {
+            throw new ParserException("The edit removes or replaces the declaration of this source; parse it again");
+         }
+         return new UnitUpdate(unit, parsed, retainedTypes);
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public void apply()
+      {
+         AST ast = unit.getAST();
+         Map<ASTNode, ASTNode> copies = new IdentityHashMap<ASTNode, ASTNode>();
+
+         PackageDeclaration pkg = parsed.getPackage();
+         if (pkg != null && unit.getPackage() != null)
+         {
+            transplant(pkg, unit.getPackage(), copies);
+         }
+         else
+         {
+            unit.setPackage(pkg == null ? null : ASTInternals.copy(ast, pkg, copies));
+         }
+
+         unit.imports().clear();
+         for (ASTNode node : (List<ASTNode>) parsed.imports())
+         {
+            unit.imports().add(ASTInternals.copy(ast, node, copies));
+         }
+
+         List<AbstractTypeDeclaration> types = new ArrayList<AbstractTypeDeclaration>();
+         for (AbstractTypeDeclaration type : (List<AbstractTypeDeclaration>) parsed.types())
+         {
+            AbstractTypeDeclaration target = retainedTypes.get(type);
+            if (target == null)
+            {
+               target = ASTInternals.copy(ast, type, copies);
+            }
+            else
+            {
+               transplant(type, target, copies);
+            }
+            types.add(target);
+         }
+         unit.types().clear();
+         unit.types().addAll(types);
+         unit.setSourceRange(parsed.getStartPosition(), parsed.getLength());
+         ASTInternals.copyAttributes(parsed, unit);
+
+         List<Comment> comments = new ArrayList<Comment>();
+         for (Comment comment : (List<Comment>) parsed.getCommentList())
+         {
+            Comment copy = (Comment) copies.get(comment);
+            if (copy == null)
+            {
+               copy = ASTInternals.copy(ast, comment, copies);
+               copy.setAlternateRoot(unit);
+            }
+            comments.add(copy);
+         }
+         ASTInternals.setCommentTable(unit, sort(comments));
+         ASTInternals.setProblems(unit, parsed.getProblems());
+      }
+
+      /**
+       * Replace the properties of the given target node with copies of those of the given node, of the same type.
+       */
+      @SuppressWarnings("unchecked")
+      private static void transplant(final ASTNode node, final ASTNode target, final Map<ASTNode, ASTNode> copies)
+      {
+         AST ast = target.getAST();
+         for (StructuralPropertyDescriptor property : (List<StructuralPropertyDescriptor>) node
+                  .structuralPropertiesForType())
+         {
+            Object value = node.getStructuralProperty(property);
+            if (property instanceof SimplePropertyDescriptor)
+            {
+               target.setStructuralProperty(property, value);
+            }
+            else if (property instanceof ChildPropertyDescriptor)
+            {
+               target.setStructuralProperty(property, value == null ? null : ASTInternals.copy(ast, (ASTNode) value,
+                        copies));
+            }
+            else if (property instanceof ChildListPropertyDescriptor)
+            {
+               List<ASTNode> list = (List<ASTNode>) target.getStructuralProperty(property);
+               list.clear();
+               for (ASTNode child : (List<ASTNode>) value)
+               {
+                  list.add(ASTInternals.copy(ast, child, copies));
+               }
+            }
+         }
+         target.setSourceRange(node.getStartPosition(), node.getLength());
+         ASTInternals.copyAttributes(node, target);
+      }
+   }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.spi;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.Comment;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * Creates independent copies of parsed {@link CompilationUnit} instances without parsing their source again.
+ * {@link ASTNode#copySubtree(AST, ASTNode)} copies the tree itself; the node flags and properties, comment table, line
+ * end table, problems and modification baseline that the parser would have set are restored through
+ * {@link ASTInternals}. If those are not available in the JDT version on the classpath,
+ * {@link #copy(CompilationUnit, String)} returns <code>null</code> and callers must parse the source again.
+ */
+final class UnitCopier
+{
+   private UnitCopier()
+   {
+   }
+
+   /**
+    * Return a copy of the given {@link CompilationUnit}, parsed from the given source, as if it had just been
+    * returned by the parser. The copy belongs to a new {@link AST}, so it can be modified independently of the
+    * original, even if the original is protected. Returns <code>null</code> if the copy cannot be completed.
+    */
+   @SuppressWarnings("unchecked")
+   static CompilationUnit copy(final CompilationUnit original, final String source)
+   {
+      if (!ASTInternals.isAvailable())
+      {
+         return null;
+      }
+      try
+      {
+         AST ast = AST.newAST(original.getAST().apiLevel());
+         Map<ASTNode, ASTNode> copies = new IdentityHashMap<ASTNode, ASTNode>();
+         CompilationUnit copy = ASTInternals.copy(ast, original, copies);
+
+         List<Comment> comments = original.getCommentList();
+         if (comments != null)
+         {
+            Comment[] table = new Comment[comments.size()];
+            for (int i = 0; i < table.length; i++)
+            {
+               Comment comment = (Comment) copies.get(comments.get(i));
+               if (comment == null)
+               {
+                  comment = ASTInternals.copy(ast, comments.get(i), copies);
+                  comment.setAlternateRoot(copy);
+               }
+               table[i] = comment;
+            }
+            ASTInternals.setCommentTable(copy, table);
+         }
+         ASTInternals.setLineEndTable(copy, ASTInternals.getLineEndTable(original));
+         ASTInternals.setProblems(copy, original.getProblems());
+         ASTInternals.initCommentMapper(copy, source.toCharArray());
+         ASTInternals.resetModificationCount(ast);
+         return copy;
+      }
+      catch (Exception e)
+      {
+         return null;
+      }
+   }
+}
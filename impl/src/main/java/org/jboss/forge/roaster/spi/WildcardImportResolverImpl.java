@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.roaster.spi;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.source.Importer;
+import org.jboss.forge.roaster.model.util.Types;
+
+/**
+ * The built-in {@link WildcardImportResolver}. It resolves a simple type name against the on-demand imports of a
+ * source, in declaration order, by looking the name up in an index of the classes of the running JDK and of the class
+ * path entries registered with {@link #addClassPath(File...)}. The indexes are built on first use and shared by every
+ * source; no class is loaded.
+ * <p>
+ * A JDK without <code>rt.jar</code>, such as Java 9 and later, is not indexed; the class files of its types are looked
+ * up one at a time through the parent of the system class loader instead. On such a JDK, resolving a name against an
+ * on-demand import costs up to one {@link ClassLoader#getResource(String)} call, which searches the runtime image, per
+ * segment of the imported name. The outcome of each lookup is kept in a map shared by every source and bounded to the
+ * 4096 most recently used names, so the same name is only looked up once while it stays in use.
+ */
+public class WildcardImportResolverImpl implements WildcardImportResolver
+{
+   private static final int MAX_JDK_RESOURCES = 4096;
+
+   private static final List<PackageIndex> classPath = new CopyOnWriteArrayList<PackageIndex>();
+
+   @SuppressWarnings("serial")
+   private static final Map<String, Boolean> jdkResources = Collections
+            .synchronizedMap(new LinkedHashMap<String, Boolean>(16, 0.75f, true)
+            {
+               @Override
+               protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest)
+               {
+                  return size() > MAX_JDK_RESOURCES;
+               }
+            });
+
+   /**
+    * Register jar files or class directories whose types should be visible to on-demand imports, in addition to those
+    * of the JDK. They are only listed when a type is first resolved against them.
+    */
+   public static void addClassPath(final File... entries)
+   {
+      classPath.add(new PackageIndex(Arrays.asList(entries)));
+   }
+
+   @Override
+   public String resolve(final JavaType<?> source, final String type)
+   {
+      if (!(source instanceof Importer<?>) || !Types.isSimpleName(type))
+      {
+         return type;
+      }
+      for (Import imprt : ((Importer<?>) source).getImports())
+      {
+         if (imprt.isWildcard() && declares(imprt.getQualifiedName(), type))
+         {
+            return imprt.getQualifiedName() + "." + type;
+         }
+      }
+      return type;
+   }
+
+   private static boolean declares(final String packageName, final String simpleName)
+   {
+      PackageIndex jdk = PackageIndex.jdk();
+      if (jdk == null ? isJdkResource(packageName, simpleName) : jdk.contains(packageName, simpleName))
+      {
+         return true;
+      }
+      for (PackageIndex index : classPath)
+      {
+         if (index.contains(packageName, simpleName))
+         {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * Return <code>true</code> if the JDK contains the class file of the given type, taking the declaring name first as
+    * a package and then as an enclosing type. Outcomes are memoized.
+    */
+   private static boolean isJdkResource(final String declaringName, final String simpleName)
+   {
+      String name = declaringName + '.' + simpleName;
+      Boolean result = jdkResources.get(name);
+      if (result == null)
+      {
+         result = findJdkResource(declaringName, simpleName);
+         jdkResources.put(name, result);
+      }
+      return result;
+   }
+
+   private static boolean findJdkResource(final String declaringName, final String simpleName)
+   {
+      ClassLoader loader = ClassLoader.getSystemClassLoader();
+      if (loader.getParent() != null)
+      {
+         loader = loader.getParent();
+      }
+      String path = declaringName.replace('.', '/') + '/' + simpleName;
+      int separator = declaringName.length();
+      while (separator > 0)
+      {
+         if (loader.getResource(path + ".class") != null)
+         {
+            return true;
+         }
+         path = path.substring(0, separator) + '$' + path.substring(separator + 1);
+         separator = path.lastIndexOf('/', separator - 1);
+      }
+      return false;
+   }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.AnnotationElementSource;
+import org.jboss.forge.roaster.model.source.EnumConstantSource;
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.JavaAnnotationSource;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.junit.Test;
+
+public class BulkInsertionTest
+{
+   @Test
+   public void testAddFields() throws Exception
+   {
+      JavaClassSource bulk = Roaster.create(JavaClassSource.class).setName("Bulk");
+      bulk.addMethod("public void run() {}");
+      List<FieldSource<JavaClassSource>> fields = bulk.addFields("private int id;\nprivate String name, description;",
+               "protected long version = 1L;");
+
+      JavaClassSource single = Roaster.create(JavaClassSource.class).setName("Bulk");
+      single.addMethod("public void run() {}");
+      single.addField("private int id;");
+      single.addField("private String name, description;");
+      single.addField("protected long version = 1L;");
+
+      assertEquals(4, fields.size());
+      assertEquals("id", fields.get(0).getName());
+      assertEquals("description", fields.get(2).getName());
+      assertEquals("1L", fields.get(3).getLiteralInitializer());
+      assertEquals(single.toString(), bulk.toString());
+      assertEquals(4, bulk.getFields().size());
+   }
+
+   @Test
+   public void testAddMethods() throws Exception
+   {
+      JavaClassSource source = Roaster.create(JavaClassSource.class).setName("Bulk");
+      source.addField("private int x;");
+      List<MethodSource<JavaClassSource>> methods = source.addMethods(
+               "public int getX() { return x; }\npublic void setX(int x) { this.x = x; }", "public Bulk() {}");
+
+      assertEquals(3, methods.size());
+      assertEquals("getX", methods.get(0).getName());
+      assertEquals("setX", methods.get(1).getName());
+      assertTrue(methods.get(2).isConstructor());
+      assertEquals(3, source.getMethods().size());
+      methods.get(0).setBody("return x + 1;");
+      assertTrue(source.toString().contains("return x + 1;"));
+   }
+
+   @Test
+   public void testAddMalformedMethods() throws Exception
+   {
+      JavaClassSource source = Roaster.create(JavaClassSource.class);
+      List<MethodSource<JavaClassSource>> methods = source.addMethods("public void run() {}", "public void stop()");
+      assertEquals(2, methods.size());
+      assertEquals("stop", methods.get(1).getName());
+   }
+
+   @Test
+   public void testAddEnumConstants() throws Exception
+   {
+      JavaEnumSource source = Roaster.create(JavaEnumSource.class).setName("Color");
+      source.addEnumConstant("BLACK");
+      List<EnumConstantSource> constants = source.addEnumConstants("RED(1), GREEN(2)", "BLUE(3)");
+
+      assertEquals(3, constants.size());
+      assertEquals("GREEN", constants.get(1).getName());
+      assertEquals(4, source.getEnumConstants().size());
+      assertEquals("BLUE", source.getEnumConstants().get(3).getName());
+   }
+
+   @Test
+   public void testAddEnumConstantsEndingWithSemicolon() throws Exception
+   {
+      JavaEnumSource source = Roaster.create(JavaEnumSource.class).setName("Color");
+      List<EnumConstantSource> constants = source.addEnumConstants("RED;",
+               "GREEN { public String toString() { return \"green\"; } };  ", "BLUE");
+
+      assertEquals(3, constants.size());
+      assertEquals("GREEN", constants.get(1).getName());
+      assertEquals(1, constants.get(1).getBody().getMethods().size());
+      assertEquals("BLUE", constants.get(2).getName());
+      JavaEnumSource parsed = Roaster.parse(JavaEnumSource.class, source.toString());
+      assertFalse(parsed.hasSyntaxErrors());
+      assertEquals(3, parsed.getEnumConstants().size());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testAddEnumConstantsWithOtherMembers() throws Exception
+   {
+      Roaster.create(JavaEnumSource.class).setName("Color").addEnumConstants("RED; private int value;");
+   }
+
+   @Test
+   public void testAddAnnotationElements() throws Exception
+   {
+      JavaAnnotationSource source = Roaster.create(JavaAnnotationSource.class).setName("Marker");
+      source.addAnnotationElement("String value()");
+      List<AnnotationElementSource> elements = source.addAnnotationElements("int size() default 0;",
+               "boolean enabled() default true");
+
+      assertEquals(2, elements.size());
+      assertEquals("size", elements.get(0).getName());
+      assertEquals("true", elements.get(1).getDefaultValue().getLiteral());
+      assertEquals(3, source.getAnnotationElements().size());
+      assertEquals("enabled", source.getAnnotationElements().get(2).getName());
+   }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.forge.roaster.CacheStatistics;
+import org.jboss.forge.roaster.ParseCache;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FragmentCacheTest
+{
+   private ParseCache previous;
+   private ParseCache cache;
+
+   @Before
+   public void setUp()
+   {
+      previous = Roaster.getFragmentCache();
+      cache = new ParseCache(Roaster.DEFAULT_FRAGMENT_CACHE_WEIGHT);
+      Roaster.setFragmentCache(cache);
+   }
+
+   @After
+   public void tearDown()
+   {
+      Roaster.setFragmentCache(previous);
+   }
+
+   @Test
+   public void testDisabledByDefault() throws Exception
+   {
+      assertNull(previous);
+   }
+
+   @Test
+   public void testRepeatedDeclarationsAreCopied() throws Exception
+   {
+      JavaClassSource first = generate();
+      CacheStatistics statistics = cache.getStatistics();
+      assertEquals(0, statistics.getHitCount());
+
+      JavaClassSource second = generate();
+      assertEquals(statistics.getMissCount(), cache.getStatistics().getMissCount());
+      assertEquals(statistics.getMissCount(), cache.getStatistics().getHitCount());
+      assertEquals(first.toString(), second.toString());
+
+      second.getField("id").setName("key");
+      second.getMethod("getId").setBody("return key;");
+      second.getAnnotation(SuppressWarnings.class).setStringValue("unused");
+      assertEquals(first.toString(), generate().toString());
+   }
+
+   @Test
+   public void testDisabledCache() throws Exception
+   {
+      String expected = generate().toString();
+      long requests = cache.getStatistics().getRequestCount();
+      Roaster.setFragmentCache(null);
+      assertEquals(expected, generate().toString());
+      assertEquals(requests, cache.getStatistics().getRequestCount());
+   }
+
+   @Test
+   public void testEnumConstants() throws Exception
+   {
+      JavaEnumSource first = Roaster.create(JavaEnumSource.class).setName("Color");
+      first.addEnumConstant("RED(1)");
+      first.addEnumConstant("GREEN(2)").setConstructorArguments("3");
+      long hits = cache.getStatistics().getHitCount();
+
+      JavaEnumSource second = Roaster.create(JavaEnumSource.class).setName("Color");
+      second.addEnumConstant("RED(1)");
+      second.addEnumConstant("GREEN(2)").setConstructorArguments("3");
+      assertTrue(cache.getStatistics().getHitCount() > hits);
+      assertEquals(first.toString(), second.toString());
+   }
+
+   private static JavaClassSource generate()
+   {
+      JavaClassSource result = Roaster.create(JavaClassSource.class).setName("Entity");
+      result.addAnnotation(SuppressWarnings.class).setStringValue("serial");
+      result.addField("private long id = 0L;");
+      result.addField("private String name, description;").setLiteralInitializer("\"none\"");
+      result.addMethod("public long getId() { return id; }");
+      return result;
+   }
+}
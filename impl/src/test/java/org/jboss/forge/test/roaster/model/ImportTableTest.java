@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.junit.Test;
+
+public class ImportTableTest
+{
+   @Test
+   public void testLookupsFollowModifications() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "package org.example;"
+               + " import java.util.List; import org.other.List; import static org.example.Util.list;"
+               + " public class Imports { class Inner {} }");
+      assertEquals("java.util.List", source.getImport("List").getQualifiedName());
+      assertEquals("java.util.List", source.resolveType("List<String>"));
+      assertTrue(source.getImport("list").isStatic());
+      assertSame(source.getImport("List"), source.getImport("java.util.List"));
+
+      source.addField("private int count;");
+      assertTrue(source.hasImport("java.util.List"));
+
+      source.removeImport("java.util.List");
+      assertEquals("org.other.List", source.resolveType("List"));
+      assertFalse(source.hasImport("java.util.List"));
+
+      Import set = source.addImport("java.util.Set");
+      set.setName("java.util.Map");
+      assertNull(source.getImport("Set"));
+      assertEquals("java.util.Map", source.resolveType("Map"));
+
+      JavaSource<?> inner = source.getNestedType("Inner");
+      inner.addImport("java.util.Date");
+      assertEquals("java.util.Date", source.resolveType("Date"));
+      assertEquals(4, source.getImports().size());
+      assertEquals(source.getImports(), inner.getImports());
+   }
+
+   @Test
+   public void testResolvedTypesFollowImportsAndPackage() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "package org.example;"
+               + " import java.util.*; public class Imports {}");
+      assertEquals("org.example.Customer", source.resolveType("Customer"));
+      assertEquals("java.util.List", source.resolveType("List<Customer>"));
+      assertSame(source.resolveType("Customer"), source.resolveType("Customer"));
+
+      source.setPackage("org.example.model");
+      assertEquals("org.example.model.Customer", source.resolveType("Customer"));
+      source.setDefaultPackage();
+      assertEquals("Customer", source.resolveType("Customer"));
+
+      source.addImport("org.example.crm.Customer");
+      assertEquals("org.example.crm.Customer", source.resolveType("Customer"));
+      source.addImport("java.awt.List");
+      assertEquals("java.awt.List", source.resolveType("List<Customer>"));
+      source.removeImport("java.awt.List");
+      assertEquals("java.util.List", source.resolveType("List<Customer>"));
+      assertEquals("java.lang.String", source.resolveType("String[]"));
+      assertEquals("int", source.resolveType("int"));
+   }
+
+   @Test
+   public void testManyImportsAndReferences() throws Exception
+   {
+      JavaClassSource source = Roaster.create(JavaClassSource.class).setPackage("org.example").setName("Generated");
+      for (int i = 0; i < 100; i++)
+      {
+         source.addImport("org.example.model" + i + ".Type" + i);
+      }
+      for (int i = 0; i < 1000; i++)
+      {
+         int type = i % 100;
+         source.addImport("org.example.model" + type + ".Type" + type);
+         assertTrue(source.hasImport("Type" + type));
+         assertFalse(source.requiresImport("org.example.model" + type + ".Type" + type));
+         assertEquals("org.example.model" + type + ".Type" + type, source.resolveType("Type" + type));
+         source.addField("private Type" + type + " field" + i + ";");
+      }
+      assertEquals(100, source.getImports().size());
+      assertEquals("org.example.Unknown", source.resolveType("Unknown"));
+   }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.ParserException;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.JavaUnit;
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.junit.Test;
+
+public class IncrementalUpdateTest
+{
+   private static final String SOURCE = "package org.example;\n"
+            + "import java.util.List;\n"
+            + "/** Documented. */\n"
+            + "public class Example {\n"
+            + "   // the values\n"
+            + "   private List<String> values;\n"
+            + "   /** Counts. */\n"
+            + "   public int count() { /* size */ return values.size(); }\n"
+            + "   public void clear() { values.clear(); }\n"
+            + "   public static class Inner { int depth() { return 1; } }\n"
+            + "   public String describe() { return \"values\"; }\n"
+            + "}\n";
+
+   @Test
+   public void testEditKeepsUntouchedMembers() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      FieldSource<JavaClassSource> values = javaClass.getField("values");
+      MethodSource<JavaClassSource> count = javaClass.getMethod("count");
+      MethodSource<JavaClassSource> describe = javaClass.getMethod("describe");
+      JavaSource<?> inner = javaClass.getNestedType("Inner");
+
+      int offset = SOURCE.indexOf("values.clear();");
+      javaClass.applyEdit(offset, "values.clear();".length(), "values = null;");
+
+      assertAttached(javaClass, values);
+      assertAttached(javaClass, count);
+      assertAttached(javaClass, describe);
+      assertEquals("values", values.getName());
+      assertEquals("return values.size();", count.getBody().trim());
+      assertEquals("return \"values\";", describe.getBody().trim());
+      assertEquals("Inner", inner.getName());
+      assertEquals("values=null;", javaClass.getMethod("clear").getBody().trim());
+      assertMatchesParse(javaClass, SOURCE.replace("values.clear();", "values = null;"));
+   }
+
+   @Test
+   public void testUpdateMatchesParse() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      MethodSource<JavaClassSource> count = javaClass.getMethod("count");
+
+      String source = SOURCE.replace("return \"values\";", "return \"many values\";");
+      javaClass.update(source);
+      assertMatchesParse(javaClass, source);
+
+      source = source.replace("public void clear()", "/** Clears. */\n   @Deprecated public void clear()");
+      javaClass.update(source);
+      assertMatchesParse(javaClass, source);
+      assertTrue(javaClass.getMethod("clear").hasAnnotation(Deprecated.class));
+
+      source = source.replace("int depth() { return 1; }", "int depth() { return 2; }");
+      javaClass.update(source);
+      assertMatchesParse(javaClass, source);
+      assertAttached(javaClass, count);
+   }
+
+   @Test
+   public void testInsertAndRemoveMembers() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      MethodSource<JavaClassSource> count = javaClass.getMethod("count");
+
+      int offset = SOURCE.lastIndexOf('}');
+      javaClass.applyEdit(offset, 0, "   public void added() {}\n");
+      assertNotNull(javaClass.getMethod("added"));
+      assertEquals(4, javaClass.getMethods().size());
+
+      String source = javaClass.toString();
+      javaClass.update(SOURCE.replace("   public void clear() { values.clear(); }\n", ""));
+      assertEquals(2, javaClass.getMethods().size());
+      assertAttached(javaClass, count);
+      assertFalse(source.equals(javaClass.toString()));
+   }
+
+   @Test
+   public void testModifyAfterEdit() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      String source = SOURCE.replace("return values.size();", "return values.size() + 1;");
+      javaClass.update(source);
+      javaClass.getField("values").setName("items");
+      javaClass.addMethod("public void added() {}");
+
+      JavaClassSource parsed = Roaster.parse(JavaClassSource.class, source);
+      parsed.getField("values").setName("items");
+      parsed.addMethod("public void added() {}");
+      assertEquals(parsed.toString(), javaClass.toString());
+      assertTrue(javaClass.toString().contains("/* size */"));
+      assertTrue(javaClass.toString().contains("// the values"));
+   }
+
+   @Test
+   public void testHeaderEditParsesWholeSource() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      String source = SOURCE.replace("public class Example {", "public class Renamed implements Runnable {")
+               .replace("import java.util.List;", "import java.util.List;\nimport java.util.Set;");
+      javaClass.update(source);
+
+      assertEquals("Renamed", javaClass.getName());
+      assertTrue(javaClass.hasImport("java.util.Set"));
+      assertEquals(1, javaClass.getInterfaces().size());
+      assertMatchesParse(javaClass, source);
+   }
+
+   @Test
+   public void testModificationsAreNotDiscarded() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      javaClass.setName("Modified");
+      javaClass.getMethod("clear").setBody("return;");
+      String modified = javaClass.toString();
+
+      try
+      {
+         javaClass.update(SOURCE.replace("return \"values\";", "return \"\";"));
+         fail("Expected " + IllegalStateException.class.getName());
+      }
+      catch (IllegalStateException e)
+      {
+         assertEquals("Modified", javaClass.getName());
+         assertEquals(modified, javaClass.toString());
+      }
+   }
+
+   @Test
+   public void testFullReparse() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE,
+               new ParseOptions().setIncrementalUpdates(false));
+      MethodSource<JavaClassSource> count = javaClass.getMethod("count");
+      Object unit = javaClass.getInternal();
+
+      String source = SOURCE.replace("values.clear();", "values = null;");
+      javaClass.update(source);
+      assertNotSame(unit, javaClass.getInternal());
+      assertNotSame(javaClass.getInternal(), ((ASTNode) count.getInternal()).getRoot());
+      assertEquals("values=null;", javaClass.getMethod("clear").getBody().trim());
+      assertMatchesParse(javaClass, source);
+
+      javaClass.applyEdit(source.lastIndexOf('}'), 0, "   public void added() {}\n");
+      assertEquals(4, javaClass.getMethods().size());
+      javaClass.getMethod("added").setBody("return;");
+      assertTrue(javaClass.toString().contains("return;"));
+   }
+
+   @Test
+   public void testFullReparseFromNestedType() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE,
+               new ParseOptions().setIncrementalUpdates(false));
+      JavaSource<?> inner = javaClass.getNestedType("Inner");
+
+      String source = SOURCE.replace("int depth() { return 1; }", "int depth() { return 2; }");
+      inner.update(source);
+      assertSame(javaClass.getInternal(), ((ASTNode) inner.getInternal()).getRoot());
+      assertSame(inner.getInternal(), javaClass.getNestedType("Inner").getInternal());
+      assertMatchesParse(javaClass, source);
+   }
+
+   @Test
+   public void testFullReparseUpdatesOtherTopLevelTypes() throws Exception
+   {
+      String source = SOURCE + "class Sibling {\n   int x;\n}\n";
+      JavaUnit unit = Roaster.parseUnit(source, new ParseOptions().setIncrementalUpdates(false));
+      JavaClassSource javaClass = (JavaClassSource) unit.getTopLevelTypes().get(0);
+      JavaClassSource sibling = (JavaClassSource) unit.getTopLevelTypes().get(1);
+
+      javaClass.applyEdit(source.indexOf("values.clear();"), "values.clear();".length(), "values = null;");
+      sibling.addField("int y;");
+      assertSame(javaClass.getInternal(), sibling.getInternal());
+      assertTrue(unit.toString().contains("int y;"));
+      assertTrue(unit.toString().contains("values = null;"));
+      assertNotNull(sibling.getField("x"));
+   }
+
+   @Test
+   public void testFullReparseUpdatesNestedTypes() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE,
+               new ParseOptions().setIncrementalUpdates(false));
+      JavaClassSource inner = (JavaClassSource) javaClass.getNestedType("Inner");
+
+      javaClass.applyEdit(SOURCE.indexOf("values.clear();"), "values.clear();".length(), "values = null;");
+      inner.addField("int y;");
+      assertSame(javaClass.getInternal(), inner.getInternal());
+      assertTrue(javaClass.toString().contains("int y;"));
+      assertNotNull(((JavaClassSource) javaClass.getNestedType("Inner")).getField("y"));
+   }
+
+   @Test
+   public void testSyntaxErrors() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      MethodSource<JavaClassSource> count = javaClass.getMethod("count");
+
+      String broken = SOURCE.replace("values.clear();", "values.clear(");
+      javaClass.update(broken);
+      assertTrue(javaClass.hasSyntaxErrors());
+
+      javaClass.update(SOURCE);
+      assertFalse(javaClass.hasSyntaxErrors());
+      assertMatchesParse(javaClass, SOURCE);
+      assertEquals("count", count.getName());
+   }
+
+   @Test
+   public void testLineEnds() throws Exception
+   {
+      String source = SOURCE.replace("\n", "\r\n");
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, source);
+      String updated = source.replace("public void clear() {", "public void clear() {\r\n\r\n");
+      javaClass.update(updated);
+
+      CompilationUnit unit = (CompilationUnit) javaClass.getInternal();
+      CompilationUnit parsed = (CompilationUnit) Roaster.parse(JavaClassSource.class, updated).getInternal();
+      for (int position = 0; position < updated.length(); position++)
+      {
+         assertEquals(parsed.getLineNumber(position), unit.getLineNumber(position));
+      }
+   }
+
+   @Test
+   public void testDeclarationsOnly() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE, ParseOptions.declarationsOnly());
+      String source = SOURCE.replace("values.clear();", "values.add(null);");
+      javaClass.update(source);
+      assertEquals("values.add(null);", javaClass.getMethod("clear").getBody().trim());
+      assertEquals("return values.size();", javaClass.getMethod("count").getBody().trim());
+   }
+
+   @Test
+   public void testRemovingDeclarationFails() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      try
+      {
+         javaClass.update("package org.example;\nenum Example {}");
+         fail("Expected " + ParserException.class.getName());
+      }
+      catch (ParserException e)
+      {
+         assertMatchesParse(javaClass, SOURCE);
+      }
+   }
+
+   @Test(expected = IllegalStateException.class)
+   public void testReadOnlyCannotBeUpdated() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE, new ParseOptions().setReadOnly(true));
+      javaClass.update(SOURCE.replace("values.clear();", ""));
+   }
+
+   @Test
+   public void testUnchangedUpdateKeepsMembers() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE);
+      MethodSource<JavaClassSource> clear = javaClass.getMethod("clear");
+      javaClass.update(SOURCE);
+      assertAttached(javaClass, clear);
+      assertMatchesParse(javaClass, SOURCE);
+   }
+
+   private static void assertAttached(final JavaClassSource javaClass, final Object member)
+   {
+      Object internal = member instanceof FieldSource ? ((FieldSource<?>) member).getInternal()
+               : ((MethodSource<?>) member).getInternal();
+      assertSame(javaClass.getInternal(), ((ASTNode) internal).getRoot());
+   }
+
+   private static void assertMatchesParse(final JavaClassSource javaClass, final String source)
+   {
+      assertEquals(Roaster.parse(JavaClassSource.class, source).toString(), javaClass.toString());
+   }
+}
@@ -9,6 +9,7 @@ package org.jboss.forge.test.roaster.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.InputStream;
@@ -161,4 +162,22 @@ public class JavaClassMethodTest
       assertEquals(1, method.getParameters().size());
    }
 
+   @Test
+   public void testGetMethodsExcludesMethodsOfOtherClasses() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "public class Outer {"
+               + " public void first() { class Local { void local() {} } new Local().local(); }"
+               + " public static class Nested { void nested() {} }"
+               + " private Runnable task = new Runnable() { public void run() {} };"
+               + " public void second() { new Thread(new Runnable() { public void run() {} }).start(); }"
+               + " }");
+      List<MethodSource<JavaClassSource>> methods = source.getMethods();
+      assertEquals(2, methods.size());
+      assertEquals("first", methods.get(0).getName());
+      assertEquals("second", methods.get(1).getName());
+      assertNull(source.getMethod("run"));
+      assertEquals(1, source.getNestedTypes().size());
+      assertEquals(1, ((JavaClassSource) source.getNestedType("Nested")).getMethods().size());
+   }
+
 }
@@ -7,9 +7,18 @@
 
 package org.jboss.forge.test.roaster.model;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.jboss.forge.roaster.ParserException;
 import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.JavaClass;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -22,4 +31,45 @@ public class JavaParserTest
    {
       Roaster.parse(JavaClass.class, "asdfa$%(*&#$%sdfdsf");
    }
+
+   @Test
+   public void testWarmUp() throws Exception
+   {
+      Roaster.warmUp();
+      Roaster.warmUp();
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "public class Warm { }");
+      Assert.assertEquals("Warm", source.getName());
+   }
+
+   @Test
+   public void testParseFromMultipleThreads() throws Exception
+   {
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try
+      {
+         List<Future<String>> results = new ArrayList<Future<String>>();
+         for (int i = 0; i < 64; i++)
+         {
+            final String name = "Type" + i;
+            results.add(executor.submit(new Callable<String>()
+            {
+               @Override
+               public String call() throws Exception
+               {
+                  JavaClassSource source = Roaster.parse(JavaClassSource.class, "public class " + name
+                           + " { private int value; public int getValue() { return value; } }");
+                  return source.getName() + ":" + source.getMethods().size();
+               }
+            }));
+         }
+         for (int i = 0; i < results.size(); i++)
+         {
+            Assert.assertEquals("Type" + i + ":1", results.get(i).get());
+         }
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+   }
 }
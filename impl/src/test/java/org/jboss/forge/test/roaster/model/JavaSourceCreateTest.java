@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaAnnotationSource;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
+import org.jboss.forge.roaster.model.source.JavaPackageInfoSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.junit.Test;
+
+public class JavaSourceCreateTest
+{
+   @Test
+   public void testCreateMatchesRenamedSource() throws Exception
+   {
+      assertCreated(JavaClassSource.class);
+      assertCreated(JavaEnumSource.class);
+      assertCreated(JavaAnnotationSource.class);
+      assertCreated(JavaInterfaceSource.class);
+   }
+
+   @Test
+   public void testCreateThenModify() throws Exception
+   {
+      JavaClassSource created = Roaster.create(JavaClassSource.class, "org.example.dto", "CustomerDto");
+      JavaClassSource renamed = Roaster.create(JavaClassSource.class).setPackage("org.example.dto")
+               .setName("CustomerDto");
+      for (JavaClassSource source : new JavaClassSource[] { created, renamed })
+      {
+         source.addField("private long id;");
+         source.addMethod("public long getId() { return id; }");
+         source.addInterface("java.io.Serializable");
+         source.setName("OrderDto");
+         source.setPackage("org.example.order");
+      }
+      assertEquals(renamed.toString(), created.toString());
+      assertEquals(created.toString(), Roaster.parse(JavaClassSource.class, created.toString()).toString());
+   }
+
+   @Test
+   public void testCreateInDefaultPackage() throws Exception
+   {
+      JavaClassSource source = Roaster.create(JavaClassSource.class, null, "Customer");
+      assertTrue(source.isDefaultPackage());
+      assertEquals("Customer", source.getQualifiedName());
+      assertEquals(Roaster.create(JavaClassSource.class).setName("Customer").toString(), source.toString());
+      source.setPackage("org.example");
+      assertEquals("org.example.Customer", source.getQualifiedName());
+   }
+
+   @Test
+   public void testCreatePackageInfo() throws Exception
+   {
+      JavaPackageInfoSource source = Roaster.create(JavaPackageInfoSource.class, "org.example.dto", null);
+      assertEquals("org.example.dto", source.getPackage());
+      assertEquals(Roaster.create(JavaPackageInfoSource.class).setPackage("org.example.dto").toString(),
+               source.toString());
+   }
+
+   @Test
+   public void testInstancesAreIndependent() throws Exception
+   {
+      JavaClassSource first = Roaster.create(JavaClassSource.class, "org.example", "First");
+      JavaClassSource second = Roaster.create(JavaClassSource.class, "org.example", "Second");
+      first.addMethod("public void run() {}");
+      assertEquals("First", first.getName());
+      assertEquals("Second", second.getName());
+      assertFalse(second.hasMethodSignature("run"));
+      assertFalse(Roaster.create(JavaClassSource.class).hasMethodSignature("run"));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testInvalidName() throws Exception
+   {
+      Roaster.create(JavaClassSource.class, "org.example", "Not A Name");
+   }
+
+   private static <T extends JavaSource<T>> void assertCreated(final Class<T> type)
+   {
+      T created = Roaster.create(type, "org.example.dto", "Customer");
+      T renamed = Roaster.create(type).setPackage("org.example.dto").setName("Customer");
+      assertEquals("Customer", created.getName());
+      assertEquals("org.example.dto", created.getPackage());
+      assertEquals("org.example.dto.Customer", created.getQualifiedName());
+      assertEquals(renamed.toString(), created.toString());
+   }
+}
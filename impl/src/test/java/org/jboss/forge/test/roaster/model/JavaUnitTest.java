@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.JavaUnit;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
+import org.jboss.forge.roaster.model.source.JavaPackageInfoSource;
+import org.junit.Test;
+
+public class JavaUnitTest
+{
+   private static final String SOURCE = "package org.example; "
+            + "interface Helper { void help(); } "
+            + "public class Main { public static class Nested {} } "
+            + "enum Mode { ON, OFF }";
+
+   @Test
+   public void testParseUnitReturnsAllTopLevelTypes() throws Exception
+   {
+      JavaUnit unit = Roaster.parseUnit(SOURCE);
+      List<JavaType<?>> types = unit.getTopLevelTypes();
+      assertEquals(3, types.size());
+      assertTrue(types.get(0) instanceof JavaInterfaceSource);
+      assertEquals("org.example.Helper", types.get(0).getQualifiedName());
+      assertTrue(types.get(1) instanceof JavaClassSource);
+      assertEquals("org.example.Main", types.get(1).getQualifiedName());
+      assertTrue(types.get(2) instanceof JavaEnumSource);
+      assertEquals("org.example.Mode", types.get(2).getQualifiedName());
+   }
+
+   @Test
+   public void testGoverningTypeIsPublicType() throws Exception
+   {
+      JavaUnit unit = Roaster.parseUnit(SOURCE);
+      JavaClassSource main = unit.getGoverningType();
+      assertEquals("Main", main.getName());
+   }
+
+   @Test
+   public void testGoverningTypeWithoutPublicType() throws Exception
+   {
+      JavaUnit unit = Roaster.parseUnit("class First {} class Second {}");
+      JavaClassSource first = unit.getGoverningType();
+      assertEquals("First", first.getName());
+   }
+
+   @Test
+   public void testTopLevelTypesShareSource() throws Exception
+   {
+      JavaUnit unit = Roaster.parseUnit(SOURCE);
+      JavaEnumSource mode = (JavaEnumSource) unit.getTopLevelTypes().get(2);
+      mode.addEnumConstant("AUTO");
+      JavaInterfaceSource helper = (JavaInterfaceSource) unit.getTopLevelTypes().get(0);
+      helper.setName("Assistant");
+
+      JavaClassSource main = unit.getGoverningType();
+      assertTrue(main.toString().contains("AUTO"));
+      assertTrue(main.toString().contains("interface Assistant"));
+      assertEquals(main.toString(), unit.toString());
+   }
+
+   @Test
+   public void testParseFirstTypeMatchesUnit() throws Exception
+   {
+      JavaType<?> type = Roaster.parse(SOURCE);
+      assertEquals("org.example.Helper", type.getQualifiedName());
+   }
+
+   @Test
+   public void testParseUnitPackageInfo() throws Exception
+   {
+      JavaUnit unit = Roaster.parseUnit("@Deprecated package org.example;");
+      assertEquals(1, unit.getTopLevelTypes().size());
+      assertTrue(unit.getGoverningType() instanceof JavaPackageInfoSource);
+   }
+}
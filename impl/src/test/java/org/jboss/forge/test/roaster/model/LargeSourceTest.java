@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.List;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Enumerating the members of a class with very large method bodies, about 20,000 lines, must only inspect its body
+ * declarations. The timed enumeration only runs with <code>-Droaster.benchmark=true</code>.
+ */
+public class LargeSourceTest
+{
+   private static final int METHODS = 20;
+   private static final int STATEMENTS = 1000;
+
+   private static String source;
+
+   @BeforeClass
+   public static void generate()
+   {
+      StringBuilder result = new StringBuilder("public class Large {\n   private int counter;\n");
+      for (int i = 0; i < METHODS; i++)
+      {
+         result.append("   public void method").append(i).append("() {\n");
+         result.append("      class Local").append(i).append(" { void local() {} }\n");
+         result.append("      Runnable r = new Runnable() { public void run() {} };\n");
+         for (int j = 0; j < STATEMENTS; j++)
+         {
+            result.append("      counter = counter + ").append(j).append(" * (counter - 1);\n");
+         }
+         result.append("   }\n");
+      }
+      result.append("   public static class Nested { void nested() {} }\n}");
+      source = result.toString();
+   }
+
+   @Test
+   public void testMembersExcludeBodies() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, source);
+      assertEquals(METHODS, javaClass.getMethods().size());
+      assertEquals(1, javaClass.getNestedTypes().size());
+      assertEquals("Nested", javaClass.getNestedTypes().get(0).getName());
+      assertNull(javaClass.getMethod("run"));
+      assertNull(javaClass.getMethod("nested"));
+      assertFalse(javaClass.hasNestedType("Local0"));
+   }
+
+   @Test
+   public void testMembersInDeclarationOrder() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, source);
+      FieldSource<JavaClassSource> counter = javaClass.getField("counter");
+      for (int i = 0; i < 3; i++)
+      {
+         counter.setName("counter" + i);
+         List<MethodSource<JavaClassSource>> methods = javaClass.getMethods();
+         assertEquals(METHODS, methods.size());
+         for (int j = 0; j < METHODS; j++)
+         {
+            assertEquals("method" + j, methods.get(j).getName());
+         }
+         List<JavaSource<?>> nestedTypes = javaClass.getNestedTypes();
+         assertEquals(1, nestedTypes.size());
+         assertEquals("Nested", nestedTypes.get(0).getName());
+         assertEquals("counter" + i, javaClass.getFields().get(0).getName());
+      }
+   }
+
+   /**
+    * Renaming a field updates the member index in place, so every iteration reuses the members it enumerated.
+    */
+   @Test
+   public void benchmarkEnumeration() throws Exception
+   {
+      assumeTrue(Boolean.getBoolean("roaster.benchmark"));
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, source);
+      FieldSource<JavaClassSource> counter = javaClass.getField("counter");
+      long start = System.nanoTime();
+      for (int i = 0; i < 5000; i++)
+      {
+         counter.setName("counter" + (i % 2));
+         assertEquals(METHODS, javaClass.getMethods().size());
+         assertEquals(1, javaClass.getNestedTypes().size());
+         assertEquals(1, javaClass.getFields().size());
+      }
+      System.out.println("Enumerated the members of a " + (METHODS * STATEMENTS) + "-line class 5000 times in "
+               + (System.nanoTime() - start) / 1000000 + " ms");
+   }
+
+   @Test
+   public void testEnumConstantBodyMembers() throws Exception
+   {
+      JavaEnumSource javaEnum = Roaster.parse(JavaEnumSource.class, "public enum Mode { ON {"
+               + " public String toString() { Runnable r = new Runnable() { public void run() {} }; return \"on\"; }"
+               + " class Helper { void help() {} } } }");
+      assertEquals(1, javaEnum.getEnumConstant("ON").getBody().getMethods().size());
+      assertEquals(1, javaEnum.getEnumConstant("ON").getBody().getNestedTypes().size());
+   }
+}
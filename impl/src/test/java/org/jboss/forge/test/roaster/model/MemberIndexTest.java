@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.Named;
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.junit.Test;
+
+public class MemberIndexTest
+{
+   @Test
+   public void testLookupsReuseMembersUntilModified() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class,
+               "public class Index { private int a; public void run() {} class Inner {} }");
+      assertSame(source.getMethods(), source.getMethods());
+      assertSame(source.getFields(), source.getFields());
+      assertSame(source.getMethod("run"), source.getMethod("run"));
+      assertSame(source.getField("a"), source.getField("a"));
+
+      MethodSource<JavaClassSource> run = source.getMethod("run");
+      source.addMethod("public void stop() {}");
+      assertTrue(source.hasMethodSignature("stop"));
+      assertEquals(run, source.getMethod("run"));
+      assertEquals(2, source.getMethods().size());
+   }
+
+   @Test
+   public void testAddingMembersKeepsIndex() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class,
+               "public class Index { private int a; public void run() {} private int z; class Inner {} }");
+      MethodSource<JavaClassSource> run = source.getMethod("run");
+      FieldSource<JavaClassSource> a = source.getField("a");
+      JavaSource<?> inner = source.getNestedType("Inner");
+      List<MethodSource<JavaClassSource>> methods = source.getMethods();
+
+      MethodSource<JavaClassSource> stop = source.addMethod("public void stop() {}");
+      List<MethodSource<JavaClassSource>> added = source.addMethods("void pause() {}", "void resume(int delay) {}");
+      FieldSource<JavaClassSource> b = source.addField("private int b;");
+      FieldSource<JavaClassSource> unnamed = source.addField();
+      JavaSource<?> other = source.addNestedType("public class Other {}");
+
+      assertSame(run, source.getMethod("run"));
+      assertSame(a, source.getField("a"));
+      assertSame(inner, source.getNestedType("Inner"));
+      assertSame(stop, source.getMethod("stop"));
+      assertSame(added.get(1), source.getMethod("resume", "int"));
+      assertSame(b, source.getField("b"));
+      assertSame(other, source.getNestedType("Other"));
+      assertEquals(1, methods.size());
+      assertEquals(Arrays.asList(run, stop, added.get(0), added.get(1)), source.getMethods());
+      assertEquals(Arrays.asList(a, b, unnamed, source.getField("z")), source.getFields());
+      assertEquals(Arrays.asList("run", "stop", "pause", "resume"), names(source.getMethods()));
+
+      unnamed.setName("c");
+      assertSame(a, source.getField("a"));
+      assertSame(unnamed, source.getField("c"));
+      assertEquals(Arrays.asList("a", "b", "c", "z"), names(source.getFields()));
+
+      source.removeField(b);
+      assertNotSame(a, source.getField("a"));
+      assertEquals(Arrays.asList("a", "c", "z"), names(source.getFields()));
+   }
+
+   @Test
+   public void testRenamingMembersKeepsIndex() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "public class Index { private int a; private int b;"
+               + " public void run() {} public void run(int times) {} public Index() {} class Inner {} }");
+      FieldSource<JavaClassSource> a = source.getField("a");
+      FieldSource<JavaClassSource> b = source.getField("b");
+      MethodSource<JavaClassSource> run = source.getMethod("run");
+      MethodSource<JavaClassSource> runTimes = source.getMethods().get(1);
+      List<MethodSource<JavaClassSource>> methods = source.getMethods();
+
+      for (int i = 0; i < 3; i++)
+      {
+         a.setName("a" + i);
+         a.setType("long");
+         run.setName("run" + i);
+         run.setBody("return;");
+         assertSame(a, source.getField("a" + i));
+         assertSame(run, source.getMethod("run" + i));
+         assertSame(runTimes, source.getMethod("run", "int"));
+         assertSame(methods, source.getMethods());
+      }
+      assertNull(source.getField("a"));
+      assertNull(source.getMethod("run1"));
+      assertNull(source.getMethod("run"));
+
+      runTimes.addParameter(String.class, "label");
+      assertNull(source.getMethod("run", "int"));
+      assertSame(runTimes, source.getMethod("run", "int", "String"));
+      runTimes.removeParameter(runTimes.getParameters().get(0));
+      runTimes.setParameters("long times");
+      assertSame(runTimes, source.getMethod("run", "long"));
+      a.setName("b");
+      assertSame(a, source.getField("b"));
+      a.setName("a");
+      assertSame(b, source.getField("b"));
+
+      source.setName("Renamed");
+      assertNotNull(source.getMethod("Renamed"));
+      assertNull(source.getMethod("Index"));
+      assertSame(methods, source.getMethods());
+      JavaSource<?> inner = source.getNestedType("Inner");
+      assertSame(inner, source.getNestedType("Renamed$Inner"));
+      inner.setName("Nested");
+      assertNull(source.getNestedType("Inner"));
+      assertSame(inner, source.getNestedType("Nested"));
+   }
+
+   @Test
+   public void testFieldsDeclaredTogether() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "public class Index { private int a, b; }");
+      source.getFields().get(0).setName("c");
+      assertNull(source.getField("a"));
+      assertEquals(Arrays.asList("c", "c"), names(source.getFields()));
+
+      source.removeField(source.getFields().get(0));
+      assertEquals(Arrays.asList("b"), names(source.getFields()));
+      assertNotNull(source.getField("b"));
+   }
+
+   @Test
+   public void testIndexFollowsModifications() throws Exception
+   {
+      JavaClassSource source = Roaster.create(JavaClassSource.class);
+      FieldSource<JavaClassSource> field = source.addField("private String name;");
+      MethodSource<JavaClassSource> method = source.addMethod("public void setName(String name) {}");
+      assertTrue(source.hasField("name"));
+      assertTrue(source.hasMethodSignature("setName", String.class));
+
+      field.setName("label");
+      method.setName("setLabel");
+      method.setParameters("java.util.List<String> labels");
+      assertFalse(source.hasField("name"));
+      assertTrue(source.hasField("label"));
+      assertFalse(source.hasMethodSignature("setName", String.class));
+      assertFalse(source.hasMethodSignature("setLabel", String.class));
+      assertTrue(source.hasMethodSignature("setLabel", "java.util.List"));
+
+      source.removeField(field);
+      source.removeMethod(method);
+      assertFalse(source.hasField("label"));
+      assertNull(source.getMethod("setLabel", "List"));
+      assertTrue(source.getMembers().isEmpty());
+   }
+
+   @Test
+   public void testOverloadsAndNestedTypes() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "import java.util.List;"
+               + "public class Index { void put(int a) {} void put(String a) {} void put(List<String> a, int b) {}"
+               + " static class Inner {} }");
+      assertEquals("String", source.getMethod("put", "java.lang.String").getParameters().get(0).getType().getName());
+      assertEquals(2, source.getMethod("put", "java.util.List", "int").getParameters().size());
+      assertNull(source.getMethod("put", "long"));
+      assertNull(source.getMethod("put"));
+
+      assertNotNull(source.getNestedType("Inner"));
+      assertTrue(source.hasNestedType(source.getNestedType("Inner").getQualifiedName()));
+      source.addNestedType("public class Other {}");
+      assertTrue(source.hasNestedType("Other"));
+      assertEquals(2, source.getNestedTypes().size());
+   }
+
+   @Test
+   public void testLargeClass() throws Exception
+   {
+      JavaClassSource source = Roaster.create(JavaClassSource.class);
+      source.addMethod("public void first() {}");
+      MethodSource<JavaClassSource> first = source.getMethod("first");
+      for (int i = 0; i < 500; i++)
+      {
+         source.addField("private int field" + i + ";");
+         source.addMethod("public int getField" + i + "() { return field" + i + "; }");
+         assertTrue(source.hasMethodSignature("getField" + i));
+      }
+      assertSame(first, source.getMethod("first"));
+      for (int i = 0; i < 500; i++)
+      {
+         assertEquals("field" + i, source.getField("field" + i).getName());
+         assertTrue(source.hasMethodSignature("getField" + i));
+      }
+   }
+
+   private static List<String> names(final List<? extends Named> members)
+   {
+      List<String> result = new ArrayList<String>();
+      for (Named member : members)
+      {
+         result.add(member.getName());
+      }
+      return result;
+   }
+}
@@ -6,6 +6,7 @@
  */
 package org.jboss.forge.test.roaster.model;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -287,4 +288,33 @@ public class MethodReturnTypeTest
       Assert.assertEquals("java.util.List", arguments.get(1).getQualifiedName());
    }
 
+   @Test
+   public void testSetReturnTypeMatchesParsedDeclaration() throws Exception
+   {
+      String[] types = { "int", "String", "java.util.List", "byte[][]", "Map<String, List<Integer>>",
+               "List<? extends Number>", "Map<?, ? super T[]>", "Outer<String>.Inner<Long>" };
+      for (String typeName : types)
+      {
+         JavaClassSource expected = Roaster.create(JavaClassSource.class);
+         expected.addMethod("public " + typeName + " get() { return null; }");
+         JavaClassSource actual = Roaster.create(JavaClassSource.class);
+         actual.addMethod("public void get() { return null; }").setReturnType(typeName);
+         Assert.assertEquals(typeName, expected.toString(), actual.toString());
+      }
+   }
+
+   @Test
+   public void testAddParameterMatchesParsedDeclaration() throws Exception
+   {
+      JavaClassSource expected = Roaster.create(JavaClassSource.class);
+      expected.addImport(List.class);
+      expected.addImport(Date.class);
+      expected.addMethod("public void set(List<? extends Number> values, Date[] dates) {}");
+      JavaClassSource actual = Roaster.create(JavaClassSource.class);
+      MethodSource<JavaClassSource> method = actual.addMethod("public void set() {}");
+      method.addParameter("java.util.List<? extends Number>", "values");
+      method.addParameter("java.util.Date[]", "dates");
+      Assert.assertEquals(expected.toString(), actual.toString());
+   }
+
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.ElementType;
+import java.util.List;
+
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.ParserException;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.Annotation;
+import org.jboss.forge.roaster.model.AnnotationElement;
+import org.jboss.forge.roaster.model.EnumConstant;
+import org.jboss.forge.roaster.model.Field;
+import org.jboss.forge.roaster.model.FieldHolder;
+import org.jboss.forge.roaster.model.JavaAnnotation;
+import org.jboss.forge.roaster.model.JavaClass;
+import org.jboss.forge.roaster.model.JavaEnum;
+import org.jboss.forge.roaster.model.JavaInterface;
+import org.jboss.forge.roaster.model.JavaPackageInfo;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.JavaUnit;
+import org.jboss.forge.roaster.model.Method;
+import org.jboss.forge.roaster.model.MethodHolder;
+import org.jboss.forge.roaster.model.Type;
+import org.jboss.forge.roaster.model.Visibility;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.junit.Test;
+
+public class OutlineTest
+{
+   private static final ParseOptions OUTLINE = new ParseOptions().setOutline(true);
+
+   private static final String SOURCE = "package org.example;\n"
+            + "import java.io.IOException;\n"
+            + "import java.io.Serializable;\n"
+            + "import java.util.AbstractList;\n"
+            + "import java.util.HashMap;\n"
+            + "import java.util.List;\n"
+            + "import java.util.Map;\n"
+            + "/** Documented. */\n"
+            + "@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n"
+            + "public abstract class Example<T extends Comparable<T>> extends AbstractList<T> "
+            + "implements Serializable {\n"
+            + "   // the values\n"
+            + "   private static final long serialVersionUID = 1L;\n"
+            + "   protected Map<String, List<Map<String, T>>> values = new HashMap<String, List<Map<String, T>>>(), "
+            + "copy;\n"
+            + "   transient int count, matrix[][];\n"
+            + "   String name = \"a, b\";\n"
+            + "   static { System.out.println(\"}\"); }\n"
+            + "   public Example() { this(null); }\n"
+            + "   Example(String name) { this.name = name; }\n"
+            + "   @Deprecated @Override public T get(int index) { if (index < 0) { return null; } return null; }\n"
+            + "   public <K> K[] convert(final List<? extends K> items, String... names) throws IOException, "
+            + "RuntimeException { return null; }\n"
+            + "   public abstract void clear();\n"
+            + "   public static class Inner implements Runnable { public void run() {} }\n"
+            + "}\n";
+
+   @Test
+   public void testClassOutline() throws Exception
+   {
+      JavaClass<?> javaClass = Roaster.parse(JavaClass.class, SOURCE, OUTLINE);
+      assertFalse(javaClass instanceof JavaClassSource);
+      assertEquals("Example", javaClass.getName());
+      assertEquals("org.example", javaClass.getPackage());
+      assertEquals("org.example.Example", javaClass.getQualifiedName());
+      assertTrue(javaClass.isClass());
+      assertTrue(javaClass.isPublic());
+      assertTrue(javaClass.isAbstract());
+      assertFalse(javaClass.hasSyntaxErrors());
+      assertEquals("java.util.AbstractList", javaClass.getSuperType());
+      assertEquals(1, javaClass.getInterfaces().size());
+      assertTrue(javaClass.hasInterface(java.io.Serializable.class));
+      assertEquals("T", javaClass.getTypeVariables().get(0).getName());
+      assertEquals("Comparable<T>", javaClass.getTypeVariables().get(0).getBounds().get(0).toString());
+      assertEquals(SOURCE, javaClass.toString());
+   }
+
+   @Test
+   public void testFields() throws Exception
+   {
+      JavaClass<?> javaClass = Roaster.parse(JavaClass.class, SOURCE, OUTLINE);
+      assertEquals(6, javaClass.getFields().size());
+
+      Field<?> serialVersionUID = javaClass.getField("serialVersionUID");
+      assertTrue(serialVersionUID.isStatic());
+      assertTrue(serialVersionUID.isFinal());
+      assertEquals(Visibility.PRIVATE, serialVersionUID.getVisibility());
+      assertEquals("1L", serialVersionUID.getLiteralInitializer());
+
+      Field<?> values = javaClass.getField("values");
+      assertTrue(values.isProtected());
+      assertEquals("new HashMap<String, List<Map<String, T>>>()", values.getLiteralInitializer());
+      Type<?> type = values.getType();
+      assertEquals("Map", type.getName());
+      assertEquals("java.util.Map", type.getQualifiedName());
+      assertEquals("Map<String,List<Map<String,T>>>", type.toString());
+      assertEquals(2, type.getTypeArguments().size());
+      assertEquals("Map<String,T>", type.getTypeArguments().get(1).getTypeArguments().get(0).toString());
+      assertNull(javaClass.getField("copy").getLiteralInitializer());
+      assertEquals("Map", javaClass.getField("copy").getType().getName());
+
+      assertTrue(javaClass.getField("count").isTransient());
+      assertTrue(javaClass.getField("count").getType().isPrimitive());
+      assertEquals("int[][]", javaClass.getField("matrix").getType().getName());
+      assertEquals(2, javaClass.getField("matrix").getType().getArrayDimensions());
+      assertEquals("a, b", javaClass.getField("name").getStringInitializer());
+   }
+
+   @Test
+   public void testMethodsMatchSourceModel() throws Exception
+   {
+      JavaClass<?> outline = Roaster.parse(JavaClass.class, SOURCE, OUTLINE);
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, SOURCE);
+      // the source model also lists the methods of nested types, after those of the type itself
+      assertEquals(5, outline.getMethods().size());
+      for (int i = 0; i < outline.getMethods().size(); i++)
+      {
+         MethodSource<JavaClassSource> expected = source.getMethods().get(i);
+         Method<?, ?> actual = outline.getMethods().get(i);
+         assertEquals(expected.toSignature(), actual.toSignature());
+         assertEquals(expected.isConstructor(), actual.isConstructor());
+         assertEquals(expected.isAbstract(), actual.isAbstract());
+         assertEquals(expected.getThrownExceptions(), actual.getThrownExceptions());
+         assertEquals(expected.getTypeVariables().size(), actual.getTypeVariables().size());
+      }
+      assertTrue(outline.hasMethodSignature(source.getMethod("get", int.class)));
+      assertNotNull(outline.getMethod("get", int.class));
+      assertTrue(outline.getMethod("get", int.class).hasAnnotation(Deprecated.class));
+      assertTrue(outline.hasMethodSignature("convert", "List", "String"));
+      assertTrue(outline.getMethod("clear").isReturnTypeVoid());
+      assertEquals("? extends K", outline.getMethod("convert", "List", "String").getParameters().get(0).getType()
+               .getTypeArguments().get(0).toString());
+   }
+
+   @Test
+   public void testAnnotationsAndImports() throws Exception
+   {
+      JavaClass<?> javaClass = Roaster.parse(JavaClass.class, SOURCE, OUTLINE);
+      Annotation<?> annotation = javaClass.getAnnotation(SuppressWarnings.class);
+      assertTrue(annotation.isSingleValue());
+      assertEquals("java.lang.SuppressWarnings", annotation.getQualifiedName());
+      assertArrayEquals(new String[] { "unchecked", "rawtypes" }, annotation.getStringArrayValue());
+
+      JavaType<?> inner = ((JavaClass<?>) javaClass).getNestedType("Inner");
+      assertEquals("org.example.Example.Inner", inner.getCanonicalName());
+      assertEquals("org.example.Example$Inner", inner.getQualifiedName());
+      assertEquals(javaClass, inner.getEnclosingType());
+      assertTrue(((JavaClass<?>) inner).hasInterface(Runnable.class));
+   }
+
+   @Test
+   public void testEnumOutline() throws Exception
+   {
+      String source = "package org.example; public enum Size implements Comparable<Size> { "
+               + "@Deprecated SMALL(1, \"s\"), MEDIUM(2, \"m\") { int weight() { return 2; } }, LARGE; "
+               + "private final int value; Size() { this(0, null); } "
+               + "Size(int value, String label) { this.value = value; } "
+               + "int weight() { return value; } }";
+      JavaEnum<?> javaEnum = Roaster.parse(JavaEnum.class, source, OUTLINE);
+      assertTrue(javaEnum.isEnum());
+      assertEquals(3, javaEnum.getEnumConstants().size());
+      EnumConstant<?> small = javaEnum.getEnumConstant("SMALL");
+      assertTrue(small.hasAnnotation(Deprecated.class));
+      assertEquals(2, small.getConstructorArguments().size());
+      assertEquals("\"s\"", small.getConstructorArguments().get(1));
+      assertNull(small.getBody());
+      assertNotNull(javaEnum.getEnumConstant("MEDIUM").getBody().getMethod("weight"));
+      assertEquals(0, javaEnum.getEnumConstant("LARGE").getConstructorArguments().size());
+      assertEquals(3, javaEnum.getMethods().size());
+      assertNotNull(javaEnum.getField("value"));
+   }
+
+   @Test
+   public void testAnnotationOutline() throws Exception
+   {
+      String source = "package org.example; import java.lang.annotation.*; "
+               + "@Target({ElementType.TYPE, ElementType.METHOD}) public @interface Marker { "
+               + "String CONSTANT = \"x\"; String value() default \"none\"; int[] order() default {1, 2}; "
+               + "ElementType target() default ElementType.FIELD; Class<?> type() default Object.class; "
+               + "Deprecated deprecated() default @Deprecated; }";
+      JavaAnnotation<?> javaAnnotation = Roaster.parse(JavaAnnotation.class, source, OUTLINE);
+      assertTrue(javaAnnotation.isAnnotation());
+      assertEquals(5, javaAnnotation.getAnnotationElements().size());
+      assertEquals("none", javaAnnotation.getAnnotationElement("value").getDefaultValue().getString());
+      assertEquals("int[]", javaAnnotation.getAnnotationElement("order").getType().getName());
+      AnnotationElement<?> target = javaAnnotation.getAnnotationElement("target");
+      assertEquals(ElementType.FIELD, target.getDefaultValue().getEnum(ElementType.class));
+      assertEquals(Object.class, javaAnnotation.getAnnotationElement("type").getDefaultValue().getSingleClass());
+      assertEquals("Deprecated", javaAnnotation.getAnnotationElement("deprecated").getDefaultValue().getAnnotation()
+               .getName());
+      assertArrayEquals(new ElementType[] { ElementType.TYPE, ElementType.METHOD },
+               javaAnnotation.getAnnotation("Target").getEnumArrayValue(ElementType.class));
+   }
+
+   @Test
+   public void testUnitAndPackageInfo() throws Exception
+   {
+      JavaUnit unit = Roaster.parseUnit("interface First<T> extends Runnable, Comparable<T> { void run(); }\n"
+               + "class Second {}", OUTLINE);
+      assertEquals(2, unit.getTopLevelTypes().size());
+      JavaInterface<?> first = (JavaInterface<?>) unit.getTopLevelTypes().get(0);
+      assertTrue(first.isDefaultPackage());
+      assertEquals(2, first.getInterfaces().size());
+      assertEquals("Second", unit.getTopLevelTypes().get(1).getName());
+
+      JavaPackageInfo<?> info = Roaster.parse(JavaPackageInfo.class, "@Deprecated package org.example;", OUTLINE);
+      assertEquals("org.example", info.getPackage());
+      assertTrue(info.hasAnnotation(Deprecated.class));
+   }
+
+   @Test(expected = ParserException.class)
+   public void testMalformedSource() throws Exception
+   {
+      Roaster.parse(JavaClass.class, "public class Broken { public void method( { } }", OUTLINE);
+   }
+
+   @Test(expected = UnsupportedOperationException.class)
+   public void testPropertiesAreNotAvailable() throws Exception
+   {
+      Roaster.parse(JavaClass.class, SOURCE, OUTLINE).getProperties();
+   }
+
+   @Test
+   public void testOutlinesMatchSourceModel() throws Exception
+   {
+      String[] names = { "BigInterface", "MockAnnotatedClass", "MockAnnotatedEnumConstant", "MockAnnotatedField",
+               "MockAnnotatedMethod", "MockAnnotatedParameter", "MockClass", "MockEnum", "MockInterface",
+               "MockJavaAnnotationType", "MockUnformattedClass" };
+      for (String name : names)
+      {
+         String resource = "/org/jboss/forge/grammar/java/" + name + ".java";
+         JavaType<?> outline = Roaster.parse(JavaType.class, getClass().getResourceAsStream(resource), OUTLINE);
+         JavaType<?> source = Roaster.parse(JavaType.class, getClass().getResourceAsStream(resource));
+         assertEquals(source.getQualifiedName(), outline.getQualifiedName());
+         assertEquals(source.getAnnotations().size(), outline.getAnnotations().size());
+         if (source instanceof MethodHolder)
+         {
+            List<? extends Method<?, ?>> expected = ((MethodHolder<?>) source).getMethods();
+            List<? extends Method<?, ?>> actual = ((MethodHolder<?>) outline).getMethods();
+            assertEquals(name, expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++)
+            {
+               assertEquals(name, expected.get(i).toSignature(), actual.get(i).toSignature());
+            }
+         }
+         if (source instanceof FieldHolder)
+         {
+            assertEquals(name, ((FieldHolder<?>) source).getFields().size(),
+                     ((FieldHolder<?>) outline).getFields().size());
+         }
+      }
+   }
+}
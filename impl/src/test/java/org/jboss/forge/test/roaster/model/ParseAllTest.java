@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.forge.roaster.JavaTypeRequestor;
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.ParserException;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ParseAllTest
+{
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   private final Map<File, JavaType<?>> accepted = new LinkedHashMap<File, JavaType<?>>();
+   private final Map<File, Exception> failed = new LinkedHashMap<File, Exception>();
+
+   private final JavaTypeRequestor requestor = new JavaTypeRequestor()
+   {
+      @Override
+      public void accept(File file, JavaType<?> type)
+      {
+         accepted.put(file, type);
+      }
+
+      @Override
+      public void failed(File file, Exception cause)
+      {
+         failed.put(file, cause);
+      }
+   };
+
+   @Test
+   public void testParseAll() throws Exception
+   {
+      File foo = write("Foo.java", "package org.example; public class Foo { public String name() { return \"é\"; } }");
+      File bar = write("Bar.java", "package org.example; public interface Bar extends Runnable {}");
+
+      Roaster.parseAll(Arrays.asList(foo, bar), requestor);
+
+      assertEquals(2, accepted.size());
+      assertTrue(failed.isEmpty());
+      JavaClassSource javaClass = (JavaClassSource) accepted.get(foo);
+      assertEquals("org.example.Foo", javaClass.getQualifiedName());
+      assertEquals("return \"é\";", javaClass.getMethod("name").getBody().trim());
+      JavaInterfaceSource javaInterface = (JavaInterfaceSource) accepted.get(bar);
+      assertEquals("org.example.Bar", javaInterface.getQualifiedName());
+      assertTrue(javaInterface.hasInterface(Runnable.class));
+   }
+
+   @Test
+   public void testParseAllResultsAreModifiable() throws Exception
+   {
+      File foo = write("Foo.java", "package org.example; public class Foo { private int count; }");
+
+      Roaster.parseAll(Arrays.asList(foo), requestor);
+
+      JavaClassSource javaClass = (JavaClassSource) accepted.get(foo);
+      javaClass.addMethod("public int getCount() { return count; }");
+      javaClass.getField("count").setName("total");
+      assertTrue(javaClass.toString().contains("private int total;"));
+      assertTrue(javaClass.toString().contains("public int getCount()"));
+   }
+
+   @Test
+   public void testParseAllWithOptions() throws Exception
+   {
+      String source = "public class Foo { public int size() { int size = 3; return size; } }";
+      File foo = write("Foo.java", source);
+
+      Roaster.parseAll(Arrays.asList(foo), ParseOptions.declarationsOnly(), requestor);
+
+      JavaClassSource javaClass = (JavaClassSource) accepted.get(foo);
+      assertEquals(Roaster.parse(JavaClassSource.class, source).getMethod("size").getBody(),
+               javaClass.getMethod("size").getBody());
+   }
+
+   @Test
+   public void testParseAllReportsFailures() throws Exception
+   {
+      File foo = write("Foo.java", "public class Foo {}");
+      File empty = write("Empty.java", "");
+      File missing = new File(folder.getRoot(), "Missing.java");
+
+      Roaster.parseAll(Arrays.asList(missing, foo, empty), requestor);
+
+      assertEquals(1, accepted.size());
+      assertTrue(accepted.containsKey(foo));
+      assertEquals(2, failed.size());
+      assertTrue(failed.get(missing) instanceof FileNotFoundException);
+      assertTrue(failed.get(empty) instanceof ParserException);
+   }
+
+   @Test
+   public void testParseAllDetectsByteOrderMark() throws Exception
+   {
+      byte[] content = "package org.example; public class Foo { String name = \"é\"; }".getBytes("UTF-16BE");
+      byte[] data = new byte[content.length + 2];
+      data[0] = (byte) 0xFE;
+      data[1] = (byte) 0xFF;
+      System.arraycopy(content, 0, data, 2, content.length);
+      File foo = write("Foo.java", data);
+
+      Roaster.parseAll(Arrays.asList(foo), requestor);
+
+      assertTrue(failed.isEmpty());
+      JavaClassSource javaClass = (JavaClassSource) accepted.get(foo);
+      assertEquals("org.example.Foo", javaClass.getQualifiedName());
+      assertEquals("\"é\"", javaClass.getField("name").getLiteralInitializer());
+   }
+
+   private File write(String name, String content) throws IOException
+   {
+      return write(name, content.getBytes("UTF-8"));
+   }
+
+   private File write(String name, byte[] content) throws IOException
+   {
+      File file = folder.newFile(name);
+      OutputStream out = new FileOutputStream(file);
+      try
+      {
+         out.write(content);
+      }
+      finally
+      {
+         out.close();
+      }
+      return file;
+   }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.forge.roaster.CacheStatistics;
+import org.jboss.forge.roaster.ParseCache;
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParseCacheTest
+{
+   private static final String SOURCE = "package org.example;\n"
+            + "import java.util.List;\n"
+            + "/** Documented. */\n"
+            + "public class Example {\n"
+            + "   // the values\n"
+            + "   private List<String> values;\n"
+            + "   /** Counts. */\n"
+            + "   public int count() { /* size */ return values.size(); }\n"
+            + "}";
+
+   private ParseCache cache;
+
+   @Before
+   public void setUp()
+   {
+      cache = new ParseCache(1024 * 1024);
+      Roaster.setParseCache(cache);
+   }
+
+   @After
+   public void tearDown()
+   {
+      Roaster.setParseCache(null);
+   }
+
+   @Test
+   public void testHitsAndMisses() throws Exception
+   {
+      Roaster.parse(JavaClassSource.class, SOURCE);
+      Roaster.parse(JavaClassSource.class, SOURCE);
+      Roaster.parse(JavaClassSource.class, SOURCE);
+
+      CacheStatistics statistics = cache.getStatistics();
+      assertEquals(1, statistics.getMissCount());
+      assertEquals(2, statistics.getHitCount());
+      assertEquals(1, statistics.getSize());
+      assertEquals(SOURCE.length(), statistics.getWeight());
+   }
+
+   @Test
+   public void testHitReturnsIndependentCopy() throws Exception
+   {
+      JavaClassSource first = Roaster.parse(JavaClassSource.class, SOURCE);
+      JavaClassSource second = Roaster.parse(JavaClassSource.class, SOURCE);
+      assertNotSame(first, second);
+      assertEquals(first.toString(), second.toString());
+
+      first.setName("Renamed");
+      first.getMethod("count").setBody("return 0;");
+      first.removeField(first.getField("values"));
+
+      assertEquals("Example", second.getName());
+      assertTrue(second.toString().contains("private List<String> values;"));
+      assertEquals("Example", Roaster.parse(JavaClassSource.class, SOURCE).getName());
+   }
+
+   @Test
+   public void testCopiesPreserveComments() throws Exception
+   {
+      Roaster.parse(JavaClassSource.class, SOURCE);
+      JavaClassSource copy = Roaster.parse(JavaClassSource.class, SOURCE);
+      assertEquals(1, cache.getStatistics().getHitCount());
+
+      copy.addMethod("public void added() {}");
+      String result = copy.toString();
+      assertTrue(result.contains("/** Documented. */"));
+      assertTrue(result.contains("// the values"));
+      assertTrue(result.contains("/* size */"));
+      assertTrue(result.contains("public void added()"));
+   }
+
+   @Test
+   public void testCopyEqualsUncachedParse() throws Exception
+   {
+      Roaster.parse(JavaClassSource.class, SOURCE);
+      JavaClassSource copy = Roaster.parse(JavaClassSource.class, SOURCE);
+      copy.getField("values").setName("items");
+      copy.getMethod("count").setReturnType("long");
+
+      Roaster.setParseCache(null);
+      JavaClassSource parsed = Roaster.parse(JavaClassSource.class, SOURCE);
+      parsed.getField("values").setName("items");
+      parsed.getMethod("count").setReturnType("long");
+
+      assertEquals(parsed.toString(), copy.toString());
+   }
+
+   @Test
+   public void testReadOnlyInstancesAreNotShared() throws Exception
+   {
+      ParseOptions readOnly = new ParseOptions().setReadOnly(true);
+      JavaClassSource first = Roaster.parse(JavaClassSource.class, SOURCE, readOnly);
+      JavaClassSource second = Roaster.parse(JavaClassSource.class, SOURCE, readOnly);
+      assertNotSame(first, second);
+      assertEquals(1, cache.getStatistics().getHitCount());
+      assertEquals("count", first.getMethod("count").getName());
+      assertEquals(Roaster.parse(JavaClassSource.class, SOURCE).toString(), first.toString());
+   }
+
+   @Test
+   public void testConcurrentHitsReturnPrivateCopies() throws Exception
+   {
+      Roaster.parse(JavaClassSource.class, SOURCE);
+      final ParseOptions readOnly = new ParseOptions().setReadOnly(true);
+      final JavaClassSource[] results = new JavaClassSource[8];
+      final Throwable[] failures = new Throwable[results.length];
+      Thread[] threads = new Thread[results.length];
+      for (int i = 0; i < threads.length; i++)
+      {
+         final int index = i;
+         threads[i] = new Thread()
+         {
+            @Override
+            public void run()
+            {
+               try
+               {
+                  JavaClassSource source = Roaster.parse(JavaClassSource.class, SOURCE, readOnly);
+                  assertEquals("count", source.getMethod("count").getName());
+                  assertEquals("java.util.List", source.resolveType("List"));
+                  assertTrue(source.hasProperty("values"));
+                  results[index] = source;
+               }
+               catch (Throwable e)
+               {
+                  failures[index] = e;
+               }
+            }
+         };
+         threads[i].start();
+      }
+      for (int i = 0; i < threads.length; i++)
+      {
+         threads[i].join();
+         if (failures[i] != null)
+         {
+            throw new AssertionError(failures[i]);
+         }
+      }
+      for (int i = 1; i < results.length; i++)
+      {
+         assertNotSame(results[0], results[i]);
+      }
+      assertEquals(results.length, cache.getStatistics().getHitCount());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testReadOnlyInstancesCannotBeModified() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE, new ParseOptions().setReadOnly(true));
+      javaClass.setName("Renamed");
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testReadOnlyWithoutCache() throws Exception
+   {
+      Roaster.setParseCache(null);
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE, new ParseOptions().setReadOnly(true));
+      javaClass.getField("values").setName("items");
+   }
+
+   @Test
+   public void testOptionsArePartOfKey() throws Exception
+   {
+      Roaster.parse(JavaClassSource.class, SOURCE);
+      JavaClassSource declarations = Roaster.parse(JavaClassSource.class, SOURCE, ParseOptions.declarationsOnly());
+      assertEquals(2, cache.getStatistics().getMissCount());
+
+      Roaster.parse(JavaClassSource.class, SOURCE, ParseOptions.declarationsOnly());
+      assertEquals(1, cache.getStatistics().getHitCount());
+      assertEquals("return values.size();", declarations.getMethod("count").getBody().trim());
+   }
+
+   @Test
+   public void testEvictsLeastRecentlyUsed() throws Exception
+   {
+      cache = new ParseCache(SOURCE.length() * 2);
+      Roaster.setParseCache(cache);
+
+      String other = SOURCE.replace("Example", "Other");
+      String third = SOURCE.replace("Example", "Third");
+      Roaster.parse(JavaClassSource.class, SOURCE);
+      Roaster.parse(JavaClassSource.class, other);
+      Roaster.parse(JavaClassSource.class, SOURCE);
+      Roaster.parse(JavaClassSource.class, third);
+
+      CacheStatistics statistics = cache.getStatistics();
+      assertEquals(1, statistics.getEvictionCount());
+      assertEquals(2, statistics.getSize());
+      assertFalse(statistics.getWeight() > cache.getMaximumWeight());
+      assertEquals("Other", Roaster.parse(JavaClassSource.class, other).getName());
+   }
+
+   @Test
+   public void testSyntaxErrorsAreCopied() throws Exception
+   {
+      String broken = "public class Broken { public void method() { int x = } }";
+      Roaster.parse(JavaClassSource.class, broken);
+      JavaClassSource copy = Roaster.parse(JavaClassSource.class, broken);
+      assertEquals(1, cache.getStatistics().getHitCount());
+      assertTrue(copy.hasSyntaxErrors());
+   }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
+import org.junit.Test;
+
+public class ParseOptionsTest
+{
+   private static final String SOURCE = "package org.example; import java.util.List; "
+            + "public class Example { private List<String> values; "
+            + "public int count(String value) { int result = values.size(); return result; } "
+            + "public abstract void nothing(); }";
+
+   @Test
+   public void testDeclarationsOnlyKeepsDeclarations() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE, ParseOptions.declarationsOnly());
+      assertEquals("Example", javaClass.getName());
+      assertEquals("org.example", javaClass.getPackage());
+      assertEquals(1, javaClass.getFields().size());
+      assertEquals("java.util.List", javaClass.getField("values").getType().getQualifiedName());
+      assertEquals(2, javaClass.getMethods().size());
+      assertEquals("count", javaClass.getMethods().get(0).getName());
+      assertEquals("String", javaClass.getMethods().get(0).getParameters().get(0).getType().getName());
+   }
+
+   @Test
+   public void testDeclarationsOnlySkipsMethodBodies() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE, ParseOptions.declarationsOnly());
+      MethodSource<JavaClassSource> method = javaClass.getMethod("count", String.class);
+      Block body = ((MethodDeclaration) method.getInternal()).getBody();
+      assertTrue(body.statements().isEmpty());
+   }
+
+   @Test
+   public void testDeclarationsOnlyLoadsBodiesOnDemand() throws Exception
+   {
+      JavaClassSource full = Roaster.parse(JavaClassSource.class, SOURCE);
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE, ParseOptions.declarationsOnly());
+      assertEquals(full.getMethod("count", String.class).getBody(), javaClass.getMethod("count", String.class)
+               .getBody());
+   }
+
+   @Test
+   public void testDeclarationsOnlyPreservesBodiesOnOutput() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE, ParseOptions.declarationsOnly());
+      javaClass.getMethod("count", String.class).setName("size");
+      javaClass.addMethod("public void added() {}");
+      assertTrue(javaClass.toString().contains("int result = values.size();"));
+      assertTrue(javaClass.toString().contains("public int size(String value)"));
+      assertEquals("", javaClass.getMethod("added").getBody());
+   }
+
+   @Test
+   public void testDeclarationsOnlyAfterSetBody() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE, ParseOptions.declarationsOnly());
+      MethodSource<JavaClassSource> method = javaClass.getMethod("count", String.class);
+      method.setBody("return 0;");
+      assertEquals("return 0;", method.getBody().trim());
+   }
+
+   @Test
+   public void testDeclarationsOnlyMethodToString() throws Exception
+   {
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, SOURCE, ParseOptions.declarationsOnly());
+      JavaClassSource parsed = Roaster.parse(JavaClassSource.class, SOURCE);
+      assertEquals(parsed.getMethod("count", String.class).toString(),
+               javaClass.getMethod("count", String.class).toString());
+   }
+
+   @Test
+   public void testCopyDeclarationsOnlySource() throws Exception
+   {
+      JavaClassSource inner = Roaster.parse(JavaClassSource.class,
+               "public class Inner { public int f() { return 42; } Runnable r = new Runnable() {"
+                        + " public void run() { System.out.println(); } }; }",
+               ParseOptions.declarationsOnly());
+      JavaClassSource outer = Roaster.create(JavaClassSource.class).setName("Outer");
+      JavaClassSource copy = outer.addNestedType(inner);
+
+      assertEquals("return 42;", copy.getMethod("f").getBody().trim());
+      assertTrue(outer.toString().contains("return 42;"));
+      assertTrue(outer.toString().contains("System.out.println();"));
+      assertEquals("return 42;", inner.getMethod("f").getBody().trim());
+   }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.PropertySource;
+import org.junit.Test;
+
+public class PropertyResolverTest
+{
+   @Test
+   public void testPropertyOrderAndMembers() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "public class Entity {"
+               + " private static int COUNT; private String name; private boolean active; private int age;"
+               + " public void setAge(long age) {} public void setAge(int age) {}"
+               + " public boolean isActive() { return active; } public String getName() { return name; }"
+               + " public void setLabel(String label) {} public int getCount() { return COUNT; } }");
+      List<PropertySource<JavaClassSource>> properties = source.getProperties();
+      assertEquals(5, properties.size());
+      assertEquals("age", properties.get(0).getName());
+      assertEquals("name", properties.get(1).getName());
+      assertEquals("label", properties.get(2).getName());
+      assertEquals("count", properties.get(3).getName());
+      assertEquals("active", properties.get(4).getName());
+
+      assertEquals("int", source.getProperty("age").getMutator().getParameters().get(0).getType().getName());
+      assertEquals("isActive", source.getProperty("active").getAccessor().getName());
+      assertTrue(source.getProperty("label").isMutable());
+      assertFalse(source.getProperty("label").isAccessible());
+      assertFalse(source.getProperty("count").hasField());
+      assertNull(source.getProperty("COUNT"));
+      assertTrue(source.hasProperty(properties.get(2)));
+   }
+
+   @Test
+   public void testPropertiesFollowModifications() throws Exception
+   {
+      JavaClassSource source = Roaster.create(JavaClassSource.class);
+      PropertySource<JavaClassSource> property = source.addProperty("String", "name");
+      assertTrue(source.hasProperty("name"));
+      assertTrue(source.hasProperty(property));
+
+      property.setName("label");
+      assertFalse(source.hasProperty("name"));
+      assertEquals("getLabel", source.getProperty("label").getAccessor().getName());
+
+      source.removeProperty(source.getProperty("label"));
+      assertFalse(source.hasProperty("label"));
+      assertTrue(source.getProperties().isEmpty());
+   }
+
+   @Test
+   public void testLargeEntity() throws Exception
+   {
+      StringBuilder entity = new StringBuilder("public class Entity {\n");
+      for (int i = 0; i < 500; i++)
+      {
+         entity.append("   private String property").append(i).append(";\n");
+         entity.append("   public String getProperty").append(i).append("() { return property").append(i)
+                  .append("; }\n");
+         entity.append("   public void setProperty").append(i).append("(String value) { property").append(i)
+                  .append(" = value; }\n");
+      }
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, entity.append("}").toString());
+      List<PropertySource<JavaClassSource>> properties = source.getProperties();
+      assertEquals(500, properties.size());
+      for (PropertySource<JavaClassSource> property : properties)
+      {
+         assertTrue(property.hasField());
+         assertTrue(property.isAccessible());
+         assertTrue(property.isMutable());
+         assertEquals("String", property.getType().getName());
+         assertTrue(source.hasProperty(property.getName()));
+      }
+   }
+}
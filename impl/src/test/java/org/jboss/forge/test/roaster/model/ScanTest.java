@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.ParseResult;
+import org.jboss.forge.roaster.ParserException;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaPackageInfoSource;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ScanTest
+{
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   @Before
+   public void setUp() throws IOException
+   {
+      write("org/example/Foo.java", "package org.example; public class Foo {}");
+      write("org/example/package-info.java", "package org.example;");
+      write("org/example/sub/Bar.java", "package org.example.sub; public interface Bar {}");
+      write("org/example/Broken.java", "");
+      write("org/example/README.txt", "not a source file");
+   }
+
+   @Test
+   public void testScan() throws Exception
+   {
+      List<ParseResult> results = collect(Roaster.scan(folder.getRoot()));
+
+      assertEquals(4, results.size());
+      assertEquals("Broken.java", results.get(0).getFile().getName());
+      assertFalse(results.get(0).isSuccessful());
+      assertNull(results.get(0).getType());
+      assertTrue(results.get(0).getError() instanceof ParserException);
+      assertEquals("org.example.Foo", results.get(1).getType().getQualifiedName());
+      assertTrue(results.get(2).getType() instanceof JavaPackageInfoSource);
+      assertEquals("org.example.sub.Bar", results.get(3).getType().getQualifiedName());
+   }
+
+   @Test
+   public void testScanWithExecutor() throws Exception
+   {
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try
+      {
+         List<ParseResult> results = collect(Roaster.scan(folder.getRoot(), ParseOptions.declarationsOnly(), executor,
+                  1));
+         assertEquals(4, results.size());
+         assertEquals("org.example.sub.Bar", results.get(3).getType().getQualifiedName());
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+   }
+
+   @Test
+   public void testScanIsRepeatable() throws Exception
+   {
+      Iterable<ParseResult> scan = Roaster.scan(new File(folder.getRoot(), "org/example/sub"));
+      assertEquals(1, collect(scan).size());
+      assertEquals(1, collect(scan).size());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testScanRequiresPositiveParallelism() throws Exception
+   {
+      Roaster.scan(folder.getRoot(), new ParseOptions(), Executors.newSingleThreadExecutor(), 0);
+   }
+
+   private List<ParseResult> collect(Iterable<ParseResult> scan)
+   {
+      List<ParseResult> results = new ArrayList<ParseResult>();
+      for (ParseResult result : scan)
+      {
+         results.add(result);
+      }
+      return results;
+   }
+
+   private void write(String path, String content) throws IOException
+   {
+      File file = new File(folder.getRoot(), path);
+      file.getParentFile().mkdirs();
+      OutputStream out = new FileOutputStream(file);
+      try
+      {
+         out.write(content.getBytes("UTF-8"));
+      }
+      finally
+      {
+         out.close();
+      }
+   }
+}
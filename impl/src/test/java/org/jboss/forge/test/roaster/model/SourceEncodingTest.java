@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+import org.jboss.forge.roaster.ParseOptions;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SourceEncodingTest
+{
+   private static final String SOURCE = "public class Greeting { public String hello() { return \"Grüße, 世界\"; } }";
+   private static final String BODY = "return \"Grüße, 世界\";";
+
+   private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   @Test
+   public void testParseString() throws Exception
+   {
+      assertEquals(BODY, body(Roaster.parse(JavaClassSource.class, SOURCE)));
+   }
+
+   @Test
+   public void testParseUtf8File() throws Exception
+   {
+      File file = write(new byte[0], SOURCE.getBytes(UTF_8));
+      assertEquals(BODY, body(Roaster.parse(JavaClassSource.class, file)));
+   }
+
+   @Test
+   public void testParseUtf8StreamByDefault() throws Exception
+   {
+      ByteArrayInputStream stream = new ByteArrayInputStream(SOURCE.getBytes(UTF_8));
+      assertEquals(BODY, body(Roaster.parse(JavaClassSource.class, stream)));
+   }
+
+   @Test
+   public void testParseUtf8FileWithByteOrderMark() throws Exception
+   {
+      File file = write(new byte[] { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF }, SOURCE.getBytes(UTF_8));
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, file);
+      assertEquals(BODY, body(javaClass));
+      assertFalse(javaClass.toString().startsWith("\uFEFF"));
+   }
+
+   @Test
+   public void testParseUtf16FileWithByteOrderMark() throws Exception
+   {
+      File file = write(new byte[] { (byte) 0xFF, (byte) 0xFE }, SOURCE.getBytes(Charset.forName("UTF-16LE")));
+      assertEquals(BODY, body(Roaster.parse(JavaClassSource.class, file)));
+   }
+
+   @Test
+   public void testParseWithExplicitCharset() throws Exception
+   {
+      String source = "public class Greeting { public String hello() { return \"Grüße\"; } }";
+      Charset latin1 = Charset.forName("ISO-8859-1");
+      File file = write(new byte[0], source.getBytes(latin1));
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, file, new ParseOptions().setCharset(latin1));
+      assertEquals("return \"Grüße\";", body(javaClass));
+   }
+
+   @Test
+   public void testParseLargeFile() throws Exception
+   {
+      StringBuilder source = new StringBuilder("public class Large {\n");
+      for (int i = 0; i < 10000; i++)
+      {
+         source.append("   public String method").append(i).append("() { return \"Grüße\"; }\n");
+      }
+      source.append("}");
+      File file = write(new byte[0], source.toString().getBytes(UTF_8));
+
+      JavaClassSource javaClass = Roaster.parse(JavaClassSource.class, file, ParseOptions.declarationsOnly());
+      assertEquals(10000, javaClass.getMethods().size());
+      assertEquals("return \"Grüße\";", javaClass.getMethod("method9999").getBody().trim());
+   }
+
+   private String body(JavaClassSource javaClass)
+   {
+      return javaClass.getMethod("hello").getBody().trim();
+   }
+
+   private File write(byte[] prefix, byte[] content) throws IOException
+   {
+      File file = folder.newFile();
+      OutputStream out = new FileOutputStream(file);
+      try
+      {
+         out.write(prefix);
+         out.write(content);
+      }
+      finally
+      {
+         out.close();
+      }
+      return file;
+   }
+}
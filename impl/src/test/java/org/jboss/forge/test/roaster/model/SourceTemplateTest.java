@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.jboss.forge.roaster.ParserException;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.SourceTemplate;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
+import org.junit.Test;
+
+public class SourceTemplateTest
+{
+   private static final String TEMPLATE = "package $package$;\n"
+            + "import java.util.List;\n"
+            + "/** A $Entity$ transfer object. */\n"
+            + "public class $Entity$Dto {\n"
+            + "   private $Type$ $property$ = $default$;\n"
+            + "   private List<$Type$> history;\n"
+            + "   public $Type$ get$Property$() { return $property$; }\n"
+            + "   public void set$Property$($Type$ $property$) { this.$property$ = $property$; }\n"
+            + "   public String toString() { return \"$Entity$: \" + $property$; }\n"
+            + "}";
+
+   private static final String EXPECTED = "package org.example.dto;\n"
+            + "import java.util.List;\n"
+            + "/** A Customer transfer object. */\n"
+            + "public class CustomerDto {\n"
+            + "   private Map<String, Long[]> counts = null;\n"
+            + "   private List<Map<String, Long[]>> history;\n"
+            + "   public Map<String, Long[]> getCounts() { return counts; }\n"
+            + "   public void setCounts(Map<String, Long[]> counts) { this.counts = counts; }\n"
+            + "   public String toString() { return \"Customer: \" + counts; }\n"
+            + "}";
+
+   @Test
+   public void testPlaceholders() throws Exception
+   {
+      SourceTemplate<JavaClassSource> template = Roaster.compileTemplate(JavaClassSource.class, TEMPLATE);
+      assertEquals(new HashSet<String>(Arrays.asList("package", "Entity", "Type", "property", "default", "Property")),
+               template.getPlaceholders());
+   }
+
+   @Test
+   public void testInstantiate() throws Exception
+   {
+      SourceTemplate<JavaClassSource> template = Roaster.compileTemplate(JavaClassSource.class, TEMPLATE);
+      JavaClassSource source = template.instantiate(values("Customer", "Map<String, Long[]>", "counts", "null"));
+
+      assertEquals(Roaster.parse(JavaClassSource.class, EXPECTED).toString(), source.toString());
+      assertEquals("CustomerDto", source.getName());
+      assertEquals("org.example.dto", source.getPackage());
+      assertEquals("Map", source.getField("counts").getType().getName());
+      assertTrue(source.getField("counts").getType().isParameterized());
+      assertTrue(source.hasMethodSignature("getCounts"));
+   }
+
+   @Test
+   public void testInstancesAreIndependent() throws Exception
+   {
+      SourceTemplate<JavaClassSource> template = Roaster.compileTemplate(JavaClassSource.class, TEMPLATE);
+      JavaClassSource first = template.instantiate(values("Customer", "long", "id", "0L"));
+      JavaClassSource second = template.instantiate(values("Order", "java.math.BigDecimal", "total", "\"n/a\""));
+      first.addMethod("public void reset() {}");
+
+      assertEquals("CustomerDto", first.getName());
+      assertEquals("OrderDto", second.getName());
+      assertEquals("0L", first.getField("id").getLiteralInitializer());
+      assertEquals("\"n/a\"", second.getField("total").getLiteralInitializer());
+      assertEquals("java.math.BigDecimal", second.getField("total").getType().getQualifiedName());
+      assertFalse(second.hasMethodSignature("reset"));
+      JavaClassSource third = template.instantiate(values("Item", "int", "count", "-1 + 2"));
+      assertEquals("-1 + 2", third.getField("count").getLiteralInitializer());
+   }
+
+   @Test
+   public void testEnumTemplate() throws Exception
+   {
+      SourceTemplate<JavaEnumSource> template = Roaster.compileTemplate(JavaEnumSource.class,
+               "public enum $Name$ { $FIRST$($code$), OTHER(0) }");
+      Map<String, String> values = new HashMap<String, String>();
+      values.put("Name", "Status");
+      values.put("FIRST", "ACTIVE");
+      values.put("code", "'a'");
+      JavaEnumSource source = template.instantiate(values);
+      assertEquals("Status", source.getName());
+      assertEquals("ACTIVE", source.getEnumConstants().get(0).getName());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testMissingValue() throws Exception
+   {
+      Roaster.compileTemplate(JavaClassSource.class, TEMPLATE).instantiate(new HashMap<String, String>());
+   }
+
+   @Test(expected = ParserException.class)
+   public void testWrongType() throws Exception
+   {
+      Roaster.compileTemplate(JavaEnumSource.class, TEMPLATE);
+   }
+
+   private static Map<String, String> values(final String entity, final String type, final String property,
+            final String initializer)
+   {
+      Map<String, String> result = new HashMap<String, String>();
+      result.put("package", "org.example.dto");
+      result.put("Entity", entity);
+      result.put("Type", type);
+      result.put("property", property);
+      result.put("Property", Character.toUpperCase(property.charAt(0)) + property.substring(1));
+      result.put("default", initializer);
+      return result;
+   }
+}
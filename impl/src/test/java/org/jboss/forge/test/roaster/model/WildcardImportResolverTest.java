@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.test.roaster.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.spi.WildcardImportResolverImpl;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WildcardImportResolverTest
+{
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   @Test
+   public void testResolveJdkTypes() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "package org.example;"
+               + " import java.util.concurrent.*; import java.util.*; import java.util.Map.*;"
+               + " public class Wildcards {}");
+      assertEquals("java.util.List", source.resolveType("List<String>"));
+      assertEquals("java.util.concurrent.Executor", source.resolveType("Executor"));
+      assertEquals("java.util.Map.Entry", source.resolveType("Entry"));
+      assertEquals("java.lang.String", source.resolveType("String"));
+      assertEquals("org.example.Customer", source.resolveType("Customer"));
+   }
+
+   @Test
+   public void testDirectImportsTakePrecedence() throws Exception
+   {
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "package org.example;"
+               + " import java.util.*; import java.awt.List; public class Wildcards {}");
+      assertEquals("java.awt.List", source.resolveType("List"));
+      assertEquals("java.util.Set", source.resolveType("Set"));
+   }
+
+   @Test
+   public void testResolveRegisteredClassPath() throws Exception
+   {
+      File classes = folder.newFolder("classes");
+      new File(classes, "org/example/resolver/dir").mkdirs();
+      new File(classes, "org/example/resolver/dir/Widget.class").createNewFile();
+      new File(classes, "org/example/resolver/dir/Widget$1.class").createNewFile();
+
+      File jar = folder.newFile("model.jar");
+      ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar));
+      out.putNextEntry(new ZipEntry("org/example/resolver/jar/Gadget.class"));
+      out.closeEntry();
+      out.putNextEntry(new ZipEntry("org/example/resolver/jar/Gadget$Part.class"));
+      out.closeEntry();
+      out.close();
+
+      WildcardImportResolverImpl.addClassPath(classes, jar);
+      JavaClassSource source = Roaster.parse(JavaClassSource.class, "package org.example;"
+               + " import org.example.resolver.dir.*; import org.example.resolver.jar.*;"
+               + " import org.example.resolver.jar.Gadget.*; public class Wildcards {}");
+      assertEquals("org.example.resolver.dir.Widget", source.resolveType("Widget"));
+      assertEquals("org.example.resolver.jar.Gadget", source.resolveType("Gadget[]"));
+      assertEquals("org.example.resolver.jar.Gadget.Part", source.resolveType("Part"));
+      assertEquals("org.example.Unknown", source.resolveType("Unknown"));
+   }
+}
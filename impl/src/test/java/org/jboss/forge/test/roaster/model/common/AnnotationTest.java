@@ -567,4 +567,27 @@ public abstract class AnnotationTest<O extends JavaSource<O>, T>
       Assert.assertArrayEquals(values, ann.getStringArrayValue("aName"));
    }
 
+   @Test
+   public void testTypedValuesMatchLiteralValues()
+   {
+      AnnotationSource<O> typed = target.addAnnotation("MyAnnotation");
+      typed.setClassArrayValue("types", String.class, Long.class);
+      typed.setEnumValue(ElementType.FIELD);
+      typed.setStringValue("name", "a \"quoted\" \u00e9 value");
+      typed.setStringArrayValue("tags", new String[] { "x", "y" });
+      typed.setLiteralValue("size", "1 + Integer.MAX_VALUE");
+
+      AnnotationSource<O> literal = target.addAnnotation("MyAnnotation");
+      literal.setLiteralValue("types", "{String.class,Long.class}");
+      literal.setLiteralValue("ElementType.FIELD");
+      literal.setLiteralValue("name", "\"a \\\"quoted\\\" \\u00E9 value\"");
+      literal.setLiteralValue("tags", "{\"x\",\"y\"}");
+      literal.setLiteralValue("size", "1 + Integer.MAX_VALUE");
+
+      assertEquals(literal.toString(), typed.toString());
+      assertEquals("a \"quoted\" \u00e9 value", typed.getStringValue("name"));
+      assertArrayEquals(new Class[] { String.class, Long.class }, typed.getClassArrayValue("types"));
+      assertEquals(ElementType.FIELD, typed.getEnumValue(ElementType.class));
+   }
+
 }
@@ -101,4 +101,68 @@ public abstract class InterfacedTestBase<T extends JavaSource<T> & InterfaceCapa
       assertFalse(this.source.hasInterface(Serializable.class));
       assertEquals(2, this.source.getInterfaces().size());
    }
+
+   @Test
+   public void testAddInterfaceTwice() throws Exception
+   {
+      this.source.addInterface(Serializable.class);
+      this.source.addInterface("com.example.Comparator");
+      String expected = this.source.toString();
+      this.source.addInterface(Serializable.class);
+      this.source.addInterface("Serializable");
+      this.source.addInterface("com.example.Comparator");
+      assertEquals(expected, this.source.toString());
+      assertEquals(2, this.source.getInterfaces().size());
+
+      this.source.addInterface("java.util.Comparator");
+      assertEquals(3, this.source.getInterfaces().size());
+      assertTrue(this.source.hasInterface("java.util.Comparator"));
+      assertTrue(this.source.toString().contains("java.util.Comparator"));
+   }
+
+   @Test
+   public void testAddGenericInterface() throws Exception
+   {
+      this.source.addInterface("java.util.Comparator<java.util.Date>");
+      assertEquals(1, this.source.getInterfaces().size());
+      assertTrue(this.source.hasImport("java.util.Comparator"));
+      assertTrue(this.source.hasInterface("java.util.Comparator<java.util.Date>"));
+      assertTrue(this.source.toString().contains("Comparator<java.util.Date>"));
+
+      String expected = this.source.toString();
+      this.source.addInterface("java.util.Comparator<java.util.Date>");
+      assertEquals(expected, this.source.toString());
+
+      this.source.addInterface("com.example.Comparator<java.lang.String>");
+      assertEquals(2, this.source.getInterfaces().size());
+      assertTrue(this.source.hasInterface("com.example.Comparator<java.lang.String>"));
+      assertTrue(this.source.toString().contains("com.example.Comparator<java.lang.String>"));
+   }
+
+   @Test
+   public void testManyInterfaces() throws Exception
+   {
+      for (int i = 0; i < 200; i++)
+      {
+         this.source.addInterface("com.example.Interface" + i);
+      }
+      assertEquals(200, this.source.getInterfaces().size());
+      assertEquals("com.example.Interface150", this.source.getInterfaces().get(150));
+      assertTrue(this.source.hasInterface("com.example.Interface199"));
+
+      this.source.removeInterface("com.example.Interface100");
+      assertFalse(this.source.hasInterface("com.example.Interface100"));
+      assertEquals(199, this.source.getInterfaces().size());
+      assertEquals("com.example.Interface101", this.source.getInterfaces().get(100));
+
+      this.source.addInterface("com.example.Interface100");
+      assertTrue(this.source.hasInterface("com.example.Interface100"));
+      assertEquals("com.example.Interface100", this.source.getInterfaces().get(199));
+
+      this.source.removeImport("com.example.Interface5");
+      assertEquals("Interface5", this.source.getInterfaces().get(5));
+      this.source.addImport("com.other.Interface5");
+      assertEquals("com.other.Interface5", this.source.getInterfaces().get(5));
+      assertFalse(this.source.hasInterface("com.example.Interface5"));
+   }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.test.roaster.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.jboss.forge.roaster.model.util.TypeName;
+import org.jboss.forge.roaster.model.util.Types;
+import org.junit.Test;
+
+public class TypeNameTest
+{
+   @Test
+   public void testParts() throws Exception
+   {
+      TypeName name = TypeName.of("java.util.Map<String, java.util.List<Long>>");
+      assertSame(name, TypeName.of("java.util.Map<String, java.util.List<Long>>"));
+      assertEquals("java.util.Map", name.getErasure());
+      assertEquals("Map", name.getSimpleName());
+      assertEquals("java.util", name.getPackage());
+      assertEquals(0, name.getArrayDimension());
+
+      List<TypeName> arguments = name.getTypeArguments();
+      assertEquals(2, arguments.size());
+      assertEquals("String", arguments.get(0).getName());
+      assertEquals("java.util.List<Long>", arguments.get(1).getName());
+      assertEquals("Long", arguments.get(1).getTypeArguments().get(0).getName());
+
+      TypeName array = TypeName.of("List<String>[][]");
+      assertEquals("List[][]", array.getErasure());
+      assertEquals(2, array.getArrayDimension());
+      assertEquals("String", array.getTypeArguments().get(0).getName());
+      assertTrue(TypeName.of("int").isPrimitive());
+      assertTrue(TypeName.of("int").getTypeArguments().isEmpty());
+   }
+
+   @Test
+   public void testEquivalence() throws Exception
+   {
+      assertTrue(equivalent("String", "java.lang.String"));
+      assertTrue(equivalent("org.example.String", "String"));
+      assertFalse(equivalent("org.example.String", "java.lang.String"));
+      assertFalse(equivalent("java.util.List<String>", "java.util.List<Long>"));
+      assertTrue(equivalent("List", "java.util.List<String>"));
+      assertFalse(equivalent("java.awt.List", "java.util.List"));
+      assertTrue(equivalent("List[]", "java.util.List[]"));
+      assertFalse(equivalent("List[]", "List"));
+      assertTrue(equivalent("Entry", "java.util.Map.Entry<K, V>"));
+      assertTrue(equivalent("int", "int"));
+      assertFalse(TypeName.of("int").isEquivalentTo(null));
+   }
+
+   @Test
+   public void testSetLookups() throws Exception
+   {
+      assertTrue(Types.isPrimitive("char"));
+      assertFalse(Types.isPrimitive("Character"));
+      assertFalse(Types.isPrimitive(null));
+      assertTrue(Types.isJavaLang("java.lang.Character.UnicodeBlock"));
+      assertTrue(Types.isJavaLang("Runnable"));
+      assertFalse(Types.isJavaLang("java.util.List"));
+      assertTrue(Types.isBasicType("Integer"));
+      assertFalse(Types.isBasicType("Number"));
+   }
+
+   private static boolean equivalent(final String left, final String right)
+   {
+      boolean result = TypeName.of(left).isEquivalentTo(TypeName.of(right));
+      assertEquals(result, TypeName.of(right).isEquivalentTo(TypeName.of(left)));
+      assertEquals(result, Types.areEquivalent(left, right));
+      return result;
+   }
+}